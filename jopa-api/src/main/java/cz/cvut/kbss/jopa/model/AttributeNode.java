@@ -0,0 +1,40 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+/**
+ * Represents an attribute node of an {@link EntityGraph} or a {@link Subgraph}.
+ *
+ * @param <T> The type of the attribute
+ */
+public interface AttributeNode<T> {
+
+    /**
+     * Gets the name of the attribute corresponding to this node.
+     *
+     * @return Attribute name
+     */
+    String getAttributeName();
+
+    /**
+     * Gets the subgraph specifying which attributes of the entities referenced by the attribute should be loaded.
+     *
+     * @return Subgraph or {@code null} if no subgraph has been added for the attribute
+     */
+    Subgraph<?> getSubgraph();
+}
@@ -0,0 +1,71 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.List;
+
+/**
+ * Template for loading an entity and the entities it references.
+ * <p>
+ * An entity graph specifies which attributes should be loaded together with the root entity and, via subgraphs, which
+ * attributes of the referenced entities should be loaded. It is passed to {@link EntityManager#find(Class, Object,
+ * java.util.Map)} or to a query as a fetch graph or a load graph hint. Attributes in the graph are always loaded
+ * eagerly. When used as a fetch graph, attributes not contained in the graph are loaded lazily. When used as a load
+ * graph, attributes not contained in the graph are loaded according to their fetch type.
+ *
+ * @param <T> The type of the root entity
+ * @see EntityManager#createEntityGraph(Class)
+ */
+public interface EntityGraph<T> {
+
+    /**
+     * Gets the type of the root entity of this graph.
+     *
+     * @return Root entity class
+     */
+    Class<T> getClassType();
+
+    /**
+     * Adds one or more attribute nodes to this entity graph.
+     *
+     * @param attributeName Names of the attributes to add
+     * @throws IllegalArgumentException If the attribute is not an attribute of the root entity type
+     */
+    void addAttributeNodes(String... attributeName);
+
+    /**
+     * Adds a node corresponding to an attribute referencing other entities to this graph and returns a subgraph
+     * specifying which attributes of the referenced entities should be loaded.
+     * <p>
+     * If the attribute is plural, the subgraph applies to its elements.
+     *
+     * @param attributeName Name of the attribute
+     * @param <X>           Type of the referenced entities
+     * @return Subgraph for the referenced entities
+     * @throws IllegalArgumentException If the attribute is not an attribute of the root entity type or if it does not
+     *                                  reference entities
+     */
+    <X> Subgraph<X> addSubgraph(String attributeName);
+
+    /**
+     * Gets the attribute nodes of this entity graph.
+     *
+     * @return Unmodifiable list of attribute nodes
+     */
+    List<AttributeNode<?>> getAttributeNodes();
+}
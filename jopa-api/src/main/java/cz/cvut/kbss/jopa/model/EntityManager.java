@@ -34,6 +34,8 @@ import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 public interface EntityManager extends AutoCloseable {
 
@@ -72,6 +74,56 @@ public interface EntityManager extends AutoCloseable {
      */
     void persist(final Object entity, final Descriptor descriptor);
 
+    /**
+     * Persists the specified entities in bulk.
+     * <p>
+     * The entities are persisted into the default context.
+     *
+     * @param entities Entities to persist
+     * @return Number of persisted entities
+     * @see #persistAll(Stream, Descriptor, LongConsumer)
+     */
+    @NonJPA
+    long persistAll(Stream<?> entities);
+
+    /**
+     * Persists the specified entities in bulk.
+     * <p>
+     * The {@code descriptor} represents repository and context into which the entities and their fields should be
+     * persisted.
+     *
+     * @param entities   Entities to persist
+     * @param descriptor Entity descriptor
+     * @return Number of persisted entities
+     * @see #persistAll(Stream, Descriptor, LongConsumer)
+     */
+    @NonJPA
+    long persistAll(Stream<?> entities, Descriptor descriptor);
+
+    /**
+     * Persists the specified entities in bulk.
+     * <p>
+     * This method is intended for ingesting large amounts of new data. Unlike {@link #persist(Object, Descriptor)}, the
+     * entities are mapped to axioms and written into the storage in batches as the stream is consumed. They do not
+     * become managed by this persistence context and persist is not cascaded. References to other entities are saved
+     * without checking whether the referenced entities exist. The batch size is configured by the
+     * {@literal cz.cvut.jopa.bulkPersist.batchSize} property.
+     * <p>
+     * Data are written within the current transaction, so they become visible to other persistence contexts only on
+     * commit and are discarded on rollback.
+     *
+     * @param entities         Entities to persist
+     * @param descriptor       Entity descriptor
+     * @param progressListener Notified with the total number of entities persisted so far after each batch
+     * @return Number of persisted entities
+     * @throws OWLEntityExistsException     If any of the entities is already managed by this persistence context
+     * @throws IllegalArgumentException     If any of the stream elements is not an entity
+     * @throws NullPointerException         If any of the arguments or stream elements is {@code null}
+     * @throws TransactionRequiredException If there is no active transaction
+     */
+    @NonJPA
+    long persistAll(Stream<?> entities, Descriptor descriptor, LongConsumer progressListener);
+
     /**
      * Merge the state of the given entity into the current persistence context.
      * <p>
@@ -143,6 +195,49 @@ public interface EntityManager extends AutoCloseable {
      */
     <T> T find(final Class<T> entityClass, final Object identifier, final Descriptor descriptor);
 
+    /**
+     * Find by identifier, using the specified properties.
+     * <p>
+     * Search for an entity of the specified class and identifier. If the entity instance is contained in the
+     * persistence context, it is returned from there.
+     * <p>
+     * The {@code properties} may contain provider-specific hints, e.g., an {@link EntityGraph} to use as a fetch or
+     * load graph. Unknown properties are ignored.
+     *
+     * @param entityClass Entity class
+     * @param identifier  Entity identifier
+     * @param properties  Standard and vendor-specific properties and hints
+     * @return the found entity instance or {@code null} if the entity does not exist in the given ontology context
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or the second argument is
+     *                                  not a valid type for that entity’s identifier
+     * @throws NullPointerException     If {@code entityClass}, {@code identifier} or {@code properties} is
+     *                                  {@code null}
+     */
+    <T> T find(final Class<T> entityClass, final Object identifier, final Map<String, Object> properties);
+
+    /**
+     * Find by identifier, using the specified properties.
+     * <p>
+     * Search for an entity of the specified class and identifier. If the entity instance is contained in the
+     * persistence context, it is returned from there.
+     * <p>
+     * The {@code descriptor} parameter represents repository and context in which the entity should be looked for. The
+     * {@code properties} may contain provider-specific hints, e.g., an {@link EntityGraph} to use as a fetch or load
+     * graph. Unknown properties are ignored.
+     *
+     * @param entityClass Entity class
+     * @param identifier  Entity identifier
+     * @param descriptor  Entity descriptor
+     * @param properties  Standard and vendor-specific properties and hints
+     * @return the found entity instance or {@code null} if the entity does not exist in the given ontology context
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or the second argument is
+     *                                  not a valid type for that entity’s identifier
+     * @throws NullPointerException     If {@code entityClass}, {@code identifier}, {@code descriptor} or
+     *                                  {@code properties} is {@code null}
+     */
+    <T> T find(final Class<T> entityClass, final Object identifier, final Descriptor descriptor,
+               final Map<String, Object> properties);
+
     /**
      * Get an instance, whose state may be lazily fetched.
      * <p>
@@ -420,6 +515,19 @@ public interface EntityManager extends AutoCloseable {
      */
     CriteriaBuilder getCriteriaBuilder();
 
+    /**
+     * Creates a new mutable entity graph with the specified root type.
+     * <p>
+     * The graph can be used to specify which attributes should be loaded by {@link #find(Class, Object, Map)} or by a
+     * query.
+     *
+     * @param rootType Entity class of the graph root
+     * @param <T>      Root entity type
+     * @return New entity graph
+     * @throws IllegalArgumentException If the specified class is not an entity class
+     */
+    <T> EntityGraph<T> createEntityGraph(Class<T> rootType);
+
     /**
      * Return an instance of Metamodel interface for access to the metamodel of the persistence unit.
      *
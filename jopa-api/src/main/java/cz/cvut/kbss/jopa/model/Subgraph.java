@@ -0,0 +1,63 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.List;
+
+/**
+ * Represents a subgraph of an {@link EntityGraph}, i.e., attributes of entities referenced by an attribute of the
+ * containing graph that should be loaded together with them.
+ *
+ * @param <T> The type of the referenced entities
+ */
+public interface Subgraph<T> {
+
+    /**
+     * Gets the type of the entities to which this subgraph applies.
+     *
+     * @return Entity class
+     */
+    Class<T> getClassType();
+
+    /**
+     * Adds one or more attribute nodes to this subgraph.
+     *
+     * @param attributeName Names of the attributes to add
+     * @throws IllegalArgumentException If the attribute is not an attribute of this subgraph's entity type
+     */
+    void addAttributeNodes(String... attributeName);
+
+    /**
+     * Adds a node corresponding to an attribute referencing other entities to this subgraph and returns a subgraph
+     * specifying which attributes of the referenced entities should be loaded.
+     *
+     * @param attributeName Name of the attribute
+     * @param <X>           Type of the referenced entities
+     * @return Subgraph for the referenced entities
+     * @throws IllegalArgumentException If the attribute is not an attribute of this subgraph's entity type or if it
+     *                                  does not reference entities
+     */
+    <X> Subgraph<X> addSubgraph(String attributeName);
+
+    /**
+     * Gets the attribute nodes of this subgraph.
+     *
+     * @return Unmodifiable list of attribute nodes
+     */
+    List<AttributeNode<?>> getAttributeNodes();
+}
@@ -0,0 +1,60 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.annotations;
+
+/**
+ * Defines strategies for generating entity identifiers.
+ * <p>
+ * All strategies derive the identifier from the IRI of the entity class. They differ in how they ensure uniqueness.
+ *
+ * @see Id#strategy()
+ */
+public enum GenerationType {
+    /**
+     * Use the strategy configured for the persistence unit.
+     * <p>
+     * If none is configured, {@link #STORAGE} is used.
+     */
+    DEFAULT,
+    /**
+     * Random identifiers whose uniqueness is verified by querying the storage.
+     * <p>
+     * Each generated identifier requires at least one round trip to the storage.
+     */
+    STORAGE,
+    /**
+     * Identifiers based on time-ordered (version 7) UUIDs.
+     * <p>
+     * Uniqueness is guaranteed by the UUID randomness, the storage is not queried.
+     */
+    UUID,
+    /**
+     * Identifiers based on a 64-bit number composed of a timestamp, node identifier and a per-millisecond sequence.
+     * <p>
+     * Uniqueness is guaranteed as long as each application node uses a distinct node identifier, the storage is not
+     * queried.
+     */
+    SNOWFLAKE,
+    /**
+     * Identifiers based on a sequence allocated to threads in blocks.
+     * <p>
+     * The sequence is qualified by the node identifier and the time the persistence unit was started, so that
+     * uniqueness is guaranteed without querying the storage.
+     */
+    SEQUENCE
+}
@@ -39,4 +39,14 @@ public @interface Id {
      * @return Whether the id is generated
      */
     boolean generated() default false;
+
+    /**
+     * Strategy used to generate the identifier.
+     * <p>
+     * Relevant only when {@link #generated()} is {@code true}. By default, the strategy configured for the persistence
+     * unit is used.
+     *
+     * @return Identifier generation strategy
+     */
+    GenerationType strategy() default GenerationType.DEFAULT;
 }
@@ -17,6 +17,8 @@
  */
 package cz.cvut.kbss.jopa.model.metamodel;
 
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
+
 /**
  * Identifier attribute.
  * @param <X> Declaring class
@@ -27,4 +29,13 @@ public interface Identifier<X, E> extends FieldSpecification<X, E>, Bindable<E>
     void accept(IdentifierVisitor i);
 
     boolean isGenerated();
+
+    /**
+     * Gets the strategy used to generate values of this identifier.
+     *
+     * @return Generation strategy, {@link GenerationType#DEFAULT} if the persistence unit-wide strategy should be used
+     */
+    default GenerationType getGenerationType() {
+        return GenerationType.DEFAULT;
+    }
 }
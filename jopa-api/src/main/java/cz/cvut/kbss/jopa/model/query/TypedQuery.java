@@ -17,9 +17,11 @@
  */
 package cz.cvut.kbss.jopa.model.query;
 
+import cz.cvut.kbss.jopa.NonJPA;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 
 import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -43,6 +45,19 @@ public interface TypedQuery<X> extends Query {
         return getResultList().stream();
     }
 
+    /**
+     * Executes a SELECT query and returns the query results as a {@link Flow.Publisher}.
+     * <p>
+     * Every subscription executes the query anew. Results are retrieved lazily, only as the subscriber requests them,
+     * so a slow subscriber does not cause the whole result to be held in memory. Results are emitted on the thread
+     * which requests them, because the underlying persistence context is not thread-safe.
+     *
+     * @return a publisher of the results
+     * @throws IllegalStateException if the persistence context from which this query was created is closed
+     */
+    @NonJPA
+    Flow.Publisher<X> getResultPublisher();
+
     /**
      * {@inheritDoc}
      */
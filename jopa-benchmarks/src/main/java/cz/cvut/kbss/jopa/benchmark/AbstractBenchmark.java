@@ -0,0 +1,153 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Common configuration and lifecycle of the benchmarks.
+ * <p>
+ * Each trial creates a fresh in-memory storage of the configured type, lets the benchmark seed it with data and closes
+ * the persistence unit at the end of the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public abstract class AbstractBenchmark {
+
+    /**
+     * Number of instances seeded into the storage before a trial starts.
+     */
+    static final int DATA_SIZE = 1000;
+
+    private static final String INSTANCE_IRI_BASE = "http://krizik.felk.cvut.cz/ontologies/jopa/benchmark/instance-";
+
+    private static final AtomicInteger idCounter = new AtomicInteger();
+
+    @Param({"RDF4J", "JENA"})
+    public BenchmarkStorage storage;
+
+    @Param({"false"})
+    public boolean cacheEnabled;
+
+    protected EntityManagerFactory emf;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.emf = createEntityManagerFactory();
+        seed();
+    }
+
+    /**
+     * Creates the persistence unit used by the trial.
+     * <p>
+     * Benchmarks requiring a specific persistence unit configuration may override this method.
+     *
+     * @return New entity manager factory
+     */
+    protected EntityManagerFactory createEntityManagerFactory() {
+        return storage.createEntityManagerFactory(cacheEnabled);
+    }
+
+    /**
+     * Seeds the storage with data required by the benchmark.
+     * <p>
+     * Called once per trial, after the persistence unit has been created.
+     */
+    protected abstract void seed();
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        emf.close();
+    }
+
+    /**
+     * Runs the specified operation in a transaction of a new entity manager.
+     *
+     * @param operation Operation to execute
+     */
+    protected void inTransaction(Consumer<EntityManager> operation) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            operation.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Persists {@link #DATA_SIZE} instances of {@link OWLClassA} in a single transaction.
+     *
+     * @return The persisted instances
+     */
+    protected List<OWLClassA> seedOwlClassA() {
+        final List<OWLClassA> instances = new ArrayList<>(DATA_SIZE);
+        inTransaction(em -> {
+            for (int i = 0; i < DATA_SIZE; i++) {
+                final OWLClassA a = createOwlClassA();
+                em.persist(a);
+                instances.add(a);
+            }
+        });
+        return instances;
+    }
+
+    protected static OWLClassA createOwlClassA() {
+        final OWLClassA a = new OWLClassA(generateUri());
+        a.setStringAttribute("String attribute value " + idCounter.get());
+        return a;
+    }
+
+    /**
+     * Generates a unique instance identifier.
+     * <p>
+     * Benchmarks use explicit identifiers so that identifier generation (which checks the storage for collisions) does
+     * not distort the measured numbers.
+     *
+     * @return New unique identifier
+     */
+    protected static URI generateUri() {
+        return URI.create(INSTANCE_IRI_BASE + idCounter.incrementAndGet());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.JenaDataSource;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.rdf4j.Rdf4jDataSource;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory storages the benchmarks can be run against.
+ */
+public enum BenchmarkStorage {
+
+    /**
+     * RDF4J volatile (memory) repository.
+     */
+    RDF4J {
+        @Override
+        Map<String, String> storageProperties() {
+            final Map<String, String> props = new HashMap<>();
+            props.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, Rdf4jDataSource.class.getName());
+            props.put(Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+            props.put(Rdf4jOntoDriverProperties.USE_INFERENCE, Boolean.FALSE.toString());
+            return props;
+        }
+    },
+    /**
+     * Jena in-memory dataset.
+     */
+    JENA {
+        @Override
+        Map<String, String> storageProperties() {
+            final Map<String, String> props = new HashMap<>();
+            props.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, JenaDataSource.class.getName());
+            props.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY);
+            return props;
+        }
+    };
+
+    /**
+     * Packages containing the entity model of the integration tests and the benchmark-specific entities.
+     */
+    static final String MODEL_PACKAGE = "cz.cvut.kbss.jopa.test,cz.cvut.kbss.jopa.benchmark.model";
+
+    private static final String IRI_BASE = "http://krizik.felk.cvut.cz/ontologies/jopa/benchmark/";
+
+    abstract Map<String, String> storageProperties();
+
+    /**
+     * Creates a new persistence unit backed by a fresh in-memory storage of this type.
+     *
+     * @param cacheEnabled Whether the second level cache should be enabled
+     * @return New entity manager factory
+     */
+    public EntityManagerFactory createEntityManagerFactory(boolean cacheEnabled) {
+        return createEntityManagerFactory(cacheEnabled, Map.of());
+    }
+
+    /**
+     * Creates a new persistence unit backed by a fresh in-memory storage of this type.
+     *
+     * @param cacheEnabled Whether the second level cache should be enabled
+     * @param properties   Additional persistence unit properties, overriding the defaults
+     * @return New entity manager factory
+     */
+    public EntityManagerFactory createEntityManagerFactory(boolean cacheEnabled, Map<String, String> properties) {
+        final String name = "Benchmark" + name();
+        final Map<String, String> props = new HashMap<>(storageProperties());
+        props.put(JOPAPersistenceProperties.ONTOLOGY_URI_KEY, IRI_BASE + name);
+        props.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, name);
+        props.put(JOPAPersistenceProperties.SCAN_PACKAGE, MODEL_PACKAGE);
+        props.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        props.put(JOPAPersistenceProperties.LANG, "en");
+        props.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.toString(cacheEnabled));
+        props.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        props.putAll(properties);
+        return Persistence.createEntityManagerFactory(name, props);
+    }
+}
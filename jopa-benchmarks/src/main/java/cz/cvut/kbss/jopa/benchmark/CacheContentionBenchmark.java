@@ -0,0 +1,114 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
+import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures contention in the second level cache implementations.
+ * <p>
+ * Many reader threads (simulating persistence contexts loading entities) compete with a few writer threads (simulating
+ * transactions putting committed entities into the cache). The cache is accessed directly, without any storage.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class CacheContentionBenchmark {
+
+    private static final int CONTEXT_COUNT = 4;
+    private static final int INSTANCE_COUNT = 10_000;
+
+    @Param({"lru", "ttl", "concurrent"})
+    public String cacheType;
+
+    private CacheManager cache;
+
+    private OWLClassA[] instances;
+    private Descriptors[] descriptors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(JOPAPersistenceProperties.CACHE_TYPE, cacheType);
+        properties.put(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, Integer.toString(INSTANCE_COUNT * 2));
+        this.cache = CacheFactory.createCache(properties);
+        this.instances = new OWLClassA[INSTANCE_COUNT];
+        this.descriptors = new Descriptors[CONTEXT_COUNT];
+        for (int i = 0; i < CONTEXT_COUNT; i++) {
+            descriptors[i] = new Descriptors(new EntityDescriptor(URI.create(
+                    "http://krizik.felk.cvut.cz/ontologies/jopa/benchmark/context-" + i)), null);
+        }
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            final OWLClassA a = new OWLClassA(URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/benchmark/a-" + i));
+            instances[i] = a;
+            cache.add(a.getUri(), a, descriptors[i % CONTEXT_COUNT]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(56)
+    public OWLClassA get() {
+        final int i = ThreadLocalRandom.current().nextInt(INSTANCE_COUNT);
+        final Descriptor descriptor = descriptors[i % CONTEXT_COUNT].repositoryDescriptor();
+        return cache.get(OWLClassA.class, instances[i].getUri(), descriptor);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(8)
+    public void add() {
+        final int i = ThreadLocalRandom.current().nextInt(INSTANCE_COUNT);
+        cache.add(instances[i].getUri(), instances[i], descriptors[i % CONTEXT_COUNT]);
+    }
+}
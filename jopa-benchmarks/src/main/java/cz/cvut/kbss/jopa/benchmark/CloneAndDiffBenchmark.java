@@ -0,0 +1,91 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.model.WideEntity;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.utils.ChangeTrackingMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks cloning and change calculation of an entity with 30 data attributes.
+ * <p>
+ * The second level cache is always enabled (regardless of the {@code cacheEnabled} parameter), so that
+ * {@link EntityManager#find(Class, Object)} clones the instance from the cache instead of loading it from the storage.
+ * Changes are tracked on commit, so that the commit compares every attribute of the clone with the original. Both
+ * operations read and write each attribute of the entity, making the per-attribute access costs dominate the measured
+ * numbers. A single operation loads a batch of instances in one transaction.
+ */
+public class CloneAndDiffBenchmark extends AbstractBenchmark {
+
+    /**
+     * Number of instances loaded in a transaction, amortizing the cost of the transaction itself.
+     */
+    private static final int BATCH_SIZE = 50;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private URI[] identifiers;
+
+    @Override
+    protected EntityManagerFactory createEntityManagerFactory() {
+        return storage.createEntityManagerFactory(true, Map.of(
+                JOPAPersistenceProperties.CHANGE_TRACKING_MODE, ChangeTrackingMode.ON_COMMIT.name(),
+                // Make sure all the instances fit into the cache
+                JOPAPersistenceProperties.LRU_CACHE_CAPACITY, Integer.toString(DATA_SIZE * 2)));
+    }
+
+    @Override
+    protected void seed() {
+        this.identifiers = new URI[DATA_SIZE];
+        inTransaction(em -> {
+            for (int i = 0; i < DATA_SIZE; i++) {
+                final WideEntity entity = new WideEntity(generateUri());
+                entity.populate(i);
+                em.persist(entity);
+                identifiers[i] = entity.getUri();
+            }
+        });
+        // Load the instances into the second level cache
+        inTransaction(em -> {
+            for (URI id : identifiers) {
+                em.find(WideEntity.class, id);
+            }
+        });
+    }
+
+    @Benchmark
+    public void findAndCommitUnchanged(Blackhole blackhole) {
+        inTransaction(em -> {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                blackhole.consume(em.find(WideEntity.class, identifiers[nextIndex()]));
+            }
+        });
+    }
+
+    private int nextIndex() {
+        return Math.floorMod(cursor.getAndIncrement(), DATA_SIZE);
+    }
+}
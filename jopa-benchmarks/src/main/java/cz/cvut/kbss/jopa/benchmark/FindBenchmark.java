@@ -0,0 +1,96 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassD;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks {@link EntityManager#find(Class, Object)}.
+ * <p>
+ * Each invocation uses a new entity manager, so that the instance is always loaded from the storage (or the second
+ * level cache, if enabled) and not from the persistence context.
+ * <p>
+ * The read-only projection variants load detached instances, bypassing cloning and persistence context registration.
+ * Compare their allocation rate ({@code gc.alloc.rate.norm}) with the managed variants.
+ */
+public class FindBenchmark extends AbstractBenchmark {
+
+    private static final Map<String, String> READ_ONLY_PROJECTION =
+            Map.of(JOPAPersistenceProperties.READ_ONLY_PROJECTION, Boolean.TRUE.toString());
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private URI[] aIdentifiers;
+    private URI[] dIdentifiers;
+
+    @Override
+    protected void seed() {
+        final List<OWLClassA> as = seedOwlClassA();
+        this.aIdentifiers = as.stream().map(OWLClassA::getUri).toArray(URI[]::new);
+        this.dIdentifiers = new URI[as.size()];
+        inTransaction(em -> {
+            for (int i = 0; i < as.size(); i++) {
+                final OWLClassD d = new OWLClassD(generateUri());
+                d.setOwlClassA(as.get(i));
+                em.persist(d);
+                dIdentifiers[i] = d.getUri();
+            }
+        });
+    }
+
+    private int nextIndex() {
+        return Math.floorMod(cursor.getAndIncrement(), DATA_SIZE);
+    }
+
+    @Benchmark
+    public OWLClassA findEntityWithDataAttributes() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.find(OWLClassA.class, aIdentifiers[nextIndex()]);
+        }
+    }
+
+    @Benchmark
+    public OWLClassD findEntityWithEagerReference() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.find(OWLClassD.class, dIdentifiers[nextIndex()]);
+        }
+    }
+
+    @Benchmark
+    public OWLClassA findEntityWithDataAttributesAsReadOnlyProjection() {
+        try (final EntityManager em = emf.createEntityManager(READ_ONLY_PROJECTION)) {
+            return em.find(OWLClassA.class, aIdentifiers[nextIndex()]);
+        }
+    }
+
+    @Benchmark
+    public OWLClassD findEntityWithEagerReferenceAsReadOnlyProjection() {
+        try (final EntityManager em = emf.createEntityManager(READ_ONLY_PROJECTION)) {
+            return em.find(OWLClassD.class, dIdentifiers[nextIndex()]);
+        }
+    }
+}
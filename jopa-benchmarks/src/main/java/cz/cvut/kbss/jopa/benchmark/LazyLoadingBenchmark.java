@@ -0,0 +1,75 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassI;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks loading of an entity with a lazily loaded reference.
+ * <p>
+ * {@link #findWithoutLazyField()} serves as the baseline for {@link #findAndTriggerLazyLoading()}, the difference
+ * between them is the cost of lazy loading proxy initialization.
+ */
+public class LazyLoadingBenchmark extends AbstractBenchmark {
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private URI[] identifiers;
+
+    @Override
+    protected void seed() {
+        final List<OWLClassA> as = seedOwlClassA();
+        this.identifiers = new URI[as.size()];
+        inTransaction(em -> {
+            for (int i = 0; i < as.size(); i++) {
+                final OWLClassI instance = new OWLClassI();
+                instance.setUri(generateUri());
+                // The reference cascades persist, so it must be managed
+                instance.setOwlClassA(em.find(OWLClassA.class, as.get(i).getUri()));
+                em.persist(instance);
+                identifiers[i] = instance.getUri();
+            }
+        });
+    }
+
+    private URI nextIdentifier() {
+        return identifiers[Math.floorMod(cursor.getAndIncrement(), DATA_SIZE)];
+    }
+
+    @Benchmark
+    public OWLClassI findWithoutLazyField() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.find(OWLClassI.class, nextIdentifier());
+        }
+    }
+
+    @Benchmark
+    public String findAndTriggerLazyLoading() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            final OWLClassI instance = em.find(OWLClassI.class, nextIdentifier());
+            return instance.getOwlClassA().getStringAttribute();
+        }
+    }
+}
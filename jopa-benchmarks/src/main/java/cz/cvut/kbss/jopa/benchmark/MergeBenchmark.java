@@ -0,0 +1,49 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks {@link cz.cvut.kbss.jopa.model.EntityManager#merge(Object)} of a detached instance followed by
+ * transaction commit.
+ */
+public class MergeBenchmark extends AbstractBenchmark {
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private List<OWLClassA> instances;
+
+    @Override
+    protected void seed() {
+        this.instances = seedOwlClassA();
+    }
+
+    @Benchmark
+    public void mergeAndCommit() {
+        final int index = cursor.getAndIncrement();
+        final OWLClassA original = instances.get(Math.floorMod(index, DATA_SIZE));
+        final OWLClassA detached = new OWLClassA(original.getUri(), "Updated string attribute " + index);
+        detached.setTypes(original.getTypes());
+        inTransaction(em -> em.merge(detached));
+    }
+}
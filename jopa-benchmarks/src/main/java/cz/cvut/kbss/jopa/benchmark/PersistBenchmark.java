@@ -0,0 +1,47 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks {@link cz.cvut.kbss.jopa.model.EntityManager#persist(Object)} followed by transaction commit.
+ * <p>
+ * Note that the storage grows during the trial, as persisted instances are not removed.
+ */
+public class PersistBenchmark extends AbstractBenchmark {
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    @Override
+    protected void seed() {
+        seedOwlClassA();
+    }
+
+    @Benchmark
+    public void persistAndCommit() {
+        inTransaction(em -> {
+            for (int i = 0; i < batchSize; i++) {
+                em.persist(createOwlClassA());
+            }
+        });
+    }
+}
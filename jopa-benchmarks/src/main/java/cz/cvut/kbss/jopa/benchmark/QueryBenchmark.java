@@ -0,0 +1,99 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.query.QueryHints;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Benchmarks typed query result retrieval, both as a list and as a stream.
+ * <p>
+ * Each invocation loads all the {@link #DATA_SIZE} seeded instances.
+ */
+public class QueryBenchmark extends AbstractBenchmark {
+
+    private static final String SPARQL_QUERY = "SELECT ?x WHERE { ?x a ?type . }";
+
+    private static final URI TYPE = URI.create(OWLClassA.getClassIri());
+
+    private static final String SOQL_QUERY = "SELECT a FROM OWLClassA a";
+
+    @Override
+    protected void seed() {
+        seedOwlClassA();
+    }
+
+    @Benchmark
+    public List<OWLClassA> sparqlGetResultList() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.createNativeQuery(SPARQL_QUERY, OWLClassA.class)
+                     .setParameter("type", TYPE)
+                     .getResultList();
+        }
+    }
+
+    @Benchmark
+    public void sparqlGetResultStream(Blackhole blackhole) {
+        try (final EntityManager em = emf.createEntityManager()) {
+            em.createNativeQuery(SPARQL_QUERY, OWLClassA.class)
+              .setParameter("type", TYPE)
+              .getResultStream()
+              .forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public List<OWLClassA> sparqlGetResultListAsReadOnlyProjection() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.createNativeQuery(SPARQL_QUERY, OWLClassA.class)
+                     .setParameter("type", TYPE)
+                     .setHint(QueryHints.READ_ONLY_PROJECTION, true)
+                     .getResultList();
+        }
+    }
+
+    @Benchmark
+    public List<OWLClassA> soqlGetResultList() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.createQuery(SOQL_QUERY, OWLClassA.class).getResultList();
+        }
+    }
+
+    @Benchmark
+    public void soqlGetResultStream(Blackhole blackhole) {
+        try (final EntityManager em = emf.createEntityManager()) {
+            em.createQuery(SOQL_QUERY, OWLClassA.class).getResultStream().forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public List<String> sparqlProjection() {
+        try (final EntityManager em = emf.createEntityManager()) {
+            return em.createNativeQuery("SELECT ?s WHERE { ?x ?attribute ?s . }", String.class)
+                     .setParameter("attribute", URI.create(Vocabulary.P_A_STRING_ATTRIBUTE))
+                     .getResultList();
+        }
+    }
+}
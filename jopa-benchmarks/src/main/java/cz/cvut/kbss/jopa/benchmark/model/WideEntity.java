@@ -0,0 +1,424 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.model;
+
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
+
+import java.net.URI;
+
+/**
+ * Entity with 30 data attributes of various types.
+ * <p>
+ * Used to measure per-attribute costs of cloning and change calculation, which are hidden by the small entities of the
+ * integration test model.
+ */
+@OWLClass(iri = WideEntity.TYPE_IRI)
+public class WideEntity {
+
+    public static final String TYPE_IRI = "http://krizik.felk.cvut.cz/ontologies/jopa/benchmark/WideEntity";
+
+    private static final String PROPERTY_IRI_BASE = "http://krizik.felk.cvut.cz/ontologies/jopa/benchmark/";
+
+    @Id
+    private URI uri;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "stringAttribute1")
+    private String stringAttribute1;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "intAttribute1")
+    private Integer intAttribute1;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "longAttribute1")
+    private Long longAttribute1;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "booleanAttribute1")
+    private Boolean booleanAttribute1;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "doubleAttribute1")
+    private Double doubleAttribute1;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "stringAttribute2")
+    private String stringAttribute2;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "intAttribute2")
+    private Integer intAttribute2;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "longAttribute2")
+    private Long longAttribute2;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "booleanAttribute2")
+    private Boolean booleanAttribute2;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "doubleAttribute2")
+    private Double doubleAttribute2;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "stringAttribute3")
+    private String stringAttribute3;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "intAttribute3")
+    private Integer intAttribute3;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "longAttribute3")
+    private Long longAttribute3;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "booleanAttribute3")
+    private Boolean booleanAttribute3;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "doubleAttribute3")
+    private Double doubleAttribute3;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "stringAttribute4")
+    private String stringAttribute4;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "intAttribute4")
+    private Integer intAttribute4;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "longAttribute4")
+    private Long longAttribute4;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "booleanAttribute4")
+    private Boolean booleanAttribute4;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "doubleAttribute4")
+    private Double doubleAttribute4;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "stringAttribute5")
+    private String stringAttribute5;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "intAttribute5")
+    private Integer intAttribute5;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "longAttribute5")
+    private Long longAttribute5;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "booleanAttribute5")
+    private Boolean booleanAttribute5;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "doubleAttribute5")
+    private Double doubleAttribute5;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "stringAttribute6")
+    private String stringAttribute6;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "intAttribute6")
+    private Integer intAttribute6;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "longAttribute6")
+    private Long longAttribute6;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "booleanAttribute6")
+    private Boolean booleanAttribute6;
+
+    @OWLDataProperty(iri = PROPERTY_IRI_BASE + "doubleAttribute6")
+    private Double doubleAttribute6;
+
+    public WideEntity() {
+    }
+
+    public WideEntity(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public void setUri(URI uri) {
+        this.uri = uri;
+    }
+
+    public String getStringAttribute1() {
+        return stringAttribute1;
+    }
+
+    public void setStringAttribute1(String stringAttribute1) {
+        this.stringAttribute1 = stringAttribute1;
+    }
+
+    public Integer getIntAttribute1() {
+        return intAttribute1;
+    }
+
+    public void setIntAttribute1(Integer intAttribute1) {
+        this.intAttribute1 = intAttribute1;
+    }
+
+    public Long getLongAttribute1() {
+        return longAttribute1;
+    }
+
+    public void setLongAttribute1(Long longAttribute1) {
+        this.longAttribute1 = longAttribute1;
+    }
+
+    public Boolean getBooleanAttribute1() {
+        return booleanAttribute1;
+    }
+
+    public void setBooleanAttribute1(Boolean booleanAttribute1) {
+        this.booleanAttribute1 = booleanAttribute1;
+    }
+
+    public Double getDoubleAttribute1() {
+        return doubleAttribute1;
+    }
+
+    public void setDoubleAttribute1(Double doubleAttribute1) {
+        this.doubleAttribute1 = doubleAttribute1;
+    }
+
+    public String getStringAttribute2() {
+        return stringAttribute2;
+    }
+
+    public void setStringAttribute2(String stringAttribute2) {
+        this.stringAttribute2 = stringAttribute2;
+    }
+
+    public Integer getIntAttribute2() {
+        return intAttribute2;
+    }
+
+    public void setIntAttribute2(Integer intAttribute2) {
+        this.intAttribute2 = intAttribute2;
+    }
+
+    public Long getLongAttribute2() {
+        return longAttribute2;
+    }
+
+    public void setLongAttribute2(Long longAttribute2) {
+        this.longAttribute2 = longAttribute2;
+    }
+
+    public Boolean getBooleanAttribute2() {
+        return booleanAttribute2;
+    }
+
+    public void setBooleanAttribute2(Boolean booleanAttribute2) {
+        this.booleanAttribute2 = booleanAttribute2;
+    }
+
+    public Double getDoubleAttribute2() {
+        return doubleAttribute2;
+    }
+
+    public void setDoubleAttribute2(Double doubleAttribute2) {
+        this.doubleAttribute2 = doubleAttribute2;
+    }
+
+    public String getStringAttribute3() {
+        return stringAttribute3;
+    }
+
+    public void setStringAttribute3(String stringAttribute3) {
+        this.stringAttribute3 = stringAttribute3;
+    }
+
+    public Integer getIntAttribute3() {
+        return intAttribute3;
+    }
+
+    public void setIntAttribute3(Integer intAttribute3) {
+        this.intAttribute3 = intAttribute3;
+    }
+
+    public Long getLongAttribute3() {
+        return longAttribute3;
+    }
+
+    public void setLongAttribute3(Long longAttribute3) {
+        this.longAttribute3 = longAttribute3;
+    }
+
+    public Boolean getBooleanAttribute3() {
+        return booleanAttribute3;
+    }
+
+    public void setBooleanAttribute3(Boolean booleanAttribute3) {
+        this.booleanAttribute3 = booleanAttribute3;
+    }
+
+    public Double getDoubleAttribute3() {
+        return doubleAttribute3;
+    }
+
+    public void setDoubleAttribute3(Double doubleAttribute3) {
+        this.doubleAttribute3 = doubleAttribute3;
+    }
+
+    public String getStringAttribute4() {
+        return stringAttribute4;
+    }
+
+    public void setStringAttribute4(String stringAttribute4) {
+        this.stringAttribute4 = stringAttribute4;
+    }
+
+    public Integer getIntAttribute4() {
+        return intAttribute4;
+    }
+
+    public void setIntAttribute4(Integer intAttribute4) {
+        this.intAttribute4 = intAttribute4;
+    }
+
+    public Long getLongAttribute4() {
+        return longAttribute4;
+    }
+
+    public void setLongAttribute4(Long longAttribute4) {
+        this.longAttribute4 = longAttribute4;
+    }
+
+    public Boolean getBooleanAttribute4() {
+        return booleanAttribute4;
+    }
+
+    public void setBooleanAttribute4(Boolean booleanAttribute4) {
+        this.booleanAttribute4 = booleanAttribute4;
+    }
+
+    public Double getDoubleAttribute4() {
+        return doubleAttribute4;
+    }
+
+    public void setDoubleAttribute4(Double doubleAttribute4) {
+        this.doubleAttribute4 = doubleAttribute4;
+    }
+
+    public String getStringAttribute5() {
+        return stringAttribute5;
+    }
+
+    public void setStringAttribute5(String stringAttribute5) {
+        this.stringAttribute5 = stringAttribute5;
+    }
+
+    public Integer getIntAttribute5() {
+        return intAttribute5;
+    }
+
+    public void setIntAttribute5(Integer intAttribute5) {
+        this.intAttribute5 = intAttribute5;
+    }
+
+    public Long getLongAttribute5() {
+        return longAttribute5;
+    }
+
+    public void setLongAttribute5(Long longAttribute5) {
+        this.longAttribute5 = longAttribute5;
+    }
+
+    public Boolean getBooleanAttribute5() {
+        return booleanAttribute5;
+    }
+
+    public void setBooleanAttribute5(Boolean booleanAttribute5) {
+        this.booleanAttribute5 = booleanAttribute5;
+    }
+
+    public Double getDoubleAttribute5() {
+        return doubleAttribute5;
+    }
+
+    public void setDoubleAttribute5(Double doubleAttribute5) {
+        this.doubleAttribute5 = doubleAttribute5;
+    }
+
+    public String getStringAttribute6() {
+        return stringAttribute6;
+    }
+
+    public void setStringAttribute6(String stringAttribute6) {
+        this.stringAttribute6 = stringAttribute6;
+    }
+
+    public Integer getIntAttribute6() {
+        return intAttribute6;
+    }
+
+    public void setIntAttribute6(Integer intAttribute6) {
+        this.intAttribute6 = intAttribute6;
+    }
+
+    public Long getLongAttribute6() {
+        return longAttribute6;
+    }
+
+    public void setLongAttribute6(Long longAttribute6) {
+        this.longAttribute6 = longAttribute6;
+    }
+
+    public Boolean getBooleanAttribute6() {
+        return booleanAttribute6;
+    }
+
+    public void setBooleanAttribute6(Boolean booleanAttribute6) {
+        this.booleanAttribute6 = booleanAttribute6;
+    }
+
+    public Double getDoubleAttribute6() {
+        return doubleAttribute6;
+    }
+
+    public void setDoubleAttribute6(Double doubleAttribute6) {
+        this.doubleAttribute6 = doubleAttribute6;
+    }
+
+    /**
+     * Sets all the data attributes to values derived from the specified seed.
+     *
+     * @param seed Value seed
+     */
+    public void populate(int seed) {
+        this.stringAttribute1 = "Value " + seed;
+        this.intAttribute1 = seed + 1;
+        this.longAttribute1 = (long) seed * 2;
+        this.booleanAttribute1 = seed % 4 == 0;
+        this.doubleAttribute1 = seed / 4.0;
+        this.stringAttribute2 = "Value " + seed;
+        this.intAttribute2 = seed + 6;
+        this.longAttribute2 = (long) seed * 7;
+        this.booleanAttribute2 = seed % 9 == 0;
+        this.doubleAttribute2 = seed / 9.0;
+        this.stringAttribute3 = "Value " + seed;
+        this.intAttribute3 = seed + 11;
+        this.longAttribute3 = (long) seed * 12;
+        this.booleanAttribute3 = seed % 14 == 0;
+        this.doubleAttribute3 = seed / 14.0;
+        this.stringAttribute4 = "Value " + seed;
+        this.intAttribute4 = seed + 16;
+        this.longAttribute4 = (long) seed * 17;
+        this.booleanAttribute4 = seed % 19 == 0;
+        this.doubleAttribute4 = seed / 19.0;
+        this.stringAttribute5 = "Value " + seed;
+        this.intAttribute5 = seed + 21;
+        this.longAttribute5 = (long) seed * 22;
+        this.booleanAttribute5 = seed % 24 == 0;
+        this.doubleAttribute5 = seed / 24.0;
+        this.stringAttribute6 = "Value " + seed;
+        this.intAttribute6 = seed + 26;
+        this.longAttribute6 = (long) seed * 27;
+        this.booleanAttribute6 = seed % 29 == 0;
+        this.doubleAttribute6 = seed / 29.0;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Processes classes listed in persistence unit indexes instead of scanning the classpath.
+ * <p>
+ * The indexes ({@link #INDEX_RESOURCE}) are generated at build time by the JOPA annotation processor (modelgen). Each
+ * index lists binary names of entities, result set mapping classes and converters found during compilation. All
+ * indexes available to the current classloader are used, so classes may be spread across several JARs, as long as
+ * each of them is built with the annotation processor.
+ * <p>
+ * If no index is found, this scanner falls back to classpath scanning (see {@link DefaultClasspathScanner}).
+ * <p>
+ * Note that the index reflects the classes compiled by the last build. When only a subset of the sources is
+ * recompiled (e.g., by an IDE), the index may be incomplete.
+ */
+public class IndexedClasspathScanner extends DefaultClasspathScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathScanner.class);
+
+    /**
+     * Location of the persistence unit index on classpath.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/jopa/persistence-unit.index";
+
+    private static final char COMMENT_PREFIX = '#';
+
+    @Override
+    public void processClasses(String scanPackage) {
+        final Set<String> indexed = readIndexes();
+        if (indexed.isEmpty()) {
+            LOG.warn("No persistence unit index found on classpath, falling back to classpath scanning.");
+            super.processClasses(scanPackage);
+            return;
+        }
+        final String packagePrefix = scanPackage.isEmpty() ? "" : scanPackage + JAVA_PACKAGE_SEPARATOR;
+        indexed.stream().filter(cls -> cls.startsWith(packagePrefix)).forEach(this::processClass);
+    }
+
+    private Set<String> readIndexes() {
+        final Set<String> classes = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(INDEX_RESOURCE);
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                LOG.trace("Reading persistence unit index {}.", index);
+                readIndex(index, classes);
+            }
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to read persistence unit index.", e);
+        }
+        return classes;
+    }
+
+    private static void readIndex(URL index, Set<String> classes) throws IOException {
+        try (final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && line.charAt(0) != COMMENT_PREFIX) {
+                    classes.add(line);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+class AttributeNodeImpl<T> implements AttributeNode<T> {
+
+    private final String attributeName;
+
+    private EntityGraphImpl<?> subgraph;
+
+    AttributeNodeImpl(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    @Override
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    @Override
+    public EntityGraphImpl<?> getSubgraph() {
+        return subgraph;
+    }
+
+    void setSubgraph(EntityGraphImpl<?> subgraph) {
+        this.subgraph = subgraph;
+    }
+
+    @Override
+    public String toString() {
+        return subgraph != null ? attributeName + "=" + subgraph : attributeName;
+    }
+}
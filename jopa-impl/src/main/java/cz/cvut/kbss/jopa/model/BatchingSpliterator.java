@@ -0,0 +1,76 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator which maps items of the source spliterator in batches.
+ * <p>
+ * Items of the source are read ahead until a batch of the configured size is collected (or the source is exhausted).
+ * The batch is then mapped at once and results are passed to the consumer one by one.
+ *
+ * @param <T> Type of the source items
+ * @param <R> Type of the mapping results
+ */
+class BatchingSpliterator<T, R> extends Spliterators.AbstractSpliterator<R> {
+
+    private final Spliterator<T> source;
+    private final int batchSize;
+    private final Function<List<T>, List<R>> batchMapper;
+
+    private final Deque<R> buffer = new ArrayDeque<>();
+    private boolean sourceExhausted;
+
+    BatchingSpliterator(Spliterator<T> source, int batchSize, Function<List<T>, List<R>> batchMapper) {
+        super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
+        assert batchSize > 0;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.batchMapper = batchMapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (buffer.isEmpty()) {
+            if (sourceExhausted) {
+                return false;
+            }
+            final List<T> batch = new ArrayList<>(batchSize);
+            while (batch.size() < batchSize) {
+                if (!source.tryAdvance(batch::add)) {
+                    // Do not touch the source again once it is exhausted
+                    this.sourceExhausted = true;
+                    break;
+                }
+            }
+            if (!batch.isEmpty()) {
+                buffer.addAll(batchMapper.apply(batch));
+            }
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+}
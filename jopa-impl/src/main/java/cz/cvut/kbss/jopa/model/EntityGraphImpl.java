@@ -0,0 +1,120 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link EntityGraph}, which also serves as the implementation of its {@link Subgraph}s.
+ * <p>
+ * Attribute names are validated against the metamodel when nodes are added.
+ *
+ * @param <T> Entity type
+ */
+public class EntityGraphImpl<T> implements EntityGraph<T>, Subgraph<T> {
+
+    private final IdentifiableEntityType<T> et;
+    private final MetamodelImpl metamodel;
+
+    private final Map<String, AttributeNodeImpl<?>> nodes = new LinkedHashMap<>();
+
+    public EntityGraphImpl(IdentifiableEntityType<T> et, MetamodelImpl metamodel) {
+        this.et = Objects.requireNonNull(et);
+        this.metamodel = Objects.requireNonNull(metamodel);
+    }
+
+    @Override
+    public Class<T> getClassType() {
+        return et.getJavaType();
+    }
+
+    @Override
+    public void addAttributeNodes(String... attributeName) {
+        Objects.requireNonNull(attributeName);
+        for (String name : attributeName) {
+            getOrCreateNode(name);
+        }
+    }
+
+    private AttributeNodeImpl<?> getOrCreateNode(String attributeName) {
+        // Throws IllegalArgumentException for unknown attributes
+        final FieldSpecification<? super T, ?> fs = et.getFieldSpecification(attributeName);
+        return nodes.computeIfAbsent(fs.getName(), AttributeNodeImpl::new);
+    }
+
+    @Override
+    public <X> Subgraph<X> addSubgraph(String attributeName) {
+        final Class<?> targetType = resolveReferencedEntityType(attributeName);
+        final AttributeNodeImpl<?> node = getOrCreateNode(attributeName);
+        if (node.getSubgraph() == null) {
+            node.setSubgraph(new EntityGraphImpl<>(metamodel.entity(targetType), metamodel));
+        }
+        return (Subgraph<X>) node.getSubgraph();
+    }
+
+    private Class<?> resolveReferencedEntityType(String attributeName) {
+        final FieldSpecification<? super T, ?> fs = et.getFieldSpecification(attributeName);
+        if (fs instanceof Attribute<?, ?> att && att.isAssociation()) {
+            final Class<?> type = att instanceof PluralAttribute<?, ?, ?> pa ? pa.getBindableJavaType() :
+                                  att.getJavaType();
+            if (metamodel.isEntityType(type)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Attribute " + attributeName + " of " + et + " does not reference entities.");
+    }
+
+    @Override
+    public List<AttributeNode<?>> getAttributeNodes() {
+        return List.copyOf(nodes.values());
+    }
+
+    /**
+     * Checks whether this graph contains a node corresponding to the specified attribute.
+     *
+     * @param fieldSpec Attribute to check
+     * @return {@code true} if the attribute is in this graph, {@code false} otherwise
+     */
+    public boolean contains(FieldSpecification<?, ?> fieldSpec) {
+        return nodes.containsKey(fieldSpec.getName());
+    }
+
+    /**
+     * Gets subgraph added for the specified attribute.
+     *
+     * @param fieldSpec Attribute referencing other entities
+     * @return Subgraph, {@code null} if there is no subgraph for the attribute
+     */
+    public EntityGraphImpl<?> getSubgraph(FieldSpecification<?, ?> fieldSpec) {
+        final AttributeNodeImpl<?> node = nodes.get(fieldSpec.getName());
+        return node != null ? node.getSubgraph() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityGraph{" + et.getJavaType().getSimpleName() + nodes.values() + '}';
+    }
+}
@@ -32,6 +32,7 @@ import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
 import cz.cvut.kbss.jopa.query.criteria.CriteriaParameterFiller;
 import cz.cvut.kbss.jopa.sessions.ServerSession;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.transactions.EntityTransactionWrapper;
 import cz.cvut.kbss.jopa.utils.CollectionFactory;
@@ -49,6 +50,8 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
 
@@ -111,6 +114,34 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    @Override
+    public long persistAll(Stream<?> entities) {
+        return persistAll(entities, new EntityDescriptor());
+    }
+
+    @Override
+    public long persistAll(Stream<?> entities, Descriptor descriptor) {
+        return persistAll(entities, descriptor, count -> {});
+    }
+
+    @Override
+    public long persistAll(Stream<?> entities, Descriptor descriptor, LongConsumer progressListener) {
+        LOG.trace("Persisting entities in bulk.");
+        try {
+            Objects.requireNonNull(entities);
+            Objects.requireNonNull(descriptor);
+            Objects.requireNonNull(progressListener);
+            ensureOpen();
+            if (!getTransaction().isActive()) {
+                throw new TransactionRequiredException("Cannot persist entities in bulk outside of a transaction.");
+            }
+            return getCurrentPersistenceContext().persistAll(entities, descriptor, progressListener);
+        } catch (RuntimeException e) {
+            markTransactionForRollback();
+            throw e;
+        }
+    }
+
     private void checkClassIsValidEntity(Class<?> cls) {
         getMetamodel().entity(cls);
     }
@@ -297,6 +328,9 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
             LOG.trace("Finding instance of {} with identifier {} in context {}.", cls, identifier, descriptor);
             final URI uri = (identifier instanceof URI) ? (URI) identifier : URI.create(identifier.toString());
 
+            if (configuration.is(JOPAPersistenceProperties.READ_ONLY_PROJECTION)) {
+                return getCurrentPersistenceContext().readObjectDetached(cls, uri, descriptor);
+            }
             return getCurrentPersistenceContext().readObject(cls, uri, descriptor);
         } catch (RuntimeException e) {
             markTransactionForRollback();
@@ -304,6 +338,36 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    @Override
+    public <T> T find(Class<T> cls, Object identifier, Map<String, Object> properties) {
+        return find(cls, identifier, new EntityDescriptor(), properties);
+    }
+
+    @Override
+    public <T> T find(Class<T> cls, Object identifier, Descriptor descriptor, Map<String, Object> properties) {
+        try {
+            Objects.requireNonNull(cls);
+            Objects.requireNonNull(identifier);
+            Objects.requireNonNull(descriptor);
+            Objects.requireNonNull(properties);
+            ensureOpen();
+            checkClassIsValidEntity(cls);
+
+            LOG.trace("Finding instance of {} with identifier {} in context {} using properties {}.", cls, identifier,
+                    descriptor, properties);
+            final URI uri = (identifier instanceof URI) ? (URI) identifier : URI.create(identifier.toString());
+            final FetchGraph fetchGraph = FetchGraph.fromHints(properties, cls);
+
+            if (configuration.is(JOPAPersistenceProperties.READ_ONLY_PROJECTION)) {
+                return getCurrentPersistenceContext().readObjectDetached(cls, uri, descriptor, fetchGraph);
+            }
+            return getCurrentPersistenceContext().readObject(cls, uri, descriptor, fetchGraph);
+        } catch (RuntimeException e) {
+            markTransactionForRollback();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T getReference(Class<T> entityClass, Object identifier) {
         try {
@@ -568,6 +632,14 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         return getCurrentPersistenceContext().getCriteriaBuilder();
     }
 
+    @Override
+    public <T> EntityGraph<T> createEntityGraph(Class<T> rootType) {
+        Objects.requireNonNull(rootType);
+        ensureOpen();
+        final MetamodelImpl metamodel = getCurrentPersistenceContext().getMetamodel();
+        return new EntityGraphImpl<>(metamodel.entity(rootType), metamodel);
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         ensureOpen();
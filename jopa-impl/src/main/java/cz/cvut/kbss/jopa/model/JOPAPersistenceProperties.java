@@ -60,7 +60,10 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
     public static final String CACHE_SWEEP_RATE = "cz.cvut.jopa.cache.sweepRate";
 
     /**
-     * Type of the second level cache. Currently supported are {@literal ttl} and {@literal lru}.
+     * Type of the second level cache. Currently supported are {@literal ttl}, {@literal lru} and {@literal concurrent}.
+     * <p>
+     * The {@literal concurrent} cache does not use a cache-wide lock, so it is suitable for applications with many
+     * concurrently running persistence contexts. Its entries expire based on {@link #CACHE_TTL}.
      */
     public static final String CACHE_TYPE = "cz.cvut.jopa.cache.type";
 
@@ -69,6 +72,85 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String LRU_CACHE_CAPACITY = "cz.cvut.jopa.cache.lru.capacity";
 
+    /**
+     * Maximum number of parsed queries kept for reuse by the persistence unit.
+     * <p>
+     * The limit applies separately to native SPARQL and to SOQL queries. Defaults to 1024, {@literal 0} disables query
+     * template caching.
+     */
+    public static final String QUERY_TEMPLATE_CACHE_CAPACITY = "cz.cvut.jopa.query.templateCache.capacity";
+
+    /**
+     * Number of entities loaded together when processing results of a typed query.
+     * <p>
+     * Identifiers of query results are collected in batches of this size and state of the corresponding entities is
+     * loaded from the storage in bulk. {@literal 1} means that entities are loaded one by one.
+     * <p>
+     * Defaults to {@link cz.cvut.kbss.jopa.utils.Constants#DEFAULT_QUERY_LOAD_BATCH_SIZE}.
+     */
+    public static final String QUERY_LOAD_BATCH_SIZE = "cz.cvut.jopa.query.loadBatchSize";
+
+    /**
+     * Number of entities written into the storage together when persisting entities in bulk.
+     * <p>
+     * Defaults to {@link cz.cvut.kbss.jopa.utils.Constants#DEFAULT_BULK_PERSIST_BATCH_SIZE}.
+     *
+     * @see cz.cvut.kbss.jopa.model.EntityManager#persistAll(java.util.stream.Stream)
+     */
+    public static final String BULK_PERSIST_BATCH_SIZE = "cz.cvut.jopa.bulkPersist.batchSize";
+
+    /**
+     * Whether changes of existing entities should be written into the storage together on commit. Expected values:
+     * (true[default], false).
+     * <p>
+     * When enabled, pre-update callbacks are invoked and changes are computed for all the modified entities first,
+     * then the original values of the changed attributes are removed and the new values written using a single
+     * storage operation each. Changes a pre-update callback makes to another modified entity are thus always written.
+     * When disabled, changes are written attribute by attribute, each entity right after its pre-update callbacks
+     * have been invoked.
+     */
+    public static final String COMMIT_BATCH_UPDATES = "cz.cvut.jopa.commit.batchUpdates";
+
+    /**
+     * Maximum number of referenced entities loaded together when resolving values of object property attributes.
+     * <p>
+     * Identifiers of eagerly loaded entities referenced by a loaded entity (or by entities loaded together in bulk) which
+     * are neither managed nor cached are collected and state of the corresponding entities is loaded from the storage
+     * in bulk requests of at most this size. {@literal 1} disables batch fetching, referenced entities are then loaded
+     * one by one.
+     * <p>
+     * Defaults to {@link cz.cvut.kbss.jopa.utils.Constants#DEFAULT_BATCH_FETCH_SIZE}.
+     */
+    public static final String BATCH_FETCH_SIZE = "cz.cvut.jopa.batchFetchSize";
+
+    /**
+     * Strategy used to generate identifiers of entities that do not specify one.
+     * <p>
+     * Supported values are {@literal storage} (default), {@literal uuid}, {@literal snowflake} and {@literal sequence},
+     * see {@link cz.cvut.kbss.jopa.model.annotations.GenerationType}. Except for {@literal storage}, the strategies
+     * guarantee uniqueness without querying the storage.
+     */
+    public static final String IDENTIFIER_GENERATION_STRATEGY = "cz.cvut.jopa.identifier.generationStrategy";
+
+    /**
+     * Identifier of the application node used by the {@literal snowflake} and {@literal sequence} identifier generation
+     * strategies.
+     * <p>
+     * Applications running on multiple nodes against the same storage must configure a distinct value between
+     * {@literal 0} and {@literal 1023} for each node. An invalid value makes creation of the persistence unit fail if
+     * any entity uses one of these strategies. When not configured, {@literal 0} is used and generated identifiers are
+     * verified against the storage like those of the {@literal storage} strategy.
+     */
+    public static final String IDENTIFIER_GENERATOR_NODE_ID = "cz.cvut.jopa.identifier.nodeId";
+
+    /**
+     * Number of sequence values allocated at once by a thread using the {@literal sequence} identifier generation
+     * strategy.
+     * <p>
+     * Defaults to {@literal 1000}.
+     */
+    public static final String IDENTIFIER_SEQUENCE_BLOCK_SIZE = "cz.cvut.jopa.identifier.sequenceBlockSize";
+
     /**
      * Disable integrity constraints validation on entity/field load.
      */
@@ -88,6 +170,9 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      * classes.
      * <p>
      * The specified class must have a public no-arg constructor.
+     * <p>
+     * Use {@link cz.cvut.kbss.jopa.loaders.IndexedClasspathScanner} to read entity classes from the index generated at
+     * build time by the JOPA annotation processor instead of scanning the classpath.
      */
     public static final String CLASSPATH_SCANNER_CLASS = "cz.cvut.jopa.classpathScanner";
 
@@ -98,6 +183,14 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String CLASS_GENERATOR_OUTPUT_DIR = "cz.cvut.jopa.classGeneratorOutputDir";
 
+    /**
+     * Number of threads used to prepare managed types (including generation of entity subclasses) when building the
+     * metamodel.
+     * <p>
+     * Defaults to the number of available processors, {@literal 1} disables parallel preparation.
+     */
+    public static final String METAMODEL_BUILD_PARALLELISM = "cz.cvut.jopa.metamodel.buildParallelism";
+
     /**
      * Ignores removal of inferred values when entity state is merged into the persistence context.
      * <p>
@@ -127,6 +220,18 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String CACHE_ENABLED_READ_ONLY = "cz.cvut.jopa.readOnly.cache.enable";
 
+    /**
+     * Whether entities retrieved by {@link EntityManager#find(Class, Object)} and typed queries should be detached,
+     * read-only projections of the storage state. Expected values: (true, false[default]).
+     * <p>
+     * Such entities are constructed directly from the storage, without cloning, change tracking, lazy loading proxies,
+     * persistence context or second level cache registration. Lazily loaded attributes are left empty. Suitable for
+     * read-only access where the entities are not modified or navigated further.
+     * <p>
+     * Queries can enable the same behavior via {@link cz.cvut.kbss.jopa.query.QueryHints#READ_ONLY_PROJECTION}.
+     */
+    public static final String READ_ONLY_PROJECTION = "cz.cvut.jopa.readOnly.projection";
+
     private JOPAPersistenceProperties() {
         throw new AssertionError();
     }
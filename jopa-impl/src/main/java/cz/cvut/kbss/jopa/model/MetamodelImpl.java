@@ -25,9 +25,11 @@ import cz.cvut.kbss.jopa.model.metamodel.ManagedType;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.metamodel.MetamodelBuilder;
 import cz.cvut.kbss.jopa.model.metamodel.StaticMetamodelInitializer;
+import cz.cvut.kbss.jopa.oom.id.IdentifierGenerators;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
 import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -61,6 +63,8 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
 
     private NamedQueryManager namedQueryManager;
     private ResultSetMappingManager resultSetMappingManager;
+    private final QueryTemplateCache queryTemplateCache;
+    private final IdentifierGenerators identifierGenerators;
 
     private final Configuration configuration;
 
@@ -69,10 +73,14 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
     protected MetamodelImpl() {
         // Protected constructor for easier mocking
         this.configuration = null;
+        this.queryTemplateCache = null;
+        this.identifierGenerators = null;
     }
 
     public MetamodelImpl(Configuration configuration) {
         this.configuration = Objects.requireNonNull(configuration);
+        this.queryTemplateCache = new QueryTemplateCache(configuration);
+        this.identifierGenerators = new IdentifierGenerators(configuration);
     }
 
     /**
@@ -95,6 +103,7 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
         this.namedQueryManager = metamodelBuilder.getNamedQueryManager();
         this.resultSetMappingManager = metamodelBuilder.getResultSetMappingManager();
         this.typeReferenceMap = metamodelBuilder.getTypeReferenceMap();
+        identifierGenerators.validate(entities.values());
         new StaticMetamodelInitializer(this).initializeStaticMetamodel();
     }
 
@@ -164,6 +173,16 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
         return resultSetMappingManager;
     }
 
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return queryTemplateCache;
+    }
+
+    @Override
+    public IdentifierGenerators getIdentifierGenerators() {
+        return identifierGenerators;
+    }
+
     @Override
     public Set<URI> getModuleExtractionExtraSignature() {
         return Collections.unmodifiableSet(getSignatureInternal());
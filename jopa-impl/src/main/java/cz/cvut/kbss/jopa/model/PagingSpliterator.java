@@ -0,0 +1,132 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator which retrieves items of a query result page by page.
+ * <p>
+ * Pages are fetched lazily, only when all items of the previous page have been consumed. Each page is fetched by a
+ * separate query execution, so no storage resources are held open between pages.
+ * <p>
+ * Rows of a page are mapped at once and results are passed to the consumer one by one. Once all results of a page are
+ * consumed, they are passed to the page emission listener.
+ *
+ * @param <T> Type of the fetched rows
+ * @param <R> Type of the mapping results
+ */
+class PagingSpliterator<T, R> extends Spliterators.AbstractSpliterator<R> {
+
+    private final PageFetcher<T> pageFetcher;
+    private final Function<List<T>, List<R>> pageMapper;
+    private final Consumer<List<R>> pageEmittedListener;
+    private final int pageSize;
+    private final int maxResults;
+
+    private final Deque<R> buffer = new ArrayDeque<>();
+    private List<R> currentPage = List.of();
+    private int nextOffset;
+    private int fetched;
+    private boolean sourceExhausted;
+
+    /**
+     * Creates new paging spliterator.
+     *
+     * @param pageFetcher         Fetches a page of rows given its offset and limit
+     * @param pageMapper          Maps the fetched rows to results
+     * @param pageEmittedListener Called with results of a page once they all have been consumed
+     * @param pageSize            Size of a page
+     * @param firstResult         Offset of the first row to fetch
+     * @param maxResults          Maximum number of rows to fetch in total
+     */
+    PagingSpliterator(PageFetcher<T> pageFetcher, Function<List<T>, List<R>> pageMapper,
+                      Consumer<List<R>> pageEmittedListener, int pageSize, int firstResult, int maxResults) {
+        super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
+        assert pageSize > 0;
+        this.pageFetcher = pageFetcher;
+        this.pageMapper = pageMapper;
+        this.pageEmittedListener = pageEmittedListener;
+        this.pageSize = pageSize;
+        this.nextOffset = firstResult;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (buffer.isEmpty()) {
+            pageEmitted();
+            if (sourceExhausted) {
+                return false;
+            }
+            fetchPage();
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+
+    private void pageEmitted() {
+        if (!currentPage.isEmpty()) {
+            pageEmittedListener.accept(currentPage);
+            this.currentPage = List.of();
+        }
+    }
+
+    private void fetchPage() {
+        final int limit = Math.min(pageSize, maxResults - fetched);
+        if (limit <= 0) {
+            this.sourceExhausted = true;
+            return;
+        }
+        final List<T> rows = pageFetcher.fetch(nextOffset, limit);
+        this.nextOffset += rows.size();
+        this.fetched += rows.size();
+        if (rows.size() < limit) {
+            // Do not execute the query again once it returns an incomplete page
+            this.sourceExhausted = true;
+        }
+        if (!rows.isEmpty()) {
+            this.currentPage = pageMapper.apply(rows);
+            buffer.addAll(currentPage);
+        }
+    }
+
+    /**
+     * Fetches a single page of query result rows.
+     *
+     * @param <T> Type of the fetched rows
+     */
+    @FunctionalInterface
+    interface PageFetcher<T> {
+
+        /**
+         * Fetches rows starting at the specified offset.
+         *
+         * @param offset Offset of the first row to fetch
+         * @param limit  Maximum number of rows to fetch
+         * @return List of fetched rows, with fewer than {@code limit} elements if the end of results is reached
+         */
+        List<T> fetch(int offset, int limit);
+    }
+}
@@ -95,6 +95,11 @@ public class QueryHintsHandler {
         static {
             registerHint(new DisableInferenceHint());
             registerHint(new TargetOntologyHint());
+            registerHint(new PageSizeHint());
+            registerHint(new DetachStreamedResultsHint());
+            registerHint(new ReadOnlyProjectionHint());
+            registerHint(new EntityGraphHint(QueryHints.FETCH_GRAPH));
+            registerHint(new EntityGraphHint(QueryHints.LOAD_GRAPH));
         }
 
         Hint(String name, Object defaultValue) {
@@ -201,4 +206,100 @@ public class QueryHintsHandler {
             statement.useOntology((Statement.StatementOntology) hintValue);
         }
     }
+
+    /**
+     * Validates page size of paged result streaming.
+     * <p>
+     * The value itself is used by {@link TypedQueryImpl} when its result stream is created.
+     *
+     * @see QueryHints#PAGE_SIZE
+     */
+    protected static class PageSizeHint extends Hint {
+        PageSizeHint() {
+            super(QueryHints.PAGE_SIZE, 0);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            resolvePageSize(hintValue);
+        }
+
+        static int resolvePageSize(Object hintValue) {
+            if (hintValue == null || shouldUseDefault(hintValue)) {
+                return 0;
+            }
+            try {
+                final int pageSize =
+                        hintValue instanceof Number n ? n.intValue() : Integer.parseInt(hintValue.toString());
+                if (pageSize >= 0) {
+                    return pageSize;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to exception
+            }
+            throw new IllegalArgumentException(
+                    "Unsupported value '" + hintValue + "' of hint '" + QueryHints.PAGE_SIZE + "'.");
+        }
+    }
+
+    /**
+     * Marks that entities emitted by a paged result stream should be detached.
+     * <p>
+     * The value itself is used by {@link TypedQueryImpl} when its result stream is created.
+     *
+     * @see QueryHints#DETACH_STREAMED_RESULTS
+     */
+    protected static class DetachStreamedResultsHint extends Hint {
+        DetachStreamedResultsHint() {
+            super(QueryHints.DETACH_STREAMED_RESULTS, Boolean.FALSE);
+            this.valueArray =
+                    new Object[][]{{Boolean.TRUE.toString(), Boolean.TRUE}, {Boolean.FALSE.toString(), Boolean.FALSE}};
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            // Nothing to apply to the statement, the hint is processed when result stream is created
+        }
+    }
+
+    /**
+     * Marks that entity results should be loaded as detached read-only projections.
+     * <p>
+     * The value itself is used by {@link TypedQueryImpl} when loading entity results.
+     *
+     * @see QueryHints#READ_ONLY_PROJECTION
+     */
+    protected static class ReadOnlyProjectionHint extends Hint {
+        ReadOnlyProjectionHint() {
+            super(QueryHints.READ_ONLY_PROJECTION, Boolean.FALSE);
+            this.valueArray =
+                    new Object[][]{{Boolean.TRUE.toString(), Boolean.TRUE}, {Boolean.FALSE.toString(), Boolean.FALSE}};
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            // Nothing to apply to the statement, the hint is processed when entity results are loaded
+        }
+    }
+
+    /**
+     * Validates entity graph used as a fetch or load graph of entity results.
+     * <p>
+     * The value itself is used by {@link TypedQueryImpl} when loading entity results.
+     *
+     * @see QueryHints#FETCH_GRAPH
+     * @see QueryHints#LOAD_GRAPH
+     */
+    protected static class EntityGraphHint extends Hint {
+        EntityGraphHint(String name) {
+            super(name, null);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            if (hintValue != null && !(hintValue instanceof EntityGraph<?>)) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.");
+            }
+        }
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * {@link Flow.Publisher} of query results.
+ * <p>
+ * Each subscription executes the query anew (via the result stream supplier) and pulls results from the stream only as
+ * they are requested by the subscriber. Results are emitted on the thread calling
+ * {@link Flow.Subscription#request(long)}, since the persistence context used to load them is not thread-safe.
+ * Reentrant requests (e.g., from {@link Flow.Subscriber#onNext(Object)}) are handled without recursion and without
+ * locking.
+ *
+ * @param <X> Type of the query results
+ */
+class QueryResultPublisher<X> implements Flow.Publisher<X> {
+
+    private final Supplier<Stream<X>> resultStreamSupplier;
+
+    QueryResultPublisher(Supplier<Stream<X>> resultStreamSupplier) {
+        this.resultStreamSupplier = resultStreamSupplier;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super X> subscriber) {
+        Objects.requireNonNull(subscriber);
+        final ResultSubscription<X> subscription = new ResultSubscription<>(subscriber, resultStreamSupplier);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final class ResultSubscription<X> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super X> subscriber;
+        private final Supplier<Stream<X>> resultStreamSupplier;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Accessed only by the thread currently draining
+        private Stream<X> stream;
+        private Iterator<X> iterator;
+        private boolean done;
+
+        private ResultSubscription(Flow.Subscriber<? super X> subscriber, Supplier<Stream<X>> resultStreamSupplier) {
+            this.subscriber = subscriber;
+            this.resultStreamSupplier = resultStreamSupplier;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.invalidRequest = new IllegalArgumentException("Number of requested results must be positive.");
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    this.stream = resultStreamSupplier.get();
+                    this.iterator = stream.iterator();
+                }
+                while (demand.get() > 0 && !cancelled) {
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    final X item = iterator.next();
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(item);
+                }
+                if (cancelled) {
+                    finish();
+                }
+            } catch (RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+            }
+        }
+
+        private void finish() {
+            this.done = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
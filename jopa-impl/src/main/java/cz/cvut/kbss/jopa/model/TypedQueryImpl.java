@@ -24,21 +24,36 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Parameter;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(TypedQueryImpl.class);
+
     private final Class<X> resultType;
 
     private final UnitOfWork uow;
@@ -67,35 +82,91 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     }
 
     private List<X> getResultListImpl() throws OntoDriverException {
-        final boolean isEntityType = uow.isEntityType(resultType);
         final List<X> res = new ArrayList<>();
-        executeQuery(rs -> {
-            if (isEntityType) {
-                loadEntityInstance(rs, descriptor).ifPresent(res::add);
-            } else {
-                loadResultValue(rs).ifPresent(res::add);
-            }
-        });
+        if (uow.isEntityType(resultType)) {
+            final int batchSize = resolveLoadBatchSize();
+            final List<URI> batch = new ArrayList<>(batchSize);
+            executeQuery(rs -> {
+                batch.add(getEntityIdentifier(rs));
+                if (batch.size() >= batchSize) {
+                    res.addAll(loadEntityInstances(List.copyOf(batch)));
+                    batch.clear();
+                }
+            });
+            res.addAll(loadEntityInstances(batch));
+        } else {
+            executeQuery(rs -> loadResultValue(rs).ifPresent(res::add));
+        }
         return res;
     }
 
+    private int resolveLoadBatchSize() {
+        final String setting = uow.getConfiguration().get(JOPAPersistenceProperties.QUERY_LOAD_BATCH_SIZE);
+        if (setting == null) {
+            return Constants.DEFAULT_QUERY_LOAD_BATCH_SIZE;
+        }
+        try {
+            final int batchSize = Integer.parseInt(setting);
+            if (batchSize > 0) {
+                return batchSize;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to default
+        }
+        LOG.warn("Invalid query result load batch size {}. Using default value {}.", setting,
+                 Constants.DEFAULT_QUERY_LOAD_BATCH_SIZE);
+        return Constants.DEFAULT_QUERY_LOAD_BATCH_SIZE;
+    }
+
     public Descriptor getDescriptor() {
         return descriptor;
     }
 
-    private Optional<X> loadEntityInstance(ResultRow resultRow, Descriptor instanceDescriptor) {
-        if (uow == null) {
-            throw new IllegalStateException("Cannot load entity instance without Unit of Work.");
-        }
+    private URI getEntityIdentifier(ResultRow resultRow) {
         try {
             assert resultRow.isBound(0);
-            final URI uri = URI.create(resultRow.getString(0));
-            return Optional.ofNullable(uow.readObject(resultType, uri, instanceDescriptor));
+            return URI.create(resultRow.getString(0));
         } catch (OntoDriverException e) {
             throw new OWLPersistenceException("Unable to load query result as entity of type " + resultType, e);
         }
     }
 
+    /**
+     * Loads entities with the specified identifiers.
+     * <p>
+     * The state of the entities is prefetched in bulk, so that the whole batch requires as few storage round trips as
+     * possible.
+     */
+    private List<X> loadEntityInstances(List<URI> identifiers) {
+        return loadEntityInstances(identifiers, (identifier, instance) -> {});
+    }
+
+    private List<X> loadEntityInstances(List<URI> identifiers, BiConsumer<URI, X> loadListener) {
+        final FetchGraph fetchGraph = FetchGraph.fromHints(getHints(), resultType);
+        if (identifiers.size() > 1) {
+            uow.prefetchObjects(resultType, identifiers, descriptor, fetchGraph);
+        }
+        final boolean projection = isReadOnlyProjection();
+        final List<X> result = new ArrayList<>(identifiers.size());
+        for (URI identifier : identifiers) {
+            final X instance = projection ? uow.readObjectDetached(resultType, identifier, descriptor, fetchGraph) :
+                               uow.readObject(resultType, identifier, descriptor, fetchGraph);
+            if (instance != null) {
+                result.add(instance);
+                loadListener.accept(identifier, instance);
+            }
+        }
+        return result;
+    }
+
+    private boolean isReadOnlyProjection() {
+        final Object hint = getHints().get(QueryHints.READ_ONLY_PROJECTION);
+        if (hint != null) {
+            return Boolean.parseBoolean(hint.toString());
+        }
+        return uow.getConfiguration().is(JOPAPersistenceProperties.READ_ONLY_PROJECTION);
+    }
+
     private Optional<X> loadResultValue(ResultRow resultRow) {
         try {
             return Optional.of(resultRow.getObject(0, resultType));
@@ -127,17 +198,26 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Entity results are loaded in batches, so the underlying query result is read ahead by up to the configured batch
+     * size (see {@link JOPAPersistenceProperties#QUERY_LOAD_BATCH_SIZE}).
+     */
     @Override
     public Stream<X> getResultStream() {
-        final boolean isEntityType = uow.isEntityType(resultType);
         try {
-            return executeQueryForStream(row -> {
-                if (isEntityType) {
-                    return loadEntityInstance(row, descriptor);
-                } else {
-                    return loadResultValue(row);
-                }
-            });
+            final int pageSize = QueryHintsHandler.PageSizeHint.resolvePageSize(getHints().get(QueryHints.PAGE_SIZE));
+            if (pageSize > 0) {
+                return getPagedResultStream(pageSize);
+            }
+            if (uow.isEntityType(resultType)) {
+                final Stream<URI> identifiers = executeQueryForStream(row -> Optional.of(getEntityIdentifier(row)));
+                return StreamSupport.stream(new BatchingSpliterator<>(identifiers.spliterator(), resolveLoadBatchSize(),
+                                                                      this::loadEntityInstances), false)
+                                    .onClose(identifiers::close);
+            }
+            return executeQueryForStream(this::loadResultValue);
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -149,6 +229,88 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         }
     }
 
+    /**
+     * Creates a stream which executes this query repeatedly, each time retrieving a single page of results.
+     * <p>
+     * Entity results of each page are loaded in a single batch. If {@link QueryHints#DETACH_STREAMED_RESULTS} is set,
+     * results registered in the persistence context by the stream are detached from it once the whole page has been
+     * consumed. Results which had already been managed before the stream loaded them remain managed.
+     */
+    private Stream<X> getPagedResultStream(int pageSize) {
+        final int firstResult = query.getFirstResult();
+        final int maxResults = query.getMaxResults();
+        final PagingSpliterator<?, X> spliterator;
+        if (uow.isEntityType(resultType)) {
+            if (shouldDetachStreamedResults()) {
+                final Set<X> registeredByStream = Collections.newSetFromMap(new IdentityHashMap<>());
+                spliterator = new PagingSpliterator<>(
+                        (offset, limit) -> fetchPage(offset, limit, this::getEntityIdentifier),
+                        identifiers -> loadStreamedPage(identifiers, registeredByStream),
+                        page -> page.stream().filter(registeredByStream::remove).forEach(uow::unregisterObject),
+                        pageSize, firstResult, maxResults);
+            } else {
+                spliterator = new PagingSpliterator<>(
+                        (offset, limit) -> fetchPage(offset, limit, this::getEntityIdentifier),
+                        this::loadEntityInstances, page -> {}, pageSize, firstResult, maxResults);
+            }
+        } else {
+            spliterator = new PagingSpliterator<>(
+                    (offset, limit) -> fetchPage(offset, limit, row -> loadResultValue(row).orElseThrow()),
+                    Function.identity(), page -> {}, pageSize, firstResult, maxResults);
+        }
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private boolean shouldDetachStreamedResults() {
+        final Object detach = getHints().get(QueryHints.DETACH_STREAMED_RESULTS);
+        return detach != null && Boolean.parseBoolean(detach.toString());
+    }
+
+    /**
+     * Loads a page of entity results, recording instances which were not managed by the persistence context before.
+     */
+    private List<X> loadStreamedPage(List<URI> identifiers, Set<X> registeredByStream) {
+        final Set<URI> unmanaged = new HashSet<>(identifiers.size());
+        identifiers.stream().filter(id -> !uow.isObjectManaged(resultType, id, descriptor)).forEach(unmanaged::add);
+        return loadEntityInstances(identifiers, (identifier, instance) -> {
+            if (unmanaged.contains(identifier)) {
+                registeredByStream.add(instance);
+            }
+        });
+    }
+
+    private <T> List<T> fetchPage(int offset, int limit, Function<ResultRow, T> rowMapper) {
+        final int firstResult = query.getFirstResult();
+        final int maxResults = query.getMaxResults();
+        query.setFirstResult(offset);
+        query.setMaxResults(limit);
+        try {
+            final List<T> rows = new ArrayList<>(limit);
+            executeQuery(row -> rows.add(rowMapper.apply(row)));
+            return rows;
+        } catch (OntoDriverException e) {
+            markTransactionForRollback();
+            throw queryEvaluationException(e);
+        } catch (RuntimeException e) {
+            markTransactionForRollback();
+            throw e;
+        } finally {
+            query.setFirstResult(firstResult);
+            query.setMaxResults(maxResults);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The publisher uses {@link #getResultStream()}, so it supports paged evaluation via {@link QueryHints#PAGE_SIZE}.
+     */
+    @Override
+    public Flow.Publisher<X> getResultPublisher() {
+        ensureOpen();
+        return new QueryResultPublisher<>(this::getResultStream);
+    }
+
     @Override
     public TypedQuery<X> setMaxResults(int maxResults) {
         ensureOpen();
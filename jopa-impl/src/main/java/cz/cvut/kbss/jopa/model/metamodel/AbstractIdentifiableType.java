@@ -73,6 +73,12 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
 
     private EntityLifecycleListenerManager lifecycleListenerManager = EntityLifecycleListenerManager.empty();
 
+    private boolean finished;
+
+    // Lazily computed once the type is finished, as they are requested for every instance loaded, cloned or compared
+    private Set<Attribute<? super X, ?>> attributes;
+    private Set<FieldSpecification<? super X, ?>> fieldSpecifications;
+
     AbstractIdentifiableType(Class<X> javaType) {
         this.javaType = javaType;
     }
@@ -147,6 +153,7 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
         this.declaredGenericAttributes = declaredGenericAttributes == null ? Map.of() : Collections.unmodifiableMap(declaredGenericAttributes);
         this.declaredQueryAttributes = declaredQueryAttributes == null ? Map.of() : Collections.unmodifiableMap(declaredQueryAttributes);
         this.declaredGenericQueryAttributes = declaredGenericQueryAttributes == null ? Map.of() : Collections.unmodifiableMap(declaredGenericQueryAttributes);
+        this.finished = true;
     }
 
     @Override
@@ -210,13 +217,23 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
 
     @Override
     public Set<Attribute<? super X, ?>> getAttributes() {
-        final Set<Attribute<? super X, ?>> attributes = (Set) getDeclaredAttributesImpl();
-        if (classSupertype != null) {
-            attributes.addAll(classSupertype.getAttributes(javaType));
+        if (!finished) {
+            return resolveAttributes();
+        }
+        if (attributes == null) {
+            this.attributes = Collections.unmodifiableSet(resolveAttributes());
         }
         return attributes;
     }
 
+    private Set<Attribute<? super X, ?>> resolveAttributes() {
+        final Set<Attribute<? super X, ?>> result = (Set) getDeclaredAttributesImpl();
+        if (classSupertype != null) {
+            result.addAll(classSupertype.getAttributes(javaType));
+        }
+        return result;
+    }
+
     /**
      * Gets declared attributes, including generic ones.
      * <p>
@@ -611,6 +628,16 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
 
     @Override
     public Set<FieldSpecification<? super X, ?>> getFieldSpecifications() {
+        if (!finished) {
+            return resolveFieldSpecifications();
+        }
+        if (fieldSpecifications == null) {
+            this.fieldSpecifications = Collections.unmodifiableSet(resolveFieldSpecifications());
+        }
+        return fieldSpecifications;
+    }
+
+    private Set<FieldSpecification<? super X, ?>> resolveFieldSpecifications() {
         final Set<FieldSpecification<? super X, ?>> specs = new HashSet<>(getAttributes());
         specs.addAll(getQueryAttributes());
         final TypesSpecification<? super X, ?> types = getTypes();
@@ -435,7 +435,7 @@ class ClassFieldMetamodelProcessor<X> {
         assert id != null;
 
         mappingValidator.validateIdentifierType(field.getType());
-        et.setIdentifier(new IRIIdentifierImpl<>(et, field, id.generated()));
+        et.setIdentifier(new IRIIdentifierImpl<>(et, field, id.generated(), id.strategy()));
     }
 
     private static boolean isIdentifierField(Field field) {
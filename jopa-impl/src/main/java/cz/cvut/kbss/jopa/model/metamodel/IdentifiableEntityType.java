@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.model.IRI;
 import cz.cvut.kbss.jopa.model.annotations.InheritanceType;
+import cz.cvut.kbss.jopa.oom.EntityMappingPlan;
 
 /**
  * Instances of this type represent entity classes that can be saved to and read from storage.
@@ -33,6 +34,8 @@ public abstract class IdentifiableEntityType<X> extends AbstractIdentifiableType
 
     private InheritanceType inheritanceType;
 
+    private EntityMappingPlan<X> mappingPlan;
+
     public IdentifiableEntityType(Class<X> javaType, final IRI iri) {
         super(javaType);
         this.name = javaType.getSimpleName();
@@ -83,6 +86,25 @@ public abstract class IdentifiableEntityType<X> extends AbstractIdentifiableType
         this.inheritanceType = inheritanceType;
     }
 
+    /**
+     * Gets the plan for mapping instances of this entity type from axioms.
+     * <p>
+     * The plan is created when the metamodel is built, or on first access if the metamodel is built without finishing
+     * the entity types.
+     *
+     * @return Entity mapping plan
+     */
+    public EntityMappingPlan<X> getMappingPlan() {
+        if (mappingPlan == null) {
+            initMappingPlan();
+        }
+        return mappingPlan;
+    }
+
+    void initMappingPlan() {
+        this.mappingPlan = EntityMappingPlan.create(this);
+    }
+
     @Override
     public String toString() {
         return "EntityType{" + name + "<" + iri + ">}";
@@ -0,0 +1,114 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long individual phases of metamodel building and processing of individual classes take.
+ * <p>
+ * Per-class times may be recorded concurrently.
+ */
+class MetamodelBuildTimer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetamodelBuildTimer.class);
+
+    /**
+     * Number of the slowest classes reported in the build summary.
+     */
+    private static final int REPORTED_CLASS_COUNT = 10;
+
+    private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Class<?>, Long> classes = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the specified phase of metamodel building and records its duration.
+     *
+     * @param name  Phase name
+     * @param phase Phase to run
+     */
+    void phase(String name, Runnable phase) {
+        final long start = System.nanoTime();
+        try {
+            phase.run();
+        } finally {
+            final long duration = System.nanoTime() - start;
+            phases.merge(name, duration, Long::sum);
+            LOG.trace("Metamodel build phase '{}' took {} ms.", name, toMillis(duration));
+        }
+    }
+
+    /**
+     * Records time spent processing the specified class.
+     * <p>
+     * Repeated records for the same class are summed up.
+     *
+     * @param cls   Processed class
+     * @param nanos Processing time in nanoseconds
+     */
+    void recordClass(Class<?> cls, long nanos) {
+        classes.merge(cls, nanos, Long::sum);
+    }
+
+    Map<String, Duration> getPhaseDurations() {
+        synchronized (phases) {
+            final Map<String, Duration> result = new LinkedHashMap<>(phases.size());
+            phases.forEach((k, v) -> result.put(k, Duration.ofNanos(v)));
+            return result;
+        }
+    }
+
+    Map<Class<?>, Duration> getClassDurations() {
+        final Map<Class<?>, Duration> result = new LinkedHashMap<>(classes.size());
+        classes.entrySet().stream().sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
+               .forEach(e -> result.put(e.getKey(), Duration.ofNanos(e.getValue())));
+        return result;
+    }
+
+    /**
+     * Logs a summary of the recorded times, i.e., duration of each phase and the slowest classes.
+     */
+    void logSummary() {
+        if (!LOG.isDebugEnabled()) {
+            return;
+        }
+        final Map<String, Duration> phaseDurations = getPhaseDurations();
+        final long total = phaseDurations.values().stream().mapToLong(Duration::toNanos).sum();
+        LOG.debug("Metamodel built in {} ms.", toMillis(total));
+        phaseDurations.forEach((k, v) -> LOG.debug("  Phase '{}': {} ms.", k, toMillis(v.toNanos())));
+        classes.entrySet().stream().sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
+               .limit(REPORTED_CLASS_COUNT)
+               .forEach(e -> LOG.debug("  Class {}: {} ms.", e.getKey().getName(), toMillis(e.getValue())));
+        if (LOG.isTraceEnabled()) {
+            classes.entrySet().stream().sorted(Comparator.comparing(e -> e.getKey().getName()))
+                   .forEach(e -> LOG.trace("  Class {}: {} ms.", e.getKey().getName(), toMillis(e.getValue())));
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.model.annotations.InheritanceType;
 import cz.cvut.kbss.jopa.model.annotations.OWLAnnotationProperty;
 import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
+import cz.cvut.kbss.jopa.model.metamodel.gen.ManageableClassGenerator;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.mapper.ResultSetMappingProcessor;
@@ -38,12 +39,17 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 public class MetamodelBuilder {
 
@@ -60,6 +66,13 @@ public class MetamodelBuilder {
 
     private final List<DeferredFieldInitialization<?>> deferredFieldInitializations = new ArrayList<>();
 
+    /**
+     * Managed types prepared in advance (possibly in parallel), waiting to be processed.
+     */
+    private final Map<Class<?>, TypeBuilderContext<?>> preparedTypes = new HashMap<>();
+
+    private final MetamodelBuildTimer timer = new MetamodelBuildTimer();
+
     private final ConverterResolver converterResolver;
 
     private final Configuration configuration;
@@ -77,11 +90,19 @@ public class MetamodelBuilder {
      */
     public void buildMetamodel(PersistenceUnitClassFinder classFinder) {
         assert classFinder != null;
-        classFinder.getAttributeConverters().forEach(converterResolver::registerConverter);
-        classFinder.getEntities().forEach(this::processOWLClass);
-        processDeferredFields();
-        typeMap.values().forEach(AbstractIdentifiableType::finish);
-        classFinder.getResultSetMappings().forEach(mappingProcessor::buildMapper);
+        timer.phase("converters",
+                () -> classFinder.getAttributeConverters().forEach(converterResolver::registerConverter));
+        final List<Class<?>> entityClasses = sortByName(classFinder.getEntities());
+        timer.phase("prepareTypes", () -> prepareManagedTypes(entityClasses));
+        timer.phase("processTypes", () -> entityClasses.forEach(this::processOWLClass));
+        timer.phase("deferredFields", this::processDeferredFields);
+        timer.phase("finishTypes", () -> typeMap.values().forEach(AbstractIdentifiableType::finish));
+        timer.phase("bindSetterInterceptors", this::bindGeneratedSetterInterceptors);
+        timer.phase("mappingPlans", () -> typeMap.values().stream().filter(IdentifiableEntityType.class::isInstance)
+                                                 .forEach(t -> ((IdentifiableEntityType<?>) t).initMappingPlan()));
+        timer.phase("resultSetMappings",
+                () -> classFinder.getResultSetMappings().forEach(mappingProcessor::buildMapper));
+        timer.logSummary();
     }
 
     /**
@@ -93,8 +114,122 @@ public class MetamodelBuilder {
      */
     public void buildMetamodel(Set<Class<?>> entityClasses) {
         assert entityClasses != null;
-        entityClasses.forEach(this::processOWLClass);
-        processDeferredFields();
+        final List<Class<?>> sorted = sortByName(entityClasses);
+        timer.phase("prepareTypes", () -> prepareManagedTypes(sorted));
+        timer.phase("processTypes", () -> sorted.forEach(this::processOWLClass));
+        timer.phase("deferredFields", this::processDeferredFields);
+        timer.logSummary();
+    }
+
+    private static List<Class<?>> sortByName(Collection<? extends Class<?>> classes) {
+        final List<Class<?>> result = new ArrayList<>(classes);
+        result.sort(Comparator.comparing(Class::getName));
+        return result;
+    }
+
+    /**
+     * Prepares managed types for the specified entity classes and their managed supertypes.
+     * <p>
+     * Preparation of a type (resolving its namespaces, IRI and generating its instantiable subclass) does not depend on
+     * other types, so it is done in parallel when {@link JOPAPersistenceProperties#METAMODEL_BUILD_PARALLELISM} allows
+     * it. The prepared types are then registered in the order of the specified classes, so the rest of the metamodel
+     * is built deterministically.
+     *
+     * @param entityClasses Entity classes whose types to prepare
+     */
+    private void prepareManagedTypes(List<Class<?>> entityClasses) {
+        final List<Class<?>> classes = new ArrayList<>(collectManagedTypes(entityClasses));
+        final int parallelism = resolveParallelism();
+        final List<TypeBuilderContext<?>> prepared;
+        if (parallelism > 1 && classes.size() > 1) {
+            LOG.trace("Preparing {} managed types using {} threads.", classes.size(), parallelism);
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                prepared = pool.submit(() -> classes.parallelStream().<TypeBuilderContext<?>>map(this::prepareManagedType)
+                                                    .toList()).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MetamodelInitializationException("Interrupted while preparing managed types.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new MetamodelInitializationException("Unable to prepare managed types.", e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            prepared = classes.stream().<TypeBuilderContext<?>>map(this::prepareManagedType).toList();
+        }
+        prepared.forEach(ctx -> preparedTypes.put(ctx.getType().getJavaType(), ctx));
+    }
+
+    private static Set<Class<?>> collectManagedTypes(List<Class<?>> entityClasses) {
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        final List<Class<?>> toVisit = new ArrayList<>(entityClasses);
+        while (!toVisit.isEmpty()) {
+            final Class<?> cls = toVisit.remove(toVisit.size() - 1);
+            if (!result.add(cls)) {
+                continue;
+            }
+            final Class<?> superClass = ManagedClassProcessor.getManagedSuperClass(cls);
+            if (superClass != null) {
+                toVisit.add(superClass);
+            }
+            toVisit.addAll(sortByName(ManagedClassProcessor.getManagedSuperInterfaces(cls)));
+        }
+        return result;
+    }
+
+    private int resolveParallelism() {
+        final int defaultParallelism = Runtime.getRuntime().availableProcessors();
+        final String setting = configuration.get(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM);
+        if (setting == null) {
+            return defaultParallelism;
+        }
+        try {
+            final int parallelism = Integer.parseInt(setting);
+            if (parallelism > 0) {
+                return parallelism;
+            }
+            LOG.warn("Invalid metamodel build parallelism value {}. Using default value.", parallelism);
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse metamodel build parallelism setting. Using default value {}.",
+                      defaultParallelism);
+        }
+        return defaultParallelism;
+    }
+
+    private <X> TypeBuilderContext<X> prepareManagedType(Class<X> cls) {
+        final long start = System.nanoTime();
+        final TypeBuilderContext<X> context = ManagedClassProcessor.processManagedType(cls, configuration);
+        timer.recordClass(cls, System.nanoTime() - start);
+        return context;
+    }
+
+    /**
+     * Gets builder context of the specified managed type, using the prepared one if available.
+     */
+    private <X> TypeBuilderContext<X> createTypeContext(Class<X> cls) {
+        TypeBuilderContext<X> context = (TypeBuilderContext<X>) preparedTypes.remove(cls);
+        if (context == null) {
+            context = prepareManagedType(cls);
+        }
+        context.setConverterResolver(converterResolver);
+        context.setPuLanguage(configuration.get(JOPAPersistenceProperties.LANG));
+        return context;
+    }
+
+    /**
+     * Binds attribute specifications to setter interceptors of the generated entity classes.
+     * <p>
+     * Requires finished entity types. Setters of types which are not bound look up their attributes in the metamodel.
+     */
+    private void bindGeneratedSetterInterceptors() {
+        typeMap.values().stream()
+               .filter(t -> t instanceof ConcreteEntityType<?> && t.getInstantiableJavaType() != t.getJavaType())
+               .forEach(t -> ManageableClassGenerator.bindFieldSpecifications(t.getInstantiableJavaType(),
+                       (ConcreteEntityType<?>) t));
     }
 
     private <X> void processOWLClass(final Class<X> cls) {
@@ -104,11 +239,7 @@ public class MetamodelBuilder {
 
         LOG.debug("Processing OWL class: {}", cls);
 
-        final TypeBuilderContext<X> et = ManagedClassProcessor.processManagedType(cls, configuration);
-        et.setConverterResolver(converterResolver);
-        et.setPuLanguage(configuration.get(JOPAPersistenceProperties.LANG));
-
-        processManagedType(et);
+        processManagedType(createTypeContext(cls));
     }
 
     private <X> void processMethods(Class<X> cls, AbstractIdentifiableType<X> type) {
@@ -131,6 +262,7 @@ public class MetamodelBuilder {
     private <X> void processManagedType(TypeBuilderContext<X> context) {
         final AbstractIdentifiableType<X> type = context.getType();
         final Class<X> cls = type.getJavaType();
+        final long start = System.nanoTime();
         typeMap.put(cls, type);
 
         final Set<AbstractIdentifiableType<? super X>> supertypes = processSupertypes(cls);
@@ -160,6 +292,8 @@ public class MetamodelBuilder {
         }
 
         queryProcessor.processClass(cls);
+        // Supertypes processed recursively are included
+        timer.recordClass(cls, System.nanoTime() - start);
     }
 
     private <X> Set<AbstractIdentifiableType<? super X>> processSupertypes(Class<X> cls) {
@@ -177,9 +311,7 @@ public class MetamodelBuilder {
             if (typeMap.containsKey(managedSupertype)) {
                 superTypes.add((AbstractIdentifiableType<? super X>) typeMap.get(managedSupertype));
             } else {
-                final TypeBuilderContext<? super X> context = ManagedClassProcessor.processManagedType(managedSupertype, configuration);
-                context.setConverterResolver(converterResolver);
-                context.setPuLanguage(configuration.get(JOPAPersistenceProperties.LANG));
+                final TypeBuilderContext<? super X> context = createTypeContext(managedSupertype);
                 processManagedType(context);
                 superTypes.add(context.getType());
             }
@@ -232,6 +364,10 @@ public class MetamodelBuilder {
         }
     }
 
+    MetamodelBuildTimer getBuildTimer() {
+        return timer;
+    }
+
     public Map<Class<?>, ManagedType<?>> getTypeMap() {
         return Collections.unmodifiableMap(typeMap);
     }
@@ -17,14 +17,22 @@
  */
 package cz.cvut.kbss.jopa.model.metamodel;
 
+import cz.cvut.kbss.jopa.exception.QueryParserException;
 import cz.cvut.kbss.jopa.model.annotations.NamedNativeQueries;
 import cz.cvut.kbss.jopa.model.annotations.NamedNativeQuery;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class NamedNativeQueryProcessor {
 
+    private static final Logger LOG = LoggerFactory.getLogger(NamedNativeQueryProcessor.class);
+
     private final NamedQueryManager queryManager = new NamedQueryManager();
 
+    private final SparqlQueryParser queryParser = new SparqlQueryParser();
+
     /**
      * Discovers named native queries declared on the specified class.
      * <p>
@@ -46,7 +54,13 @@ class NamedNativeQueryProcessor {
     }
 
     private void processQuery(NamedNativeQuery query) {
-        queryManager.addNamedQuery(query.name(), query.query());
+        try {
+            queryManager.addNamedQuery(query.name(), query.query(), queryParser.parseTemplate(query.query()));
+        } catch (QueryParserException e) {
+            // Keep the query anyway, the error will be reported when the query is used
+            LOG.warn("Unable to parse named query {}.", query.name(), e);
+            queryManager.addNamedQuery(query.name(), query.query());
+        }
     }
 
     NamedQueryManager getQueryManager() {
@@ -29,24 +29,31 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.MetamodelUtils;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.FieldPersistence;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.FieldAccessor;
-import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.SuperMethodCall;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.matcher.ElementMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.beans.Introspector;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.isSetter;
+import static net.bytebuddy.matcher.ElementMatchers.named;
 
 /**
  * Generates persistence context-aware classes that implement the {@link cz.cvut.kbss.jopa.model.Manageable} interface.
@@ -54,11 +61,31 @@ import static net.bytebuddy.matcher.ElementMatchers.isSetter;
  * Such classes have an additional attribute not inherited from the base entity class. This attribute's value is a
  * reference to the persistence context to which an instance is attached. {@link cz.cvut.kbss.jopa.model.Manageable}
  * allows establishing and accessing this connection.
+ * <p>
+ * Each persistent attribute setter is intercepted by a call passing the attribute's {@link FieldSpecification} stored
+ * in a static field of the generated class. These fields are populated by {@link #bindFieldSpecifications(Class,
+ * EntityType)} once the metamodel is built, so that setter calls need not look up the attribute in the metamodel.
  */
 public class ManageableClassGenerator implements PersistenceContextAwareClassGenerator {
 
     private static final Logger LOG = LoggerFactory.getLogger(ManageableClassGenerator.class);
 
+    /**
+     * Prefix of static fields holding attribute specifications in the generated classes.
+     */
+    static final String FIELD_SPEC_PREFIX = "jopa$fieldSpec$";
+
+    private static final Method SET_METHOD;
+
+    static {
+        try {
+            SET_METHOD = SetterInterceptor.class.getDeclaredMethod("set", Manageable.class, FieldSpecification.class,
+                    String.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
 
         @Override
@@ -75,20 +102,81 @@ public class ManageableClassGenerator implements PersistenceContextAwareClassGen
     public <T> Class<? extends T> generate(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating dynamic type for entity class {}.", entityClass);
-        DynamicType.Unloaded<? extends T> typeDef = byteBuddy.subclass(entityClass)
-                                                             .annotateType(entityClass.getAnnotations())
-                                                             .annotateType(new GeneratedEntityClassImpl())
-                                                             .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .implement(Manageable.class)
-                                                             .intercept(FieldAccessor.ofBeanProperty())
-                                                             .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
-                                                             .intercept(SuperMethodCall.INSTANCE.andThen(MethodDelegation.to(SetterInterceptor.class)))
-                                                             .make();
+        DynamicType.Builder<? extends T> builder = byteBuddy.subclass(entityClass)
+                                                            .annotateType(entityClass.getAnnotations())
+                                                            .annotateType(new GeneratedEntityClassImpl())
+                                                            .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                                                            .implement(Manageable.class)
+                                                            .intercept(FieldAccessor.ofBeanProperty());
+        for (Map.Entry<String, String> e : resolvePersistentSetters(entityClass).entrySet()) {
+            final String specField = FIELD_SPEC_PREFIX + e.getValue();
+            builder = builder.defineField(specField, FieldSpecification.class, Visibility.PRIVATE, Ownership.STATIC)
+                             .method(isSetter().and(named(e.getKey()))
+                                               .and(new PersistentPropertySetterMatcher<>(entityClass)))
+                             .intercept(SuperMethodCall.INSTANCE.andThen(
+                                     MethodCall.invoke(SET_METHOD).withThis().withField(specField)
+                                               .with(e.getValue())));
+        }
+        final DynamicType.Unloaded<? extends T> typeDef = builder.make();
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
         outputGeneratedClass(typeDef);
         return typeDef.load(getClass().getClassLoader()).getLoaded();
     }
 
+    /**
+     * Resolves persistent attribute setters of the specified class and its superclasses.
+     *
+     * @return Map of setter names to names of the corresponding attributes
+     */
+    private static Map<String, String> resolvePersistentSetters(Class<?> entityClass) {
+        final ElementMatcher<MethodDescription> matcher = isSetter().and(
+                new PersistentPropertySetterMatcher<>(entityClass));
+        final Map<String, String> setters = new TreeMap<>();
+        for (Class<?> cls = entityClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Method m : cls.getDeclaredMethods()) {
+                if (isOverridable(m) && matcher.matches(new MethodDescription.ForLoadedMethod(m))) {
+                    setters.putIfAbsent(m.getName(), Introspector.decapitalize(
+                            m.getName().substring(AnnotatedAccessor.SET_PREFIX.length())));
+                }
+            }
+        }
+        return setters;
+    }
+
+    private static boolean isOverridable(Method m) {
+        return !Modifier.isPrivate(m.getModifiers()) && !Modifier.isStatic(m.getModifiers()) &&
+                !Modifier.isFinal(m.getModifiers());
+    }
+
+    /**
+     * Binds specifications of persistent attributes of the specified entity type to setter interceptors of the
+     * specified class generated by this generator.
+     * <p>
+     * Setters of attributes which cannot be bound resolve the attribute from the metamodel on each call.
+     *
+     * @param generatedClass Class generated for the specified entity type
+     * @param et             Entity type whose attributes to bind
+     */
+    public static void bindFieldSpecifications(Class<?> generatedClass, EntityType<?> et) {
+        Objects.requireNonNull(generatedClass);
+        Objects.requireNonNull(et);
+        for (Field f : generatedClass.getDeclaredFields()) {
+            if (!f.getName().startsWith(FIELD_SPEC_PREFIX)) {
+                continue;
+            }
+            final String attName = f.getName().substring(FIELD_SPEC_PREFIX.length());
+            try {
+                final FieldSpecification<?, ?> fieldSpec = et.getFieldSpecification(attName);
+                f.setAccessible(true);
+                f.set(null, fieldSpec);
+            } catch (IllegalArgumentException e) {
+                LOG.trace("Attribute {} not found in entity type {}, its setter will not be bound.", attName, et);
+            } catch (IllegalAccessException e) {
+                LOG.warn("Unable to bind attribute {} to setter interceptor of class {}.", attName, generatedClass, e);
+            }
+        }
+    }
+
     private <T> void outputGeneratedClass(DynamicType.Unloaded<? extends T> typeDef) {
         final String outputDir = config.get(JOPAPersistenceProperties.CLASS_GENERATOR_OUTPUT_DIR, "");
         if (!outputDir.isBlank()) {
@@ -108,16 +196,24 @@ public class ManageableClassGenerator implements PersistenceContextAwareClassGen
             throw new AssertionError();
         }
 
-        public static void set(@This Manageable instance, @Origin Method setter) {
+        /**
+         * Notifies the persistence context of the specified instance about change of the specified attribute.
+         *
+         * @param instance     Modified instance
+         * @param fieldSpec    Bound attribute specification, {@code null} if it has not been bound
+         * @param propertyName Name of the attribute, used to resolve it if it has not been bound
+         */
+        public static void set(Manageable instance, FieldSpecification<?, ?> fieldSpec, String propertyName) {
             final UnitOfWork pc = instance.getPersistenceContext();
             if (pc == null || !pc.isInTransaction()) {
                 return;
             }
-            final String fieldName = AnnotatedAccessor.from(setter).getPropertyName();
-            final EntityType<?> et = pc.getMetamodel().entity(MetamodelUtils.getEntityClass(instance.getClass()));
-            final FieldSpecification<?, ?> fieldSpec = et.getFieldSpecification(fieldName);
-            if (EntityPropertiesUtils.isFieldTransient(fieldSpec.getJavaField())) {
-                return;
+            if (fieldSpec == null) {
+                final EntityType<?> et = pc.getMetamodel().entity(MetamodelUtils.getEntityClass(instance.getClass()));
+                fieldSpec = et.getFieldSpecification(propertyName);
+                if (EntityPropertiesUtils.isFieldTransient(fieldSpec.getJavaField())) {
+                    return;
+                }
             }
             AttributeModificationValidator.verifyCanModify(fieldSpec);
             pc.attributeChanged(instance, fieldSpec);
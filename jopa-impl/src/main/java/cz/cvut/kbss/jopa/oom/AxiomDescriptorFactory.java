@@ -23,10 +23,12 @@ import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.PropertiesSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
@@ -44,14 +46,19 @@ import static cz.cvut.kbss.ontodriver.model.Assertion.createObjectPropertyAssert
 
 class AxiomDescriptorFactory {
 
-    AxiomDescriptor createForEntityLoading(LoadingParameters<?> loadingParams, EntityType<?> et) {
+    AxiomDescriptor createForEntityLoading(LoadingParameters<?> loadingParams, IdentifiableEntityType<?> et) {
         final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(loadingParams.getIdentifier()));
         loadingParams.getDescriptor().getContexts().forEach(descriptor::addSubjectContext);
         descriptor.addAssertion(Assertion.createClassAssertion(false));
         addForTypes(loadingParams, et, descriptor);
         addForProperties(loadingParams, et, descriptor);
+        final FetchGraph fetchGraph = loadingParams.getFetchGraph();
+        final EntityMappingPlan<?> plan = et.getMappingPlan();
         for (Attribute<?, ?> att : et.getAttributes()) {
-            final Assertion a = createAssertion(att, loadingParams.getDescriptor().getAttributeDescriptor(att));
+            if (fetchGraph != null && fetchGraph.excludes(att)) {
+                continue;
+            }
+            final Assertion a = plan.getAssertion(att, loadingParams.getDescriptor().getAttributeDescriptor(att));
             addAssertionToDescriptor(loadingParams.getDescriptor(), att, descriptor, a);
         }
         return descriptor;
@@ -95,11 +102,26 @@ class AxiomDescriptorFactory {
         }
     }
 
-    private static Assertion createAssertion(Attribute<?, ?> att, Descriptor descriptor) {
+    static Assertion createAssertion(Attribute<?, ?> att, Descriptor descriptor) {
         assert att != null;
+        return createAssertion(att, withLanguage(att, descriptor), language(att, descriptor),
+                includeInferred(att, descriptor));
+    }
+
+    /**
+     * Creates assertion representing the specified attribute.
+     *
+     * @param att          Attribute
+     * @param withLanguage Whether the assertion should have a language (which may be {@code null}, representing any
+     *                     language)
+     * @param language     Language of the assertion, ignored if {@code withLanguage} is {@code false}
+     * @param inferred     Whether the assertion should include inferred values
+     * @return New assertion
+     */
+    static Assertion createAssertion(Attribute<?, ?> att, boolean withLanguage, String language, boolean inferred) {
         switch (att.getPersistentAttributeType()) {
             case OBJECT:
-                return createObjectPropertyAssertion(att.getIRI().toURI(), includeInferred(att, descriptor));
+                return createObjectPropertyAssertion(att.getIRI().toURI(), inferred);
             case DATA:
                 if (isRdfContainer(att) || isReferencedList(att)) {
                     // If the attribute is a referenced list or an RDF container containing data property values,
@@ -107,20 +129,18 @@ class AxiomDescriptorFactory {
                     // However, the referenced list nodes themselves are resources (individuals) and thus have to be
                     // referenced via an object property
                     // Similarly, the RDF container is represented by a resource even when it contains literals
-                    return createObjectPropertyAssertion(att.getIRI().toURI(), includeInferred(att, descriptor));
+                    return createObjectPropertyAssertion(att.getIRI().toURI(), inferred);
                 }
-                if (withLanguage(att, descriptor)) {
-                    return createDataPropertyAssertion(att.getIRI().toURI(), language(att, descriptor),
-                            includeInferred(att, descriptor));
+                if (withLanguage) {
+                    return createDataPropertyAssertion(att.getIRI().toURI(), language, inferred);
                 } else {
-                    return createDataPropertyAssertion(att.getIRI().toURI(), includeInferred(att, descriptor));
+                    return createDataPropertyAssertion(att.getIRI().toURI(), inferred);
                 }
             case ANNOTATION:
-                if (withLanguage(att, descriptor)) {
-                    return createAnnotationPropertyAssertion(att.getIRI().toURI(), language(att, descriptor),
-                            includeInferred(att, descriptor));
+                if (withLanguage) {
+                    return createAnnotationPropertyAssertion(att.getIRI().toURI(), language, inferred);
                 } else {
-                    return createAnnotationPropertyAssertion(att.getIRI().toURI(), includeInferred(att, descriptor));
+                    return createAnnotationPropertyAssertion(att.getIRI().toURI(), inferred);
                 }
             default:
                 throw new IllegalArgumentException(
@@ -164,7 +184,7 @@ class AxiomDescriptorFactory {
     }
 
     AxiomDescriptor createForFieldLoading(URI identifier, FieldSpecification<?, ?> fieldSpec,
-                                          Descriptor entityDescriptor, EntityType<?> et) {
+                                          Descriptor entityDescriptor, IdentifiableEntityType<?> et) {
         final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(identifier));
         entityDescriptor.getContexts().forEach(descriptor::addSubjectContext);
         final Assertion assertion;
@@ -175,8 +195,8 @@ class AxiomDescriptorFactory {
             assertion = Assertion.createUnspecifiedPropertyAssertion(
                     includeInferred(et.getProperties(), entityDescriptor.getAttributeDescriptor(et.getProperties())));
         } else {
-            assertion =
-                    createAssertion((Attribute<?, ?>) fieldSpec, entityDescriptor.getAttributeDescriptor(fieldSpec));
+            assertion = et.getMappingPlan().getAssertion((Attribute<?, ?>) fieldSpec,
+                    entityDescriptor.getAttributeDescriptor(fieldSpec));
         }
         addAssertionToDescriptor(entityDescriptor, fieldSpec, descriptor, assertion);
         return descriptor;
@@ -124,53 +124,102 @@ class AxiomValueGatherer {
     void persist(Connection connection) {
         try {
             connection.persist(axiomDescriptor);
-            if (!typesToAdd.isEmpty()) {
-                connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
-            }
-            if (propertiesToAdd != null) {
-                connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
-            }
-            for (SimpleListValueDescriptor d : simpleListDescriptors) {
-                connection.lists().persistSimpleList(d);
-            }
-            for (ReferencedListValueDescriptor<?> d : referencedListDescriptors) {
-                connection.lists().persistReferencedList(d);
-            }
-            for(ContainerValueDescriptor<?> d : containerDescriptors) {
-                connection.containers().persistContainer(d);
+            persistAdditionalValues(connection);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Persists values gathered by all the specified gatherers.
+     * <p>
+     * Axioms of all the gatherers are written into the storage together, other values (types, properties, lists,
+     * containers) are then persisted separately for each gatherer.
+     *
+     * @param gatherers  Gatherers whose values to persist
+     * @param connection Storage connection
+     */
+    static void persistAll(List<AxiomValueGatherer> gatherers, Connection connection) {
+        try {
+            connection.persistAll(gatherers.stream().map(g -> g.axiomDescriptor).toList());
+            for (AxiomValueGatherer gatherer : gatherers) {
+                gatherer.persistAdditionalValues(connection);
             }
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
     }
 
+    private void persistAdditionalValues(Connection connection) throws OntoDriverException {
+        if (!typesToAdd.isEmpty()) {
+            connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
+        }
+        if (propertiesToAdd != null) {
+            connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
+        }
+        for (SimpleListValueDescriptor d : simpleListDescriptors) {
+            connection.lists().persistSimpleList(d);
+        }
+        for (ReferencedListValueDescriptor<?> d : referencedListDescriptors) {
+            connection.lists().persistReferencedList(d);
+        }
+        for (ContainerValueDescriptor<?> d : containerDescriptors) {
+            connection.containers().persistContainer(d);
+        }
+    }
+
     void update(Connection connection) {
         try {
             connection.update(axiomDescriptor);
-            if (!typesToAdd.isEmpty()) {
-                connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
-            }
-            if (!typesToRemove.isEmpty()) {
-                connection.types().removeTypes(axiomDescriptor.getSubject(), typesContext, typesToRemove);
-            }
-            if (propertiesToAdd != null) {
-                connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
-            }
-            if (propertiesToRemove != null) {
-                connection.properties()
-                          .removeProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToRemove);
-            }
-            for (SimpleListValueDescriptor d : simpleListDescriptors) {
-                connection.lists().updateSimpleList(d);
-            }
-            for (ReferencedListValueDescriptor<?> d : referencedListDescriptors) {
-                connection.lists().updateReferencedList(d);
-            }
-            for (ContainerValueDescriptor<?> d : containerDescriptors) {
-                connection.containers().updateContainer(d);
+            updateAdditionalValues(connection);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Updates values gathered by all the specified gatherers.
+     * <p>
+     * Axioms of all the gatherers are updated in the storage together, other values (types, properties, lists,
+     * containers) are then updated separately for each gatherer.
+     *
+     * @param gatherers  Gatherers whose values to update
+     * @param connection Storage connection
+     */
+    static void updateAll(List<AxiomValueGatherer> gatherers, Connection connection) {
+        try {
+            connection.updateAll(gatherers.stream().map(g -> g.axiomDescriptor)
+                                          .filter(d -> !d.getAssertions().isEmpty()).toList());
+            for (AxiomValueGatherer gatherer : gatherers) {
+                gatherer.updateAdditionalValues(connection);
             }
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
     }
+
+    private void updateAdditionalValues(Connection connection) throws OntoDriverException {
+        if (!typesToAdd.isEmpty()) {
+            connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
+        }
+        if (!typesToRemove.isEmpty()) {
+            connection.types().removeTypes(axiomDescriptor.getSubject(), typesContext, typesToRemove);
+        }
+        if (propertiesToAdd != null) {
+            connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
+        }
+        if (propertiesToRemove != null) {
+            connection.properties()
+                      .removeProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToRemove);
+        }
+        for (SimpleListValueDescriptor d : simpleListDescriptors) {
+            connection.lists().updateSimpleList(d);
+        }
+        for (ReferencedListValueDescriptor<?> d : referencedListDescriptors) {
+            connection.lists().updateReferencedList(d);
+        }
+        for (ContainerValueDescriptor<?> d : containerDescriptors) {
+            connection.containers().updateContainer(d);
+        }
+    }
 }
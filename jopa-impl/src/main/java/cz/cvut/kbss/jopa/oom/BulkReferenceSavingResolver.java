@@ -0,0 +1,45 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import java.net.URI;
+import java.util.Set;
+
+/**
+ * Reference saving resolver used when persisting entities in bulk.
+ * <p>
+ * References are always saved as they are, without checking whether the referenced instances exist in the storage.
+ * This corresponds to the raw ingest nature of bulk persist, where the referenced instances are typically persisted as
+ * part of the same bulk operation.
+ */
+class BulkReferenceSavingResolver extends ReferenceSavingResolver {
+
+    BulkReferenceSavingResolver(ObjectOntologyMapperImpl mapper) {
+        super(mapper);
+    }
+
+    @Override
+    boolean shouldSaveReference(Object value, Set<URI> contexts) {
+        return true;
+    }
+
+    @Override
+    boolean shouldSaveReferenceToItem(Object value, Set<URI> contexts) {
+        return true;
+    }
+}
@@ -22,6 +22,7 @@ import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.AbstractPluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.AbstractQueryAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
@@ -37,21 +38,24 @@ import cz.cvut.kbss.jopa.oom.query.SingularQueryAttributeStrategy;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator;
 import cz.cvut.kbss.jopa.utils.CollectionFactory;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.ReflectionUtils;
-import cz.cvut.kbss.jopa.vocabulary.RDF;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import static cz.cvut.kbss.jopa.model.metamodel.AbstractQueryAttribute.THIS_PARAMETER;
 import static cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator.isNotLazy;
@@ -90,9 +94,9 @@ class EntityConstructor {
         final LoadStateDescriptor<T> loadStateDescriptor = LoadStateDescriptorFactory.createAllUnknown(instance, et);
         loadStateRegistry.put(instance, loadStateDescriptor);
         populateAttributes(instance, constructionParams, axioms, loadStateDescriptor);
-        populateQueryAttributes(instance, et, loadStateDescriptor);
+        populateQueryAttributes(instance, et, loadStateDescriptor, constructionParams.fetchGraph());
         processEmptyAttributes(instance, et, loadStateDescriptor);
-        validateIntegrityConstraints(instance, et);
+        validateIntegrityConstraints(instance, et, loadStateDescriptor);
 
         return instance;
     }
@@ -119,22 +123,25 @@ class EntityConstructor {
     private <T> void populateAttributes(final T instance, EntityConstructionParameters<T> constructionParams,
                                         Collection<Axiom<?>> axioms, LoadStateDescriptor<T> loadStateDescriptor) {
         final IdentifiableEntityType<T> et = constructionParams.entityType();
-        final Map<URI, FieldSpecification<? super T, ?>> attributes = indexEntityAttributes(et);
-        final Map<FieldSpecification<? super T, ?>, FieldStrategy<? extends FieldSpecification<? super T, ?>, T>>
-                fieldLoaders = new HashMap<>(et.getAttributes().size());
+        final EntityMappingPlan<T> plan = et.getMappingPlan();
+        final FetchGraph fetchGraph = constructionParams.fetchGraph();
+        prefetchReferences(axioms, plan::getAttribute, constructionParams.descriptor(), constructionParams.forceEager(),
+                fetchGraph);
+        final FieldStrategy<? extends FieldSpecification<? super T, ?>, T>[] fieldLoaders =
+                new FieldStrategy[plan.getFieldCount()];
         for (Axiom<?> ax : axioms) {
             if (MappingUtils.isEntityClassAssertion(ax, et)) {
                 continue;
             }
             final FieldStrategy<? extends FieldSpecification<? super T, ?>, T> fs = getFieldLoader(
-                    ax, attributes, fieldLoaders, et, constructionParams.descriptor());
+                    ax, plan, fieldLoaders, constructionParams.descriptor(), fetchGraph);
             if (fs == null) {
                 if (!MappingUtils.isClassAssertion(ax)) {
                     LOG.warn("No attribute found for property {}. Axiom {} will be skipped.", ax.getAssertion(), ax);
                 }
                 continue;
             }
-            if (fs.attribute.getFetchType() == FetchType.LAZY && !constructionParams.forceEager()) {
+            if (!isLoadedEagerly(fs.attribute, constructionParams.forceEager(), fetchGraph)) {
                 fs.lazilyAddAxiomValue(ax);
             } else {
                 fs.addAxiomValue(ax);
@@ -142,45 +149,96 @@ class EntityConstructor {
         }
         // We need to build the field values separately because some may be
         // plural and we have to wait until all values are prepared
-        for (FieldStrategy<? extends FieldSpecification<?, ?>, ?> fs : fieldLoaders.values()) {
+        for (FieldStrategy<? extends FieldSpecification<?, ?>, ?> fs : fieldLoaders) {
+            if (fs == null) {
+                continue;
+            }
             fs.buildInstanceFieldValue(instance);
-            if (fs.attribute.getFetchType() == FetchType.LAZY && !constructionParams.forceEager() && fs.hasValue()) {
+            if (!isLoadedEagerly(fs.attribute, constructionParams.forceEager(), fetchGraph) && fs.hasValue()) {
                 loadStateDescriptor.setLoaded((FieldSpecification<? super T, ?>) fs.attribute, LoadState.NOT_LOADED);
             } else {
                 loadStateDescriptor.setLoaded((FieldSpecification<? super T, ?>) fs.attribute, LoadState.LOADED);
             }
         }
+        if (fetchGraph != null) {
+            // Values of these attributes were not retrieved at all, they will be loaded on access
+            et.getFieldSpecifications().stream().filter(fs -> fetchGraph.excludes(fs) &&
+                      loadStateDescriptor.isLoaded(fs) == LoadState.UNKNOWN)
+              .forEach(fs -> loadStateDescriptor.setLoaded(fs, LoadState.NOT_LOADED));
+        }
     }
 
-    private static <T> Map<URI, FieldSpecification<? super T, ?>> indexEntityAttributes(EntityType<T> et) {
-        final Map<URI, FieldSpecification<? super T, ?>> atts = new HashMap<>(et.getAttributes().size());
-        for (Attribute<? super T, ?> at : et.getAttributes()) {
-            atts.put(at.getIRI().toURI(), at);
+    private static boolean isLoadedEagerly(FieldSpecification<?, ?> fieldSpec, boolean forceEager,
+                                           FetchGraph fetchGraph) {
+        if (forceEager) {
+            return true;
         }
-        if (et.getTypes() != null) {
-            atts.put(URI.create(RDF.TYPE), et.getTypes());
+        return fetchGraph != null ? fetchGraph.isEager(fieldSpec) : fieldSpec.getFetchType() != FetchType.LAZY;
+    }
+
+    /**
+     * Loads entities referenced by the specified axioms in bulk, so that object property field strategies resolving
+     * them one by one do not need to access the storage for each of them.
+     * <p>
+     * Only eagerly loaded singular references and references in (non-list) collections are batch fetched.
+     */
+    private <T> void prefetchReferences(Collection<Axiom<?>> axioms,
+                                        Function<URI, FieldSpecification<? super T, ?>> attributes,
+                                        Descriptor descriptor, boolean forceEager, FetchGraph fetchGraph) {
+        if (!mapper.isBatchFetchEnabled()) {
+            return;
         }
-        return atts;
+        final Map<FieldSpecification<? super T, ?>, Set<URI>> references = new HashMap<>();
+        for (Axiom<?> ax : axioms) {
+            if (!(ax.getValue().getValue() instanceof NamedResource reference)) {
+                continue;
+            }
+            final FieldSpecification<? super T, ?> att = attributes.apply(ax.getAssertion().getIdentifier());
+            if (att != null && isBatchFetched(att, forceEager, fetchGraph)) {
+                references.computeIfAbsent(att, k -> new LinkedHashSet<>()).add(reference.getIdentifier());
+            }
+        }
+        references.forEach((att, identifiers) -> mapper.prefetchReferences(referencedType(att), identifiers,
+                descriptor.getAttributeDescriptor(att), fetchGraph != null ? fetchGraph.subgraph(att) : null));
+    }
+
+    private boolean isBatchFetched(FieldSpecification<?, ?> fieldSpec, boolean forceEager, FetchGraph fetchGraph) {
+        if (!(fieldSpec instanceof Attribute<?, ?> att) || !att.isAssociation()) {
+            return false;
+        }
+        if (!isLoadedEagerly(att, forceEager, fetchGraph)) {
+            return false;
+        }
+        if (att instanceof AbstractPluralAttribute<?, ?, ?> pluralAtt &&
+                (pluralAtt.isRdfContainer() || pluralAtt.getCollectionType() == CollectionType.LIST)) {
+            // Lists and containers are loaded using dedicated strategies
+            return false;
+        }
+        return mapper.isManagedType(referencedType(att));
+    }
+
+    private static Class<?> referencedType(FieldSpecification<?, ?> att) {
+        return att instanceof AbstractPluralAttribute<?, ?, ?> pluralAtt ? pluralAtt.getBindableJavaType() :
+               att.getJavaType();
     }
 
     private <T> FieldStrategy<? extends FieldSpecification<? super T, ?>, T> getFieldLoader(
-            Axiom<?> ax,
-            Map<URI, FieldSpecification<? super T, ?>> attributes,
-            Map<FieldSpecification<? super T, ?>, FieldStrategy<? extends FieldSpecification<? super T, ?>, T>> loaders,
-            EntityType<T> et, Descriptor desc) {
-        final URI attId = ax.getAssertion().getIdentifier();
-        FieldSpecification<? super T, ?> att = attributes.get(attId);
-        if (att == null) {
-            if (et.getProperties() != null) {
-                att = et.getProperties();
-            } else {
-                return null;
-            }
+            Axiom<?> ax, EntityMappingPlan<T> plan,
+            FieldStrategy<? extends FieldSpecification<? super T, ?>, T>[] loaders, Descriptor desc,
+            FetchGraph fetchGraph) {
+        final EntityMappingPlan.PlannedField<T> field = plan.getField(ax.getAssertion().getIdentifier());
+        if (field == null) {
+            return null;
         }
-        if (!loaders.containsKey(att)) {
-            loaders.put(att, FieldStrategy.createFieldStrategy(et, att, desc, mapper));
+        if (loaders[field.slot()] == null) {
+            final FieldStrategy<? extends FieldSpecification<? super T, ?>, T> fs =
+                    field.strategyFactory().create(desc, mapper);
+            if (fetchGraph != null) {
+                fs.setReferenceFetchGraph(fetchGraph.subgraph(field.fieldSpec()));
+            }
+            loaders[field.slot()] = fs;
         }
-        return loaders.get(att);
+        return loaders[field.slot()];
     }
 
     /**
@@ -191,16 +249,17 @@ class EntityConstructor {
      * @param <T>      the entity class
      */
     public <T> void populateQueryAttributes(T instance, EntityType<T> et) {
-        populateQueryAttributes(instance, et, loadStateRegistry.get(instance));
+        populateQueryAttributes(instance, et, loadStateRegistry.get(instance), null);
     }
 
-    private <T> void populateQueryAttributes(T instance, EntityType<T> et, LoadStateDescriptor<T> loadStateDescriptor) {
+    private <T> void populateQueryAttributes(T instance, EntityType<T> et, LoadStateDescriptor<T> loadStateDescriptor,
+                                             FetchGraph fetchGraph) {
         final SparqlQueryFactory queryFactory = mapper.getUow().sparqlQueryFactory();
 
         final Set<QueryAttribute<? super T, ?>> queryAttributes = et.getQueryAttributes();
 
         for (QueryAttribute<? super T, ?> queryAttribute : queryAttributes) {
-            if (queryAttribute.getFetchType() != FetchType.LAZY) {
+            if (isLoadedEagerly(queryAttribute, false, fetchGraph)) {
                 populateQueryAttribute(instance, queryAttribute, queryFactory, et);
                 loadStateDescriptor.setLoaded(queryAttribute, LoadState.LOADED);
             } else {
@@ -282,7 +341,7 @@ class EntityConstructor {
           .forEach(fs -> {
               final FetchType fetchType = fs.getFetchType();
               final LoadState loadState = loadStateDescriptor.isLoaded(fs);
-              if (fs.isCollection() && (fetchType == FetchType.EAGER || fetchType == FetchType.LAZY && loadState == LoadState.UNKNOWN)) {
+              if (fs.isCollection() && loadState != LoadState.NOT_LOADED && (fetchType == FetchType.EAGER || fetchType == FetchType.LAZY && loadState == LoadState.UNKNOWN)) {
                   final CollectionType ct = CollectionFactory.resolveCollectionType(fs.getJavaType());
                   final Object emptyValue = ct == CollectionType.MAP ? CollectionFactory.createDefaultMap() : CollectionFactory.createDefaultCollection(ct);
                   EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, emptyValue);
@@ -293,11 +352,13 @@ class EntityConstructor {
           });
     }
 
-    private <T> void validateIntegrityConstraints(T entity, EntityType<T> et) {
+    private <T> void validateIntegrityConstraints(T entity, EntityType<T> et,
+                                                  LoadStateDescriptor<T> loadStateDescriptor) {
         if (shouldSkipICValidationOnLoad()) {
             return;
         }
-        IntegrityConstraintsValidator.getValidator().validate(entity, et, isNotLazy());
+        IntegrityConstraintsValidator.getValidator().validate(entity, et, isNotLazy(),
+                fs -> loadStateDescriptor.isLoaded(fs) != LoadState.NOT_LOADED);
     }
 
     private boolean shouldSkipICValidationOnLoad() {
@@ -318,6 +379,10 @@ class EntityConstructor {
                            EntityType<T> et, Descriptor entityDescriptor) {
         final FieldStrategy<? extends FieldSpecification<? super T, ?>, T> fs = FieldStrategy
                 .createFieldStrategy(et, fieldSpec, entityDescriptor, mapper);
+        if (fieldSpec instanceof Attribute<? super T, ?> att) {
+            final URI property = att.getIRI().toURI();
+            prefetchReferences(axioms, p -> property.equals(p) ? att : null, entityDescriptor, true, null);
+        }
         axioms.forEach(fs::addAxiomValue);
         fs.buildInstanceFieldValue(entity);
         validateIntegrityConstraints(entity, fieldSpec, et);
@@ -335,8 +400,16 @@ class EntityConstructor {
      * @param entityType Entity type
      * @param descriptor Entity descriptor, specifies e.g., repository contexts
      * @param forceEager Whether all attributes have to be loaded eagerly
+     * @param fetchGraph Graph of attributes to load eagerly, {@code null} if attributes are loaded according to their
+     *                   fetch type
      * @param <T>        Entity type
      */
     record EntityConstructionParameters<T>(URI id, IdentifiableEntityType<T> entityType, Descriptor descriptor,
-                                           boolean forceEager) {}
+                                           boolean forceEager, FetchGraph fetchGraph) {
+
+        EntityConstructionParameters(URI id, IdentifiableEntityType<T> entityType, Descriptor descriptor,
+                                     boolean forceEager) {
+            this(id, entityType, descriptor, forceEager, null);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import cz.cvut.kbss.jopa.oom.exception.EntityDeconstructionException;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
+import java.util.Collection;
 
 class EntityDeconstructor {
 
@@ -77,4 +78,14 @@ class EntityDeconstructor {
         addAssertions(entity, et, fieldSpec, descriptor, valueBuilder);
         return valueBuilder;
     }
+
+    <T> AxiomValueGatherer mapFieldsToAxioms(URI identifier, T entity,
+                                             Collection<FieldSpecification<? super T, ?>> fieldSpecs,
+                                             EntityType<T> et, Descriptor descriptor) {
+        final AxiomValueGatherer valueBuilder = createAxiomValueBuilder(identifier, descriptor);
+        for (FieldSpecification<? super T, ?> fieldSpec : fieldSpecs) {
+            addAssertions(entity, et, fieldSpec, descriptor, valueBuilder);
+        }
+        return valueBuilder;
+    }
 }
@@ -36,9 +36,11 @@ import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +61,11 @@ abstract class EntityInstanceLoader {
 
     final LoadStateDescriptorRegistry loadStateRegistry;
 
+    // Axioms loaded in bulk in advance, consumed by subsequent instance loading
+    private final Map<NamedResource, PrefetchedAxioms> prefetched = new HashMap<>();
+    // Axioms of referenced entities loaded in bulk during reconstruction of the referring entity
+    private final Map<NamedResource, PrefetchedAxioms> prefetchedReferences = new HashMap<>();
+
     EntityInstanceLoader(EntityInstanceLoaderBuilder builder) {
         assert builder.storageConnection != null;
         assert builder.metamodel != null;
@@ -90,9 +97,10 @@ abstract class EntityInstanceLoader {
         }
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(loadingParameters, et);
         try {
-            final Collection<Axiom<?>> axioms = storageConnection.find(axiomDescriptor);
+            final Collection<Axiom<?>> axioms = findAxioms(axiomDescriptor);
             return axioms.isEmpty() ? null : entityBuilder.reconstructEntity(
-                    new EntityConstructor.EntityConstructionParameters<>(identifier, et, descriptor, loadingParameters.isForceEager()),
+                    new EntityConstructor.EntityConstructionParameters<>(identifier, et, descriptor,
+                            loadingParameters.isForceEager(), loadingParameters.getFetchGraph()),
                     axioms);
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
@@ -101,6 +109,92 @@ abstract class EntityInstanceLoader {
         }
     }
 
+    private Collection<Axiom<?>> findAxioms(AxiomDescriptor axiomDescriptor) throws OntoDriverException {
+        PrefetchedAxioms prefetchedAxioms = prefetched.remove(axiomDescriptor.getSubject());
+        if (prefetchedAxioms == null) {
+            prefetchedAxioms = prefetchedReferences.remove(axiomDescriptor.getSubject());
+        }
+        if (prefetchedAxioms != null && prefetchedAxioms.matches(axiomDescriptor)) {
+            return prefetchedAxioms.axioms();
+        }
+        return storageConnection.find(axiomDescriptor);
+    }
+
+    /**
+     * Loads axioms of instances corresponding to the specified loading parameters in bulk.
+     * <p>
+     * The axioms are used by subsequent calls to {@link #loadInstance(LoadingParameters, IdentifiableEntityType)} with
+     * matching parameters, which thus do not need to access the storage. Instances present in the second level cache
+     * are skipped. Axioms prefetched by a previous call and not used yet are discarded.
+     *
+     * @param loadingParameters Loading parameters of the instances to prefetch
+     * @param et                Entity type of the instances
+     */
+    <T> void prefetch(Collection<LoadingParameters<T>> loadingParameters, IdentifiableEntityType<T> et) {
+        prefetched.clear();
+        final List<AxiomDescriptor> descriptors = loadingParameters.stream().filter(p -> !isCached(p, et))
+                                                                   .map(p -> descriptorFactory.createForEntityLoading(p, et))
+                                                                   .toList();
+        prefetched.putAll(findAll(descriptors));
+    }
+
+    /**
+     * Loads axioms of referenced instances corresponding to the specified loading parameters in bulk.
+     * <p>
+     * Unlike {@link #prefetch(Collection, IdentifiableEntityType)}, this method keeps axioms prefetched earlier, so
+     * that references of entities on the path to the currently loaded entity remain available. Instances present in the
+     * second level cache or already prefetched are skipped.
+     *
+     * @param loadingParameters Loading parameters of the referenced instances
+     * @param et                Entity type of the instances
+     * @see #clearPrefetchedReferences()
+     */
+    <T> void prefetchReferences(Collection<LoadingParameters<T>> loadingParameters, IdentifiableEntityType<T> et) {
+        final List<AxiomDescriptor> descriptors = loadingParameters.stream().filter(p -> !isCached(p, et))
+                                                                   .map(p -> descriptorFactory.createForEntityLoading(p, et))
+                                                                   .filter(d -> !prefetched.containsKey(d.getSubject())
+                                                                           && !prefetchedReferences.containsKey(d.getSubject()))
+                                                                   .toList();
+        prefetchedReferences.putAll(findAll(descriptors));
+    }
+
+    private Map<NamedResource, PrefetchedAxioms> findAll(List<AxiomDescriptor> descriptors) {
+        if (descriptors.size() < 2) {
+            // Nothing to gain by bulk loading
+            return Map.of();
+        }
+        try {
+            final Map<NamedResource, Collection<Axiom<?>>> axioms = storageConnection.findAll(descriptors);
+            final Map<NamedResource, PrefetchedAxioms> result = new HashMap<>(descriptors.size());
+            descriptors.forEach(d -> {
+                final Collection<Axiom<?>> subjectAxioms = axioms.get(d.getSubject());
+                if (subjectAxioms != null) {
+                    result.put(d.getSubject(), new PrefetchedAxioms(d, subjectAxioms));
+                }
+            });
+            return result;
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Discards any prefetched axioms, including those of referenced instances.
+     */
+    void clearPrefetched() {
+        prefetched.clear();
+        prefetchedReferences.clear();
+    }
+
+    /**
+     * Discards any prefetched axioms of referenced instances.
+     * <p>
+     * Called when loading of an entity graph is finished, so that unused referenced instance axioms do not outlive it.
+     */
+    void clearPrefetchedReferences() {
+        prefetchedReferences.clear();
+    }
+
     <T> boolean isCached(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
         return !loadingParameters.shouldBypassCache() &&
                 cache.contains(et.getJavaType(), loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
@@ -149,6 +243,18 @@ abstract class EntityInstanceLoader {
         });
     }
 
+    private record PrefetchedAxioms(AxiomDescriptor descriptor, Collection<Axiom<?>> axioms) {
+
+        /**
+         * Checks whether the prefetched axioms correspond to the specified descriptor.
+         * <p>
+         * Assertions are compared explicitly, as they are not part of descriptor equality.
+         */
+        boolean matches(AxiomDescriptor other) {
+            return descriptor.equals(other) && descriptor.getAssertions().equals(other.getAssertions());
+        }
+    }
+
     abstract static class EntityInstanceLoaderBuilder {
         private Connection storageConnection;
         private MetamodelImpl metamodel;
@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.sessions.ConfigurationHolder;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.ontodriver.descriptor.ContainerDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
@@ -33,6 +34,8 @@ interface EntityMappingHelper extends ConfigurationHolder {
 
     <T> T getEntityFromCacheOrOntology(Class<T> cls, URI identifier, Descriptor descriptor);
 
+    <T> T getEntityFromCacheOrOntology(Class<T> cls, URI identifier, Descriptor descriptor, FetchGraph fetchGraph);
+
     <T> EntityType<T> getEntityType(Class<T> cls);
 
     boolean isManagedType(Class<?> cls);
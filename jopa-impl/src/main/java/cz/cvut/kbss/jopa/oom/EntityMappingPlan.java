@@ -0,0 +1,192 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.model.metamodel.PropertiesSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
+import cz.cvut.kbss.jopa.vocabulary.RDF;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed information used to map instances of an entity type from axioms loaded from the repository.
+ * <p>
+ * The plan is immutable and shared by all instances of the entity type, so that the index of attributes by property,
+ * field strategy resolution and attribute assertions need not be rebuilt for every loaded instance.
+ *
+ * @param <X> Entity class
+ */
+public final class EntityMappingPlan<X> {
+
+    private final Map<URI, PlannedField<X>> fieldsByProperty;
+    private final PlannedField<X> properties;
+    private final int fieldCount;
+
+    private final Map<FieldSpecification<? super X, ?>, AttributeAssertions> assertions;
+
+    private EntityMappingPlan(IdentifiableEntityType<X> et) {
+        final Map<URI, PlannedField<X>> fields = new HashMap<>(et.getAttributes().size() + 1);
+        final Map<FieldSpecification<? super X, ?>, AttributeAssertions> atts = new HashMap<>(et.getAttributes()
+                                                                                                .size());
+        int slot = 0;
+        for (Attribute<? super X, ?> att : et.getAttributes()) {
+            fields.put(att.getIRI().toURI(), new PlannedField<>(slot++, att, resolveStrategyFactory(et, att)));
+            atts.put(att, new AttributeAssertions(att));
+        }
+        final TypesSpecification<? super X, ?> types = et.getTypes();
+        if (types != null) {
+            fields.put(URI.create(RDF.TYPE), new PlannedField<>(slot++, types, resolveStrategyFactory(et, types)));
+        }
+        final PropertiesSpecification<? super X, ?, ?, ?> props = et.getProperties();
+        this.properties = props != null ? new PlannedField<>(slot++, props, resolveStrategyFactory(et, props)) : null;
+        this.fieldCount = slot;
+        this.fieldsByProperty = Map.copyOf(fields);
+        this.assertions = Map.copyOf(atts);
+    }
+
+    private static <X> FieldStrategy.Factory<X> resolveStrategyFactory(IdentifiableEntityType<X> et,
+                                                                       FieldSpecification<? super X, ?> fs) {
+        try {
+            return FieldStrategy.resolveFactory(et, fs);
+        } catch (RuntimeException e) {
+            // Unsupported attribute, let the error surface when it is actually being mapped
+            return (desc, mapper) -> FieldStrategy.createFieldStrategy(et, fs, desc, mapper);
+        }
+    }
+
+    /**
+     * Creates a mapping plan for the specified entity type.
+     *
+     * @param et  Entity type, its attributes must be already processed
+     * @param <X> Entity class
+     * @return New mapping plan
+     */
+    public static <X> EntityMappingPlan<X> create(IdentifiableEntityType<X> et) {
+        return new EntityMappingPlan<>(et);
+    }
+
+    /**
+     * Gets the number of fields which can be populated from axioms.
+     * <p>
+     * Planned fields are assigned slots in the range {@code [0, fieldCount)}.
+     *
+     * @return Number of fields
+     */
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Gets the field into which values of the specified property are mapped.
+     * <p>
+     * Values of properties not mapped by any attribute are mapped into the properties field (if the entity has one).
+     *
+     * @param property Property identifier
+     * @return Planned field, {@code null} if there is no field to map the property values into
+     */
+    PlannedField<X> getField(URI property) {
+        final PlannedField<X> field = fieldsByProperty.get(property);
+        return field != null ? field : properties;
+    }
+
+    /**
+     * Gets the attribute mapping the specified property.
+     *
+     * @param property Property identifier
+     * @return Attribute (or types specification for {@code rdf:type}), {@code null} if there is no such attribute
+     */
+    FieldSpecification<? super X, ?> getAttribute(URI property) {
+        final PlannedField<X> field = fieldsByProperty.get(property);
+        return field != null ? field.fieldSpec() : null;
+    }
+
+    /**
+     * Gets assertion representing the specified attribute when loading it with the specified descriptor.
+     *
+     * @param att        Attribute of this entity type
+     * @param descriptor Attribute descriptor
+     * @return Attribute assertion
+     */
+    Assertion getAssertion(Attribute<?, ?> att, Descriptor descriptor) {
+        final AttributeAssertions attAssertions = assertions.get(att);
+        if (attAssertions == null) {
+            return AxiomDescriptorFactory.createAssertion(att, descriptor);
+        }
+        return attAssertions.get(descriptor);
+    }
+
+    /**
+     * Field populated from axioms with a resolved factory of strategies mapping the axioms into the field value.
+     *
+     * @param slot            Index of the field in the plan
+     * @param fieldSpec       Field specification
+     * @param strategyFactory Factory of field strategies
+     * @param <X>             Entity class
+     */
+    record PlannedField<X>(int slot, FieldSpecification<? super X, ?> fieldSpec,
+                           FieldStrategy.Factory<X> strategyFactory) {
+    }
+
+    /**
+     * Assertions of an attribute for all combinations of language and inference inclusion.
+     * <p>
+     * Assertions with the attribute language are created up front, others on first use.
+     */
+    private static final class AttributeAssertions {
+
+        private final Attribute<?, ?> attribute;
+        private final Assertion[] attributeLanguage;
+        private volatile Assertion[] anyLanguage;
+        private final Map<String, Assertion[]> byLanguage = new ConcurrentHashMap<>(2);
+
+        private AttributeAssertions(Attribute<?, ?> attribute) {
+            this.attribute = attribute;
+            this.attributeLanguage = create(attribute.hasLanguage(), attribute.getLanguage());
+        }
+
+        private Assertion[] create(boolean withLanguage, String language) {
+            return new Assertion[]{
+                    AxiomDescriptorFactory.createAssertion(attribute, withLanguage, language, false),
+                    AxiomDescriptorFactory.createAssertion(attribute, withLanguage, language, attribute.isInferred())
+            };
+        }
+
+        private Assertion get(Descriptor descriptor) {
+            final int index = descriptor.includeInferred() ? 1 : 0;
+            if (!descriptor.hasLanguage()) {
+                return attributeLanguage[index];
+            }
+            final String language = descriptor.getLanguage();
+            if (language == null) {
+                if (anyLanguage == null) {
+                    this.anyLanguage = create(true, null);
+                }
+                return anyLanguage[index];
+            }
+            return byLanguage.computeIfAbsent(language, lang -> create(true, lang))[index];
+        }
+    }
+}
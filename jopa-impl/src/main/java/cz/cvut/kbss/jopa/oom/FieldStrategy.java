@@ -32,6 +32,7 @@ import cz.cvut.kbss.jopa.model.metamodel.PropertiesSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.RdfContainerAttributeImpl;
 import cz.cvut.kbss.jopa.model.metamodel.SingularAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
@@ -57,6 +58,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
     final Descriptor entityDescriptor;
     final EntityMappingHelper mapper;
     ReferenceSavingResolver referenceSavingResolver;
+    FetchGraph referenceFetchGraph;
 
     FieldStrategy(EntityType<X> et, T att, Descriptor entityDescriptor, EntityMappingHelper mapper) {
         this.et = et;
@@ -69,39 +71,51 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
                                                                                                 FieldSpecification<? super X, ?> att,
                                                                                                 Descriptor entityDescriptor,
                                                                                                 EntityMappingHelper mapper) {
+        return resolveFactory(et, att).create(entityDescriptor, mapper);
+    }
+
+    /**
+     * Resolves factory of strategies for the specified attribute.
+     * <p>
+     * The factory can be reused to create strategies for any number of instances of the specified entity type.
+     *
+     * @param et  Entity type
+     * @param att Attribute to create strategies for
+     * @param <X> Entity class
+     * @return Field strategy factory
+     */
+    static <X> Factory<X> resolveFactory(EntityType<X> et, FieldSpecification<? super X, ?> att) {
         if (att.equals(et.getIdentifier())) {
-            return new IdentifierFieldStrategy<>(et, (Identifier<? super X, ?>) att, entityDescriptor, mapper);
+            return (desc, mapper) -> new IdentifierFieldStrategy<>(et, (Identifier<? super X, ?>) att, desc, mapper);
         }
         if (att instanceof TypesSpecification) {
-            return new TypesFieldStrategy<>(et, (TypesSpecification<? super X, ?>) att, entityDescriptor, mapper);
+            return (desc, mapper) -> new TypesFieldStrategy<>(et, (TypesSpecification<? super X, ?>) att, desc, mapper);
         } else if (att instanceof PropertiesSpecification) {
-            return new PropertiesFieldStrategy<>(et, (PropertiesSpecification<? super X, ?, ?, ?>) att,
-                    entityDescriptor, mapper);
+            return (desc, mapper) -> new PropertiesFieldStrategy<>(et,
+                    (PropertiesSpecification<? super X, ?, ?, ?>) att, desc, mapper);
         }
         final AbstractAttribute<? super X, ?> attribute = (AbstractAttribute<? super X, ?>) att;
         if (attribute.isCollection()) {
             switch (attribute.getPersistentAttributeType()) {
                 case ANNOTATION:
-                    return createPluralAnnotationPropertyStrategy(et,
-                            (AbstractPluralAttribute<? super X, ?, ?>) attribute,
-                            entityDescriptor, mapper);
+                    return pluralAnnotationPropertyStrategyFactory(et,
+                            (AbstractPluralAttribute<? super X, ?, ?>) attribute);
                 case DATA:
-                    return createPluralDataPropertyStrategy(et, (AbstractPluralAttribute<? super X, ?, ?>) attribute,
-                            entityDescriptor, mapper);
+                    return pluralDataPropertyStrategyFactory(et, (AbstractPluralAttribute<? super X, ?, ?>) attribute);
                 case OBJECT:
-                    return createPluralObjectPropertyStrategy(et, (AbstractPluralAttribute<? super X, ?, ?>) attribute,
-                            entityDescriptor, mapper);
+                    return pluralObjectPropertyStrategyFactory(et,
+                            (AbstractPluralAttribute<? super X, ?, ?>) attribute);
                 default:
                     break;
             }
         } else {
             switch (attribute.getPersistentAttributeType()) {
                 case ANNOTATION:
-                    return createSingularAnnotationPropertyStrategy(et, attribute, entityDescriptor, mapper);
+                    return singularAnnotationPropertyStrategyFactory(et, attribute);
                 case DATA:
-                    return createSingularDataPropertyStrategy(et, attribute, entityDescriptor, mapper);
+                    return singularDataPropertyStrategyFactory(et, attribute);
                 case OBJECT:
-                    return new SingularObjectPropertyStrategy<>(et, attribute, entityDescriptor, mapper);
+                    return (desc, mapper) -> new SingularObjectPropertyStrategy<>(et, attribute, desc, mapper);
                 default:
                     break;
             }
@@ -110,90 +124,81 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
         throw new IllegalArgumentException();
     }
 
-    private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createPluralAnnotationPropertyStrategy(
-            EntityType<Y> et, AbstractPluralAttribute<? super Y, ?, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+    private static <Y> Factory<Y> pluralAnnotationPropertyStrategyFactory(EntityType<Y> et,
+                                                                          AbstractPluralAttribute<? super Y, ?, ?> attribute) {
         if (MultilingualString.class.equals(attribute.getElementType().getJavaType())) {
-            return new PluralMultilingualStringFieldStrategy<>(et,
-                    (AbstractPluralAttribute<? super Y, ?, MultilingualString>) attribute,
-                    descriptor, mapper);
+            return (desc, mapper) -> new PluralMultilingualStringFieldStrategy<>(et,
+                    (AbstractPluralAttribute<? super Y, ?, MultilingualString>) attribute, desc, mapper);
         } else {
-            return new PluralAnnotationPropertyStrategy<>(et, attribute, descriptor, mapper);
+            return (desc, mapper) -> new PluralAnnotationPropertyStrategy<>(et, attribute, desc, mapper);
         }
     }
 
-    private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createPluralDataPropertyStrategy(
-            EntityType<Y> et, AbstractPluralAttribute<? super Y, ?, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+    private static <Y> Factory<Y> pluralDataPropertyStrategyFactory(EntityType<Y> et,
+                                                                    AbstractPluralAttribute<? super Y, ?, ?> attribute) {
         if (attribute.isRdfContainer()) {
-            return new RdfContainerDataPropertyStrategy<>(et, (RdfContainerAttributeImpl<? super Y, ?, ?>) attribute, descriptor, mapper);
+            return (desc, mapper) -> new RdfContainerDataPropertyStrategy<>(et,
+                    (RdfContainerAttributeImpl<? super Y, ?, ?>) attribute, desc, mapper);
         }
         if (attribute.getCollectionType() == CollectionType.LIST) {
-            return createListPropertyStrategy(et, (ListAttributeImpl<? super Y, ?>) attribute, descriptor, mapper);
+            return listPropertyStrategyFactory(et, (ListAttributeImpl<? super Y, ?>) attribute);
         }
         if (MultilingualString.class.equals(attribute.getElementType().getJavaType())) {
-            return new PluralMultilingualStringFieldStrategy<>(et,
-                    (AbstractPluralAttribute<? super Y, ?, MultilingualString>) attribute,
-                    descriptor, mapper);
+            return (desc, mapper) -> new PluralMultilingualStringFieldStrategy<>(et,
+                    (AbstractPluralAttribute<? super Y, ?, MultilingualString>) attribute, desc, mapper);
         } else {
-            return new PluralDataPropertyStrategy<>(et, attribute, descriptor, mapper);
+            return (desc, mapper) -> new PluralDataPropertyStrategy<>(et, attribute, desc, mapper);
         }
     }
 
-    private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createPluralObjectPropertyStrategy(
-            EntityType<Y> et, AbstractPluralAttribute<? super Y, ?, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+    private static <Y> Factory<Y> pluralObjectPropertyStrategyFactory(EntityType<Y> et,
+                                                                      AbstractPluralAttribute<? super Y, ?, ?> attribute) {
         if (attribute.isRdfContainer()) {
-            return new RdfContainerObjectPropertyStrategy<>(et, (RdfContainerAttributeImpl<? super Y, ?, ?>) attribute, descriptor, mapper);
+            return (desc, mapper) -> new RdfContainerObjectPropertyStrategy<>(et,
+                    (RdfContainerAttributeImpl<? super Y, ?, ?>) attribute, desc, mapper);
         }
         return switch (attribute.getCollectionType()) {
-            case LIST -> createListPropertyStrategy(et, (ListAttributeImpl<? super Y, ?>) attribute, descriptor,
-                    mapper);
-            case COLLECTION, SET -> new SimpleSetPropertyStrategy<>(et, attribute, descriptor, mapper);
+            case LIST -> listPropertyStrategyFactory(et, (ListAttributeImpl<? super Y, ?>) attribute);
+            case COLLECTION, SET -> (desc, mapper) -> new SimpleSetPropertyStrategy<>(et, attribute, desc, mapper);
             default -> throw new UnsupportedOperationException(
                     "Unsupported plural attribute collection type " + attribute.getCollectionType());
         };
     }
 
-    private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createListPropertyStrategy(
-            EntityType<Y> et, ListAttributeImpl<? super Y, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+    private static <Y> Factory<Y> listPropertyStrategyFactory(EntityType<Y> et,
+                                                              ListAttributeImpl<? super Y, ?> attribute) {
         switch (attribute.getSequenceType()) {
             case referenced:
                 if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.OBJECT) {
-                    return new ReferencedListPropertyStrategy<>(et, attribute, descriptor, mapper);
+                    return (desc, mapper) -> new ReferencedListPropertyStrategy<>(et, attribute, desc, mapper);
                 } else {
-                    return new ReferencedListDataPropertyStrategy<>(et, attribute, descriptor, mapper);
+                    return (desc, mapper) -> new ReferencedListDataPropertyStrategy<>(et, attribute, desc, mapper);
                 }
             case simple:
-                return new SimpleListPropertyStrategy<>(et, attribute, descriptor, mapper);
+                return (desc, mapper) -> new SimpleListPropertyStrategy<>(et, attribute, desc, mapper);
             default:
                 throw new UnsupportedOperationException(
                         "Unsupported list attribute sequence type " + attribute.getSequenceType());
         }
     }
 
-    private static <X> FieldStrategy<? extends FieldSpecification<? super X, ?>, X> createSingularDataPropertyStrategy(
-            EntityType<X> et, AbstractAttribute<? super X, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+    private static <X> Factory<X> singularDataPropertyStrategyFactory(EntityType<X> et,
+                                                                      AbstractAttribute<? super X, ?> attribute) {
         if (MultilingualString.class.equals(attribute.getJavaType())) {
-            return new SingularMultilingualStringFieldStrategy<>(et,
-                    (AbstractAttribute<? super X, MultilingualString>) attribute,
-                    descriptor, mapper);
+            return (desc, mapper) -> new SingularMultilingualStringFieldStrategy<>(et,
+                    (AbstractAttribute<? super X, MultilingualString>) attribute, desc, mapper);
         } else {
-            return new SingularDataPropertyStrategy<>(et, attribute, descriptor, mapper);
+            return (desc, mapper) -> new SingularDataPropertyStrategy<>(et, attribute, desc, mapper);
         }
     }
 
-    private static <X> FieldStrategy<? extends FieldSpecification<? super X, ?>, X> createSingularAnnotationPropertyStrategy(
-            EntityType<X> et, AbstractAttribute<? super X, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+    private static <X> Factory<X> singularAnnotationPropertyStrategyFactory(EntityType<X> et,
+                                                                            AbstractAttribute<? super X, ?> attribute) {
         if (MultilingualString.class.equals(attribute.getJavaType())) {
-            return new SingularMultilingualStringFieldStrategy<>(et,
-                    (AbstractAttribute<? super X, MultilingualString>) attribute,
-                    descriptor, mapper);
+            return (desc, mapper) -> new SingularMultilingualStringFieldStrategy<>(et,
+                    (AbstractAttribute<? super X, MultilingualString>) attribute, desc, mapper);
         } else {
-            return new SingularAnnotationPropertyStrategy<>(et, attribute, descriptor, mapper);
+            return (desc, mapper) -> new SingularAnnotationPropertyStrategy<>(et, attribute, desc, mapper);
         }
     }
 
@@ -201,6 +206,30 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
         this.referenceSavingResolver = referenceSavingResolver;
     }
 
+    /**
+     * Sets the fetch graph to apply when loading entities referenced by this attribute.
+     *
+     * @param referenceFetchGraph Fetch graph, {@code null} to load referenced entities according to their attribute
+     *                            fetch types
+     */
+    void setReferenceFetchGraph(FetchGraph referenceFetchGraph) {
+        this.referenceFetchGraph = referenceFetchGraph;
+    }
+
+    /**
+     * Loads entity referenced by this attribute, applying the reference fetch graph, if set.
+     *
+     * @param cls        Class of the referenced entity
+     * @param identifier Identifier of the referenced entity
+     * @return Loaded entity, possibly {@code null}
+     */
+    <E> E loadReferencedEntity(Class<E> cls, URI identifier) {
+        final Descriptor descriptor = entityDescriptor.getAttributeDescriptor(attribute);
+        return referenceFetchGraph != null ?
+               mapper.getEntityFromCacheOrOntology(cls, identifier, descriptor, referenceFetchGraph) :
+               mapper.getEntityFromCacheOrOntology(cls, identifier, descriptor);
+    }
+
     /**
      * Sets the specified value on the specified instance, the field is taken from the attribute represented by this
      * strategy. </p>
@@ -352,4 +381,16 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
                 "attribute=" + attribute +
                 '}';
     }
+
+    /**
+     * Creates field strategies for a particular attribute of an entity type.
+     *
+     * @param <X> Entity class
+     */
+    @FunctionalInterface
+    interface Factory<X> {
+
+        FieldStrategy<? extends FieldSpecification<? super X, ?>, X> create(Descriptor entityDescriptor,
+                                                                            EntityMappingHelper mapper);
+    }
 }
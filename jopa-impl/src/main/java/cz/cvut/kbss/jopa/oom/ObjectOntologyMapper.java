@@ -21,11 +21,17 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.oom.exception.UnpersistedChangeException;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface ObjectOntologyMapper {
 
@@ -47,6 +53,31 @@ public interface ObjectOntologyMapper {
      */
     <T> T loadEntity(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads and reconstructs a detached entity from the ontology.
+     * <p>
+     * The entity and any entities it references are constructed directly from the storage. They are neither looked up
+     * in nor added to the persistence context or the second level cache and no load state information is kept for
+     * them. Lazily loaded attributes are left empty.
+     *
+     * @param loadingParameters Entity loading parameters
+     * @return Reconstructed entity or {@code null} if there is none such
+     */
+    <T> T loadDetachedEntity(LoadingParameters<T> loadingParameters);
+
+    /**
+     * Loads state of entities with the specified identifiers in bulk, so that their subsequent loading via {@link
+     * #loadEntity(LoadingParameters)} does not require separate storage access.
+     * <p>
+     * This is only an optimization, implementations may choose to do nothing.
+     *
+     * @param cls         Entity class
+     * @param identifiers Identifiers of entities to prefetch
+     * @param descriptor  Descriptor possibly specifying entity and attribute contexts
+     * @param fetchGraph  Graph of attributes to load eagerly, possibly {@code null}
+     */
+    <T> void prefetchEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor, FetchGraph fetchGraph);
+
     /**
      * Gets a reference to an entity corresponding to the specified parameters.
      * <p>
@@ -84,6 +115,21 @@ public interface ObjectOntologyMapper {
      */
     <T> void persistEntity(URI identifier, T entity, Descriptor descriptor);
 
+    /**
+     * Persists the specified entities into the underlying ontology in batches.
+     * <p>
+     * Axioms of each batch of entities are written into the storage together. References to other entities are saved
+     * without checking whether the referenced instances exist. Identifiers are generated for entities which do not
+     * have one.
+     *
+     * @param entities      Entities to persist
+     * @param descriptor    Descriptor possibly specifying entity and attribute contexts
+     * @param batchSize     Maximum number of entities written into the storage together
+     * @param batchConsumer Called with each batch of entities after it has been written into the storage
+     */
+    void persistEntities(Stream<?> entities, Descriptor descriptor, int batchSize,
+                         Consumer<List<Object>> batchConsumer);
+
     /**
      * Removes entity with specified identifier from the ontology.
      *
@@ -109,6 +155,16 @@ public interface ObjectOntologyMapper {
      */
     <T> void updateFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
 
+    /**
+     * Sets values of properties represented by the specified fields of the specified entities to the fields' values.
+     * <p>
+     * This is a bulk version of {@link #updateFieldValue(Object, FieldSpecification, Descriptor)} which writes the
+     * values of all the updates into the storage together.
+     *
+     * @param updates Entities and their fields to update
+     */
+    void updateFieldValues(Collection<FieldValueUpdate> updates);
+
     /**
      * Extracts the value of the specified field from the specified entity and transforms it to axioms.
      *
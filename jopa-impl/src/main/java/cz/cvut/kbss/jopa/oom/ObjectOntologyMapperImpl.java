@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
@@ -33,8 +34,11 @@ import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
 import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
@@ -55,13 +59,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 
@@ -76,6 +85,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     private final EntityConstructor entityBuilder;
     private final EntityDeconstructor entityBreaker;
     private Map<URI, Object> instanceRegistry;
+    private boolean loadingDetached;
     private final PendingReferenceRegistry pendingReferences;
 
     private final EntityInstanceLoader defaultInstanceLoader;
@@ -83,6 +93,10 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     private final EntityReferenceFactory referenceFactory;
 
+    private final int batchFetchSize;
+    // Depth of nested entity graph loading operations, prefetched references are discarded when the outermost one ends
+    private int loadDepth;
+
     public ObjectOntologyMapperImpl(AbstractUnitOfWork uow, Connection connection) {
         this.uow = Objects.requireNonNull(uow);
         this.storageConnection = Objects.requireNonNull(connection);
@@ -103,6 +117,24 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
                                                           .entityBuilder(entityBuilder).cache(getCache())
                                                           .loadStateRegistry(uow.getLoadStateRegistry()).build();
         this.referenceFactory = new EntityReferenceFactory(uow.getMetamodel(), uow);
+        this.batchFetchSize = resolveBatchFetchSize();
+    }
+
+    private int resolveBatchFetchSize() {
+        final String setting = uow.getConfiguration().get(JOPAPersistenceProperties.BATCH_FETCH_SIZE);
+        if (setting == null) {
+            return Constants.DEFAULT_BATCH_FETCH_SIZE;
+        }
+        try {
+            final int batchSize = Integer.parseInt(setting);
+            if (batchSize > 0) {
+                return batchSize;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to default
+        }
+        LOG.warn("Invalid batch fetch size {}. Using default value {}.", setting, Constants.DEFAULT_BATCH_FETCH_SIZE);
+        return Constants.DEFAULT_BATCH_FETCH_SIZE;
     }
 
     private CacheManager getCache() {
@@ -130,8 +162,108 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     public <T> T loadEntity(LoadingParameters<T> loadingParameters) {
         assert loadingParameters != null;
 
+        // Loading may be triggered during loading of a detached entity (e.g., by a query attribute)
+        final Map<URI, Object> detachedRegistry = loadingDetached ? instanceRegistry : null;
         this.instanceRegistry = new HashMap<>();
-        return loadEntityInternal(loadingParameters);
+        this.loadingDetached = false;
+        try {
+            return loadGraph(() -> loadEntityInternal(loadingParameters));
+        } finally {
+            if (detachedRegistry != null) {
+                this.instanceRegistry = detachedRegistry;
+                this.loadingDetached = true;
+            }
+        }
+    }
+
+    @Override
+    public <T> T loadDetachedEntity(LoadingParameters<T> loadingParameters) {
+        assert loadingParameters != null;
+
+        final Map<URI, Object> loaded = new HashMap<>();
+        this.instanceRegistry = loaded;
+        this.loadingDetached = true;
+        loadingParameters.bypassCache();
+        try {
+            final T result = loadGraph(() -> loadEntityInternal(loadingParameters));
+            loaded.values().forEach(instance -> getEntityType(instance.getClass()).getLifecycleListenerManager()
+                                                                              .invokePostLoadCallbacks(instance));
+            return result;
+        } finally {
+            this.loadingDetached = false;
+            loaded.values().forEach(uow.getLoadStateRegistry()::remove);
+        }
+    }
+
+    @Override
+    public <T> void prefetchEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor,
+                                     FetchGraph fetchGraph) {
+        assert identifiers != null;
+        final IdentifiableEntityType<T> et = getEntityType(cls);
+        if (et.hasSubtypes()) {
+            // Actual type of polymorphic instances has to be resolved one by one before loading
+            return;
+        }
+        defaultInstanceLoader.prefetch(
+                identifiers.stream().map(id -> new LoadingParameters<>(cls, id, descriptor, fetchGraph)).toList(), et);
+    }
+
+    /**
+     * Loads axioms of the specified entities referenced by an entity being currently loaded in bulk.
+     * <p>
+     * Entities already managed by the current persistence context, present in the second level cache or being loaded
+     * are skipped. Subsequent resolution of the references via
+     * {@link #getEntityFromCacheOrOntology(Class, URI, Descriptor, FetchGraph)} then does not need to access the
+     * storage.
+     *
+     * @param cls         Class of the referenced entities
+     * @param identifiers Identifiers of the referenced entities
+     * @param descriptor  Descriptor of the referenced entities
+     * @param fetchGraph  Fetch graph of the referenced entities, possibly {@code null}
+     */
+    <T> void prefetchReferences(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor,
+                                FetchGraph fetchGraph) {
+        final IdentifiableEntityType<T> et = getEntityType(cls);
+        if (et.hasSubtypes()) {
+            // Actual type of polymorphic instances has to be resolved one by one before loading
+            return;
+        }
+        final List<LoadingParameters<T>> toLoad = identifiers.stream()
+                                                             .filter(id -> !isResolvedWithoutLoading(cls, id, descriptor))
+                                                             .map(id -> createReferenceLoadingParameters(cls, id, descriptor, fetchGraph))
+                                                             .toList();
+        for (int i = 0; i < toLoad.size(); i += batchFetchSize) {
+            defaultInstanceLoader.prefetchReferences(toLoad.subList(i, Math.min(i + batchFetchSize, toLoad.size())), et);
+        }
+    }
+
+    private <T> boolean isResolvedWithoutLoading(Class<T> cls, URI identifier, Descriptor descriptor) {
+        if (instanceRegistry.containsKey(identifier)) {
+            return true;
+        }
+        return !loadingDetached && (uow.getManagedOriginal(cls, identifier, descriptor) != null ||
+                getCache().contains(cls, identifier, descriptor));
+    }
+
+    /**
+     * Whether references to other entities should be loaded in batches.
+     *
+     * @return {@code true} if batch fetching is enabled, {@code false} otherwise
+     * @see JOPAPersistenceProperties#BATCH_FETCH_SIZE
+     */
+    boolean isBatchFetchEnabled() {
+        return batchFetchSize > 1;
+    }
+
+    private <R> R loadGraph(Supplier<R> loader) {
+        loadDepth++;
+        try {
+            return loader.get();
+        } finally {
+            if (--loadDepth == 0) {
+                defaultInstanceLoader.clearPrefetchedReferences();
+            }
+        }
     }
 
     private <T> T loadEntityInternal(LoadingParameters<T> loadingParameters) {
@@ -177,7 +309,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
         LOG.trace("Lazily loading value of field {} of entity {}.", fieldSpec, uow.stringify(entity));
 
-        final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+        final IdentifiableEntityType<T> et = (IdentifiableEntityType<T>) getEntityType(entity.getClass());
         final URI identifier = EntityPropertiesUtils.getIdentifier(entity, et);
 
         if (et.hasQueryAttribute(fieldSpec.getName())) {
@@ -190,7 +322,10 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
                 descriptorFactory.createForFieldLoading(identifier, fieldSpec, descriptor, et);
         try {
             final Collection<Axiom<?>> axioms = storageConnection.find(axiomDescriptor);
-            entityBuilder.setFieldValue(entity, fieldSpec, axioms, et, descriptor);
+            loadGraph(() -> {
+                entityBuilder.setFieldValue(entity, fieldSpec, axioms, et, descriptor);
+                return null;
+            });
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         } catch (IllegalArgumentException e) {
@@ -205,6 +340,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         assert descriptor != null;
 
         @SuppressWarnings("unchecked") final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+        defaultInstanceLoader.clearPrefetched();
         try {
             entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
             final AxiomValueGatherer axiomBuilder = entityBreaker.mapEntityToAxioms(identifier, entity, et, descriptor);
@@ -215,10 +351,59 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         }
     }
 
+    @Override
+    public void persistEntities(Stream<?> entities, Descriptor descriptor, int batchSize,
+                                Consumer<List<Object>> batchConsumer) {
+        assert entities != null;
+        assert descriptor != null;
+        assert batchSize > 0;
+
+        defaultInstanceLoader.clearPrefetched();
+        entityBreaker.setReferenceSavingResolver(new BulkReferenceSavingResolver(this));
+        final List<Object> batch = new ArrayList<>(batchSize);
+        final List<AxiomValueGatherer> batchAxioms = new ArrayList<>(batchSize);
+        final Iterator<?> it = entities.iterator();
+        while (it.hasNext()) {
+            final Object entity = Objects.requireNonNull(it.next());
+            batchAxioms.add(mapEntityForBulkPersist(entity, descriptor));
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                persistBatch(batch, batchAxioms, batchConsumer);
+            }
+        }
+        if (!batch.isEmpty()) {
+            persistBatch(batch, batchAxioms, batchConsumer);
+        }
+    }
+
+    private <T> AxiomValueGatherer mapEntityForBulkPersist(T entity, Descriptor descriptor) {
+        @SuppressWarnings("unchecked") final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+        URI identifier = EntityPropertiesUtils.getIdentifier(entity, et);
+        if (identifier == null) {
+            EntityPropertiesUtils.verifyIdentifierIsGenerated(entity, et);
+            identifier = generateIdentifier(et);
+            EntityPropertiesUtils.setIdentifier(identifier, entity, et);
+        }
+        try {
+            return entityBreaker.mapEntityToAxioms(identifier, entity, et, descriptor);
+        } catch (IllegalArgumentException e) {
+            throw new EntityDeconstructionException("Unable to deconstruct entity " + entity, e);
+        }
+    }
+
+    private void persistBatch(List<Object> batch, List<AxiomValueGatherer> batchAxioms,
+                              Consumer<List<Object>> batchConsumer) {
+        AxiomValueGatherer.persistAll(batchAxioms, storageConnection);
+        LOG.trace("Persisted batch of {} entities.", batch.size());
+        batchConsumer.accept(List.copyOf(batch));
+        batch.clear();
+        batchAxioms.clear();
+    }
+
     @Override
     public URI generateIdentifier(EntityType<?> et) {
         try {
-            return storageConnection.generateIdentifier(et.getIRI().toURI());
+            return uow.getIdentifierGenerators().generate(et, storageConnection);
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
@@ -253,6 +438,15 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     @Override
     public <T> T getEntityFromCacheOrOntology(Class<T> cls, URI identifier, Descriptor descriptor) {
+        return getEntityFromCacheOrOntology(cls, identifier, descriptor, null);
+    }
+
+    @Override
+    public <T> T getEntityFromCacheOrOntology(Class<T> cls, URI identifier, Descriptor descriptor,
+                                              FetchGraph fetchGraph) {
+        if (loadingDetached) {
+            return getDetachedEntity(cls, identifier, descriptor, fetchGraph);
+        }
         final T orig = uow.getManagedOriginal(cls, identifier, descriptor);
         if (orig != null) {
             return orig;
@@ -267,19 +461,37 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
             // This prevents endless cycles in bidirectional relationships
             return cls.cast(existing);
         } else {
-            // setup loading params
-            LoadingParameters<T> params = new LoadingParameters<>(cls, identifier, descriptor);
-
-            // TODO:
-            // This is necessary when loading object properties (singular and plural)
-            // The solution is not ideal. I think that LoadingParams
-            // should be propagated to this method by loading appropriate methods.
-            if (uow instanceof ReadOnlyUnitOfWork) {
-                // this prevents caching of entities loaded by ReadOnlyUOW
-                params.bypassCache();
+            return loadEntityInternal(createReferenceLoadingParameters(cls, identifier, descriptor, fetchGraph));
+        }
+    }
+
+    private <T> LoadingParameters<T> createReferenceLoadingParameters(Class<T> cls, URI identifier,
+                                                                      Descriptor descriptor, FetchGraph fetchGraph) {
+        // setup loading params
+        final LoadingParameters<T> params = new LoadingParameters<>(cls, identifier, descriptor, fetchGraph);
+
+        // TODO:
+        // This is necessary when loading object properties (singular and plural)
+        // The solution is not ideal. I think that LoadingParams
+        // should be propagated to this method by loading appropriate methods.
+        if (loadingDetached || uow instanceof ReadOnlyUnitOfWork) {
+            // this prevents caching of entities loaded by ReadOnlyUOW
+            params.bypassCache();
+        }
+        return params;
+    }
+
+    private <T> T getDetachedEntity(Class<T> cls, URI identifier, Descriptor descriptor, FetchGraph fetchGraph) {
+        final Object existing = instanceRegistry.get(identifier);
+        if (existing != null) {
+            if (!cls.isAssignableFrom(existing.getClass())) {
+                throw individualAlreadyManaged(identifier);
             }
-            return loadEntityInternal(params);
+            return cls.cast(existing);
         }
+        final LoadingParameters<T> params = new LoadingParameters<>(cls, identifier, descriptor, fetchGraph);
+        params.bypassCache();
+        return loadEntityInternal(params);
     }
 
     @Override
@@ -315,9 +527,10 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     @Override
     public <T> void removeEntity(URI identifier, Class<T> cls, Descriptor descriptor) {
-        final EntityType<T> et = getEntityType(cls);
+        final IdentifiableEntityType<T> et = getEntityType(cls);
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(
                 new LoadingParameters<>(cls, identifier, descriptor, true), et);
+        defaultInstanceLoader.clearPrefetched();
         try {
             storageConnection.remove(axiomDescriptor);
             pendingReferences.removePendingReferences(axiomDescriptor.getSubject());
@@ -331,6 +544,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
                                      Descriptor entityDescriptor) {
         @SuppressWarnings("unchecked") final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
         final URI pkUri = EntityPropertiesUtils.getIdentifier(entity, et);
+        defaultInstanceLoader.clearPrefetched();
 
         entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
         // It is OK to do it like this, because if necessary, the mapping will re-register a pending assertion
@@ -340,6 +554,31 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         axiomBuilder.update(storageConnection);
     }
 
+    @Override
+    public void updateFieldValues(Collection<FieldValueUpdate> updates) {
+        defaultInstanceLoader.clearPrefetched();
+        entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
+        final List<AxiomValueGatherer> axiomBuilders = new ArrayList<>(updates.size());
+        for (FieldValueUpdate update : updates) {
+            axiomBuilders.add(mapFieldsForUpdate(update.entity(), update.fields(), update.descriptor()));
+        }
+        AxiomValueGatherer.updateAll(axiomBuilders, storageConnection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> AxiomValueGatherer mapFieldsForUpdate(T entity, Collection<? extends FieldSpecification<?, ?>> fields,
+                                                      Descriptor entityDescriptor) {
+        final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+        final URI pkUri = EntityPropertiesUtils.getIdentifier(entity, et);
+        final List<FieldSpecification<? super T, ?>> fieldSpecs = new ArrayList<>(fields.size());
+        for (FieldSpecification<?, ?> fs : fields) {
+            final FieldSpecification<? super T, ?> fieldSpec = (FieldSpecification<? super T, ?>) fs;
+            removePendingAssertions(fieldSpec, pkUri);
+            fieldSpecs.add(fieldSpec);
+        }
+        return entityBreaker.mapFieldsToAxioms(pkUri, entity, fieldSpecs, et, entityDescriptor);
+    }
+
     private <T> void removePendingAssertions(FieldSpecification<? super T, ?> fs, URI identifier) {
         if (fs instanceof Attribute<?, ?> att) {
             // We care only about object property assertions, others are never pending
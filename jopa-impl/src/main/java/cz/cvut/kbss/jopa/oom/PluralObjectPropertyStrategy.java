@@ -66,8 +66,7 @@ abstract class PluralObjectPropertyStrategy<Y extends AbstractPluralAttribute<?
             // with the 'else' branch behavior?
             values.add(attribute.getConverter().convertToAttribute(valueIdentifier));
         } else {
-            final Object value = mapper.getEntityFromCacheOrOntology(elementType, valueIdentifier.getIdentifier(),
-                    entityDescriptor.getAttributeDescriptor(attribute));
+            final Object value = loadReferencedEntity(elementType, valueIdentifier.getIdentifier());
             if (value != null) {
                 values.add(value);
             } else {
@@ -58,8 +58,7 @@ class SingularObjectPropertyStrategy<X> extends FieldStrategy<AbstractAttribute<
             // with the 'else' branch behavior?
             newValue = attribute.getConverter().convertToAttribute(valueIdentifier);
         } else {
-            newValue = mapper.getEntityFromCacheOrOntology(targetType, valueIdentifier.getIdentifier(),
-                    entityDescriptor.getAttributeDescriptor(attribute));
+            newValue = loadReferencedEntity(targetType, valueIdentifier.getIdentifier());
             if (newValue == null) {
                 LOG.trace("Value of axiom {} could not be loaded as entity filling attribute {}.", ax, attribute);
                 return;
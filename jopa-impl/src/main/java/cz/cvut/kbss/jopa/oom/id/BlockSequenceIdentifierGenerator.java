@@ -0,0 +1,72 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom.id;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers based on a sequence whose values are allocated to threads in blocks.
+ * <p>
+ * A thread takes a block of sequence values from the shared counter and then generates identifiers from it without any
+ * synchronization. Sequence values are qualified by the node identifier and the time this generator was created, so
+ * generators of different nodes or subsequent application runs do not produce the same identifiers.
+ */
+class BlockSequenceIdentifierGenerator implements IdentifierGenerator {
+
+    private final String prefix;
+    private final int blockSize;
+
+    private final AtomicLong nextBlock = new AtomicLong();
+    private final ThreadLocal<Block> currentBlock = new ThreadLocal<>();
+
+    BlockSequenceIdentifierGenerator(int nodeId, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive, got " + blockSize);
+        }
+        this.prefix = "-" + nodeId + "." + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public URI generate(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri, prefix + nextValue());
+    }
+
+    long nextValue() {
+        Block block = currentBlock.get();
+        if (block == null || block.next == block.end) {
+            final long start = nextBlock.getAndIncrement() * blockSize;
+            block = new Block(start, start + blockSize);
+            currentBlock.set(block);
+        }
+        return block.next++;
+    }
+
+    private static final class Block {
+        private long next;
+        private final long end;
+
+        private Block(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom.id;
+
+import java.net.URI;
+
+/**
+ * Generates entity identifiers without consulting the storage.
+ * <p>
+ * Implementations must be thread safe, as a generator is shared by all persistence contexts of a persistence unit.
+ */
+public interface IdentifierGenerator {
+
+    /**
+     * Generates a new identifier based on the specified class IRI.
+     *
+     * @param classUri Entity class IRI
+     * @return New identifier
+     */
+    URI generate(URI classUri);
+}
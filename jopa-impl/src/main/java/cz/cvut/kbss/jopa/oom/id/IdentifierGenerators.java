@@ -0,0 +1,198 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom.id;
+
+import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides identifier generation strategies of a persistence unit.
+ * <p>
+ * The strategy is resolved from the entity identifier definition. If it does not specify any, the strategy configured
+ * by {@link JOPAPersistenceProperties#IDENTIFIER_GENERATION_STRATEGY} is used, falling back to
+ * {@link GenerationType#STORAGE}.
+ * <p>
+ * Identifiers generated by the {@link GenerationType#SNOWFLAKE} and {@link GenerationType#SEQUENCE} strategies are
+ * unique across application nodes only if each node has a distinct
+ * {@link JOPAPersistenceProperties#IDENTIFIER_GENERATOR_NODE_ID}. When it is not configured, these identifiers are
+ * still verified against the storage.
+ */
+public class IdentifierGenerators {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdentifierGenerators.class);
+
+    public static final int DEFAULT_SEQUENCE_BLOCK_SIZE = 1000;
+
+    private final GenerationType defaultStrategy;
+    private final String nodeIdSetting;
+    private final int nodeId;
+    private final int blockSize;
+
+    /**
+     * Generators are created on first use, settings are verified by {@link #validate(Collection)}.
+     */
+    private final Map<GenerationType, IdentifierGenerator> generators = new ConcurrentHashMap<>();
+
+    public IdentifierGenerators(Configuration configuration) {
+        Objects.requireNonNull(configuration);
+        this.defaultStrategy = resolveDefaultStrategy(configuration);
+        this.nodeIdSetting = configuration.get(JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID);
+        this.nodeId = resolveNodeId(nodeIdSetting);
+        this.blockSize = resolveInt(configuration, JOPAPersistenceProperties.IDENTIFIER_SEQUENCE_BLOCK_SIZE,
+                DEFAULT_SEQUENCE_BLOCK_SIZE);
+    }
+
+    private static int resolveNodeId(String setting) {
+        if (setting == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(setting.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static GenerationType resolveDefaultStrategy(Configuration configuration) {
+        final String setting = configuration.get(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY);
+        if (setting == null) {
+            return GenerationType.STORAGE;
+        }
+        try {
+            final GenerationType strategy = GenerationType.valueOf(setting.trim().toUpperCase(Locale.ROOT));
+            return strategy == GenerationType.DEFAULT ? GenerationType.STORAGE : strategy;
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unsupported identifier generation strategy {}. Using default strategy.", setting);
+            return GenerationType.STORAGE;
+        }
+    }
+
+    private static int resolveInt(Configuration configuration, String property, int defaultValue) {
+        final String setting = configuration.get(property);
+        if (setting == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(setting.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse value {} of property {}. Using default value {}.", setting, property,
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Verifies that settings of the generation strategies used by the specified entity types are valid.
+     * <p>
+     * Invalid settings of strategies no entity type uses are ignored.
+     *
+     * @param entityTypes Entity types of the persistence unit
+     * @throws MetamodelInitializationException If settings of a used strategy are invalid
+     */
+    public void validate(Collection<? extends EntityType<?>> entityTypes) {
+        final Set<GenerationType> used = EnumSet.noneOf(GenerationType.class);
+        entityTypes.forEach(et -> used.add(resolveStrategy(et)));
+        if (!used.contains(GenerationType.SNOWFLAKE) && !used.contains(GenerationType.SEQUENCE)) {
+            return;
+        }
+        if (nodeIdSetting == null) {
+            LOG.warn("Property {} is not configured, identifiers generated by the {} and {} strategies will be " +
+                            "verified against the storage.", JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID,
+                    GenerationType.SNOWFLAKE, GenerationType.SEQUENCE);
+        } else if (nodeId < 0 || nodeId > SnowflakeIdentifierGenerator.MAX_NODE_ID) {
+            throw new MetamodelInitializationException(
+                    "Invalid value " + nodeIdSetting + " of property " +
+                            JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID + ", expected an integer between 0 and " +
+                            SnowflakeIdentifierGenerator.MAX_NODE_ID + ".");
+        }
+        if (used.contains(GenerationType.SEQUENCE) && blockSize < 1) {
+            throw new MetamodelInitializationException(
+                    "Invalid value " + blockSize + " of property " +
+                            JOPAPersistenceProperties.IDENTIFIER_SEQUENCE_BLOCK_SIZE + ", expected a positive integer.");
+        }
+    }
+
+    /**
+     * Resolves the identifier generation strategy for the specified entity type.
+     *
+     * @param et Entity type
+     * @return Generation strategy, never {@link GenerationType#DEFAULT}
+     */
+    public GenerationType resolveStrategy(EntityType<?> et) {
+        final GenerationType strategy = et.getIdentifier().getGenerationType();
+        return strategy == null || strategy == GenerationType.DEFAULT ? defaultStrategy : strategy;
+    }
+
+    /**
+     * Checks whether identifiers generated for the specified entity type are guaranteed to be unique without
+     * verification against the storage.
+     *
+     * @param et Entity type
+     * @return {@code true} if identifiers are unique by construction, {@code false} otherwise
+     */
+    public boolean isCollisionFree(EntityType<?> et) {
+        return switch (resolveStrategy(et)) {
+            case UUID -> true;
+            // Without a configured node id, other nodes may generate the same identifiers
+            case SNOWFLAKE, SEQUENCE -> nodeIdSetting != null;
+            default -> false;
+        };
+    }
+
+    /**
+     * Generates a new identifier for an instance of the specified entity type.
+     *
+     * @param et         Entity type
+     * @param connection Storage connection used by the {@link GenerationType#STORAGE} strategy
+     * @return New identifier
+     * @throws OntoDriverException If the storage-based generation fails
+     */
+    public URI generate(EntityType<?> et, Connection connection) throws OntoDriverException {
+        final URI classUri = et.getIRI().toURI();
+        final GenerationType strategy = resolveStrategy(et);
+        if (strategy == GenerationType.STORAGE) {
+            return connection.generateIdentifier(classUri);
+        }
+        return generators.computeIfAbsent(strategy, this::createGenerator).generate(classUri);
+    }
+
+    private IdentifierGenerator createGenerator(GenerationType strategy) {
+        return switch (strategy) {
+            case UUID -> new TimeOrderedUuidGenerator();
+            case SNOWFLAKE -> new SnowflakeIdentifierGenerator(nodeId);
+            case SEQUENCE -> new BlockSequenceIdentifierGenerator(nodeId, blockSize);
+            default -> throw new IllegalArgumentException("Unsupported identifier generation strategy " + strategy);
+        };
+    }
+}
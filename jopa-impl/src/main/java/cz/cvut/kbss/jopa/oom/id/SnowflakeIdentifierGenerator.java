@@ -0,0 +1,89 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom.id;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+
+/**
+ * Generates identifiers based on Snowflake-like 64-bit numbers.
+ * <p>
+ * The number consists of 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node identifier and 12 bits of a
+ * sequence number, which allows up to 4096 identifiers per millisecond and node.
+ */
+class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    /**
+     * 2024-01-01T00:00:00Z
+     */
+    static final long EPOCH = 1704067200000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    SnowflakeIdentifierGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ", got " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public URI generate(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri, "-" + nextId());
+    }
+
+    synchronized long nextId() {
+        long timestamp = currentTime();
+        if (timestamp < lastTimestamp) {
+            // Clock moved backwards, keep using the last timestamp so that identifiers remain unique
+            timestamp = lastTimestamp;
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitForNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+        this.lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long waitForNextMillis(long lastTimestamp) {
+        long timestamp = currentTime();
+        while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
+            timestamp = currentTime();
+        }
+        return timestamp;
+    }
+
+    private static long currentTime() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom.id;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates identifiers based on time-ordered (version 7) UUIDs.
+ * <p>
+ * The UUID starts with a millisecond timestamp, so identifiers generated later sort after identifiers generated
+ * earlier. The remaining 74 bits are random.
+ */
+class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    @Override
+    public URI generate(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri, "-" + nextUuid());
+    }
+
+    static UUID nextUuid() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long timestamp = System.currentTimeMillis();
+        // 48 bits of timestamp, 4 bits of version, 12 random bits
+        final long msb = (timestamp << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        // 2 bits of variant, 62 random bits
+        final long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -17,9 +17,12 @@
  */
 package cz.cvut.kbss.jopa.query;
 
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Manages named queries in the persistence unit.
@@ -27,6 +30,7 @@ import java.util.Objects;
 public class NamedQueryManager {
 
     private final Map<String, String> queryMap = new HashMap<>();
+    private final Map<String, SparqlQueryTemplate> templateMap = new HashMap<>();
 
     /**
      * Adds a named query mapping.
@@ -44,6 +48,20 @@ public class NamedQueryManager {
         queryMap.put(name, query);
     }
 
+    /**
+     * Adds a named query mapping together with its parsed template.
+     *
+     * @param name     Named of the query
+     * @param query    Query string
+     * @param template Parsed query
+     * @throws IllegalArgumentException If there already exists a mapping for the specified name
+     */
+    public void addNamedQuery(String name, String query, SparqlQueryTemplate template) {
+        Objects.requireNonNull(template);
+        addNamedQuery(name, query);
+        templateMap.put(name, template);
+    }
+
     /**
      * Gets a query mapped by the specified name.
      *
@@ -57,4 +75,14 @@ public class NamedQueryManager {
         }
         return queryMap.get(name);
     }
+
+    /**
+     * Gets parsed template of a query mapped by the specified name.
+     *
+     * @param name Query name
+     * @return Query template, empty {@code Optional} if the query was not parsed when it was added or does not exist
+     */
+    public Optional<SparqlQueryTemplate> getQueryTemplate(String name) {
+        return Optional.ofNullable(templateMap.get(name));
+    }
 }
@@ -41,6 +41,57 @@ public class QueryHints {
      */
     public static final String TARGET_ONTOLOGY = "cz.cvut.kbss.jopa.query.targetOntology";
 
+    /**
+     * Enables paged evaluation of {@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultStream()} and
+     * {@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultPublisher()}.
+     * <p>
+     * When set to a positive integer, the query is executed repeatedly, each time retrieving one page of results of
+     * the specified size (using {@literal LIMIT} and {@literal OFFSET}). Only the current page is held in memory and no
+     * storage resources are kept open between pages. The query should specify an {@literal ORDER BY} clause, so that
+     * the pages are stable.
+     */
+    public static final String PAGE_SIZE = "cz.cvut.kbss.jopa.query.pageSize";
+
+    /**
+     * Indicates that entities retrieved by a paged result stream should be detached from the persistence context once
+     * the whole page they belong to has been emitted.
+     * <p>
+     * This keeps the size of the persistence context bounded when streaming large results. Applies only when
+     * {@link #PAGE_SIZE} is set.
+     */
+    public static final String DETACH_STREAMED_RESULTS = "cz.cvut.kbss.jopa.query.detachStreamedResults";
+
+    /**
+     * Indicates that entity results of a typed query should be retrieved as detached, read-only projections of the
+     * storage state.
+     * <p>
+     * Such entities bypass the persistence context and the second level cache, are not cloned or tracked for changes
+     * and their lazily loaded attributes are left empty.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#READ_ONLY_PROJECTION
+     */
+    public static final String READ_ONLY_PROJECTION = "cz.cvut.kbss.jopa.query.readOnlyProjection";
+
+    /**
+     * Specifies an {@link cz.cvut.kbss.jopa.model.EntityGraph} to use as a fetch graph when loading entity results.
+     * <p>
+     * Attributes contained in the graph are loaded eagerly, all other attributes are treated as lazily loaded. Values
+     * of plural attributes not contained in the graph are not retrieved from the storage at all until accessed.
+     * <p>
+     * The hint is also supported by {@link cz.cvut.kbss.jopa.model.EntityManager#find(Class, Object, java.util.Map)}.
+     */
+    public static final String FETCH_GRAPH = "cz.cvut.kbss.jopa.fetchgraph";
+
+    /**
+     * Specifies an {@link cz.cvut.kbss.jopa.model.EntityGraph} to use as a load graph when loading entity results.
+     * <p>
+     * Attributes contained in the graph are loaded eagerly, all other attributes are loaded according to their fetch
+     * type.
+     * <p>
+     * The hint is also supported by {@link cz.cvut.kbss.jopa.model.EntityManager#find(Class, Object, java.util.Map)}.
+     */
+    public static final String LOAD_GRAPH = "cz.cvut.kbss.jopa.loadgraph";
+
     private QueryHints() {
         throw new AssertionError();
     }
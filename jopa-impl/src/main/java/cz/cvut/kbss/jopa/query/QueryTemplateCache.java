@@ -0,0 +1,152 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches parsed query templates, so that repeatedly created queries do not have to be parsed (and, in case of SOQL,
+ * translated) again.
+ * <p>
+ * The cache is shared by all persistence contexts of a persistence unit. SPARQL and SOQL templates are kept separately,
+ * as the same string may be a valid query in both languages. When the cache is full, an arbitrary entry is evicted to
+ * make room for a new one.
+ */
+public class QueryTemplateCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryTemplateCache.class);
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+
+    private final Map<String, SparqlQueryTemplate> sparqlTemplates;
+    private final Map<String, SparqlQueryTemplate> soqlTemplates;
+
+    public QueryTemplateCache(Configuration configuration) {
+        this(resolveCapacity(configuration));
+    }
+
+    /**
+     * Creates a cache with the specified capacity.
+     *
+     * @param capacity Maximum number of templates per query language. Zero disables caching
+     */
+    public QueryTemplateCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Query template cache capacity cannot be negative.");
+        }
+        this.capacity = capacity;
+        this.sparqlTemplates = new ConcurrentHashMap<>();
+        this.soqlTemplates = new ConcurrentHashMap<>();
+    }
+
+    private static int resolveCapacity(Configuration configuration) {
+        final String setting = configuration.get(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY);
+        if (setting == null) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            final int capacity = Integer.parseInt(setting);
+            if (capacity >= 0) {
+                return capacity;
+            }
+            LOG.warn("Invalid query template cache capacity value {}. Using default value.", capacity);
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse query template cache capacity setting. Using default capacity {}.",
+                      DEFAULT_CAPACITY);
+        }
+        return DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Gets template of the specified SPARQL query, parsing it using the specified function if it is not cached yet.
+     *
+     * @param query  SPARQL query string
+     * @param parser Function parsing the query into a template
+     * @return Query template
+     */
+    public SparqlQueryTemplate getSparqlTemplate(String query, Function<String, SparqlQueryTemplate> parser) {
+        return get(sparqlTemplates, query, parser);
+    }
+
+    /**
+     * Gets SPARQL template corresponding to the specified SOQL query, translating and parsing it using the specified
+     * function if it is not cached yet.
+     *
+     * @param query  SOQL query string
+     * @param parser Function translating the query into a SPARQL template
+     * @return Query template
+     */
+    public SparqlQueryTemplate getSoqlTemplate(String query, Function<String, SparqlQueryTemplate> parser) {
+        return get(soqlTemplates, query, parser);
+    }
+
+    private SparqlQueryTemplate get(Map<String, SparqlQueryTemplate> templates, String query,
+                                    Function<String, SparqlQueryTemplate> parser) {
+        Objects.requireNonNull(query);
+        final SparqlQueryTemplate cached = templates.get(query);
+        if (cached != null) {
+            return cached;
+        }
+        // Parse outside of the map to prevent blocking other threads on slow parsing. Invalid queries are not cached
+        final SparqlQueryTemplate template = parser.apply(query);
+        if (capacity > 0) {
+            if (templates.size() >= capacity) {
+                evictOne(templates);
+            }
+            templates.putIfAbsent(query, template);
+        }
+        return template;
+    }
+
+    private static void evictOne(Map<String, SparqlQueryTemplate> templates) {
+        final Iterator<String> it = templates.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /**
+     * Gets the number of cached templates (of both SPARQL and SOQL queries).
+     *
+     * @return Number of cached templates
+     */
+    public int size() {
+        return sparqlTemplates.size() + soqlTemplates.size();
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    public void clear() {
+        sparqlTemplates.clear();
+        soqlTemplates.clear();
+    }
+}
@@ -20,7 +20,8 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.ResultSetMappingQuery;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
-import cz.cvut.kbss.jopa.query.QueryParser;
+import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
@@ -31,13 +32,17 @@ import java.util.Objects;
 
 /**
  * Factory for creating SPARQL queries.
+ * <p>
+ * Parsed queries are cached in the persistence unit-wide {@link QueryTemplateCache}, so that repeatedly used queries are
+ * not parsed every time.
  */
 public class SparqlQueryFactory {
 
     private final UnitOfWork uow;
     private final ConnectionWrapper connection;
 
-    private final QueryParser queryParser;
+    private final ParameterValueFactory parameterValueFactory;
+    private final SparqlQueryParser queryParser;
     private final SoqlQueryParser soqlQueryParser;
 
     public SparqlQueryFactory(UnitOfWork uow, ConnectionWrapper connection) {
@@ -45,7 +50,8 @@ public class SparqlQueryFactory {
         assert connection != null;
         this.uow = uow;
         this.connection = connection;
-        this.queryParser = new SparqlQueryParser(new ParameterValueFactory(uow));
+        this.parameterValueFactory = new ParameterValueFactory(uow);
+        this.queryParser = new SparqlQueryParser(parameterValueFactory);
         this.soqlQueryParser = new SoqlQueryParser(queryParser, uow.getMetamodel());
     }
 
@@ -59,7 +65,20 @@ public class SparqlQueryFactory {
     public QueryImpl createNativeQuery(String sparql) {
         Objects.requireNonNull(sparql);
 
-        return new QueryImpl(queryParser.parseQuery(sparql), connection);
+        return new QueryImpl(parseNative(sparql), connection);
+    }
+
+    private SparqlQueryHolder parseNative(String sparql) {
+        return toQueryHolder(uow.getQueryTemplateCache().getSparqlTemplate(sparql, queryParser::parseTemplate));
+    }
+
+    private SparqlQueryHolder parseSoql(String soql) {
+        return toQueryHolder(uow.getQueryTemplateCache().getSoqlTemplate(soql, q -> queryParser.parseTemplate(
+                soqlQueryParser.translate(q))));
+    }
+
+    private SparqlQueryHolder toQueryHolder(SparqlQueryTemplate template) {
+        return template.toQueryHolder(parameterValueFactory);
     }
 
     /**
@@ -73,13 +92,13 @@ public class SparqlQueryFactory {
     public <T> TypedQueryImpl<T> createNativeQuery(String sparql, Class<T> resultClass) {
         Objects.requireNonNull(sparql);
 
-        return createQueryImpl(sparql, resultClass, queryParser);
-    }
-
-    private <T> TypedQueryImpl<T> createQueryImpl(String query, Class<T> resultClass, QueryParser parser) {
         Objects.requireNonNull(resultClass);
 
-        return new TypedQueryImpl<>(parser.parseQuery(query), resultClass, connection, uow);
+        return createQueryImpl(parseNative(sparql), resultClass);
+    }
+
+    private <T> TypedQueryImpl<T> createQueryImpl(SparqlQueryHolder queryHolder, Class<T> resultClass) {
+        return new TypedQueryImpl<>(queryHolder, resultClass, connection, uow);
     }
 
     /**
@@ -94,7 +113,7 @@ public class SparqlQueryFactory {
         Objects.requireNonNull(resultSetMapping);
 
         final SparqlResultMapper mapper = uow.getResultSetMappingManager().getMapper(resultSetMapping);
-        return new ResultSetMappingQuery(queryParser.parseQuery(sparql), connection, mapper, uow);
+        return new ResultSetMappingQuery(parseNative(sparql), connection, mapper, uow);
     }
 
     /**
@@ -107,7 +126,7 @@ public class SparqlQueryFactory {
     public QueryImpl createQuery(String query) {
         Objects.requireNonNull(query);
 
-        return new QueryImpl(soqlQueryParser.parseQuery(query), connection);
+        return new QueryImpl(parseSoql(query), connection);
     }
 
     /**
@@ -121,7 +140,9 @@ public class SparqlQueryFactory {
      */
     public <T> TypedQueryImpl<T> createQuery(String query, Class<T> resultClass) {
         Objects.requireNonNull(query);
-        return createQueryImpl(query, resultClass, soqlQueryParser);
+        Objects.requireNonNull(resultClass);
+
+        return createQueryImpl(parseSoql(query), resultClass);
     }
 
     /**
@@ -132,8 +153,13 @@ public class SparqlQueryFactory {
      * @throws IllegalArgumentException If a query has not been defined with the given name
      */
     public QueryImpl createNamedQuery(String name) {
-        final String query = uow.getNamedQueryManager().getQuery(name);
-        return createNativeQuery(query);
+        return new QueryImpl(parseNamed(name), connection);
+    }
+
+    private SparqlQueryHolder parseNamed(String name) {
+        final NamedQueryManager namedQueryManager = uow.getNamedQueryManager();
+        return namedQueryManager.getQueryTemplate(name).map(this::toQueryHolder)
+                                .orElseGet(() -> parseNative(namedQueryManager.getQuery(name)));
     }
 
     /**
@@ -146,7 +172,8 @@ public class SparqlQueryFactory {
      * @throws IllegalArgumentException If a query has not been defined with the given name
      */
     public <T> TypedQueryImpl<T> createNamedQuery(String name, Class<T> resultClass) {
-        final String query = uow.getNamedQueryManager().getQuery(name);
-        return createNativeQuery(query, resultClass);
+        Objects.requireNonNull(resultClass);
+
+        return createQueryImpl(parseNamed(name), resultClass);
     }
 }
@@ -18,14 +18,13 @@
 package cz.cvut.kbss.jopa.query.sparql;
 
 import cz.cvut.kbss.jopa.exception.QueryParserException;
-import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.QueryParser;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * A simplified SPARQL query parser.
@@ -34,6 +33,9 @@ import java.util.Map;
  * into chunks delimited by variable occurrences, so that the variables can be bound using parameters in the query API.
  * <p>
  * More diligent query parsing is left to the engine used to execute the resulting query.
+ * <p>
+ * The result of parsing is a {@link SparqlQueryTemplate}, which can be reused to create any number of query holders.
+ * Instances of this class are not thread-safe.
  */
 public class SparqlQueryParser implements QueryParser {
 
@@ -41,11 +43,12 @@ public class SparqlQueryParser implements QueryParser {
 
     private String query;
 
-    private Map<Object, QueryParameter<?>> uniqueParams;
+    private Set<Object> uniqueParams;
+    private Set<Object> projectedParams;
     private Integer positionalCounter;
 
     private List<String> queryParts;
-    private List<QueryParameter<?>> parameters;
+    private List<Object> parameters;
     private boolean inParam;
     private boolean inSQString; // In apostrophe string (')
     private boolean inDQString; // In double-quoted string (")
@@ -57,6 +60,13 @@ public class SparqlQueryParser implements QueryParser {
     private boolean inComment;
     private boolean inUri;
 
+    /**
+     * Creates a parser usable only for {@link #parseTemplate(String)}.
+     */
+    public SparqlQueryParser() {
+        this(null);
+    }
+
     public SparqlQueryParser(ParameterValueFactory parameterValueFactory) {
         this.parameterValueFactory = parameterValueFactory;
     }
@@ -68,6 +78,18 @@ public class SparqlQueryParser implements QueryParser {
 
     @Override
     public SparqlQueryHolder parseQuery(String query) {
+        assert parameterValueFactory != null;
+        return parseTemplate(query).toQueryHolder(parameterValueFactory);
+    }
+
+    /**
+     * Parses the specified query string into a reusable template.
+     *
+     * @param query The query to parse
+     * @return Query template
+     * @throws QueryParserException If the query contains invalid parameter specification
+     */
+    public SparqlQueryTemplate parseTemplate(String query) {
         this.query = query;
         resetParser();
         int i;
@@ -138,12 +160,13 @@ public class SparqlQueryParser implements QueryParser {
         } else {
             queryParts.add(query.substring(lastParamEndIndex));
         }
-        return new SparqlQueryHolder(query, queryParts, parameters);
+        return new SparqlQueryTemplate(query, queryParts, parameters, projectedParams);
     }
 
     private void resetParser() {
         this.queryParts = new ArrayList<>();
-        this.uniqueParams = new HashMap<>();
+        this.uniqueParams = new HashSet<>();
+        this.projectedParams = new HashSet<>();
         this.positionalCounter = 1;
         this.parameters = new ArrayList<>();
         this.inSQString = false;
@@ -195,11 +218,11 @@ public class SparqlQueryParser implements QueryParser {
         parameters.add(resolveParamIdentification(param));
     }
 
-    private QueryParameter<?> resolveParamIdentification(String identification) {
-        final QueryParameter<?> queryParameter;
+    private Object resolveParamIdentification(String identification) {
+        final Object identifier;
         if (identification.isEmpty()) {
             if (currentParamType == ParamType.POSITIONAL) {
-                queryParameter = getQueryParameter(positionalCounter++);
+                identifier = getParameterIdentifier(positionalCounter++);
             } else {
                 throw new QueryParserException("Missing parameter name in query " + query);
             }
@@ -208,34 +231,29 @@ public class SparqlQueryParser implements QueryParser {
                 try {
                     Integer position = Integer.parseInt(identification);
                     positionalCounter++;
-                    queryParameter = getQueryParameter(position);
+                    identifier = getParameterIdentifier(position);
                 } catch (NumberFormatException e) {
                     throw new QueryParserException(identification + " is not a valid parameter position.", e);
                 }
             } else {
-                queryParameter = getQueryParameter(identification);
+                identifier = getParameterIdentifier(identification);
             }
         }
-        return queryParameter;
+        return identifier;
     }
 
-    private QueryParameter<?> getQueryParameter(String name) {
-        // We want to reuse the param instances, so that changes to them apply throughout the whole query
-        if (!uniqueParams.containsKey(name)) {
-            final QueryParameter<?> qp = new QueryParameter<>(name, parameterValueFactory);
-            qp.setProjected(inProjection);
-            uniqueParams.put(name, qp);
+    private Object getParameterIdentifier(String name) {
+        if (uniqueParams.add(name) && inProjection) {
+            projectedParams.add(name);
         }
-        return uniqueParams.get(name);
+        return name;
     }
 
-    private QueryParameter<?> getQueryParameter(Integer position) {
-        if (uniqueParams.containsKey(position)) {
+    private Object getParameterIdentifier(Integer position) {
+        if (!uniqueParams.add(position)) {
             throw new QueryParserException("Parameter with position " + position + " already found in query " + query);
         }
-        final QueryParameter<?> qp = new QueryParameter<>(position, parameterValueFactory);
-        uniqueParams.put(position, qp);
-        return qp;
+        return position;
     }
 
     private void wordEnd() {
@@ -0,0 +1,93 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.query.QueryParameter;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable result of parsing a SPARQL query string.
+ * <p>
+ * The template holds the query parts and identifiers of parameters occurring between them. Since it does not contain any
+ * parameter values, it can be shared (e.g., cached) and used to create a fresh {@link SparqlQueryHolder} for every query
+ * instance.
+ */
+public final class SparqlQueryTemplate {
+
+    // Original query string
+    private final String query;
+
+    private final List<String> queryParts;
+    // Parameter identifiers (names or positions) in order matching the query parts, may appear multiple times
+    private final List<Object> parameterIdentifiers;
+    private final Set<Object> projectedParameters;
+
+    SparqlQueryTemplate(String query, List<String> queryParts, List<Object> parameterIdentifiers,
+                        Set<Object> projectedParameters) {
+        this.query = query;
+        this.queryParts = List.copyOf(queryParts);
+        this.parameterIdentifiers = List.copyOf(parameterIdentifiers);
+        this.projectedParameters = Set.copyOf(projectedParameters);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    List<String> getQueryParts() {
+        return queryParts;
+    }
+
+    List<Object> getParameterIdentifiers() {
+        return parameterIdentifiers;
+    }
+
+    /**
+     * Creates a new query holder based on this template.
+     * <p>
+     * Every call creates new parameter instances, so that values bound in one query do not affect other queries created
+     * from the same template.
+     *
+     * @param valueFactory Factory of parameter values
+     * @return New query holder
+     */
+    public SparqlQueryHolder toQueryHolder(ParameterValueFactory valueFactory) {
+        // Parameter instances are reused, so that changes to them apply throughout the whole query
+        final Map<Object, QueryParameter<?>> uniqueParams = new HashMap<>();
+        final List<QueryParameter<?>> parameters = new ArrayList<>(parameterIdentifiers.size());
+        for (Object identifier : parameterIdentifiers) {
+            parameters.add(uniqueParams.computeIfAbsent(identifier, id -> createParameter(id, valueFactory)));
+        }
+        return new SparqlQueryHolder(query, queryParts, parameters);
+    }
+
+    private QueryParameter<?> createParameter(Object identifier, ParameterValueFactory valueFactory) {
+        if (identifier instanceof Integer position) {
+            return new QueryParameter<>(position, valueFactory);
+        }
+        final QueryParameter<?> qp = new QueryParameter<>(identifier.toString(), valueFactory);
+        qp.setProjected(projectedParameters.contains(identifier));
+        return qp;
+    }
+}
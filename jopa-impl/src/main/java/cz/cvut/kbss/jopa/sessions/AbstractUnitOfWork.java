@@ -46,11 +46,13 @@ import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.CloneConfiguration;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.sessions.validator.InferredAttributeChangeValidator;
 import cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator;
 import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
 import cz.cvut.kbss.jopa.utils.MetamodelUtils;
@@ -59,6 +61,7 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -66,6 +69,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 import static cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator.getValidator;
@@ -266,14 +272,39 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
 
     @Override
     public <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor) {
+        return readObject(cls, identifier, descriptor, null);
+    }
+
+    @Override
+    public <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph) {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(identifier);
         Objects.requireNonNull(descriptor);
 
-        return readObjectInternal(cls, identifier, descriptor);
+        return readObjectInternal(cls, identifier, descriptor, fetchGraph);
+    }
+
+    @Override
+    public <T> void prefetchObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor) {
+        prefetchObjects(cls, identifiers, descriptor, null);
+    }
+
+    @Override
+    public <T> void prefetchObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor,
+                                    FetchGraph fetchGraph) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        final List<URI> toLoad = identifiers.stream().filter(id -> readManagedObject(cls, id, descriptor) == null)
+                                            .map(EntityPropertiesUtils::getValueAsURI).distinct().toList();
+        if (toLoad.size() > 1) {
+            storage.prefetch(cls, toLoad, descriptor, fetchGraph);
+        }
     }
 
-    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor) {
+    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor,
+                                       FetchGraph fetchGraph) {
         assert cls != null;
         assert identifier != null;
         assert descriptor != null;
@@ -281,7 +312,7 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         if (result != null) {
             return result;
         }
-        result = storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor));
+        result = storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor, fetchGraph));
 
         if (result == null) {
             return null;
@@ -352,6 +383,20 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         return storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor));
     }
 
+    @Override
+    public <T> T readObjectDetached(Class<T> cls, Object identifier, Descriptor descriptor) {
+        return readObjectDetached(cls, identifier, descriptor, null);
+    }
+
+    @Override
+    public <T> T readObjectDetached(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(descriptor);
+
+        return storage.findDetached(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor, fetchGraph));
+    }
+
     @Override
     public EntityState getState(Object entity) {
         Objects.requireNonNull(entity);
@@ -396,6 +441,15 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
                 || newObjectsCloneToOriginal.containsKey(entity);
     }
 
+    @Override
+    public boolean isObjectManaged(Class<?> cls, Object identifier, Descriptor descriptor) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(descriptor);
+
+        return readManagedObject(cls, identifier, descriptor) != null;
+    }
+
     private boolean isManagedReference(Object entity) {
         return referenceProxies.containsKey(entity);
     }
@@ -708,9 +762,13 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
 
         final IdentifiableEntityType<?> eType = entityType(entity.getClass());
         eType.getLifecycleListenerManager().invokePrePersistCallbacks(entity);
-        Object id = initEntityIdentifier(entity, (EntityType<Object>) eType);
+        Object id = getIdentifier(entity);
+        final boolean generated = id == null;
+        if (generated) {
+            id = generateEntityIdentifier(entity, (EntityType<Object>) eType);
+        }
         assert id != null;
-        verifyCanPersist(id, entity, eType, descriptor);
+        verifyCanPersist(id, entity, eType, descriptor, generated && getIdentifierGenerators().isCollisionFree(eType));
         // Original is null until commit
         newObjectsCloneToOriginal.put(entity, null);
         registerEntityWithOntologyContext(entity, descriptor);
@@ -719,25 +777,79 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         this.hasNew = true;
     }
 
-    private Object initEntityIdentifier(Object entity, EntityType<Object> et) {
-        Object id = getIdentifier(entity);
-        if (id == null) {
-            EntityPropertiesUtils.verifyIdentifierIsGenerated(entity, et);
-            id = storage.generateIdentifier(et);
-            EntityPropertiesUtils.setIdentifier(id, entity, et);
-        }
+    private Object generateEntityIdentifier(Object entity, EntityType<Object> et) {
+        EntityPropertiesUtils.verifyIdentifierIsGenerated(entity, et);
+        final Object id = storage.generateIdentifier(et);
+        EntityPropertiesUtils.setIdentifier(id, entity, et);
         return id;
     }
 
-    private void verifyCanPersist(Object id, Object instance, EntityType<?> et, Descriptor descriptor) {
+    private void verifyCanPersist(Object id, Object instance, EntityType<?> et, Descriptor descriptor,
+                                  boolean uniqueId) {
         if (isIndividualManaged(id, instance) && !instance.getClass().isEnum()) {
             throw individualAlreadyManaged(id);
         }
-        if (storage.contains(id, instance.getClass(), descriptor)) {
+        // Identifiers generated by a collision-free strategy cannot exist in the storage yet
+        if (!uniqueId && storage.contains(id, instance.getClass(), descriptor)) {
             throw new OWLEntityExistsException("Individual " + id + " of type " + et.getIRI() + " already exists in storage.");
         }
     }
 
+    @Override
+    public long persistAll(Stream<?> objects, Descriptor descriptor, LongConsumer progressListener) {
+        Objects.requireNonNull(objects);
+        Objects.requireNonNull(descriptor);
+        Objects.requireNonNull(progressListener);
+
+        final int batchSize = resolveBulkPersistBatchSize();
+        final AtomicLong count = new AtomicLong();
+        storage.persistAll(objects.map(entity -> {
+            Objects.requireNonNull(entity);
+            final IdentifiableEntityType<?> et = entityType(entity.getClass());
+            verifyCanPersistInBulk(entity);
+            et.getLifecycleListenerManager().invokePrePersistCallbacks(entity);
+            return entity;
+        }), descriptor, batchSize, batch -> {
+            batch.forEach(entity -> entityType(entity.getClass()).getLifecycleListenerManager()
+                                                                 .invokePostPersistCallbacks(entity));
+            final long persisted = count.addAndGet(batch.size());
+            LOG.debug("Persisted {} entities in bulk.", persisted);
+            progressListener.accept(persisted);
+        });
+        if (count.get() > 0) {
+            setHasChanges();
+        }
+        return count.get();
+    }
+
+    private void verifyCanPersistInBulk(Object entity) {
+        if (isObjectManaged(entity)) {
+            throw new IllegalArgumentException("Entity " + entity + " is already managed by the persistence context.");
+        }
+        final Object id = getIdentifier(entity);
+        if (id != null && isIndividualManaged(id, entity)) {
+            throw individualAlreadyManaged(id);
+        }
+    }
+
+    private int resolveBulkPersistBatchSize() {
+        final String setting = configuration.get(JOPAPersistenceProperties.BULK_PERSIST_BATCH_SIZE);
+        if (setting == null) {
+            return Constants.DEFAULT_BULK_PERSIST_BATCH_SIZE;
+        }
+        try {
+            final int batchSize = Integer.parseInt(setting);
+            if (batchSize > 0) {
+                return batchSize;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to default
+        }
+        LOG.warn("Invalid bulk persist batch size {}. Using default value {}.", setting,
+                 Constants.DEFAULT_BULK_PERSIST_BATCH_SIZE);
+        return Constants.DEFAULT_BULK_PERSIST_BATCH_SIZE;
+    }
+
     private boolean isIndividualManaged(Object identifier, Object entity) {
         return keysToClones.containsKey(identifier) || newObjectsKeyToClone.containsKey(identifier) && !cloneMapping.contains(entity);
     }
@@ -29,6 +29,7 @@ import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.validator.AttributeModificationValidator;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
@@ -43,8 +44,9 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
     }
 
     @Override
-    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor) {
-        final T clone = super.readObjectInternal(cls, identifier, descriptor);
+    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor,
+                                       FetchGraph fetchGraph) {
+        final T clone = super.readObjectInternal(cls, identifier, descriptor, fetchGraph);
         if (clone != null) {
             checkForIndirectObjects(clone);
         }
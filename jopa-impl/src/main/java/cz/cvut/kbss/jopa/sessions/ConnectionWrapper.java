@@ -23,6 +23,8 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.oom.ObjectOntologyMapper;
 import cz.cvut.kbss.jopa.oom.ObjectOntologyMapperImpl;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.Wrapper;
@@ -32,8 +34,11 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class ConnectionWrapper implements Wrapper {
 
@@ -61,6 +66,15 @@ public class ConnectionWrapper implements Wrapper {
         return mapper.loadEntity(loadingParameters);
     }
 
+    public <T> T findDetached(LoadingParameters<T> loadingParameters) {
+        return mapper.loadDetachedEntity(loadingParameters);
+    }
+
+    public <T> void prefetch(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor,
+                             FetchGraph fetchGraph) {
+        mapper.prefetchEntities(cls, identifiers, descriptor, fetchGraph);
+    }
+
     public <T> T getReference(LoadingParameters<T> loadingParameters) {
         return mapper.getReference(loadingParameters);
     }
@@ -69,6 +83,10 @@ public class ConnectionWrapper implements Wrapper {
         mapper.updateFieldValue(entity, fieldSpec, descriptor);
     }
 
+    public void mergeAll(Collection<FieldValueUpdate> updates) {
+        mapper.updateFieldValues(updates);
+    }
+
     public URI generateIdentifier(EntityType<?> et) {
         return mapper.generateIdentifier(et);
     }
@@ -78,6 +96,11 @@ public class ConnectionWrapper implements Wrapper {
         mapper.persistEntity(idUri, entity, descriptor);
     }
 
+    public void persistAll(Stream<?> entities, Descriptor descriptor, int batchSize,
+                           Consumer<List<Object>> batchConsumer) {
+        mapper.persistEntities(entities, descriptor, batchSize, batchConsumer);
+    }
+
     public <T> void remove(Object identifier, Class<T> cls, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
         mapper.removeEntity(idUri, cls, descriptor);
@@ -18,7 +18,9 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.oom.id.IdentifierGenerators;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 
 public interface MetamodelProvider {
@@ -55,4 +57,22 @@ public interface MetamodelProvider {
     default ResultSetMappingManager getResultSetMappingManager() {
         return getMetamodel().getResultSetMappingManager();
     }
+
+    /**
+     * Gets the cache of parsed query templates ({@link QueryTemplateCache}) for this persistence unit.
+     *
+     * @return {@code QueryTemplateCache}
+     */
+    default QueryTemplateCache getQueryTemplateCache() {
+        return getMetamodel().getQueryTemplateCache();
+    }
+
+    /**
+     * Gets the identifier generation strategies ({@link IdentifierGenerators}) of this persistence unit.
+     *
+     * @return {@code IdentifierGenerators}
+     */
+    default IdentifierGenerators getIdentifierGenerators() {
+        return getMetamodel().getIdentifierGenerators();
+    }
 }
@@ -18,18 +18,24 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.lifecycle.LifecycleEvent;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.validator.AttributeModificationValidator;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
 
@@ -48,22 +54,11 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
         if (this.hasNew) {
             persistNewObjects();
         }
-        uowChangeSet.getExistingObjectsChanges().forEach(chSet -> {
-            final IdentifiableEntityType<?> et = entityType(chSet.getObjectClass());
-            final Object entity = chSet.getClone();
-            et.getLifecycleListenerManager().invokePreUpdateCallbacks(entity);
-            if (et.getLifecycleListenerManager().hasLifecycleCallback(LifecycleEvent.PRE_UPDATE)) {
-                // Recalculate changes if a preUpdate callback was called as it may have altered the entity state
-                changeCalculator.calculateChanges(chSet);
-            }
-            chSet.getChanges()
-                 .forEach(record -> {
-                     AttributeModificationValidator.verifyCanModify(record.getAttribute());
-                     preventCachingIfReferenceIsNotLoaded(record);
-                     storage.merge(entity, (FieldSpecification<? super Object, ?>) record.getAttribute(), chSet.getDescriptor());
-                 });
-            et.getLifecycleListenerManager().invokePostUpdateCallbacks(entity);
-        });
+        if (shouldBatchUpdates()) {
+            propagateExistingObjectChangesInBatch();
+        } else {
+            propagateExistingObjectChanges();
+        }
         uowChangeSet.getDeletedObjects().forEach(chSet -> {
             final IdentifiableEntityType<?> et = entityType(chSet.getObjectClass());
             final Object identifier = getIdentifier(chSet.getClone());
@@ -92,6 +87,77 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
         }
     }
 
+    private boolean shouldBatchUpdates() {
+        return Boolean.parseBoolean(getConfiguration().get(JOPAPersistenceProperties.COMMIT_BATCH_UPDATES,
+                Boolean.TRUE.toString()));
+    }
+
+    private void propagateExistingObjectChanges() {
+        uowChangeSet.getExistingObjectsChanges().forEach(chSet -> {
+            final Object entity = chSet.getClone();
+            prepareForUpdate(chSet);
+            chSet.getChanges()
+                 .forEach(record -> storage.merge(entity, (FieldSpecification<? super Object, ?>) record.getAttribute(), chSet.getDescriptor()));
+            entityType(chSet.getObjectClass()).getLifecycleListenerManager().invokePostUpdateCallbacks(entity);
+        });
+    }
+
+    /**
+     * Prepares changes of all the modified entities first and then writes them into the storage together.
+     * <p>
+     * Unlike {@link #propagateExistingObjectChanges()}, which writes each entity right after invoking its
+     * {@code PreUpdate} callbacks, this invokes the {@code PreUpdate} callbacks of all the modified entities before any
+     * changes are written. Changes are then recalculated, so that modifications a callback makes to another modified
+     * entity are written as well, regardless of the order in which the entities are processed. {@code PostUpdate}
+     * callbacks are invoked once all the changes have been written.
+     */
+    private void propagateExistingObjectChangesInBatch() {
+        final Collection<ObjectChangeSet> changeSets = uowChangeSet.getExistingObjectsChanges();
+        boolean callbackInvoked = false;
+        for (ObjectChangeSet chSet : changeSets) {
+            callbackInvoked |= invokePreUpdateCallbacks(chSet);
+        }
+        final List<FieldValueUpdate> updates = new ArrayList<>(changeSets.size());
+        for (ObjectChangeSet chSet : changeSets) {
+            if (callbackInvoked) {
+                // Recalculate changes as the preUpdate callbacks may have altered the state of any of the entities
+                changeCalculator.calculateChanges(chSet);
+            }
+            verifyChanges(chSet);
+            if (chSet.hasChanges()) {
+                updates.add(new FieldValueUpdate(chSet.getClone(), chSet.getChanges().stream()
+                                                                      .map(ChangeRecord::getAttribute).toList(),
+                        chSet.getDescriptor()));
+            }
+        }
+        if (!updates.isEmpty()) {
+            storage.mergeAll(updates);
+        }
+        changeSets.forEach(chSet -> entityType(chSet.getObjectClass()).getLifecycleListenerManager()
+                                                                     .invokePostUpdateCallbacks(chSet.getClone()));
+    }
+
+    private void prepareForUpdate(ObjectChangeSet chSet) {
+        if (invokePreUpdateCallbacks(chSet)) {
+            // Recalculate changes if a preUpdate callback was called as it may have altered the entity state
+            changeCalculator.calculateChanges(chSet);
+        }
+        verifyChanges(chSet);
+    }
+
+    private boolean invokePreUpdateCallbacks(ObjectChangeSet chSet) {
+        final IdentifiableEntityType<?> et = entityType(chSet.getObjectClass());
+        et.getLifecycleListenerManager().invokePreUpdateCallbacks(chSet.getClone());
+        return et.getLifecycleListenerManager().hasLifecycleCallback(LifecycleEvent.PRE_UPDATE);
+    }
+
+    private void verifyChanges(ObjectChangeSet chSet) {
+        chSet.getChanges().forEach(record -> {
+            AttributeModificationValidator.verifyCanModify(record.getAttribute());
+            preventCachingIfReferenceIsNotLoaded(record);
+        });
+    }
+
     @Override
     <T> T mergeDetachedInternal(T toMerge, Descriptor descriptor) {
         assert toMerge != null;
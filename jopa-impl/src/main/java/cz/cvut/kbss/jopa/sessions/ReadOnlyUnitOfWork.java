@@ -29,6 +29,7 @@ import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.CloneConfiguration;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
@@ -42,6 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 import static cz.cvut.kbss.jopa.utils.EntityPropertiesUtils.getValueAsURI;
@@ -85,7 +88,8 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
     }
 
     @Override
-    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor) {
+    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor,
+                                       FetchGraph fetchGraph) {
         assert cls != null;
         assert identifier != null;
         assert descriptor != null;
@@ -95,7 +99,7 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
         if (result != null) {
             return result;
         }
-        LoadingParameters<T> params = new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor);
+        LoadingParameters<T> params = new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor, fetchGraph);
 
         // registered result is either original or clone of original (if original is read from cache)
         Object registeredResult;
@@ -550,6 +554,17 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
         throwUnsupportedOperationException();
     }
 
+    /**
+     * Method not supported.
+     * @throws UnsupportedOperationException Method not supported.
+     */
+    @Override
+    public long persistAll(Stream<?> objects, Descriptor descriptor,
+                           LongConsumer progressListener) throws UnsupportedOperationException {
+        throwUnsupportedOperationException();
+        return 0;
+    }
+
     /**
      * Method not supported.
      * @throws UnsupportedOperationException Method not supported.
@@ -25,12 +25,16 @@ import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 /**
  * Represents a persistence context.
@@ -102,6 +106,17 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     boolean isObjectManaged(Object entity);
 
+    /**
+     * Checks whether an instance of the specified class with the specified identifier is managed by this persistence
+     * context.
+     *
+     * @param cls        Entity class
+     * @param identifier Instance identifier
+     * @param descriptor Descriptor specifying repository context of the instance
+     * @return {@code true} when a matching instance is managed, {@code false} otherwise
+     */
+    boolean isObjectManaged(Class<?> cls, Object identifier, Descriptor descriptor);
+
     /**
      * Checks whether the specified entity has been registered in this Unit of Work as a new object for persist.
      *
@@ -163,6 +178,25 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Retrieves object with the specified identifier, loading its attributes according to the specified fetch graph.
+     * <p>
+     * The fetch graph is applied only when the object is loaded from the storage. Objects already managed by this
+     * persistence context or present in the second level cache are returned as they are.
+     *
+     * @param cls        The type of the returned object
+     * @param identifier Instance identifier
+     * @param descriptor Entity descriptor
+     * @param fetchGraph Graph of attributes to load eagerly, {@code null} to load attributes according to their fetch
+     *                   type
+     * @return The retrieved object or {@code null} if there is no object with the specified identifier in the specified
+     * repository
+     * @throws NullPointerException    If {@code cls}, {@code identifier} or {@code repository} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     * @see #readObject(Class, Object, Descriptor)
+     */
+    <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph);
+
     /**
      * Reads an object but does not register it with this persistence context.
      * <p>
@@ -176,6 +210,66 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     <T> T readObjectWithoutRegistration(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Reads an object as a detached, read-only projection of its storage state.
+     * <p>
+     * The object is constructed directly from the storage. It is neither looked up in nor registered with this
+     * persistence context, it is not cloned or tracked for changes and it is not put into the second level cache.
+     * Referenced entities are loaded the same way and lazily loaded attributes are left empty.
+     *
+     * @param cls        Expected result class
+     * @param identifier Object identifier
+     * @param descriptor Entity descriptor
+     * @return The retrieved object or {@code null} if there is no object with the specified identifier in the specified
+     * repository
+     * @throws NullPointerException If {@code cls}, {@code identifier} or {@code repository} is {@code null}
+     */
+    <T> T readObjectDetached(Class<T> cls, Object identifier, Descriptor descriptor);
+
+    /**
+     * Reads an object as a detached, read-only projection, loading its attributes according to the specified fetch
+     * graph.
+     *
+     * @param cls        Expected result class
+     * @param identifier Object identifier
+     * @param descriptor Entity descriptor
+     * @param fetchGraph Graph of attributes to load eagerly, {@code null} to load attributes according to their fetch
+     *                   type
+     * @return The retrieved object or {@code null} if there is no object with the specified identifier in the specified
+     * repository
+     * @throws NullPointerException If {@code cls}, {@code identifier} or {@code repository} is {@code null}
+     * @see #readObjectDetached(Class, Object, Descriptor)
+     */
+    <T> T readObjectDetached(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph);
+
+    /**
+     * Loads state of objects with the specified identifiers in bulk, so that their subsequent retrieval via {@link
+     * #readObject(Class, Object, Descriptor)} does not require a separate storage round trip for each of them.
+     * <p>
+     * Objects already managed by this persistence context are skipped. This is only an optimization, the objects are
+     * not registered in the persistence context by this method.
+     *
+     * @param cls         The type of the objects
+     * @param identifiers Object identifiers
+     * @param descriptor  Entity descriptor
+     * @throws NullPointerException If {@code cls}, {@code identifiers} or {@code descriptor} is {@code null}
+     */
+    <T> void prefetchObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor);
+
+    /**
+     * Loads state of objects with the specified identifiers in bulk, so that their subsequent retrieval via {@link
+     * #readObject(Class, Object, Descriptor, FetchGraph)} with the same fetch graph does not require a separate storage
+     * round trip for each of them.
+     *
+     * @param cls         The type of the objects
+     * @param identifiers Object identifiers
+     * @param descriptor  Entity descriptor
+     * @param fetchGraph  Graph of attributes to load eagerly, possibly {@code null}
+     * @throws NullPointerException If {@code cls}, {@code identifiers} or {@code descriptor} is {@code null}
+     * @see #prefetchObjects(Class, Collection, Descriptor)
+     */
+    <T> void prefetchObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor, FetchGraph fetchGraph);
+
     /**
      * Retrieves a reference to an object with the specified identifier.
      * <p>
@@ -227,6 +321,21 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     void registerNewObject(Object object, Descriptor descriptor);
 
+    /**
+     * Persists the specified new objects directly into the storage, bypassing this Unit of Work.
+     * <p>
+     * The objects are not registered in this Unit of Work, i.e., they do not become managed and their changes are not
+     * tracked. They are written into the storage in batches within the current transaction.
+     *
+     * @param objects          The objects to persist
+     * @param descriptor       Entity descriptor
+     * @param progressListener Notified with the total number of persisted objects after each batch
+     * @return Number of persisted objects
+     * @throws NullPointerException    If any of the arguments or persisted objects is {@code null}
+     * @throws OWLPersistenceException If an error during persist occurs
+     */
+    long persistAll(Stream<?> objects, Descriptor descriptor, LongConsumer progressListener);
+
     /**
      * Remove the given object from the repository.
      *
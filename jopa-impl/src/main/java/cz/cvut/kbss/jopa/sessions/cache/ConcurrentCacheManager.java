@@ -0,0 +1,298 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Second level cache designed for highly concurrent access.
+ * <p>
+ * Unlike {@link TtlCacheManager} and {@link LruCacheManager}, this implementation does not use a cache-wide lock.
+ * Instead, the cache is split into per-context segments backed by concurrent maps keyed by identifier and class. Reads
+ * are non-blocking and writes to different entries do not block each other.
+ * <p>
+ * Entries expire individually when they have not been accessed for the configured time-to-live (see {@link
+ * JOPAPersistenceProperties#CACHE_TTL}). Expired entries are removed by a dedicated sweeper thread running at the
+ * configured sweep rate (see {@link JOPAPersistenceProperties#CACHE_SWEEP_RATE}).
+ */
+public class ConcurrentCacheManager implements CacheManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentCacheManager.class);
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    /**
+     * Default time to live in millis
+     */
+    private static final long DEFAULT_TTL = 60000L;
+    /**
+     * Default sweep rate in millis
+     */
+    private static final long DEFAULT_SWEEP_RATE = 30000L;
+
+    private final URI defaultContext;
+
+    private final ConcurrentMap<URI, ConcurrentMap<EntryKey, CacheEntry>> segments = new ConcurrentHashMap<>();
+    // Identity-based, to cope with entities overriding equals/hashCode
+    private final ConcurrentMap<InstanceKey, CacheEntry> instances = new ConcurrentHashMap<>();
+
+    private volatile Set<Class<?>> inferredClasses = Collections.emptySet();
+
+    private final long timeToLive;
+    private final long sweepRate;
+    private final ScheduledExecutorService sweeperScheduler;
+    private Future<?> sweeperFuture;
+
+    public ConcurrentCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+        // The properties are in seconds, we need milliseconds
+        this.timeToLive = resolveSetting(properties, JOPAPersistenceProperties.CACHE_TTL, DEFAULT_TTL);
+        this.sweepRate = resolveSetting(properties, JOPAPersistenceProperties.CACHE_SWEEP_RATE, DEFAULT_SWEEP_RATE);
+        this.sweeperScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.sweeperFuture = sweeperScheduler.scheduleAtFixedRate(this::sweep, sweepRate, sweepRate,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private static long resolveSetting(Map<String, String> properties, String property, long defaultValue) {
+        if (!properties.containsKey(property)) {
+            return defaultValue;
+        }
+        final String value = properties.get(property);
+        try {
+            final long result = Long.parseLong(value) * 1000;
+            if (result <= 0) {
+                LOG.warn("Invalid value {} of setting {}, using default value.", value, property);
+                return defaultValue;
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse value {} of setting {}, using default value.", value, property);
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public void add(Object identifier, Object entity, Descriptors descriptors) {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(entity);
+        Objects.requireNonNull(descriptors);
+
+        final Descriptor repoDescriptor = descriptors.repositoryDescriptor();
+        if (repoDescriptor.getContexts().size() > 1) {
+            return;
+        }
+        final URI ctx = repoDescriptor.getSingleContext().orElse(defaultContext);
+        final CacheEntry entry = new CacheEntry(new EntryKey(identifier, entity.getClass()), entity, descriptors);
+        // Register the instance first, so that an entry reachable in a segment always has its descriptors available
+        instances.put(new InstanceKey(entity), entry);
+        final CacheEntry replaced = segments.computeIfAbsent(ctx, k -> new ConcurrentHashMap<>())
+                                            .put(entry.key, entry);
+        if (replaced != null) {
+            instances.remove(new InstanceKey(replaced.entity), replaced);
+        }
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return null;
+        }
+        final CacheEntry entry = find(cls, identifier, descriptor);
+        if (entry == null) {
+            return null;
+        }
+        entry.touch();
+        return cls.cast(entry.entity);
+    }
+
+    private CacheEntry find(Class<?> cls, Object identifier, Descriptor descriptor) {
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        final EntryKey key = new EntryKey(identifier, cls);
+        for (URI ctx : contexts) {
+            final Map<EntryKey, CacheEntry> segment = segments.get(ctx);
+            if (segment == null) {
+                continue;
+            }
+            final CacheEntry entry = segment.get(key);
+            if (entry != null && entry.descriptors.repositoryDescriptor().equals(descriptor)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        return find(cls, identifier, descriptor) != null;
+    }
+
+    @Override
+    public LoadStateDescriptor<?> getLoadStateDescriptor(Object instance) {
+        if (instance == null) {
+            return null;
+        }
+        final CacheEntry entry = instances.get(new InstanceKey(instance));
+        return entry != null ? entry.descriptors.loadStateDescriptor() : null;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifier);
+
+        final Map<EntryKey, CacheEntry> segment = segments.get(context != null ? context : defaultContext);
+        if (segment == null) {
+            return;
+        }
+        final CacheEntry entry = segment.get(new EntryKey(identifier, cls));
+        if (entry != null) {
+            remove(segment, entry);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+
+        segments.values().forEach(segment -> segment.values().forEach(entry -> {
+            if (entry.key.cls.equals(cls)) {
+                remove(segment, entry);
+            }
+        }));
+    }
+
+    @Override
+    public void evict(URI context) {
+        final Map<EntryKey, CacheEntry> segment = segments.get(context != null ? context : defaultContext);
+        if (segment != null) {
+            // Segments are not removed, so that a concurrent add cannot end up in an orphaned segment
+            segment.values().forEach(entry -> remove(segment, entry));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        segments.values().forEach(segment -> segment.values().forEach(entry -> remove(segment, entry)));
+        instances.values().forEach(this::removeInstance);
+    }
+
+    private void remove(Map<EntryKey, CacheEntry> segment, CacheEntry entry) {
+        segment.remove(entry.key, entry);
+        removeInstance(entry);
+    }
+
+    private void removeInstance(CacheEntry entry) {
+        instances.remove(new InstanceKey(entry.entity), entry);
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        inferredClasses.forEach(this::evict);
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses != null ? inferredClasses : Collections.emptySet();
+    }
+
+    /**
+     * Removes entries whose time-to-live has expired.
+     */
+    void sweep() {
+        LOG.trace("Running cache sweep.");
+        final long threshold = System.currentTimeMillis() - timeToLive;
+        segments.values().forEach(segment -> segment.values().forEach(entry -> {
+            if (entry.lastAccessed < threshold) {
+                remove(segment, entry);
+            }
+        }));
+        // Entries replaced concurrently may remain registered only as instances
+        instances.values().forEach(entry -> {
+            if (entry.lastAccessed < threshold) {
+                removeInstance(entry);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (sweeperFuture != null) {
+            LOG.debug("Stopping cache sweeper.");
+            sweeperFuture.cancel(true);
+            sweeperScheduler.shutdown();
+        }
+        this.sweeperFuture = null;
+        evictAll();
+    }
+
+    private record EntryKey(Object identifier, Class<?> cls) {
+    }
+
+    record InstanceKey(Object instance) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof InstanceKey other && instance == other.instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final EntryKey key;
+        private final Object entity;
+        private final Descriptors descriptors;
+        private volatile long lastAccessed;
+
+        private CacheEntry(EntryKey key, Object entity, Descriptors descriptors) {
+            this.key = key;
+            this.entity = entity;
+            this.descriptors = descriptors;
+            this.lastAccessed = System.currentTimeMillis();
+        }
+
+        private void touch() {
+            this.lastAccessed = System.currentTimeMillis();
+        }
+    }
+}
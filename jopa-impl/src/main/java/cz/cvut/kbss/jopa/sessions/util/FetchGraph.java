@@ -0,0 +1,134 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.util;
+
+import cz.cvut.kbss.jopa.model.EntityGraphImpl;
+import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
+import cz.cvut.kbss.jopa.query.QueryHints;
+import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
+
+import java.util.Map;
+
+/**
+ * Entity graph applied when loading an entity.
+ * <p>
+ * Attributes contained in the graph are loaded eagerly. Attributes outside the graph are loaded lazily (where
+ * possible) if the graph is used as a fetch graph and according to their fetch type if the graph is used as a load
+ * graph.
+ *
+ * @param graph     Entity graph, {@code null} represents an empty graph
+ * @param loadGraph Whether the graph is used as a load graph, as opposed to a fetch graph
+ */
+public record FetchGraph(EntityGraphImpl<?> graph, boolean loadGraph) {
+
+    /**
+     * Resolves fetch graph specified by the {@link QueryHints#FETCH_GRAPH} or {@link QueryHints#LOAD_GRAPH} hint.
+     *
+     * @param hints       Hints to resolve the graph from
+     * @param entityClass Class of the loaded entities
+     * @return Fetch graph or {@code null} if no graph is specified
+     * @throws IllegalArgumentException If the hint value is not an entity graph applicable to the entity class
+     */
+    public static FetchGraph fromHints(Map<String, ?> hints, Class<?> entityClass) {
+        if (isSet(hints.get(QueryHints.FETCH_GRAPH))) {
+            return new FetchGraph(resolveGraph(QueryHints.FETCH_GRAPH, hints.get(QueryHints.FETCH_GRAPH), entityClass),
+                    false);
+        }
+        if (isSet(hints.get(QueryHints.LOAD_GRAPH))) {
+            return new FetchGraph(resolveGraph(QueryHints.LOAD_GRAPH, hints.get(QueryHints.LOAD_GRAPH), entityClass),
+                    true);
+        }
+        return null;
+    }
+
+    private static boolean isSet(Object hintValue) {
+        return hintValue != null && !(hintValue instanceof String str && str.isEmpty());
+    }
+
+    private static EntityGraphImpl<?> resolveGraph(String hint, Object value, Class<?> entityClass) {
+        if (!(value instanceof EntityGraphImpl<?> graph)) {
+            throw new IllegalArgumentException("Unsupported value '" + value + "' of hint '" + hint + "'.");
+        }
+        if (!graph.getClassType().isAssignableFrom(entityClass)) {
+            throw new IllegalArgumentException(
+                    "Entity graph " + graph + " cannot be applied to entities of type " + entityClass + ".");
+        }
+        return graph;
+    }
+
+    /**
+     * Checks whether the specified attribute should be loaded eagerly.
+     * <p>
+     * Attributes which cannot be loaded lazily (e.g., singular data properties) are loaded according to their fetch
+     * type even when they are not part of a fetch graph.
+     *
+     * @param fieldSpec Attribute to check
+     * @return {@code true} if the attribute value should be loaded eagerly, {@code false} otherwise
+     */
+    public boolean isEager(FieldSpecification<?, ?> fieldSpec) {
+        if (contains(fieldSpec)) {
+            return true;
+        }
+        return (loadGraph || !isLazilyLoadable(fieldSpec)) && fieldSpec.getFetchType() != FetchType.LAZY;
+    }
+
+    private static boolean isLazilyLoadable(FieldSpecification<?, ?> fieldSpec) {
+        if (fieldSpec instanceof PluralAttribute<?, ?, ?>) {
+            return true;
+        }
+        if (fieldSpec instanceof Attribute<?, ?> att && att.isAssociation()) {
+            final Class<?> type = att.getJavaType();
+            return !IdentifierTransformer.isValidIdentifierType(type) && !type.isEnum();
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the specified attribute should not be loaded at all.
+     * <p>
+     * This applies to plural attributes outside a fetch graph, whose values are loaded only when accessed.
+     *
+     * @param fieldSpec Attribute to check
+     * @return {@code true} if the attribute value should not be loaded, {@code false} otherwise
+     */
+    public boolean excludes(FieldSpecification<?, ?> fieldSpec) {
+        return !loadGraph && fieldSpec instanceof PluralAttribute<?, ?, ?> && !contains(fieldSpec);
+    }
+
+    private boolean contains(FieldSpecification<?, ?> fieldSpec) {
+        return graph != null && graph.contains(fieldSpec);
+    }
+
+    /**
+     * Gets the graph to apply when loading entities referenced by the specified attribute.
+     *
+     * @param fieldSpec Attribute referencing other entities
+     * @return Fetch graph or {@code null} if the referenced entities should be loaded according to the attribute fetch
+     * types
+     */
+    public FetchGraph subgraph(FieldSpecification<?, ?> fieldSpec) {
+        final EntityGraphImpl<?> subgraph = graph != null ? graph.getSubgraph(fieldSpec) : null;
+        if (subgraph == null && loadGraph) {
+            return null;
+        }
+        return new FetchGraph(subgraph, loadGraph);
+    }
+}
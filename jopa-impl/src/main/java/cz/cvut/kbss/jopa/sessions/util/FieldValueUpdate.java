@@ -0,0 +1,34 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.util;
+
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+
+import java.util.Collection;
+
+/**
+ * Fields of an entity whose values should be written into the storage.
+ *
+ * @param entity     Entity containing the fields
+ * @param fields     Fields to update
+ * @param descriptor Entity descriptor possibly specifying contexts
+ */
+public record FieldValueUpdate(Object entity, Collection<? extends FieldSpecification<?, ?>> fields,
+                               Descriptor descriptor) {
+}
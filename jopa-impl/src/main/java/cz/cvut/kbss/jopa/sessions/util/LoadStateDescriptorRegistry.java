@@ -48,6 +48,10 @@ public class LoadStateDescriptorRegistry {
         return registry.get(instance);
     }
 
+    public void remove(Object instance) {
+        registry.remove(instance);
+    }
+
     public boolean contains(Object instance) {
         return registry.containsKey(instance);
     }
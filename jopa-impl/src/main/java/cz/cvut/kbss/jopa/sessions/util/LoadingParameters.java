@@ -28,6 +28,7 @@ public final class LoadingParameters<T> {
     private final URI identifier;
     private final Descriptor descriptor;
     private final boolean forceEager;
+    private final FetchGraph fetchGraph;
     private boolean bypassCache;
 
     public LoadingParameters(Class<T> cls, URI identifier, Descriptor descriptor) {
@@ -35,6 +36,7 @@ public final class LoadingParameters<T> {
         this.identifier = identifier;
         this.descriptor = descriptor;
         this.forceEager = false;
+        this.fetchGraph = null;
         assert paramsLoaded();
     }
 
@@ -43,6 +45,16 @@ public final class LoadingParameters<T> {
         this.identifier = identifier;
         this.descriptor = descriptor;
         this.forceEager = forceEager;
+        this.fetchGraph = null;
+        assert paramsLoaded();
+    }
+
+    public LoadingParameters(Class<T> cls, URI identifier, Descriptor descriptor, FetchGraph fetchGraph) {
+        this.cls = cls;
+        this.identifier = identifier;
+        this.descriptor = descriptor;
+        this.forceEager = false;
+        this.fetchGraph = fetchGraph;
         assert paramsLoaded();
     }
 
@@ -66,6 +78,15 @@ public final class LoadingParameters<T> {
         return forceEager;
     }
 
+    /**
+     * Gets the graph determining which attributes of the loaded entity are fetched eagerly.
+     *
+     * @return Fetch graph, {@code null} if attributes are fetched according to their fetch type
+     */
+    public FetchGraph getFetchGraph() {
+        return fetchGraph;
+    }
+
     public boolean shouldBypassCache() {
         return bypassCache;
     }
@@ -89,7 +110,7 @@ public final class LoadingParameters<T> {
             return false;
         }
         return Objects.equals(cls, that.cls) && Objects.equals(identifier, that.identifier) &&
-                Objects.equals(descriptor, that.descriptor);
+                Objects.equals(descriptor, that.descriptor) && Objects.equals(fetchGraph, that.fetchGraph);
     }
 
     @Override
@@ -99,6 +120,7 @@ public final class LoadingParameters<T> {
         result = 31 * result + descriptor.hashCode();
         result = 31 * result + (forceEager ? 1 : 0);
         result = 31 * result + (bypassCache ? 1 : 0);
+        result = 31 * result + Objects.hashCode(fetchGraph);
         return result;
     }
 }
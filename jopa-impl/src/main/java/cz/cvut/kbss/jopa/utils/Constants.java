@@ -45,6 +45,27 @@ public class Constants {
      */
     public static final String READ_ONLY_TRANSACTION_MODE = "read_only";
 
+    /**
+     * Default number of entities loaded at once when processing results of a typed query.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#QUERY_LOAD_BATCH_SIZE
+     */
+    public static final int DEFAULT_QUERY_LOAD_BATCH_SIZE = 100;
+
+    /**
+     * Default number of entities written into the storage together by bulk persist.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#BULK_PERSIST_BATCH_SIZE
+     */
+    public static final int DEFAULT_BULK_PERSIST_BATCH_SIZE = 1000;
+
+    /**
+     * Default maximum number of referenced entities loaded together.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#BATCH_FETCH_SIZE
+     */
+    public static final int DEFAULT_BATCH_FETCH_SIZE = 100;
+
     private Constants() {
         throw new AssertionError();
     }
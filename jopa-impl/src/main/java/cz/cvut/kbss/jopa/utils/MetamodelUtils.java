@@ -31,6 +31,15 @@ import java.util.Set;
  */
 public class MetamodelUtils {
 
+    // Resolving the entity class requires annotation lookups, which is too expensive for per-attribute checks
+    private static final ClassValue<Class<?>> ENTITY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            return (type.getAnnotation(GeneratedEntityClass.class) != null || type.getAnnotation(
+                    GeneratedEntityReferenceProxy.class) != null) ? type.getSuperclass() : type;
+        }
+    };
+
     private MetamodelUtils() {
         throw new AssertionError();
     }
@@ -66,8 +75,8 @@ public class MetamodelUtils {
      * @param <T> Type
      * @return Entity class
      */
+    @SuppressWarnings("unchecked")
     public static <T> Class<? super T> getEntityClass(Class<T> cls) {
-        return (cls.getAnnotation(GeneratedEntityClass.class) != null || cls.getAnnotation(GeneratedEntityReferenceProxy.class) != null)
-                ? cls.getSuperclass() : cls;
+        return (Class<? super T>) ENTITY_CLASSES.get(cls);
     }
 }
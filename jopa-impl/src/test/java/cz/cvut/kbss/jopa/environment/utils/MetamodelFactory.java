@@ -85,6 +85,7 @@ import cz.cvut.kbss.jopa.model.metamodel.Type;
 import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.gen.ManageableClassGenerator;
 import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
+import cz.cvut.kbss.jopa.oom.EntityMappingPlan;
 import cz.cvut.kbss.jopa.oom.converter.CharacterConverter;
 import cz.cvut.kbss.jopa.oom.converter.ConverterWrapper;
 import cz.cvut.kbss.jopa.oom.converter.CustomConverterWrapper;
@@ -175,6 +176,8 @@ public class MetamodelFactory {
         when(et.getIRI()).thenReturn(IRI.create(cls.getAnnotation(OWLClass.class).iri()));
         when(et.getName()).thenReturn(cls.getSimpleName());
         when(et.getLifecycleListenerManager()).thenReturn(listenerManager);
+        // Created on each call as the attribute mocks are initialized after the entity type
+        when(et.getMappingPlan()).thenAnswer(inv -> EntityMappingPlan.create(et));
     }
 
     private static <X> void initIdentifier(IdentifiableEntityType<X> et, Identifier id, Field idField,
@@ -64,6 +64,9 @@ import cz.cvut.kbss.jopa.model.metamodel.SingularAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.SingularAttributeImpl;
 import cz.cvut.kbss.jopa.model.metamodel.SingularQueryAttributeImpl;
 import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
+import cz.cvut.kbss.jopa.oom.id.IdentifierGenerators;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
+import cz.cvut.kbss.jopa.utils.Configuration;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -460,6 +463,10 @@ public class MetamodelMocks {
         when(metamodel.getEntities()).thenReturn(new HashSet<>(etMap.values()));
         if (metamodel instanceof MetamodelImpl) {
             etMap.keySet().forEach(cls -> when(((MetamodelImpl) metamodel).isEntityType(cls)).thenReturn(true));
+            when(((MetamodelImpl) metamodel).getQueryTemplateCache()).thenReturn(
+                    new QueryTemplateCache(QueryTemplateCache.DEFAULT_CAPACITY));
+            when(((MetamodelImpl) metamodel).getIdentifierGenerators()).thenReturn(
+                    new IdentifierGenerators(new Configuration()));
         }
     }
 
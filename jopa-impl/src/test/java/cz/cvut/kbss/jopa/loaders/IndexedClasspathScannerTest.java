@@ -0,0 +1,96 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedClasspathScannerTest {
+
+    @Mock
+    private Consumer<Class<?>> listener;
+
+    @TempDir
+    Path indexRoot;
+
+    private final ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+
+    @AfterEach
+    void tearDown() {
+        Thread.currentThread().setContextClassLoader(originalClassLoader);
+    }
+
+    private IndexedClasspathScanner initScannerWithIndex(List<String> indexLines) throws Exception {
+        final Path index = indexRoot.resolve(IndexedClasspathScanner.INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, indexLines);
+        Thread.currentThread().setContextClassLoader(
+                new URLClassLoader(new URL[]{indexRoot.toUri().toURL()}, originalClassLoader));
+        final IndexedClasspathScanner sut = new IndexedClasspathScanner();
+        sut.addListener(listener);
+        return sut;
+    }
+
+    @Test
+    void processClassesNotifiesListenersAboutIndexedClassesInScanPackage() throws Exception {
+        final IndexedClasspathScanner sut = initScannerWithIndex(
+                List.of("# Generated index", OWLClassA.class.getName(), OWLClassB.class.getName(),
+                        EntityLoader.class.getName()));
+
+        sut.processClasses(OWLClassA.class.getPackageName());
+        verify(listener).accept(OWLClassA.class);
+        verify(listener).accept(OWLClassB.class);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void processClassesSkipsIndexedClassesWhichCannotBeLoaded() throws Exception {
+        final IndexedClasspathScanner sut = initScannerWithIndex(
+                List.of(OWLClassA.class.getPackageName() + ".UnknownClass", OWLClassA.class.getName()));
+
+        sut.processClasses(OWLClassA.class.getPackageName());
+        verify(listener).accept(OWLClassA.class);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void processClassesFallsBackToClasspathScanningWhenNoIndexIsFound() {
+        final IndexedClasspathScanner sut = new IndexedClasspathScanner();
+        sut.addListener(listener);
+
+        sut.processClasses("");
+        PersistenceUnitClassFinderTest.ENTITY_CLASSES.forEach(cls -> verify(listener).accept(cls));
+    }
+}
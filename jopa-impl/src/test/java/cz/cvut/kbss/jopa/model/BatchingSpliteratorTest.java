@@ -0,0 +1,69 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingSpliteratorTest {
+
+    @Test
+    void tryAdvanceMapsSourceItemsInBatchesOfConfiguredSize() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        final BatchingSpliterator<Integer, String> sut =
+                new BatchingSpliterator<>(IntStream.range(0, 5).boxed().spliterator(), 2, batch -> {
+                    batches.add(batch);
+                    return batch.stream().map(String::valueOf).toList();
+                });
+        final List<String> result = StreamSupport.stream(sut, false).toList();
+        assertEquals(List.of("0", "1", "2", "3", "4"), result);
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4)), batches);
+    }
+
+    @Test
+    void tryAdvanceSkipsBatchesMappedToEmptyResult() {
+        final BatchingSpliterator<Integer, Integer> sut =
+                new BatchingSpliterator<>(IntStream.range(0, 6).boxed().spliterator(), 2,
+                                          batch -> batch.stream().filter(i -> i > 3).toList());
+        assertEquals(List.of(4, 5), StreamSupport.stream(sut, false).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void tryAdvanceDoesNotAdvanceSourceAgainOnceItIsExhausted() {
+        final Spliterator<Integer> source = mock(Spliterator.class);
+        when(source.tryAdvance(any())).thenReturn(false);
+        final BatchingSpliterator<Integer, Integer> sut = new BatchingSpliterator<>(source, 2, batch -> batch);
+        assertFalse(sut.tryAdvance(i -> {}));
+        assertFalse(sut.tryAdvance(i -> {}));
+        verify(source, times(1)).tryAdvance(any());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassJ;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class EntityGraphImplTest {
+
+    private MetamodelMocks metamodelMocks;
+
+    private MetamodelImpl metamodel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.metamodelMocks = new MetamodelMocks();
+        this.metamodel = mock(MetamodelImpl.class);
+        metamodelMocks.setMocks(metamodel);
+    }
+
+    @Test
+    void addAttributeNodesAddsNodesForSpecifiedAttributes() {
+        final EntityGraphImpl<OWLClassA> sut =
+                new EntityGraphImpl<>(metamodelMocks.forOwlClassA().entityType(), metamodel);
+        sut.addAttributeNodes("stringAttribute", "types");
+
+        final List<AttributeNode<?>> nodes = sut.getAttributeNodes();
+        assertEquals(2, nodes.size());
+        assertEquals("stringAttribute", nodes.get(0).getAttributeName());
+        assertEquals("types", nodes.get(1).getAttributeName());
+        assertTrue(sut.contains(metamodelMocks.forOwlClassA().stringAttribute()));
+        assertTrue(sut.contains(metamodelMocks.forOwlClassA().typesSpec()));
+        assertFalse(sut.contains(metamodelMocks.forOwlClassA().identifier()));
+    }
+
+    @Test
+    void addAttributeNodesDoesNotDuplicateExistingNodes() {
+        final EntityGraphImpl<OWLClassA> sut =
+                new EntityGraphImpl<>(metamodelMocks.forOwlClassA().entityType(), metamodel);
+        sut.addAttributeNodes("stringAttribute");
+        sut.addAttributeNodes("stringAttribute");
+
+        assertEquals(1, sut.getAttributeNodes().size());
+        assertNull(sut.getAttributeNodes().get(0).getSubgraph());
+    }
+
+    @Test
+    void addSubgraphCreatesSubgraphOfReferencedEntityType() {
+        final EntityGraphImpl<OWLClassJ> sut =
+                new EntityGraphImpl<>(metamodelMocks.forOwlClassJ().entityType(), metamodel);
+        final Subgraph<OWLClassA> subgraph = sut.addSubgraph("owlClassA");
+        subgraph.addAttributeNodes("stringAttribute");
+
+        assertEquals(OWLClassA.class, subgraph.getClassType());
+        assertTrue(sut.contains(metamodelMocks.forOwlClassJ().setAttribute()));
+        final EntityGraphImpl<?> result = sut.getSubgraph(metamodelMocks.forOwlClassJ().setAttribute());
+        assertSame(subgraph, result);
+        assertTrue(result.contains(metamodelMocks.forOwlClassA().stringAttribute()));
+    }
+
+    @Test
+    void addSubgraphReturnsExistingSubgraphWhenCalledRepeatedly() {
+        final EntityGraphImpl<OWLClassJ> sut =
+                new EntityGraphImpl<>(metamodelMocks.forOwlClassJ().entityType(), metamodel);
+        final Subgraph<OWLClassA> subgraph = sut.addSubgraph("owlClassA");
+
+        assertSame(subgraph, sut.addSubgraph("owlClassA"));
+        assertEquals(1, sut.getAttributeNodes().size());
+    }
+
+    @Test
+    void addSubgraphThrowsIllegalArgumentExceptionForAttributeNotReferencingEntities() {
+        final EntityGraphImpl<OWLClassA> sut =
+                new EntityGraphImpl<>(metamodelMocks.forOwlClassA().entityType(), metamodel);
+
+        assertThrows(IllegalArgumentException.class, () -> sut.addSubgraph("stringAttribute"));
+        assertTrue(sut.getAttributeNodes().isEmpty());
+    }
+}
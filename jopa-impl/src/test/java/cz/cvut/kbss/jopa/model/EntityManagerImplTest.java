@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.model;
 
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassC;
+import cz.cvut.kbss.jopa.environment.OWLClassD;
 import cz.cvut.kbss.jopa.environment.OWLClassE;
 import cz.cvut.kbss.jopa.environment.OWLClassH;
 import cz.cvut.kbss.jopa.environment.OWLClassJ;
@@ -27,6 +28,7 @@ import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.exceptions.TransactionRequiredException;
 import cz.cvut.kbss.jopa.model.annotations.CascadeType;
 import cz.cvut.kbss.jopa.model.annotations.Id;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
@@ -39,12 +41,14 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityLifecycleListenerManager;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingSetProxy;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.sessions.ChangeTrackingUnitOfWork;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.ServerSession;
 import cz.cvut.kbss.jopa.sessions.ServerSessionStub;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -62,7 +66,10 @@ import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -588,6 +595,64 @@ class EntityManagerImplTest {
         assertThrows(IllegalStateException.class, () -> em.persist(Generators.generateOwlClassAInstance()));
     }
 
+    @Test
+    void persistAllThrowsTransactionRequiredExceptionWhenTransactionIsNotActive() {
+        assertThrows(TransactionRequiredException.class,
+                     () -> em.persistAll(Stream.of(Generators.generateOwlClassAInstance())));
+        verify(uow, never()).persistAll(any(), any(), any());
+    }
+
+    @Test
+    void persistAllPassesEntitiesToUnitOfWorkWithinActiveTransaction() {
+        final List<OWLClassA> entities = Generators.generateInstances(5);
+        doReturn(5L).when(uow).persistAll(any(), any(), any());
+        em.getTransaction().begin();
+        assertEquals(5L, em.persistAll(entities.stream()));
+        verify(uow).persistAll(any(), any(Descriptor.class), any());
+    }
+
+    @Test
+    void findLoadsDetachedInstanceWhenReadOnlyProjectionIsConfigured() {
+        final OWLClassA a = Generators.generateOwlClassAInstance();
+        em.setProperty(JOPAPersistenceProperties.READ_ONLY_PROJECTION, true);
+        doReturn(a).when(uow).readObjectDetached(eq(OWLClassA.class), eq(a.getUri()), any());
+        assertSame(a, em.find(OWLClassA.class, a.getUri()));
+        verify(uow, never()).readObject(any(), any(), any());
+    }
+
+    @Test
+    void findWithFetchGraphPropertyPassesFetchGraphToPersistenceContext() {
+        final EntityGraph<OWLClassD> graph = em.createEntityGraph(OWLClassD.class);
+        graph.addAttributeNodes("owlClassA");
+        final OWLClassD d = new OWLClassD(Generators.createIndividualIdentifier());
+        doReturn(d).when(uow).readObject(eq(OWLClassD.class), eq(d.getUri()), any(), any());
+
+        assertSame(d, em.find(OWLClassD.class, d.getUri(), Map.of(QueryHints.FETCH_GRAPH, graph)));
+        verify(uow).readObject(eq(OWLClassD.class), eq(d.getUri()), any(Descriptor.class),
+                eq(new FetchGraph((EntityGraphImpl<?>) graph, false)));
+    }
+
+    @Test
+    void findWithLoadGraphPropertyPassesLoadGraphToPersistenceContext() {
+        final EntityGraph<OWLClassD> graph = em.createEntityGraph(OWLClassD.class);
+        final OWLClassD d = new OWLClassD(Generators.createIndividualIdentifier());
+        doReturn(d).when(uow).readObject(eq(OWLClassD.class), eq(d.getUri()), any(), any());
+
+        assertSame(d, em.find(OWLClassD.class, d.getUri(), Map.of(QueryHints.LOAD_GRAPH, graph)));
+        verify(uow).readObject(eq(OWLClassD.class), eq(d.getUri()), any(Descriptor.class),
+                eq(new FetchGraph((EntityGraphImpl<?>) graph, true)));
+    }
+
+    @Test
+    void findThrowsIllegalArgumentExceptionWhenFetchGraphIsNotApplicableToEntityClass() {
+        final EntityGraph<OWLClassA> graph = em.createEntityGraph(OWLClassA.class);
+        final URI id = Generators.createIndividualIdentifier();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> em.find(OWLClassD.class, id, Map.of(QueryHints.FETCH_GRAPH, graph)));
+        verify(uow, never()).readObject(any(), any(), any(), any());
+    }
+
     @Test
     void createQueryOnClosedManagerThrowsIllegalStateException() {
         em.close();
@@ -0,0 +1,87 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagingSpliteratorTest {
+
+    private final List<Integer> source = IntStream.range(0, 5).boxed().toList();
+
+    private final List<int[]> fetchedPages = new ArrayList<>();
+
+    private List<Integer> fetch(int offset, int limit) {
+        fetchedPages.add(new int[]{offset, limit});
+        return source.subList(Math.min(offset, source.size()), Math.min(offset + limit, source.size()));
+    }
+
+    @Test
+    void tryAdvanceFetchesPagesLazilyUntilIncompletePageIsReturned() {
+        final PagingSpliterator<Integer, String> sut =
+                new PagingSpliterator<>(this::fetch, page -> page.stream().map(Object::toString).toList(), page -> {},
+                                        2, 0, Integer.MAX_VALUE);
+        final List<String> result = StreamSupport.stream(sut, false).toList();
+        assertEquals(List.of("0", "1", "2", "3", "4"), result);
+        assertEquals(3, fetchedPages.size());
+        assertEquals(4, fetchedPages.get(2)[0]);
+    }
+
+    @Test
+    void tryAdvanceDoesNotFetchNextPageBeforeCurrentPageIsConsumed() {
+        final PagingSpliterator<Integer, Integer> sut =
+                new PagingSpliterator<>(this::fetch, page -> page, page -> {}, 2, 0, Integer.MAX_VALUE);
+        sut.tryAdvance(i -> {});
+        sut.tryAdvance(i -> {});
+        assertEquals(1, fetchedPages.size());
+        sut.tryAdvance(i -> {});
+        assertEquals(2, fetchedPages.size());
+    }
+
+    @Test
+    void tryAdvanceRespectsFirstResultAndMaxResults() {
+        final PagingSpliterator<Integer, Integer> sut =
+                new PagingSpliterator<>(this::fetch, page -> page, page -> {}, 2, 1, 3);
+        final List<Integer> result = StreamSupport.stream(sut, false).toList();
+        assertEquals(List.of(1, 2, 3), result);
+        assertEquals(2, fetchedPages.size());
+        assertEquals(3, fetchedPages.get(1)[0]);
+        assertEquals(1, fetchedPages.get(1)[1]);
+    }
+
+    @Test
+    void tryAdvanceNotifiesListenerWhenPageIsConsumed() {
+        final List<List<Integer>> emitted = new ArrayList<>();
+        final PagingSpliterator<Integer, Integer> sut =
+                new PagingSpliterator<>(this::fetch, page -> page, emitted::add, 2, 0, Integer.MAX_VALUE);
+        sut.tryAdvance(i -> {});
+        sut.tryAdvance(i -> {});
+        assertTrue(emitted.isEmpty());
+        sut.tryAdvance(i -> {});
+        assertEquals(List.of(List.of(0, 1)), emitted);
+        sut.forEachRemaining(i -> {});
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4)), emitted);
+    }
+}
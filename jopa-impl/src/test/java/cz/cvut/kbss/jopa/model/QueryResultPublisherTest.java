@@ -0,0 +1,139 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryResultPublisherTest {
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final QueryResultPublisher<Integer> sut =
+            new QueryResultPublisher<>(() -> Stream.of(1, 2, 3, 4, 5).onClose(() -> closed.set(true)));
+
+    @Test
+    void subscriptionEmitsOnlyRequestedNumberOfResults() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertEquals(List.of(1, 2), subscriber.items);
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(2);
+        assertEquals(List.of(1, 2, 3, 4), subscriber.items);
+        assertFalse(closed.get());
+    }
+
+    @Test
+    void subscriptionCompletesAndClosesStreamWhenAllResultsAreEmitted() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of(1, 2, 3, 4, 5), subscriber.items);
+        assertTrue(subscriber.completed);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void subscriptionSupportsReentrantRequestsFromOnNext() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(List.of(1, 2, 3, 4, 5), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void cancelClosesResultStream() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        assertTrue(closed.get());
+        subscriber.subscription.request(1);
+        assertEquals(List.of(1), subscriber.items);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void requestOfNonPositiveNumberOfResultsSignalsError() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    void exceptionDuringResultRetrievalIsSignalledToSubscriber() {
+        final QueryResultPublisher<Integer> publisher = new QueryResultPublisher<>(() -> Stream.of(1, 2).map(i -> {
+            if (i > 1) {
+                throw new IllegalStateException();
+            }
+            return i;
+        }));
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertEquals(List.of(1), subscriber.items);
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+
+        Flow.Subscription subscription;
+        final List<Integer> items = new ArrayList<>();
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
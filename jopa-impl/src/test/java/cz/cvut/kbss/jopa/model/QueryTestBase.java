@@ -24,7 +24,9 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.model.query.Parameter;
 import cz.cvut.kbss.jopa.model.query.Query;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
+import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.ontodriver.ResultSet;
@@ -80,6 +82,8 @@ abstract class QueryTestBase {
 
     SparqlQueryFactory queryFactory;
 
+    final Configuration configuration = new Configuration();
+
     @BeforeEach
     void setUp() throws Exception {
         when(connectionWrapperMock.createStatement()).thenReturn(statementMock);
@@ -92,6 +96,8 @@ abstract class QueryTestBase {
         when(resultSetIterator.next()).thenReturn(resultRow);
         when(resultSetMock.stream()).thenCallRealMethod();
         when(resultSetMock.spliterator()).thenCallRealMethod();
+        when(uowMock.getQueryTemplateCache()).thenReturn(new QueryTemplateCache(0));
+        when(uowMock.getConfiguration()).thenReturn(configuration);
         this.queryFactory = new SparqlQueryFactory(uowMock, connectionWrapperMock);
     }
 
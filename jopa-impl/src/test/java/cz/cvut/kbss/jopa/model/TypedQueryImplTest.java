@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -42,6 +44,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -50,11 +53,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -103,7 +110,7 @@ class TypedQueryImplTest extends QueryTestBase {
         for (int i = 0; i < count; i++) {
             final String u = "http://uri" + i;
             uris.add(u);
-            when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(u)), any()))
+            when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(u)), any(), any()))
                     .thenReturn(new OWLClassA(URI.create(u)));
             hasNext.add(true);
         }
@@ -169,7 +176,7 @@ class TypedQueryImplTest extends QueryTestBase {
         final Boolean result = query.getSingleResult();
         assertNotNull(result);
         assertTrue(result);
-        verify(uowMock, never()).readObject(eq(Boolean.class), any(), any(Descriptor.class));
+        verify(uowMock, never()).readObject(eq(Boolean.class), any(), any(Descriptor.class), any());
     }
 
     private void initAskQueryData(boolean result) throws Exception {
@@ -202,7 +209,7 @@ class TypedQueryImplTest extends QueryTestBase {
                 Generators.createIndividualIdentifier().toString());
         when(resultRow.isBound(0)).thenReturn(true);
         when(resultRow.getString(0)).thenReturn(uris.get(0), uris.get(1));
-        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class)))
+        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class), any()))
                 .thenReturn(new OWLClassA(URI.create(uris.get(0))));
 
         final TypedQuery<OWLClassA> q = create(SELECT_QUERY, OWLClassA.class);
@@ -353,7 +360,7 @@ class TypedQueryImplTest extends QueryTestBase {
         final Descriptor descriptor = new EntityDescriptor(URI.create("http://contextOne"));
         query.setDescriptor(descriptor).getResultList();
         for (String uri : uris) {
-            verify(uowMock).readObject(OWLClassA.class, URI.create(uri), descriptor);
+            verify(uowMock).readObject(OWLClassA.class, URI.create(uri), descriptor, null);
         }
     }
 
@@ -393,9 +400,9 @@ class TypedQueryImplTest extends QueryTestBase {
         when(resultSetMock.hasNext()).thenReturn(true, true, false);
         when(resultSetMock.isBound(0)).thenReturn(true);
         when(resultSetMock.getString(0)).thenReturn(uris.get(0), uris.get(1));
-        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class)))
+        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class), any()))
                 .thenReturn(new OWLClassA(URI.create(uris.get(0))));
-        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(1))), any(Descriptor.class)))
+        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(1))), any(Descriptor.class), any()))
                 .thenReturn(new OWLClassA(URI.create(uris.get(1))));
         final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
         final Stream<OWLClassA> result = sut.getResultStream();
@@ -411,7 +418,7 @@ class TypedQueryImplTest extends QueryTestBase {
         when(resultSetMock.hasNext()).thenReturn(true, false);
         when(resultSetMock.isBound(0)).thenReturn(true);
         when(resultSetMock.getString(0)).thenReturn(uris.get(0));
-        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class)))
+        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class), any()))
                 .thenReturn(new OWLClassA(URI.create(uris.get(0))));
         final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
         sut.getResultStream().forEach(a -> assertTrue(uris.contains(a.getUri().toString())));
@@ -425,7 +432,7 @@ class TypedQueryImplTest extends QueryTestBase {
         when(resultSetMock.hasNext()).thenReturn(true, false);
         when(resultSetMock.isBound(0)).thenReturn(true);
         when(resultSetMock.getString(0)).thenReturn(uris.get(0));
-        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class)))
+        when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(uris.get(0))), any(Descriptor.class), any()))
                 .thenThrow(OWLPersistenceException.class);
         final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
         try {
@@ -435,4 +442,155 @@ class TypedQueryImplTest extends QueryTestBase {
             verify(statementMock).close();
         }
     }
+
+    @Test
+    void getResultListPrefetchesEntityInstancesInBatches() throws Exception {
+        configuration.set(JOPAPersistenceProperties.QUERY_LOAD_BATCH_SIZE, "2");
+        final List<String> uris = initDataForQuery(5);
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<OWLClassA> result = query.getResultList();
+        verifyResults(uris, result, 5);
+        final InOrder inOrder = inOrder(uowMock);
+        inOrder.verify(uowMock).prefetchObjects(OWLClassA.class, toUris(uris.subList(0, 2)), query.getDescriptor(), null);
+        inOrder.verify(uowMock, times(2)).readObject(eq(OWLClassA.class), any(), any(Descriptor.class), any());
+        inOrder.verify(uowMock).prefetchObjects(OWLClassA.class, toUris(uris.subList(2, 4)), query.getDescriptor(), null);
+        inOrder.verify(uowMock, times(3)).readObject(eq(OWLClassA.class), any(), any(Descriptor.class), any());
+        // Last batch contains a single instance, which is loaded directly
+        verify(uowMock, times(2)).prefetchObjects(any(), anyList(), any(), any());
+    }
+
+    private static List<URI> toUris(List<String> uris) {
+        return uris.stream().map(URI::create).toList();
+    }
+
+    @Test
+    void getResultListLoadsEntitiesOneByOneWhenBatchSizeIsOne() throws Exception {
+        configuration.set(JOPAPersistenceProperties.QUERY_LOAD_BATCH_SIZE, "1");
+        final List<String> uris = initDataForQuery(3);
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        verifyResults(uris, query.getResultList(), 3);
+        verify(uowMock, never()).prefetchObjects(any(), anyList(), any(), any());
+    }
+
+    @Test
+    void getResultStreamPrefetchesEntityInstancesInBatches() throws Exception {
+        configuration.set(JOPAPersistenceProperties.QUERY_LOAD_BATCH_SIZE, "2");
+        final List<String> uris = List.of(Generators.createIndividualIdentifier().toString(),
+                                          Generators.createIndividualIdentifier().toString(),
+                                          Generators.createIndividualIdentifier().toString());
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(true, true, true, false);
+        when(resultSetMock.isBound(0)).thenReturn(true);
+        when(resultSetMock.getString(0)).thenReturn(uris.get(0), uris.get(1), uris.get(2));
+        uris.forEach(u -> when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(u)), any(Descriptor.class), any()))
+                .thenReturn(new OWLClassA(URI.create(u))));
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        final List<OWLClassA> result = sut.getResultStream().toList();
+        assertEquals(uris, result.stream().map(a -> a.getUri().toString()).toList());
+        verify(uowMock).prefetchObjects(eq(OWLClassA.class), eq(toUris(uris.subList(0, 2))), any(Descriptor.class), any());
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamWithPageSizeHintExecutesQueryForEachPage() throws Exception {
+        final List<String> uris = initPagedDataForQuery();
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.PAGE_SIZE, 2);
+        final List<OWLClassA> result = sut.getResultStream().toList();
+        verifyResults(uris, result, 3);
+        verify(statementMock).executeQuery(SELECT_QUERY + " LIMIT 2");
+        verify(statementMock).executeQuery(SELECT_QUERY + " LIMIT 2 OFFSET 2");
+        verify(statementMock, times(2)).close();
+        assertEquals(Integer.MAX_VALUE, sut.getMaxResults());
+        assertEquals(0, sut.getFirstResult());
+    }
+
+    @Test
+    void getResultStreamWithPageSizeAndDetachHintsDetachesEmittedEntities() throws Exception {
+        initPagedDataForQuery();
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.PAGE_SIZE, "2").setHint(QueryHints.DETACH_STREAMED_RESULTS, true);
+        final List<OWLClassA> result = sut.getResultStream().toList();
+        result.forEach(a -> verify(uowMock).unregisterObject(a));
+    }
+
+    @Test
+    void getResultStreamWithPageSizeAndDetachHintsDoesNotDetachEntitiesManagedBeforeStreaming() throws Exception {
+        final List<String> uris = initPagedDataForQuery();
+        final URI managedUri = URI.create(uris.get(1));
+        when(uowMock.isObjectManaged(eq(OWLClassA.class), any(), any()))
+                .thenAnswer(inv -> managedUri.equals(inv.getArgument(1)));
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.PAGE_SIZE, "2").setHint(QueryHints.DETACH_STREAMED_RESULTS, true);
+        final List<OWLClassA> result = sut.getResultStream().toList();
+        assertEquals(3, result.size());
+        result.stream().filter(a -> !managedUri.equals(a.getUri())).forEach(a -> verify(uowMock).unregisterObject(a));
+        verify(uowMock, never()).unregisterObject(result.get(1));
+    }
+
+    /**
+     * Simulates two pages of size two, the second one being incomplete.
+     */
+    private List<String> initPagedDataForQuery() throws Exception {
+        final List<String> uris = List.of("http://uri0", "http://uri1", "http://uri2");
+        uris.forEach(u -> when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(u)), any(), any()))
+                .thenReturn(new OWLClassA(URI.create(u))));
+        when(resultRow.getString(0)).thenReturn(uris.get(0), uris.get(1), uris.get(2));
+        when(resultSetIterator.hasNext()).thenReturn(true, true, false, true, false);
+        when(resultRow.isBound(0)).thenReturn(true);
+        return uris;
+    }
+
+    @Test
+    void getResultPublisherEmitsPagedResultsOfQuery() throws Exception {
+        final List<String> uris = initDataForQuery(2);
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.PAGE_SIZE, 10);
+        final List<OWLClassA> result = new ArrayList<>();
+        sut.getResultPublisher().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(OWLClassA item) {
+                result.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        verifyResults(uris, result, 2);
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultListWithReadOnlyProjectionHintLoadsDetachedEntities() throws Exception {
+        final List<String> uris = initDataForQuery(3);
+        uris.forEach(u -> when(uowMock.readObjectDetached(eq(OWLClassA.class), eq(URI.create(u)), any(), any()))
+                .thenReturn(new OWLClassA(URI.create(u))));
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.READ_ONLY_PROJECTION, true);
+        final List<OWLClassA> result = sut.getResultList();
+        verifyResults(uris, result, 3);
+        verify(uowMock, never()).readObject(any(), any(), any(), any());
+    }
+
+    @Test
+    void getResultListLoadsDetachedEntitiesWhenReadOnlyProjectionIsConfigured() throws Exception {
+        configuration.set(JOPAPersistenceProperties.READ_ONLY_PROJECTION, Boolean.TRUE.toString());
+        final List<String> uris = initDataForQuery(2);
+        uris.forEach(u -> when(uowMock.readObjectDetached(eq(OWLClassA.class), eq(URI.create(u)), any(), any()))
+                .thenReturn(new OWLClassA(URI.create(u))));
+        final List<OWLClassA> result = create(SELECT_QUERY, OWLClassA.class).getResultList();
+        verifyResults(uris, result, 2);
+        verify(uowMock, never()).readObject(any(), any(), any(), any());
+    }
 }
@@ -36,6 +36,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -93,6 +94,25 @@ class AbstractIdentifiableTypeTest {
         assertTrue(result.contains(att));
     }
 
+    @Test
+    void getAttributesReturnsSameUnmodifiableSetOnRepeatedCallsWhenTypeIsFinished() {
+        final AbstractAttribute<OWLClassA, ?> att = mock(AbstractAttribute.class);
+        et.addDeclaredAttribute("test", att);
+        et.finish();
+        final Set<Attribute<? super OWLClassA, ?>> result = et.getAttributes();
+        assertSame(result, et.getAttributes());
+        assertThrows(UnsupportedOperationException.class, () -> result.add(att));
+    }
+
+    @Test
+    void getFieldSpecificationsReturnsSameSetOnRepeatedCallsWhenTypeIsFinished() {
+        et.addDeclaredAttribute("test", mock(AbstractAttribute.class));
+        et.finish();
+        final Set<FieldSpecification<? super OWLClassA, ?>> result = et.getFieldSpecifications();
+        assertEquals(2, result.size());
+        assertSame(result, et.getFieldSpecifications());
+    }
+
     @Test
     void getAttributeReturnsInheritedAttribute() {
         final AbstractIdentifiableType<? super OWLClassA> supertype = spy(new MappedSuperclassTypeImpl<>(Object.class));
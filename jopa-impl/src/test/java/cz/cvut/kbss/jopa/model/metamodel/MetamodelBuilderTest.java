@@ -32,6 +32,7 @@ import cz.cvut.kbss.jopa.environment.utils.TestLocal;
 import cz.cvut.kbss.jopa.exception.InvalidFieldMappingException;
 import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
 import cz.cvut.kbss.jopa.loaders.PersistenceUnitClassFinder;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.Id;
@@ -68,6 +69,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -84,6 +86,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -112,6 +115,17 @@ class MetamodelBuilderTest {
         assertEquals(Vocabulary.CLASS_BASE + "EntityWithNamespace", result.getIRI().toString());
     }
 
+    @Test
+    void buildMetamodelBindsAttributeSpecificationsToSetterInterceptorsOfGeneratedEntityClass() throws Exception {
+        when(finderMock.getEntities()).thenReturn(Set.of(OWLClassA.class));
+        builder.buildMetamodel(finderMock);
+        final IdentifiableEntityType<OWLClassA> et = (IdentifiableEntityType<OWLClassA>) builder.getEntityClass(
+                OWLClassA.class);
+        final Field bound = et.getInstantiableJavaType().getDeclaredField("jopa$fieldSpec$stringAttribute");
+        bound.setAccessible(true);
+        assertEquals(et.getFieldSpecification("stringAttribute"), bound.get(null));
+    }
+
     @TestLocal
     @Namespace(prefix = "class", namespace = Vocabulary.CLASS_BASE)
     @OWLClass(iri = "class:EntityWithNamespace")
@@ -739,4 +753,37 @@ class MetamodelBuilderTest {
         assertNotNull(a.getSubtypes());
         assertTrue(a.getSubtypes().isEmpty());
     }
+
+    @Test
+    void buildMetamodelPreparingTypesInParallelBuildsSameMetamodelAsSequentialBuild() {
+        final Set<Class<?>> entities = Set.of(OWLClassA.class, OWLClassC.class, OWLClassD.class, AParentI.class,
+                BParent.class, ClassChild.class);
+        when(finderMock.getEntities()).thenReturn(entities);
+        final MetamodelBuilder sequential = new MetamodelBuilder(new Configuration(
+                Map.of(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM, "1")));
+        sequential.buildMetamodel(finderMock);
+        final MetamodelBuilder parallel = new MetamodelBuilder(new Configuration(
+                Map.of(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM, "4")));
+        parallel.buildMetamodel(finderMock);
+
+        assertEquals(sequential.getTypeMap().keySet(), parallel.getTypeMap().keySet());
+        sequential.getEntities().forEach((cls, et) -> {
+            final EntityType<?> result = parallel.getEntities().get(cls);
+            assertEquals(et.getIRI(), result.getIRI());
+            assertEquals(et.getAttributes().size(), result.getAttributes().size());
+            assertEquals(et.getSupertypes().size(), result.getSupertypes().size());
+        });
+    }
+
+    @Test
+    void buildMetamodelRecordsDurationsOfBuildPhasesAndProcessedClasses() {
+        when(finderMock.getEntities()).thenReturn(Set.of(OWLClassA.class, OWLClassD.class));
+        builder.buildMetamodel(finderMock);
+
+        final Map<String, ?> phases = builder.getBuildTimer().getPhaseDurations();
+        assertThat(phases, hasKey("prepareTypes"));
+        assertThat(phases, hasKey("processTypes"));
+        assertTrue(builder.getBuildTimer().getClassDurations().containsKey(OWLClassA.class));
+        assertTrue(builder.getBuildTimer().getClassDurations().containsKey(OWLClassD.class));
+    }
 }
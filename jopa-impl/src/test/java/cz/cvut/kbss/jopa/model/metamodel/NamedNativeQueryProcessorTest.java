@@ -22,11 +22,13 @@ import cz.cvut.kbss.jopa.model.annotations.NamedNativeQueries;
 import cz.cvut.kbss.jopa.model.annotations.NamedNativeQuery;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -103,4 +105,28 @@ class NamedNativeQueryProcessorTest {
     @OWLClass(iri = "http://krizik.felk.cvut.cz/ontologies/jopa/entities#QueryCombination")
     private static class QueryCombination {
     }
+
+    @Test
+    void processClassPreParsesNamedQueryTemplate() {
+        processor.processClass(SingleQuery.class);
+        final Optional<SparqlQueryTemplate> result =
+                queryManager().getQueryTemplate(SingleQuery.class.getSimpleName() + "." + SELECT_NAME);
+        assertTrue(result.isPresent());
+        assertEquals(SELECT_QUERY, result.get().getQuery());
+    }
+
+    @Test
+    void processClassRegistersNamedQueryWithoutTemplateWhenQueryCannotBeParsed() {
+        processor.processClass(InvalidQuery.class);
+        final String name = InvalidQuery.class.getSimpleName() + "." + SELECT_NAME;
+        assertEquals(INVALID_QUERY, queryManager().getQuery(name));
+        assertTrue(queryManager().getQueryTemplate(name).isEmpty());
+    }
+
+    private static final String INVALID_QUERY = "SELECT ?x WHERE { ?x ?y $1 . ?x ?z $1 . }";
+
+    @NamedNativeQuery(name = "InvalidQuery." + SELECT_NAME, query = INVALID_QUERY)
+    @OWLClass(iri = "http://krizik.felk.cvut.cz/ontologies/jopa/entities#InvalidQuery")
+    private static class InvalidQuery {
+    }
 }
@@ -23,6 +23,7 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -40,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -99,4 +101,31 @@ class ManageableClassGeneratorTest {
         verify(uow, never()).attributeChanged(eq(instance), any(FieldSpecification.class));
         verify(uow, never()).attributeChanged(eq(instance), any(Field.class));
     }
+
+    @Test
+    void generatedSetterPassesBoundFieldSpecificationWithoutMetamodelLookup() throws Exception {
+        final Class<? extends OWLClassA> cls = sut.generate(OWLClassA.class);
+        ManageableClassGenerator.bindFieldSpecifications(cls, metamodelMocks.forOwlClassA().entityType());
+
+        final OWLClassA instance = cls.getDeclaredConstructor().newInstance();
+        ((Manageable) instance).setPersistenceContext(uow);
+        when(uow.isInTransaction()).thenReturn(true);
+        instance.setStringAttribute("test value");
+        verify(uow).attributeChanged(instance, metamodelMocks.forOwlClassA().stringAttribute());
+        verify(uow, never()).getMetamodel();
+    }
+
+    @Test
+    void bindFieldSpecificationsSkipsAttributesNotFoundInEntityType() throws Exception {
+        final Class<? extends OWLClassA> cls = sut.generate(OWLClassA.class);
+        final EntityType<OWLClassA> et = mock(EntityType.class);
+        when(et.getFieldSpecification(anyString())).thenThrow(IllegalArgumentException.class);
+        ManageableClassGenerator.bindFieldSpecifications(cls, et);
+
+        final OWLClassA instance = cls.getDeclaredConstructor().newInstance();
+        ((Manageable) instance).setPersistenceContext(uow);
+        when(uow.isInTransaction()).thenReturn(true);
+        instance.setStringAttribute("test value");
+        verify(uow).attributeChanged(instance, metamodelMocks.forOwlClassA().stringAttribute());
+    }
 }
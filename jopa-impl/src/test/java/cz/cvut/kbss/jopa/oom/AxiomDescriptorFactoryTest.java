@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassB;
 import cz.cvut.kbss.jopa.environment.OWLClassD;
+import cz.cvut.kbss.jopa.environment.OWLClassJ;
 import cz.cvut.kbss.jopa.environment.OWLClassM;
 import cz.cvut.kbss.jopa.environment.OWLClassQ;
 import cz.cvut.kbss.jopa.environment.OWLClassU;
@@ -40,9 +41,10 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute.PersistentAttributeType;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
-import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.RDFContainerAttribute;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.vocabulary.RDF;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
@@ -195,6 +197,24 @@ class AxiomDescriptorFactoryTest {
         assertTrue(res.getAssertions().contains(Assertion.createClassAssertion(false)));
     }
 
+    @Test
+    void createForEntityLoadingSkipsPluralAttributesExcludedByFetchGraph() {
+        final AxiomDescriptor res = sut.createForEntityLoading(
+                new LoadingParameters<>(OWLClassJ.class, ID, descriptor, new FetchGraph(null, false)),
+                metamodelMocks.forOwlClassJ().entityType());
+        assertEquals(Set.of(Assertion.createClassAssertion(false)), res.getAssertions());
+    }
+
+    @Test
+    void createForEntityLoadingAddsAssertionsForAllAttributesWhenLoadGraphIsUsed() {
+        final AxiomDescriptor res = sut.createForEntityLoading(
+                new LoadingParameters<>(OWLClassJ.class, ID, descriptor, new FetchGraph(null, true)),
+                metamodelMocks.forOwlClassJ().entityType());
+        assertEquals(2, res.getAssertions().size());
+        assertTrue(res.getAssertions().contains(
+                Assertion.createObjectPropertyAssertion(URI.create(Vocabulary.P_HAS_A), false)));
+    }
+
     @Test
     void testCreateForFieldLoadingDataProperty() {
         final Descriptor desc = new EntityDescriptor();
@@ -573,7 +593,8 @@ class AxiomDescriptorFactoryTest {
     @Test
     void createForEntityLoadingReturnsObjectPropertyAssertionForReferencedListDataProperty() {
         final LoadingParameters<WithDataPropertyReferencedList> lp = new LoadingParameters<>(WithDataPropertyReferencedList.class, ID, descriptor);
-        final EntityType<WithDataPropertyReferencedList> et = mock(EntityType.class);
+        final IdentifiableEntityType<WithDataPropertyReferencedList> et = mock(IdentifiableEntityType.class);
+        when(et.getMappingPlan()).thenAnswer(inv -> EntityMappingPlan.create(et));
         final ListAttribute<WithDataPropertyReferencedList, Integer> att = mock(ListAttribute.class);
         when(et.getAttributes()).thenReturn(Set.of(att));
         when(att.isAssociation()).thenReturn(false);
@@ -614,7 +635,8 @@ class AxiomDescriptorFactoryTest {
     @Test
     void createForEntityLoadingReturnsObjectPropertyAssertionForRdfContainerProperty() {
         final LoadingParameters<WithDataRdfContainerProperty> lp = new LoadingParameters<>(WithDataRdfContainerProperty.class, ID, descriptor);
-        final EntityType<WithDataRdfContainerProperty> et = mock(EntityType.class);
+        final IdentifiableEntityType<WithDataRdfContainerProperty> et = mock(IdentifiableEntityType.class);
+        when(et.getMappingPlan()).thenAnswer(inv -> EntityMappingPlan.create(et));
         final RDFContainerAttribute<WithDataRdfContainerProperty, List<Integer>, Integer> att = mock(RDFContainerAttribute.class);
         when(et.getAttributes()).thenReturn(Set.of(att));
         when(att.isAssociation()).thenReturn(false);
@@ -30,6 +30,7 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -178,6 +179,28 @@ class AxiomValueGathererTest {
         verify(propertiesMock).removeProperties(SUBJECT, null, propsToRemove);
     }
 
+    @Test
+    void updateAllUpdatesAxiomsOfAllGatherersTogetherAndOtherValuesSeparately() throws Exception {
+        addValue();
+        final Set<URI> typesToAdd = generateTypes();
+        sut.addTypes(typesToAdd, null);
+        final NamedResource subjectTwo = NamedResource.create(Generators.createIndividualIdentifier());
+        final AxiomValueGatherer another = new AxiomValueGatherer(subjectTwo, null);
+        another.addValue(DATA_ASSERTION, new Value<>("AnotherValue"), null);
+        final AxiomValueGatherer typesOnly = new AxiomValueGatherer(NamedResource.create(Generators.createIndividualIdentifier()), null);
+        final Set<URI> typesToRemove = generateTypes();
+        typesOnly.removeTypes(typesToRemove, null);
+
+        AxiomValueGatherer.updateAll(List.of(sut, another, typesOnly), connectionMock);
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).updateAll(captor.capture());
+        assertEquals(List.of(SUBJECT, subjectTwo),
+                captor.getValue().stream().map(AxiomValueDescriptor::getSubject).toList());
+        verify(connectionMock, never()).update(any());
+        verify(typesMock).addTypes(SUBJECT, null, typesToAdd);
+        verify(typesMock).removeTypes(typesOnly.getSubjectIdentifier(), null, typesToRemove);
+    }
+
     private Map<Assertion, Set<Value<?>>> propertiesToRemove() {
         final Map<Assertion, Set<Value<?>>> props = new HashMap<>();
         props.put(DATA_ASSERTION, Collections.singleton(new Value<>("valueFour")));
@@ -28,6 +28,7 @@ import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,8 +37,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -153,4 +157,96 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
         verify(entityConstructorMock).populateQueryAttributes(entityD, metamodelMocks.forOwlClassD().entityType());
         verify(entityConstructorMock).populateQueryAttributes(entityA, etAMock);
     }
+
+    @Test
+    void loadEntityUsesAxiomsPrefetchedInBulk() throws Exception {
+        final URI secondId = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> secondParams = new LoadingParameters<>(OWLClassA.class, secondId, descriptor);
+        final AxiomDescriptor secondDescriptor = new AxiomDescriptor(NamedResource.create(secondId));
+        when(descriptorFactoryMock.createForEntityLoading(secondParams, etAMock)).thenReturn(secondDescriptor);
+        final Collection<Axiom<?>> entityAAxioms = Collections.singletonList(mock(Axiom.class));
+        when(connectionMock.findAll(anyCollection())).thenReturn(
+                Map.of(axiomDescriptor.getSubject(), entityAAxioms, secondDescriptor.getSubject(), List.of()));
+        when(entityConstructorMock.reconstructEntity(new EntityConstructor.EntityConstructionParameters<>(IDENTIFIER, etAMock, descriptor, false), entityAAxioms))
+                .thenReturn(entityA);
+
+        instanceLoader.prefetch(List.of(loadingParameters, secondParams), etAMock);
+        assertSame(entityA, instanceLoader.loadEntity(loadingParameters));
+        assertNull(instanceLoader.loadEntity(secondParams));
+        verify(connectionMock).findAll(List.of(axiomDescriptor, secondDescriptor));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void prefetchSkipsInstancesPresentInCache() throws Exception {
+        final URI secondId = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> secondParams = new LoadingParameters<>(OWLClassA.class, secondId, descriptor);
+        when(cacheMock.contains(OWLClassA.class, secondId, descriptor)).thenReturn(true);
+
+        instanceLoader.prefetch(List.of(loadingParameters, secondParams), etAMock);
+        // Only one instance remains, which can be loaded directly
+        verify(connectionMock, never()).findAll(anyCollection());
+    }
+
+    @Test
+    void loadEntityLoadsAxiomsDirectlyWhenPrefetchedAxiomsWereCleared() throws Exception {
+        final URI secondId = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> secondParams = new LoadingParameters<>(OWLClassA.class, secondId, descriptor);
+        final AxiomDescriptor secondDescriptor = new AxiomDescriptor(NamedResource.create(secondId));
+        when(descriptorFactoryMock.createForEntityLoading(secondParams, etAMock)).thenReturn(secondDescriptor);
+        when(connectionMock.findAll(anyCollection())).thenReturn(
+                Map.of(axiomDescriptor.getSubject(), List.of(), secondDescriptor.getSubject(), List.of()));
+        final Collection<Axiom<?>> entityAAxioms = Collections.singletonList(mock(Axiom.class));
+        when(connectionMock.find(axiomDescriptor)).thenReturn(entityAAxioms);
+        when(entityConstructorMock.reconstructEntity(new EntityConstructor.EntityConstructionParameters<>(IDENTIFIER, etAMock, descriptor, false), entityAAxioms))
+                .thenReturn(entityA);
+
+        instanceLoader.prefetch(List.of(loadingParameters, secondParams), etAMock);
+        instanceLoader.clearPrefetched();
+        assertSame(entityA, instanceLoader.loadEntity(loadingParameters));
+        verify(connectionMock).find(axiomDescriptor);
+    }
+
+    @Test
+    void prefetchReferencesKeepsAxiomsPrefetchedEarlierAndSkipsAlreadyPrefetchedInstances() throws Exception {
+        final URI secondId = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> secondParams = new LoadingParameters<>(OWLClassA.class, secondId, descriptor);
+        final AxiomDescriptor secondDescriptor = new AxiomDescriptor(NamedResource.create(secondId));
+        when(descriptorFactoryMock.createForEntityLoading(secondParams, etAMock)).thenReturn(secondDescriptor);
+        final URI thirdId = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> thirdParams = new LoadingParameters<>(OWLClassA.class, thirdId, descriptor);
+        final AxiomDescriptor thirdDescriptor = new AxiomDescriptor(NamedResource.create(thirdId));
+        when(descriptorFactoryMock.createForEntityLoading(thirdParams, etAMock)).thenReturn(thirdDescriptor);
+        final Collection<Axiom<?>> entityAAxioms = Collections.singletonList(mock(Axiom.class));
+        when(connectionMock.findAll(List.of(axiomDescriptor, secondDescriptor))).thenReturn(
+                Map.of(axiomDescriptor.getSubject(), entityAAxioms, secondDescriptor.getSubject(), List.of()));
+        when(entityConstructorMock.reconstructEntity(new EntityConstructor.EntityConstructionParameters<>(IDENTIFIER, etAMock, descriptor, false), entityAAxioms))
+                .thenReturn(entityA);
+
+        instanceLoader.prefetchReferences(List.of(loadingParameters, secondParams), etAMock);
+        // Only the third instance has not been prefetched, so there is nothing to load in bulk
+        instanceLoader.prefetchReferences(List.of(secondParams, thirdParams), etAMock);
+        assertSame(entityA, instanceLoader.loadEntity(loadingParameters));
+        verify(connectionMock).findAll(anyCollection());
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void clearPrefetchedReferencesDiscardsPrefetchedReferencedInstanceAxioms() throws Exception {
+        final URI secondId = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> secondParams = new LoadingParameters<>(OWLClassA.class, secondId, descriptor);
+        final AxiomDescriptor secondDescriptor = new AxiomDescriptor(NamedResource.create(secondId));
+        when(descriptorFactoryMock.createForEntityLoading(secondParams, etAMock)).thenReturn(secondDescriptor);
+        when(connectionMock.findAll(anyCollection())).thenReturn(
+                Map.of(axiomDescriptor.getSubject(), List.of(), secondDescriptor.getSubject(), List.of()));
+        final Collection<Axiom<?>> entityAAxioms = Collections.singletonList(mock(Axiom.class));
+        when(connectionMock.find(axiomDescriptor)).thenReturn(entityAAxioms);
+        when(entityConstructorMock.reconstructEntity(new EntityConstructor.EntityConstructionParameters<>(IDENTIFIER, etAMock, descriptor, false), entityAAxioms))
+                .thenReturn(entityA);
+
+        instanceLoader.prefetchReferences(List.of(loadingParameters, secondParams), etAMock);
+        instanceLoader.clearPrefetchedReferences();
+        assertSame(entityA, instanceLoader.loadEntity(loadingParameters));
+        verify(connectionMock).find(axiomDescriptor);
+    }
 }
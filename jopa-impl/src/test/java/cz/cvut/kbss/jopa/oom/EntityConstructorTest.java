@@ -31,8 +31,10 @@ import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.CardinalityConstraintViolatedException;
 import cz.cvut.kbss.jopa.exceptions.IntegrityConstraintViolatedException;
+import cz.cvut.kbss.jopa.model.EntityGraphImpl;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.SequencesVocabulary;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.OWLAnnotationProperty;
@@ -45,6 +47,7 @@ import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FetchGraph;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.vocabulary.DC;
@@ -57,6 +60,7 @@ import cz.cvut.kbss.ontodriver.model.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -74,6 +78,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -82,8 +87,12 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -447,6 +456,95 @@ class EntityConstructorTest {
         assertTrue(areEqual(set, entityJ.getOwlClassA()));
     }
 
+    @Test
+    void setFieldValueBatchFetchesReferencedEntitiesBeforeResolvingThem() throws Exception {
+        when(mapperMock.isBatchFetchEnabled()).thenReturn(true);
+        when(mapperMock.isManagedType(OWLClassA.class)).thenReturn(true);
+        final Descriptor desc = mock(Descriptor.class);
+        final Set<OWLClassA> set = initEntities(desc);
+        descriptor.addAttributeDescriptor(mocks.forOwlClassJ().setAttribute(), desc);
+        final Collection<Axiom<?>> axioms = initAxiomsForReferencedSet(set);
+        final OWLClassJ entityJ = new OWLClassJ();
+        entityJ.setUri(ID);
+        constructor.setFieldValue(entityJ, mocks.forOwlClassJ().setAttribute(), axioms,
+                mocks.forOwlClassJ().entityType(), descriptor);
+        final InOrder inOrder = inOrder(mapperMock);
+        inOrder.verify(mapperMock).prefetchReferences(OWLClassA.class,
+                set.stream().map(OWLClassA::getUri).collect(Collectors.toSet()), desc, null);
+        inOrder.verify(mapperMock, times(set.size()))
+               .getEntityFromCacheOrOntology(eq(OWLClassA.class), any(URI.class), eq(desc));
+        assertEquals(set.size(), entityJ.getOwlClassA().size());
+    }
+
+    @Test
+    void reconstructEntityDoesNotBatchFetchReferencedEntitiesWhenBatchFetchIsDisabled() throws Exception {
+        final Set<Axiom<?>> axiomsD = getAxiomsForD();
+        final Descriptor fieldDesc = new EntityDescriptor();
+        descriptor.addAttributeDescriptor(mocks.forOwlClassD().owlClassAAtt(), fieldDesc);
+        final OWLClassA entityA = new OWLClassA(ID_TWO);
+        when(mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, ID_TWO, fieldDesc)).thenReturn(entityA);
+        final OWLClassD res = constructor.reconstructEntity(constructionConfig(ID, mocks.forOwlClassD()
+                                                                                        .entityType(), descriptor), axiomsD);
+        assertEquals(entityA, res.getOwlClassA());
+        verify(mapperMock, never()).prefetchReferences(any(), anyCollection(), any(), any());
+    }
+
+    @Test
+    void reconstructEntityLoadsAttributeOutsideFetchGraphLazily() throws Exception {
+        final Set<Axiom<?>> axiomsD = getAxiomsForD();
+        final OWLClassD res = constructor.reconstructEntity(
+                new EntityConstructor.EntityConstructionParameters<>(ID, mocks.forOwlClassD().entityType(), descriptor,
+                        false, new FetchGraph(null, false)), axiomsD);
+        assertNull(res.getOwlClassA());
+        assertEquals(LoadState.NOT_LOADED, loadStateRegistry.get(res).isLoaded(mocks.forOwlClassD().owlClassAAtt()));
+        verify(mapperMock, never()).getEntityFromCacheOrOntology(any(), any(), any());
+        verify(mapperMock, never()).getEntityFromCacheOrOntology(any(), any(), any(), any());
+    }
+
+    @Test
+    void reconstructEntityLoadsAttributeInFetchGraphEagerlyAndAppliesSubgraphToReferencedEntity() throws Exception {
+        final Set<Axiom<?>> axiomsD = getAxiomsForD();
+        final Descriptor fieldDesc = new EntityDescriptor();
+        descriptor.addAttributeDescriptor(mocks.forOwlClassD().owlClassAAtt(), fieldDesc);
+        final MetamodelImpl metamodel = mock(MetamodelImpl.class);
+        mocks.setMocks(metamodel);
+        final EntityGraphImpl<OWLClassD> graph = new EntityGraphImpl<>(mocks.forOwlClassD().entityType(), metamodel);
+        graph.addAttributeNodes("owlClassA");
+        final OWLClassA entityA = new OWLClassA(ID_TWO);
+        final FetchGraph referenceGraph = new FetchGraph(null, false);
+        when(mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, ID_TWO, fieldDesc, referenceGraph))
+                .thenReturn(entityA);
+
+        final OWLClassD res = constructor.reconstructEntity(
+                new EntityConstructor.EntityConstructionParameters<>(ID, mocks.forOwlClassD().entityType(), descriptor,
+                        false, new FetchGraph(graph, false)), axiomsD);
+        assertEquals(entityA, res.getOwlClassA());
+        assertEquals(LoadState.LOADED, loadStateRegistry.get(res).isLoaded(mocks.forOwlClassD().owlClassAAtt()));
+        verify(mapperMock).getEntityFromCacheOrOntology(OWLClassA.class, ID_TWO, fieldDesc, referenceGraph);
+    }
+
+    @Test
+    void reconstructEntityMarksPluralAttributeExcludedByFetchGraphAsNotLoaded() {
+        final List<Axiom<?>> axioms = List.of(getClassAssertionAxiomForType(ID, OWLClassJ.getClassIri()));
+        final OWLClassJ res = constructor.reconstructEntity(
+                new EntityConstructor.EntityConstructionParameters<>(ID, mocks.forOwlClassJ().entityType(), descriptor,
+                        false, new FetchGraph(null, false)), axioms);
+        assertNull(res.getOwlClassA());
+        assertEquals(LoadState.NOT_LOADED, loadStateRegistry.get(res).isLoaded(mocks.forOwlClassJ().setAttribute()));
+    }
+
+    @Test
+    void reconstructEntityLoadsSingularDataPropertyOutsideFetchGraphAccordingToFetchType() throws Exception {
+        final Set<Axiom<?>> axioms = new HashSet<>();
+        axioms.add(getClassAssertionAxiomForType(ID, OWLClassA.getClassIri()));
+        axioms.add(getStringAttAssertionAxiom(ID, STRING_ATT, OWLClassA.getStrAttField()));
+        final OWLClassA res = constructor.reconstructEntity(
+                new EntityConstructor.EntityConstructionParameters<>(ID, mocks.forOwlClassA().entityType(), descriptor,
+                        false, new FetchGraph(null, false)), axioms);
+        assertEquals(STRING_ATT, res.getStringAttribute());
+        assertEquals(LoadState.LOADED, loadStateRegistry.get(res).isLoaded(mocks.forOwlClassA().stringAttribute()));
+    }
+
     private Set<OWLClassA> initEntities(Descriptor desc) {
         final Set<OWLClassA> entities = new HashSet<>();
         for (int i = 0; i < 5; i++) {
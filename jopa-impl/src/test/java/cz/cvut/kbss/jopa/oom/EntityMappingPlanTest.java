@@ -0,0 +1,110 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.vocabulary.RDF;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EntityMappingPlanTest {
+
+    private MetamodelMocks mocks;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mocks = new MetamodelMocks();
+    }
+
+    @Test
+    void getFieldReturnsFieldsMappingAttributePropertiesAndTypes() {
+        final EntityMappingPlan<OWLClassA> sut = EntityMappingPlan.create(mocks.forOwlClassA().entityType());
+
+        final EntityMappingPlan.PlannedField<OWLClassA> strField =
+                sut.getField(mocks.forOwlClassA().stringAttribute().getIRI().toURI());
+        assertEquals(mocks.forOwlClassA().stringAttribute(), strField.fieldSpec());
+        final EntityMappingPlan.PlannedField<OWLClassA> typesField = sut.getField(URI.create(RDF.TYPE));
+        assertEquals(mocks.forOwlClassA().typesSpec(), typesField.fieldSpec());
+        assertNotEquals(strField.slot(), typesField.slot());
+        assertEquals(2, sut.getFieldCount());
+        assertNull(sut.getField(URI.create(RDF.NAMESPACE + "unknown")));
+    }
+
+    @Test
+    void getFieldReturnsPropertiesFieldForUnmappedProperty() {
+        final EntityMappingPlan<OWLClassB> sut = EntityMappingPlan.create(mocks.forOwlClassB().entityType());
+
+        final EntityMappingPlan.PlannedField<OWLClassB> result = sut.getField(URI.create(RDF.NAMESPACE + "unknown"));
+        assertEquals(mocks.forOwlClassB().propertiesSpec(), result.fieldSpec());
+        assertNull(sut.getAttribute(URI.create(RDF.NAMESPACE + "unknown")));
+    }
+
+    @Test
+    void plannedFieldStrategyFactoryCreatesNewStrategyForEachInstance() {
+        final EntityMappingPlan<OWLClassA> sut = EntityMappingPlan.create(mocks.forOwlClassA().entityType());
+        final EntityMappingPlan.PlannedField<OWLClassA> field =
+                sut.getField(mocks.forOwlClassA().stringAttribute().getIRI().toURI());
+        final Descriptor descriptor = new EntityDescriptor();
+
+        final FieldStrategy<?, OWLClassA> first = field.strategyFactory().create(descriptor, null);
+        final FieldStrategy<?, OWLClassA> second = field.strategyFactory().create(descriptor, null);
+        assertThat(first, instanceOf(SingularDataPropertyStrategy.class));
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void getAssertionReturnsSameAssertionForEquivalentDescriptors() {
+        final EntityMappingPlan<OWLClassA> sut = EntityMappingPlan.create(mocks.forOwlClassA().entityType());
+
+        final Assertion first = sut.getAssertion(mocks.forOwlClassA().stringAttribute(), new EntityDescriptor());
+        final Assertion second = sut.getAssertion(mocks.forOwlClassA().stringAttribute(), new EntityDescriptor());
+        assertSame(first, second);
+        assertEquals(AxiomDescriptorFactory.createAssertion(mocks.forOwlClassA().stringAttribute(),
+                new EntityDescriptor()), first);
+    }
+
+    @Test
+    void getAssertionReturnsAssertionWithDescriptorLanguage() {
+        final EntityMappingPlan<OWLClassA> sut = EntityMappingPlan.create(mocks.forOwlClassA().entityType());
+        final Descriptor descriptor = new EntityDescriptor();
+        descriptor.setLanguage("cs");
+
+        final Assertion result = sut.getAssertion(mocks.forOwlClassA().stringAttribute(), descriptor);
+        assertEquals("cs", result.getLanguage());
+        assertSame(result, sut.getAssertion(mocks.forOwlClassA().stringAttribute(), descriptor));
+        descriptor.setLanguage(null);
+        final Assertion anyLanguage = sut.getAssertion(mocks.forOwlClassA().stringAttribute(), descriptor);
+        assertNull(anyLanguage.getLanguage());
+        assertNotEquals(result, anyLanguage);
+    }
+}
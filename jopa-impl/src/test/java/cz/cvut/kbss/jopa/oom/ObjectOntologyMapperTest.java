@@ -29,13 +29,14 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.environment.utils.TestEnvironmentUtils;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.SequencesVocabulary;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
-import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.oom.exception.UnpersistedChangeException;
 import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxy;
 import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator;
@@ -43,6 +44,7 @@ import cz.cvut.kbss.jopa.sessions.AbstractUnitOfWork;
 import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
 import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -81,6 +83,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -93,6 +96,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -138,7 +142,7 @@ class ObjectOntologyMapperTest {
     private final LoadStateDescriptorRegistry loadStateRegistry = new LoadStateDescriptorRegistry(Object::toString);
 
     private MetamodelMocks mocks;
-    private EntityType<OWLClassA> etAMock;
+    private IdentifiableEntityType<OWLClassA> etAMock;
     private LoadingParameters<OWLClassA> loadingParameters;
 
     private ObjectOntologyMapperImpl mapper;
@@ -237,6 +241,20 @@ class ObjectOntologyMapperTest {
         verify(madMock).persist(connectionMock);
     }
 
+    @Test
+    void persistEntitiesPersistsAxiomsOfEntitiesInBatchesOfSpecifiedSize() throws Exception {
+        final List<OWLClassA> entities = Generators.generateInstances(3);
+        entities.forEach(a -> when(entityDeconstructorMock.mapEntityToAxioms(a.getUri(), a, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(a.getUri()), null)));
+        final List<List<Object>> batches = new ArrayList<>();
+
+        mapper.persistEntities(entities.stream(), aDescriptor, 2, batches::add);
+        verify(connectionMock, times(2)).persistAll(anyCollection());
+        assertEquals(2, batches.size());
+        assertEquals(List.of(entities.get(0), entities.get(1)), batches.get(0));
+        assertEquals(List.of(entities.get(2)), batches.get(1));
+    }
+
     @Test
     void testGetEntityFromCacheOrOntologyFromCache() {
         when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(Boolean.TRUE);
@@ -315,6 +333,27 @@ class ObjectOntologyMapperTest {
         verify(axiomBuilderMock).update(connectionMock);
     }
 
+    @Test
+    void updateFieldValuesUpdatesValuesOfAllEntitiesInSingleStorageOperation() throws Exception {
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        when(entityDeconstructorMock.mapFieldsToAxioms(IDENTIFIER, entityA,
+                List.of(mocks.forOwlClassA().stringAttribute()), etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(IDENTIFIER), null));
+        when(entityDeconstructorMock.mapFieldsToAxioms(another.getUri(), another,
+                List.of(mocks.forOwlClassA().stringAttribute(), mocks.forOwlClassA().typesSpec()), etAMock,
+                aDescriptor)).thenReturn(new AxiomValueGatherer(NamedResource.create(another.getUri()), null));
+
+        mapper.updateFieldValues(List.of(
+                new FieldValueUpdate(entityA, List.of(mocks.forOwlClassA().stringAttribute()), aDescriptor),
+                new FieldValueUpdate(another,
+                        List.of(mocks.forOwlClassA().stringAttribute(), mocks.forOwlClassA().typesSpec()),
+                        aDescriptor)));
+        verify(entityDeconstructorMock).mapFieldsToAxioms(IDENTIFIER, entityA,
+                List.of(mocks.forOwlClassA().stringAttribute()), etAMock, aDescriptor);
+        verify(connectionMock).updateAll(anyCollection());
+        verify(connectionMock, never()).update(any());
+    }
+
     @Test
     void removeEntityCreatesDescriptorForRemovalOfAllEntityAttributes() {
         when(descriptorFactoryMock
@@ -477,6 +516,28 @@ class ObjectOntologyMapperTest {
         return axioms;
     }
 
+    @Test
+    void loadDetachedEntityLoadsEntityAndItsReferencesWithoutPersistenceContextCacheOrLoadState() throws Exception {
+        final Collection<Axiom<?>> axiomsForA = getAxiomsForEntityA();
+        final URI identifier = Generators.createIndividualIdentifier();
+        final Collection<Axiom<?>> axiomsForD = axiomsForD(identifier);
+        when(connectionMock.find(any(AxiomDescriptor.class))).thenAnswer(invocationOnMock -> {
+            final AxiomDescriptor arg = invocationOnMock.getArgument(0);
+            return arg.getSubject().equals(NamedResource.create(identifier)) ? axiomsForD : axiomsForA;
+        });
+
+        final OWLClassD result =
+                mapper.loadDetachedEntity(new LoadingParameters<>(OWLClassD.class, identifier, aDescriptor));
+        assertNotNull(result);
+        assertNotNull(result.getOwlClassA());
+        assertEquals(IDENTIFIER, result.getOwlClassA().getUri());
+        verify(uowMock, never()).getManagedOriginal(any(), any(), any());
+        verify(cacheMock, never()).contains(any(), any(), any());
+        verify(cacheMock, never()).add(any(), any(), any());
+        assertFalse(loadStateRegistry.contains(result));
+        assertFalse(loadStateRegistry.contains(result.getOwlClassA()));
+    }
+
     @Test
     void loadEntitySkipsCacheWhenNothingIsFound() throws Exception {
         when(connectionMock.find(any(AxiomDescriptor.class))).thenReturn(Collections.emptyList());
@@ -670,4 +731,42 @@ class ObjectOntologyMapperTest {
         assertEquals(OWLClassA.class, proxy.getType());
         verify(connectionMock, never()).find(any());
     }
+
+    @Test
+    void prefetchReferencesLoadsInBulkOnlyInstancesNotManagedOrCached() throws Exception {
+        final URI managedId = Generators.createIndividualIdentifier();
+        final URI cachedId = Generators.createIndividualIdentifier();
+        final URI idOne = Generators.createIndividualIdentifier();
+        final URI idTwo = Generators.createIndividualIdentifier();
+        when(uowMock.getManagedOriginal(OWLClassA.class, managedId, aDescriptor)).thenReturn(new OWLClassA(managedId));
+        when(cacheMock.contains(OWLClassA.class, cachedId, aDescriptor)).thenReturn(true);
+        when(connectionMock.findAll(anyCollection())).thenReturn(Map.of());
+
+        mapper.prefetchReferences(OWLClassA.class, List.of(managedId, cachedId, idOne, idTwo), aDescriptor, null);
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertEquals(Set.of(NamedResource.create(idOne), NamedResource.create(idTwo)),
+                captor.getValue().stream().map(AxiomDescriptor::getSubject).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void prefetchReferencesSplitsReferencesIntoBatchesOfConfiguredSize() throws Exception {
+        when(uowMock.getConfiguration()).thenReturn(
+                new Configuration(Map.of(JOPAPersistenceProperties.BATCH_FETCH_SIZE, "2")));
+        this.mapper = new ObjectOntologyMapperImpl(uowMock, connectionMock);
+        when(connectionMock.findAll(anyCollection())).thenReturn(Map.of());
+
+        mapper.prefetchReferences(OWLClassA.class, List.of(Generators.createIndividualIdentifier(),
+                Generators.createIndividualIdentifier(), Generators.createIndividualIdentifier(),
+                Generators.createIndividualIdentifier()), aDescriptor, null);
+        verify(connectionMock, times(2)).findAll(anyCollection());
+    }
+
+    @Test
+    void batchFetchIsDisabledWhenBatchFetchSizeIsOne() {
+        when(uowMock.getConfiguration()).thenReturn(
+                new Configuration(Map.of(JOPAPersistenceProperties.BATCH_FETCH_SIZE, "1")));
+        this.mapper = new ObjectOntologyMapperImpl(uowMock, connectionMock);
+        assertFalse(mapper.isBatchFetchEnabled());
+    }
 }
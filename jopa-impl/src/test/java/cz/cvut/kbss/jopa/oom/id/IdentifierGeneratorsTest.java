@@ -0,0 +1,229 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom.id;
+
+import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
+import cz.cvut.kbss.jopa.model.IRI;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.Identifier;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.ontodriver.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdentifierGeneratorsTest {
+
+    private static final URI CLASS_URI = URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA");
+
+    @Mock
+    private EntityType<Object> et;
+
+    @Mock
+    private Identifier<Object, URI> identifier;
+
+    @Mock
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        when(et.getIRI()).thenReturn(IRI.create(CLASS_URI.toString()));
+        doReturn(identifier).when(et).getIdentifier();
+        when(identifier.getGenerationType()).thenReturn(GenerationType.DEFAULT);
+    }
+
+    @Test
+    void generateUsesStorageConnectionByDefault() throws Exception {
+        final URI id = URI.create(CLASS_URI + "_instance123");
+        when(connection.generateIdentifier(CLASS_URI)).thenReturn(id);
+        final IdentifierGenerators sut = new IdentifierGenerators(new Configuration());
+
+        assertEquals(id, sut.generate(et, connection));
+        assertFalse(sut.isCollisionFree(et));
+    }
+
+    @Test
+    void resolveStrategyUsesStrategyConfiguredForPersistenceUnit() {
+        final Configuration config = configuration("snowflake");
+        config.set(JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID, "3");
+        final IdentifierGenerators sut = new IdentifierGenerators(config);
+
+        assertEquals(GenerationType.SNOWFLAKE, sut.resolveStrategy(et));
+        assertTrue(sut.isCollisionFree(et));
+    }
+
+    @Test
+    void isCollisionFreeReturnsFalseForNodeBasedStrategiesWhenNodeIdIsNotConfigured() {
+        final IdentifierGenerators sut = new IdentifierGenerators(configuration("snowflake"));
+        assertFalse(sut.isCollisionFree(et));
+        when(identifier.getGenerationType()).thenReturn(GenerationType.SEQUENCE);
+        assertFalse(sut.isCollisionFree(et));
+        when(identifier.getGenerationType()).thenReturn(GenerationType.UUID);
+        assertTrue(sut.isCollisionFree(et));
+    }
+
+    @Test
+    void resolveStrategyPrefersStrategySpecifiedByEntityIdentifier() {
+        when(identifier.getGenerationType()).thenReturn(GenerationType.STORAGE);
+        final IdentifierGenerators sut = new IdentifierGenerators(configuration("uuid"));
+
+        assertEquals(GenerationType.STORAGE, sut.resolveStrategy(et));
+    }
+
+    @Test
+    void resolveStrategyFallsBackToStorageForUnsupportedConfiguredStrategy() {
+        final IdentifierGenerators sut = new IdentifierGenerators(configuration("unknown"));
+
+        assertEquals(GenerationType.STORAGE, sut.resolveStrategy(et));
+    }
+
+    @Test
+    void generateCreatesTimeOrderedUuidBasedIdentifierWithoutAccessingStorage() throws Exception {
+        final IdentifierGenerators sut = new IdentifierGenerators(configuration("uuid"));
+
+        final URI result = sut.generate(et, connection);
+        assertThat(result.toString(), startsWith(CLASS_URI + "_instance-"));
+        final UUID uuid = UUID.fromString(result.toString().substring((CLASS_URI + "_instance-").length()));
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        verify(connection, never()).generateIdentifier(any());
+    }
+
+    @Test
+    void timeOrderedUuidsOfSubsequentMillisecondsAreOrdered() throws Exception {
+        final UUID first = TimeOrderedUuidGenerator.nextUuid();
+        Thread.sleep(2);
+        final UUID second = TimeOrderedUuidGenerator.nextUuid();
+        assertThat(first.compareTo(second), lessThan(0));
+    }
+
+    @Test
+    void snowflakeGeneratorProducesUniqueIncreasingNumbersContainingNodeId() {
+        final SnowflakeIdentifierGenerator sut = new SnowflakeIdentifierGenerator(5);
+        long previous = -1;
+        for (int i = 0; i < 10000; i++) {
+            final long id = sut.nextId();
+            assertThat(previous, lessThan(id));
+            assertEquals(5, (id >> SnowflakeIdentifierGenerator.SEQUENCE_BITS) & SnowflakeIdentifierGenerator.MAX_NODE_ID);
+            previous = id;
+        }
+    }
+
+    @Test
+    void blockSequenceGeneratorProducesUniqueIdentifiersInConcurrentThreads() throws Exception {
+        final IdentifierGenerators sut = new IdentifierGenerators(configuration("sequence"));
+        final Set<URI> generated = ConcurrentHashMap.newKeySet();
+        final int threadCount = 4;
+        final int perThread = 2500;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        generated.add(sut.generate(et, connection));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threadCount * perThread, generated.size());
+    }
+
+    @Test
+    void blockSequenceGeneratorAllocatesNewBlockWhenCurrentIsExhausted() {
+        final BlockSequenceIdentifierGenerator sut = new BlockSequenceIdentifierGenerator(0, 3);
+        final Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            values.add(sut.nextValue());
+        }
+        assertEquals(10, values.size());
+    }
+
+    @Test
+    void validateThrowsExceptionForInvalidNodeIdWhenNodeBasedStrategyIsUsed() {
+        final Configuration config = configuration("snowflake");
+        config.set(JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID, "5000");
+        final IdentifierGenerators sut = new IdentifierGenerators(config);
+
+        assertThrows(MetamodelInitializationException.class, () -> sut.validate(List.of(et)));
+    }
+
+    @Test
+    void validateIgnoresInvalidNodeIdWhenNoEntityUsesNodeBasedStrategy() throws Exception {
+        final Configuration config = configuration("uuid");
+        config.set(JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID, "invalid");
+        final IdentifierGenerators sut = new IdentifierGenerators(config);
+
+        sut.validate(List.of(et));
+        assertThat(sut.generate(et, connection).toString(), startsWith(CLASS_URI.toString()));
+    }
+
+    @Test
+    void validateThrowsExceptionForInvalidSequenceBlockSize() {
+        final Configuration config = configuration("sequence");
+        config.set(JOPAPersistenceProperties.IDENTIFIER_GENERATOR_NODE_ID, "1");
+        config.set(JOPAPersistenceProperties.IDENTIFIER_SEQUENCE_BLOCK_SIZE, "0");
+        final IdentifierGenerators sut = new IdentifierGenerators(config);
+
+        assertThrows(MetamodelInitializationException.class, () -> sut.validate(List.of(et)));
+    }
+
+    private static Configuration configuration(String strategy) {
+        final Configuration config = new Configuration();
+        config.set(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY, strategy);
+        return config;
+    }
+}
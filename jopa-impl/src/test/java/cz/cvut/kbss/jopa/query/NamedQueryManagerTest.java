@@ -17,11 +17,16 @@
  */
 package cz.cvut.kbss.jopa.query;
 
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class NamedQueryManagerTest {
 
@@ -58,4 +63,20 @@ public class NamedQueryManagerTest {
                 () -> queryManager.getQuery(name));
         assertEquals("Query with name " + name + " was not found in this persistence unit.", ex.getMessage());
     }
+
+    @Test
+    public void addedQueryTemplateCanBeRetrieved() {
+        final String name = "selectAll";
+        final SparqlQueryTemplate template = new SparqlQueryParser().parseTemplate(QUERY);
+        queryManager.addNamedQuery(name, QUERY, template);
+        assertEquals(QUERY, queryManager.getQuery(name));
+        assertEquals(Optional.of(template), queryManager.getQueryTemplate(name));
+    }
+
+    @Test
+    public void getQueryTemplateReturnsEmptyOptionalForQueryAddedWithoutTemplate() {
+        final String name = "selectAll";
+        queryManager.addNamedQuery(name, QUERY);
+        assertTrue(queryManager.getQueryTemplate(name).isEmpty());
+    }
 }
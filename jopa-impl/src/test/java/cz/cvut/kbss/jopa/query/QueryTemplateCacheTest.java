@@ -0,0 +1,99 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query;
+
+import cz.cvut.kbss.jopa.exception.QueryParserException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryTemplateCacheTest {
+
+    private static final String QUERY = "SELECT ?x WHERE { ?x a ?type . }";
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    private final Function<String, SparqlQueryTemplate> parser = q -> {
+        parseCount.incrementAndGet();
+        return new SparqlQueryParser().parseTemplate(q);
+    };
+
+    @Test
+    void getSparqlTemplateParsesQueryOnlyOnce() {
+        final QueryTemplateCache sut = new QueryTemplateCache(QueryTemplateCache.DEFAULT_CAPACITY);
+        final SparqlQueryTemplate first = sut.getSparqlTemplate(QUERY, parser);
+        final SparqlQueryTemplate second = sut.getSparqlTemplate(QUERY, parser);
+        assertSame(first, second);
+        assertEquals(1, parseCount.get());
+    }
+
+    @Test
+    void getSoqlTemplateDoesNotShareTemplatesWithSparqlQueries() {
+        final QueryTemplateCache sut = new QueryTemplateCache(QueryTemplateCache.DEFAULT_CAPACITY);
+        final SparqlQueryTemplate sparql = sut.getSparqlTemplate(QUERY, parser);
+        final SparqlQueryTemplate soql = sut.getSoqlTemplate(QUERY, parser);
+        assertNotSame(sparql, soql);
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void getSparqlTemplateEvictsEntryWhenCapacityIsReached() {
+        final QueryTemplateCache sut = new QueryTemplateCache(2);
+        sut.getSparqlTemplate(QUERY, parser);
+        sut.getSparqlTemplate("SELECT ?y WHERE { ?y a ?type . }", parser);
+        sut.getSparqlTemplate("SELECT ?z WHERE { ?z a ?type . }", parser);
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void zeroCapacityDisablesCaching() {
+        final QueryTemplateCache sut = new QueryTemplateCache(0);
+        sut.getSparqlTemplate(QUERY, parser);
+        sut.getSparqlTemplate(QUERY, parser);
+        assertEquals(2, parseCount.get());
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void getSparqlTemplateDoesNotCacheInvalidQuery() {
+        final QueryTemplateCache sut = new QueryTemplateCache(QueryTemplateCache.DEFAULT_CAPACITY);
+        final String query = "SELECT ?x WHERE { ?x ?y $1 . ?x ?z $1 . }";
+        assertThrows(QueryParserException.class, () -> sut.getSparqlTemplate(query, parser));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void constructorUsesDefaultCapacityWhenConfiguredValueIsInvalid() {
+        final QueryTemplateCache sut = new QueryTemplateCache(
+                new Configuration(Map.of(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY, "invalid")));
+        sut.getSparqlTemplate(QUERY, parser);
+        sut.getSparqlTemplate(QUERY, parser);
+        assertEquals(1, parseCount.get());
+    }
+}
@@ -23,6 +23,7 @@ import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
@@ -35,9 +36,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +65,8 @@ public class SparqlQueryFactoryTest {
     @Mock
     private ConnectionWrapper connectionMock;
 
+    private final QueryTemplateCache templateCache = new QueryTemplateCache(QueryTemplateCache.DEFAULT_CAPACITY);
+
     private SparqlQueryFactory factory;
 
     @BeforeEach
@@ -66,6 +75,7 @@ public class SparqlQueryFactoryTest {
         final MetamodelImpl metamodel = mock(MetamodelImpl.class);
         new MetamodelMocks().setMocks(metamodel);
         when(uowMock.getMetamodel()).thenReturn(metamodel);
+        when(uowMock.getQueryTemplateCache()).thenReturn(templateCache);
         this.factory = new SparqlQueryFactory(uowMock, connectionMock);
     }
 
@@ -149,4 +159,39 @@ public class SparqlQueryFactoryTest {
         assertNotNull(q);
         verify(namedQueryManagerMock).getQuery(queryName);
     }
+
+    @Test
+    void createNamedQueryUsesPreParsedQueryTemplateWhenAvailable() {
+        final String queryName = "testQuery";
+        when(namedQueryManagerMock.getQueryTemplate(queryName)).thenReturn(
+                Optional.of(new SparqlQueryParser().parseTemplate(QUERY)));
+        final Query q = factory.createNamedQuery(queryName);
+        assertNotNull(q);
+        verify(namedQueryManagerMock, never()).getQuery(queryName);
+    }
+
+    @Test
+    void createNativeQueryCachesParsedQueryTemplate() {
+        factory.createNativeQuery(QUERY);
+        factory.createNativeQuery(QUERY, CLS);
+        assertEquals(1, templateCache.size());
+    }
+
+    @Test
+    void createQueryCachesTranslatedSoqlQueryTemplate() {
+        factory.createQuery(SOQL_QUERY);
+        factory.createQuery(SOQL_QUERY, CLS);
+        assertEquals(1, templateCache.size());
+    }
+
+    @Test
+    void queriesCreatedFromCachedTemplateHaveIndependentParameters() {
+        final String query = "SELECT ?x WHERE { ?x a ?type . }";
+        final Query first = factory.createNativeQuery(query);
+        final Query second = factory.createNativeQuery(query);
+        first.setParameter("type", "http://example.org/A");
+        assertNotSame(first.getParameter("type"), second.getParameter("type"));
+        assertEquals("http://example.org/A", first.getParameterValue("type"));
+        assertFalse(second.isBound(second.getParameter("type")));
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SparqlQueryTemplateTest {
+
+    private final ParameterValueFactory valueFactory = new ParameterValueFactory(mock(MetamodelProvider.class));
+
+    private final SparqlQueryParser parser = new SparqlQueryParser();
+
+    @Test
+    void parseTemplateSplitsQueryIntoPartsAndParameterIdentifiers() {
+        final SparqlQueryTemplate result = parser.parseTemplate("SELECT ?x WHERE { ?x ?y $ . ?x ?z ?y . }");
+        assertEquals(List.of("SELECT ", " WHERE { ", " ", " ", " . ", " ", " ", " . }"), result.getQueryParts());
+        assertEquals(List.of("x", "x", "y", 1, "x", "z", "y"), result.getParameterIdentifiers());
+    }
+
+    @Test
+    void toQueryHolderReusesParameterInstanceForRepeatedOccurrences() {
+        final SparqlQueryTemplate template = parser.parseTemplate("SELECT ?x WHERE { ?x ?y ?z . }");
+        final SparqlQueryHolder holder = template.toQueryHolder(valueFactory);
+        assertEquals(3, holder.getParameters().size());
+        assertTrue(holder.getParameter("x").isProjected());
+        assertFalse(holder.getParameter("y").isProjected());
+    }
+
+    @Test
+    void toQueryHolderCreatesNewParameterInstancesForEveryHolder() {
+        final SparqlQueryTemplate template = parser.parseTemplate("SELECT ?x WHERE { ?x a ?type . }");
+        final SparqlQueryHolder first = template.toQueryHolder(valueFactory);
+        final SparqlQueryHolder second = template.toQueryHolder(valueFactory);
+        assertNotSame(first.getParameter("type"), second.getParameter("type"));
+        first.setParameter(first.getParameter("type"), "test", "en");
+        assertEquals("SELECT ?x WHERE { ?x a \"test\"@en . }", first.assembleQuery());
+        assertEquals("SELECT ?x WHERE { ?x a ?type . }", second.assembleQuery());
+    }
+}
@@ -63,6 +63,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -102,6 +103,22 @@ abstract class AbstractUnitOfWorkTestRunner extends UnitOfWorkTestBase {
         verify(storageMock).find(new LoadingParameters<>(OWLClassA.class, entityA.getUri(), descriptor));
     }
 
+    @Test
+    void prefetchObjectsPrefetchesOnlyObjectsNotManagedByPersistenceContext() {
+        defaultLoadStateDescriptor(entityA);
+        uow.registerExistingObject(entityA, descriptor);
+        final URI idOne = Generators.createIndividualIdentifier();
+        final URI idTwo = Generators.createIndividualIdentifier();
+        uow.prefetchObjects(OWLClassA.class, List.of(entityA.getUri(), idOne, idTwo, idOne), descriptor);
+        verify(storageMock).prefetch(OWLClassA.class, List.of(idOne, idTwo), descriptor, null);
+    }
+
+    @Test
+    void prefetchObjectsDoesNothingForSingleObjectToLoad() {
+        uow.prefetchObjects(OWLClassA.class, List.of(entityA.getUri()), descriptor);
+        verify(storageMock, never()).prefetch(any(), anyCollection(), any(), any());
+    }
+
     @Test
     void readAlreadyManagedObjectReturnsTheManagedOne() {
         defaultLoadStateDescriptor(entityA);
@@ -19,15 +19,20 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.model.EntityState;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Collection;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -85,6 +90,11 @@ public class OnCommitChangePropagatingUnitOfWorkGetReferenceTest extends Abstrac
         entity.setStringAttribute(newStringValue);
         verify(storageMock, never()).merge(any(), eq(metamodelMocks.forOwlClassA().stringAttribute()), eq(descriptor));
         uow.commit();
-        verify(storageMock).merge(any(), eq(metamodelMocks.forOwlClassA().stringAttribute()), eq(descriptor));
+        final ArgumentCaptor<Collection<FieldValueUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(storageMock).mergeAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        final FieldValueUpdate update = captor.getValue().iterator().next();
+        assertEquals(List.of(metamodelMocks.forOwlClassA().stringAttribute()), update.fields());
+        assertEquals(descriptor, update.descriptor());
     }
 }
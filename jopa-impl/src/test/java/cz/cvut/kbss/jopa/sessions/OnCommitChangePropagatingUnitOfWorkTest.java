@@ -24,8 +24,12 @@ import cz.cvut.kbss.jopa.environment.OWLClassU;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelFactory;
 import cz.cvut.kbss.jopa.exceptions.AttributeModificationForbiddenException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.MultilingualString;
+import cz.cvut.kbss.jopa.model.lifecycle.LifecycleEvent;
+import cz.cvut.kbss.jopa.model.metamodel.EntityLifecycleListenerManager;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
+import cz.cvut.kbss.jopa.sessions.util.FieldValueUpdate;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import org.junit.jupiter.api.AfterAll;
@@ -33,15 +37,24 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -78,7 +91,38 @@ class OnCommitChangePropagatingUnitOfWorkTest extends ReadWriteUnitOfWorkTest {
         clone.setStringAttribute("new string value");
         assertTrue(uow.uowChangeSet.getExistingObjectsChanges().isEmpty());
         uow.commit();
+        verify(storageMock).mergeAll(
+                List.of(new FieldValueUpdate(clone, List.of(metamodelMocks.forOwlClassA().stringAttribute()),
+                        descriptor)));
+    }
+
+    @Test
+    void commitToStorageWritesChangesOfAllExistingObjectsInSingleBatch() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        defaultLoadStateDescriptor(another);
+        final OWLClassA cloneOne = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final OWLClassA cloneTwo = (OWLClassA) uow.registerExistingObject(another, descriptor);
+        cloneOne.setStringAttribute("new string value");
+        cloneTwo.setStringAttribute("another string value");
+        uow.commit();
+
+        final ArgumentCaptor<Collection<FieldValueUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(storageMock).mergeAll(captor.capture());
+        assertEquals(Set.of(cloneOne, cloneTwo),
+                captor.getValue().stream().map(FieldValueUpdate::entity).collect(Collectors.toSet()));
+        verify(storageMock, never()).merge(any(), any(), any());
+    }
+
+    @Test
+    void commitToStorageWritesChangesAttributeByAttributeWhenBatchUpdatesAreDisabled() {
+        uow.getConfiguration().set(JOPAPersistenceProperties.COMMIT_BATCH_UPDATES, Boolean.FALSE.toString());
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        uow.commit();
         verify(storageMock).merge(clone, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(storageMock, never()).mergeAll(any());
     }
 
     @Test
@@ -144,6 +188,37 @@ class OnCommitChangePropagatingUnitOfWorkTest extends ReadWriteUnitOfWorkTest {
         toMerge.setSingularStringAtt(MultilingualString.create("Test", "en"));
         final OWLClassU merged = uow.mergeDetached(toMerge, descriptor);
         uow.commit();
-        verify(storageMock).merge(merged, metamodelMocks.forOwlClassU().uModified(), descriptor);
+        final ArgumentCaptor<Collection<FieldValueUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(storageMock).mergeAll(captor.capture());
+        final FieldValueUpdate update = captor.getValue().iterator().next();
+        assertSame(merged, update.entity());
+        assertTrue(update.fields().contains(metamodelMocks.forOwlClassU().uModified()));
+    }
+
+    @Test
+    void commitWritesChangesDoneByPreUpdateCallbackToAnotherModifiedEntityRegardlessOfProcessingOrder() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        defaultLoadStateDescriptor(another);
+        final OWLClassA cloneOne = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final OWLClassA cloneTwo = (OWLClassA) uow.registerExistingObject(another, descriptor);
+        final EntityLifecycleListenerManager listenerManager = mock(EntityLifecycleListenerManager.class);
+        when(listenerManager.hasLifecycleCallback(LifecycleEvent.PRE_UPDATE)).thenReturn(true);
+        // The callback of either entity modifies the string attribute of the other one
+        doAnswer(inv -> {
+            final OWLClassA other = inv.getArgument(0) == cloneOne ? cloneTwo : cloneOne;
+            other.setStringAttribute("Changed by callback");
+            return null;
+        }).when(listenerManager).invokePreUpdateCallbacks(any());
+        when(metamodelMocks.forOwlClassA().entityType().getLifecycleListenerManager()).thenReturn(listenerManager);
+        cloneOne.setTypes(Set.of(Generators.createIndividualIdentifier().toString()));
+        cloneTwo.setTypes(Set.of(Generators.createIndividualIdentifier().toString()));
+        uow.commit();
+
+        final ArgumentCaptor<Collection<FieldValueUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(storageMock).mergeAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        captor.getValue().forEach(update -> assertTrue(
+                update.fields().contains(metamodelMocks.forOwlClassA().stringAttribute())));
     }
 }
@@ -293,16 +293,16 @@ class ReadOnlyUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
 
     @Test
     void readObjectInternalThrowsAssertionErrorOnNullParameter() {
-        assertThrows(AssertionError.class, () -> uow.readObjectInternal(null, identifierMock, descriptorMock));
-        assertThrows(AssertionError.class, () -> uow.readObjectInternal(objectMock.getClass(), null, descriptorMock));
-        assertThrows(AssertionError.class, () -> uow.readObjectInternal(objectMock.getClass(), identifierMock, null));
+        assertThrows(AssertionError.class, () -> uow.readObjectInternal(null, identifierMock, descriptorMock, null));
+        assertThrows(AssertionError.class, () -> uow.readObjectInternal(objectMock.getClass(), null, descriptorMock, null));
+        assertThrows(AssertionError.class, () -> uow.readObjectInternal(objectMock.getClass(), identifierMock, null, null));
     }
 
     @Test
     void readObjectInternalReturnsManagedObject() {
         defaultLoadStateDescriptor(entityA);
         uow.registerExistingObject(entityA, descriptor);
-        OWLClassA result = uow.readObjectInternal(OWLClassA.class, entityA.getUri(), descriptor);
+        OWLClassA result = uow.readObjectInternal(OWLClassA.class, entityA.getUri(), descriptor, null);
         assertSame(entityA, result);
     }
 
@@ -313,7 +313,7 @@ class ReadOnlyUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
         when(storageMock.find(params)).thenReturn(entityA);
         defaultLoadStateDescriptor(entityA);
 
-        uow.readObjectInternal(OWLClassA.class, entityA.getUri(), descriptor);
+        uow.readObjectInternal(OWLClassA.class, entityA.getUri(), descriptor, null);
 
         // check object is managed
         assertTrue(uow.isObjectManaged(entityA));
@@ -326,7 +326,7 @@ class ReadOnlyUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
         when(storageMock.find(params)).thenReturn(entityA);
         defaultLoadStateDescriptor(entityA);
 
-        OWLClassA result = uow.readObjectInternal(OWLClassA.class, entityA.getUri(), descriptor);
+        OWLClassA result = uow.readObjectInternal(OWLClassA.class, entityA.getUri(), descriptor, null);
 
         // check object is managed
         assertSame(entityA, result);
@@ -703,7 +703,7 @@ class ReadOnlyUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
         )).thenReturn(true);
         when(storageMock.find(ArgumentMatchers.any())).thenReturn(entityA);
 
-        OWLClassA result = uow.readObjectInternal(entityA.getClass(), entityA.getUri(), descriptor);
+        OWLClassA result = uow.readObjectInternal(entityA.getClass(), entityA.getUri(), descriptor, null);
 
         assertNotNull(result);
         assertNotSame(entityA, result);
@@ -15,10 +15,12 @@ import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.model.EntityState;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MultilingualString;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.annotations.ParticipationConstraint;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.oom.id.IdentifierGenerators;
 import cz.cvut.kbss.jopa.proxy.change.ChangeTrackingIndirectMultilingualString;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
 import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
@@ -27,6 +29,7 @@ import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.CloneConfiguration;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
+import cz.cvut.kbss.jopa.utils.Configuration;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -40,6 +43,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static cz.cvut.kbss.jopa.environment.utils.ContainsSameEntities.containsSameEntities;
 import static org.hamcrest.CoreMatchers.containsString;
@@ -58,6 +62,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -153,6 +158,68 @@ abstract class ReadWriteUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
         verify(storageMock).generateIdentifier(metamodelMocks.forOwlClassE().entityType());
     }
 
+    @Test
+    void registerNewObjectSkipsStorageExistenceCheckWhenIdentifierIsGeneratedByCollisionFreeStrategy() {
+        final Configuration config = new Configuration();
+        config.set(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY, "uuid");
+        when(metamodelMock.getIdentifierGenerators()).thenReturn(new IdentifierGenerators(config));
+        final OWLClassE entity = new OWLClassE();
+        when(storageMock.generateIdentifier(any(EntityType.class))).thenReturn(Generators.createIndividualIdentifier());
+        uow.registerNewObject(entity, descriptor);
+        verify(storageMock, never()).contains(any(), any(), any());
+    }
+
+    @Test
+    void registerNewObjectChecksStorageExistenceWhenIdentifierIsGeneratedByStorageStrategy() {
+        final OWLClassE entity = new OWLClassE();
+        when(storageMock.generateIdentifier(any(EntityType.class))).thenReturn(Generators.createIndividualIdentifier());
+        uow.registerNewObject(entity, descriptor);
+        verify(storageMock).contains(entity.getUri(), OWLClassE.class, descriptor);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void persistAllPassesEntitiesToStorageInBatchesOfConfiguredSizeAndReportsProgress() {
+        uow.getConfiguration().set(JOPAPersistenceProperties.BULK_PERSIST_BATCH_SIZE, "2");
+        final List<OWLClassA> entities = Generators.generateInstances(3);
+        doAnswer(inv -> {
+            final Stream<Object> stream = inv.getArgument(0);
+            final Consumer<List<Object>> consumer = inv.getArgument(3);
+            final List<Object> all = stream.toList();
+            consumer.accept(all.subList(0, 2));
+            consumer.accept(all.subList(2, 3));
+            return null;
+        }).when(storageMock).persistAll(any(), eq(descriptor), eq(2), any());
+        final List<Long> progress = new ArrayList<>();
+
+        final long result = uow.persistAll(entities.stream(), descriptor, progress::add);
+        assertEquals(3, result);
+        assertEquals(List.of(2L, 3L), progress);
+        entities.forEach(e -> assertFalse(uow.contains(e)));
+        assertTrue(uow.hasChanges());
+    }
+
+    @Test
+    void persistAllThrowsIllegalArgumentExceptionWhenEntityIsAlreadyManaged() {
+        uow.registerNewObject(entityA, descriptor);
+        doAnswer(inv -> {
+            final Stream<Object> stream = inv.getArgument(0);
+            stream.forEach(e -> {});
+            return null;
+        }).when(storageMock).persistAll(any(), eq(descriptor), anyInt(), any());
+
+        assertThrows(IllegalArgumentException.class, () -> uow.persistAll(Stream.of(entityA), descriptor, c -> {}));
+    }
+
+    @Test
+    void readObjectDetachedLoadsObjectWithoutRegisteringItInPersistenceContext() {
+        when(storageMock.findDetached(any())).thenReturn(entityA);
+        final OWLClassA result = uow.readObjectDetached(OWLClassA.class, entityA.getUri(), descriptor);
+        assertSame(entityA, result);
+        assertFalse(uow.contains(result));
+        verify(storageMock, never()).find(any());
+    }
+
     @Test
     void readNewlyRegisteredObjectReturnsIt() {
         uow.registerNewObject(entityA, descriptor);
@@ -0,0 +1,160 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.Vocabulary;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentCacheManagerTest extends AbstractCacheManagerTest<ConcurrentCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new ConcurrentCacheManager(Collections.emptyMap());
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    void sweepRemovesExpiredEntries() throws Exception {
+        initSweepableManager();
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorTwo));
+        Thread.sleep(1100);
+        manager.sweep();
+        assertFalse(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
+        assertTrue(extractDescriptors().isEmpty());
+    }
+
+    @Test
+    void sweepRetainsRecentlyAccessedEntries() throws Exception {
+        initSweepableManager();
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorTwo));
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(300);
+            assertNotNull(manager.get(testA.getClass(), testA.getUri(), descriptorOne));
+        }
+        manager.sweep();
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
+    }
+
+    private void initSweepableManager() {
+        manager.close();
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "60");
+        this.manager = new ConcurrentCacheManager(props);
+    }
+
+    @Test
+    void closeShutsDownSweeper() throws Exception {
+        final Field schedulerField = ConcurrentCacheManager.class.getDeclaredField("sweeperScheduler");
+        schedulerField.setAccessible(true);
+        final ScheduledExecutorService scheduler = (ScheduledExecutorService) schedulerField.get(manager);
+        manager.close();
+        assertTrue(scheduler.isShutdown());
+    }
+
+    @Test
+    void concurrentAddsAndReadsOfDifferentEntriesAreAllVisible() throws Exception {
+        final int threadCount = 8;
+        final int perThread = 200;
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<List<OWLClassA>>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    final List<OWLClassA> added = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        // Random identifiers could collide across threads
+                        final OWLClassA a = new OWLClassA(
+                                URI.create(Vocabulary.INDIVIDUAL_BASE + "concurrent-" + thread + "-" + i));
+                        manager.add(a.getUri(), a, descriptors(descriptor));
+                        assertSame(a, manager.get(OWLClassA.class, a.getUri(), descriptor));
+                        added.add(a);
+                    }
+                    return added;
+                }));
+            }
+            for (Future<List<OWLClassA>> f : futures) {
+                for (OWLClassA a : f.get()) {
+                    assertSame(a, manager.get(OWLClassA.class, a.getUri(), descriptor));
+                    assertNotNull(manager.getLoadStateDescriptor(a));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void evictByContextDoesNotPreventSubsequentAddToSameContext() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptors(descriptor));
+        manager.evict(CONTEXT_ONE);
+        assertNull(manager.get(OWLClassA.class, testA.getUri(), descriptor));
+        manager.add(testA.getUri(), testA, descriptors(descriptor));
+        assertSame(testA, manager.get(OWLClassA.class, testA.getUri(), descriptor));
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() throws Exception {
+        final Field instancesField = ConcurrentCacheManager.class.getDeclaredField("instances");
+        instancesField.setAccessible(true);
+        final Map<?, ?> instances = (Map<?, ?>) instancesField.get(manager);
+        final Map<Object, Object> result = new IdentityHashMap<>();
+        instances.forEach((k, v) -> result.put(((ConcurrentCacheManager.InstanceKey) k).instance(), v));
+        return result;
+    }
+}
@@ -303,6 +303,22 @@ public abstract class TypedQueryRunner extends BaseQueryRunner {
         assertEquals(dList.size(), (int) q.getResultStream().count());
     }
 
+    @Test
+    void querySupportsStreamingResultsInPages() {
+        final TypedQuery<OWLClassD> q = getEntityManager().createNativeQuery(SELECT_BY_TYPE + " ORDER BY ?x",
+                                                                               OWLClassD.class)
+                                                          .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_D))
+                                                          .setHint(QueryHints.PAGE_SIZE, 3)
+                                                          .setHint(QueryHints.DETACH_STREAMED_RESULTS, true);
+        final List<OWLClassD> dList = QueryTestEnvironment.getData(OWLClassD.class);
+        final Set<URI> expected = dList.stream().map(OWLClassD::getUri).collect(Collectors.toSet());
+
+        final List<OWLClassD> result = q.getResultStream().toList();
+        assertEquals(expected, result.stream().map(OWLClassD::getUri).collect(Collectors.toSet()));
+        assertEquals(dList.size(), result.size());
+        result.forEach(d -> assertFalse(getEntityManager().contains(d)));
+    }
+
     @Test
     void selectionByObjectPropertySupportsEntityAsQueryParameter() {
         final String query = "SELECT ?x WHERE { ?x a ?type ; ?hasA ?y . }";
@@ -742,4 +742,45 @@ public abstract class CreateOperationsRunner extends BaseRunner {
                 new Quad(entityAA.getUri(), URI.create(Vocabulary.P_AA_DYNAMIC_ATTRIBUTE),
                         entityAA.getDynamicProperty(), (String) null)), em);
     }
+
+    @Test
+    void persistAllPersistsEntitiesInBulkWithinTransaction() {
+        this.em = getEntityManager("PersistAll", false);
+        final List<OWLClassA> instances = IntStream.range(0, 10).mapToObj(i -> {
+            final OWLClassA a = new OWLClassA(Generators.generateUri(), "Bulk instance " + i);
+            a.setTypes(Collections.singleton(Vocabulary.C_OWL_CLASS_U));
+            return a;
+        }).toList();
+        final List<Long> progress = new ArrayList<>();
+        em.getTransaction().begin();
+        final long count = em.persistAll(instances.stream(), new EntityDescriptor(), progress::add);
+        em.getTransaction().commit();
+
+        assertEquals(instances.size(), count);
+        assertFalse(progress.isEmpty());
+        assertEquals(instances.size(), progress.get(progress.size() - 1));
+        for (OWLClassA a : instances) {
+            final OWLClassA result = findRequired(OWLClassA.class, a.getUri());
+            assertEquals(a.getStringAttribute(), result.getStringAttribute());
+            assertEquals(a.getTypes(), result.getTypes());
+        }
+    }
+
+    @Test
+    void persistAllGeneratesIdentifiersOfEntitiesWithoutThem() {
+        this.em = getEntityManager("PersistAllGeneratedId", false);
+        final List<OWLClassE> instances = IntStream.range(0, 5).mapToObj(i -> {
+            final OWLClassE e = new OWLClassE();
+            e.setStringAttribute("Bulk instance " + i);
+            return e;
+        }).toList();
+        em.getTransaction().begin();
+        em.persistAll(instances.stream());
+        em.getTransaction().commit();
+
+        instances.forEach(e -> {
+            assertNotNull(e.getUri());
+            assertEquals(e.getStringAttribute(), findRequired(OWLClassE.class, e.getUri()).getStringAttribute());
+        });
+    }
 }
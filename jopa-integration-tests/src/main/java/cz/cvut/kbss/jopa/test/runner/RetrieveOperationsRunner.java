@@ -17,11 +17,13 @@
  */
 package cz.cvut.kbss.jopa.test.runner;
 
+import cz.cvut.kbss.jopa.model.EntityGraph;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.test.OWLClassA;
 import cz.cvut.kbss.jopa.test.OWLClassAA;
 import cz.cvut.kbss.jopa.test.OWLClassB;
@@ -170,6 +172,97 @@ public abstract class RetrieveOperationsRunner extends BaseRunner {
         assertTrue(em.contains(res));
     }
 
+    @Test
+    void findWithReadOnlyProjectionReturnsDetachedInstanceWithEagerReferences() {
+        this.em = getEntityManager("RetrieveReadOnlyProjection", false);
+        persist(entityD, entityA);
+
+        em.setProperty(JOPAPersistenceProperties.READ_ONLY_PROJECTION, Boolean.TRUE.toString());
+        final OWLClassD res = findRequired(OWLClassD.class, entityD.getUri());
+        assertFalse(em.contains(res));
+        assertNotNull(res.getOwlClassA());
+        assertEquals(entityA.getStringAttribute(), res.getOwlClassA().getStringAttribute());
+        assertFalse(em.contains(res.getOwlClassA()));
+    }
+
+    @Test
+    void findWithFetchGraphLoadsLazilyFetchedAttributeInGraphEagerly() {
+        this.em = getEntityManager("FindWithFetchGraphEager", false);
+        persist(entityI);
+        em.clear();
+
+        final EntityGraph<OWLClassI> graph = em.createEntityGraph(OWLClassI.class);
+        graph.addAttributeNodes("owlClassA");
+        final OWLClassI res = em.find(OWLClassI.class, entityI.getUri(), Map.of(QueryHints.FETCH_GRAPH, graph));
+        assertNotNull(res);
+        assertTrue(em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(res, "owlClassA"));
+        assertThat(res.getOwlClassA(), not(instanceOf(LazyLoadingProxy.class)));
+        assertEquals(entityA.getStringAttribute(), res.getOwlClassA().getStringAttribute());
+    }
+
+    @Test
+    void findWithFetchGraphLoadsAttributesOutsideGraphLazily() {
+        this.em = getEntityManager("FindWithFetchGraphLazy", false);
+        persist(entityD, entityA);
+        em.clear();
+
+        final EntityGraph<OWLClassD> graph = em.createEntityGraph(OWLClassD.class);
+        final OWLClassD res = em.find(OWLClassD.class, entityD.getUri(), Map.of(QueryHints.FETCH_GRAPH, graph));
+        assertNotNull(res);
+        assertFalse(em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(res, "owlClassA"));
+        assertEquals(entityA.getUri(), res.getOwlClassA().getUri());
+        assertEquals(entityA.getStringAttribute(), res.getOwlClassA().getStringAttribute());
+    }
+
+    @Test
+    void findWithFetchGraphLoadsPluralAttributeOutsideGraphOnAccess() {
+        this.em = getEntityManager("FindWithFetchGraphPlural", false);
+        transactional(() -> {
+            em.persist(entityC);
+            entityC.setReferencedList(List.of(entityA));
+            entityC.getReferencedList().forEach(em::persist);
+        });
+        em.clear();
+
+        final EntityGraph<OWLClassC> graph = em.createEntityGraph(OWLClassC.class);
+        final OWLClassC res = em.find(OWLClassC.class, entityC.getUri(), Map.of(QueryHints.FETCH_GRAPH, graph));
+        assertNotNull(res);
+        assertFalse(em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(res, "referencedList"));
+        assertEquals(1, res.getReferencedList().size());
+        assertEquals(entityA.getUri(), res.getReferencedList().get(0).getUri());
+    }
+
+    @Test
+    void queryWithLoadGraphHintLoadsLazilyFetchedAttributeInGraphEagerly() {
+        this.em = getEntityManager("QueryWithLoadGraph", false);
+        persist(entityI);
+        em.clear();
+
+        final EntityGraph<OWLClassI> graph = em.createEntityGraph(OWLClassI.class);
+        graph.addAttributeNodes("owlClassA");
+        final List<OWLClassI> result = em.createNativeQuery("SELECT ?x WHERE { ?x a ?type . }", OWLClassI.class)
+                                         .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_I))
+                                         .setHint(QueryHints.LOAD_GRAPH, graph)
+                                         .getResultList();
+        assertEquals(1, result.size());
+        assertTrue(em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(result.get(0), "owlClassA"));
+        assertEquals(entityA.getUri(), result.get(0).getOwlClassA().getUri());
+    }
+
+    @Test
+    void queryWithReadOnlyProjectionHintReturnsDetachedInstances() {
+        this.em = getEntityManager("QueryReadOnlyProjection", false);
+        persist(entityA);
+
+        final List<OWLClassA> result = em.createNativeQuery("SELECT ?x WHERE { ?x a ?type . }", OWLClassA.class)
+                                         .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_A))
+                                         .setHint(QueryHints.READ_ONLY_PROJECTION, true)
+                                         .getResultList();
+        assertEquals(1, result.size());
+        assertEquals(entityA.getStringAttribute(), result.get(0).getStringAttribute());
+        assertFalse(em.contains(result.get(0)));
+    }
+
     @Test
     void testRetrieveWithLazyAttribute() {
         this.em = getEntityManager("RetrieveLazy", false);
@@ -33,17 +33,29 @@ import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Annotation processor that finds JOPA entities and mapped superclasses and generates a static metamodel based on
  * them.
+ * <p>
+ * In addition, the processor generates a persistence unit index ({@link #INDEX_RESOURCE}) listing the entities, result
+ * set mapping classes and auto-applied converters found during compilation. The index can be used instead of classpath
+ * scanning when the persistence unit is built.
  */
-@SupportedAnnotationTypes({"cz.cvut.kbss.jopa.model.annotations.OWLClass",
-        "cz.cvut.kbss.jopa.model.annotations.MappedSuperclass"})
+@SupportedAnnotationTypes({ModelGenProcessor.OWL_CLASS_ANNOTATION,
+        ModelGenProcessor.MAPPED_SUPERCLASS_ANNOTATION,
+        ModelGenProcessor.SPARQL_RESULT_SET_MAPPING_ANNOTATION,
+        ModelGenProcessor.SPARQL_RESULT_SET_MAPPINGS_ANNOTATION,
+        ModelGenProcessor.CONVERTER_ANNOTATION})
 @SupportedOptions({
         ModelGenProcessor.OUTPUT_DIRECTORY_PARAM,
         ModelGenProcessor.SOURCE_PACKAGE_PARAM,
@@ -53,9 +65,27 @@ public class ModelGenProcessor extends AbstractProcessor {
     public static final String OUTPUT_DIRECTORY_PARAM = "outputDirectory";
     public static final String SOURCE_PACKAGE_PARAM = "sourcePackage";
     public static final String DEBUG_PARAM = "debugOption";
+
+    /**
+     * Location of the generated persistence unit index in the class output.
+     * <p>
+     * The index contains binary names of the indexed classes, one per line. It is read by
+     * {@code cz.cvut.kbss.jopa.loaders.IndexedClasspathScanner}.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/jopa/persistence-unit.index";
+
+    static final String OWL_CLASS_ANNOTATION = "cz.cvut.kbss.jopa.model.annotations.OWLClass";
+    static final String MAPPED_SUPERCLASS_ANNOTATION = "cz.cvut.kbss.jopa.model.annotations.MappedSuperclass";
+    static final String SPARQL_RESULT_SET_MAPPING_ANNOTATION =
+            "cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping";
+    static final String SPARQL_RESULT_SET_MAPPINGS_ANNOTATION =
+            "cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMappings";
+    static final String CONVERTER_ANNOTATION = "cz.cvut.kbss.jopa.model.annotations.Converter";
+
     Messager messager;
 
     private Map<String, MetamodelClass> classes;
+    private Set<String> indexedClasses;
 
     private String sourcePackage;
     private String outputDirectory;
@@ -67,6 +97,7 @@ public class ModelGenProcessor extends AbstractProcessor {
         this.messager = env.getMessager();
         messager.printMessage(Diagnostic.Kind.NOTE, "Initializing ModelGenProcessor.");
         this.classes = new HashMap<>();
+        this.indexedClasses = new TreeSet<>();
         sourcePackage = env.getOptions().get(SOURCE_PACKAGE_PARAM);
         outputDirectory = env.getOptions().get(OUTPUT_DIRECTORY_PARAM);
         debugOption = Boolean.parseBoolean(env.getOptions().get(DEBUG_PARAM));
@@ -75,9 +106,19 @@ public class ModelGenProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         for (TypeElement te : annotations) {
+            final String annotationName = te.getQualifiedName().toString();
+            final boolean metamodelSource = OWL_CLASS_ANNOTATION.equals(annotationName) ||
+                    MAPPED_SUPERCLASS_ANNOTATION.equals(annotationName);
             for (Element elParent : roundEnv.getElementsAnnotatedWith(te)) {
                 if (!isAnnotatedWithNonEntity(elParent) && (sourcePackage == null || elParent.asType().toString()
                                                                                              .contains(sourcePackage))) {
+                    if (!MAPPED_SUPERCLASS_ANNOTATION.equals(annotationName)) {
+                        indexedClasses.add(processingEnv.getElementUtils().getBinaryName((TypeElement) elParent)
+                                                        .toString());
+                    }
+                    if (!metamodelSource) {
+                        continue;
+                    }
                     MetamodelClass parentClass = new MetamodelClass(elParent);
 
                     if (debugOption) {
@@ -108,7 +149,31 @@ public class ModelGenProcessor extends AbstractProcessor {
         }
         final OutputFilesGenerator outputGenerator = new OutputFilesGenerator(outputDirectory, debugOption, messager);
         outputGenerator.generateOutputFiles(classes.values());
-        return true;
+        if (roundEnv.processingOver()) {
+            generateIndex();
+        }
+        // Do not claim the annotations, other processors (e.g., of converters or result set mappings) may need them
+        return false;
+    }
+
+    private void generateIndex() {
+        if (debugOption) {
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Generating persistence unit index with " + indexedClasses.size() + " classes.");
+        }
+        try {
+            final FileObject index = processingEnv.getFiler()
+                                                  .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (final Writer writer = index.openWriter()) {
+                for (String cls : indexedClasses) {
+                    writer.write(cls);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to generate persistence unit index. Got " + e.getMessage());
+        }
     }
 
     private static boolean isPropertyPersistent(Element param) {
@@ -22,12 +22,20 @@ import com.google.testing.compile.JavaFileObjects;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.StandardLocation;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.google.testing.compile.CompilationSubject.assertThat;
 import static com.google.testing.compile.Compiler.javac;
@@ -71,6 +79,57 @@ class ModelGenProcessorTests {
                 readFileAsString(new File(OUTPUT_DIRECTORY + "/cz/test/ex/TestingClassOWL_.java")));
     }
 
+    @Test
+    void processingGeneratesPersistenceUnitIndexWithEntityClasses() throws Exception {
+        List<String> options = List.of("-AoutputDirectory=" + OUTPUT_DIRECTORY);
+        Compilation compilation = javac()
+                .withProcessors(new ModelGenProcessor()).withOptions(options)
+                .compile(JavaFileObjects.forSourceLines("cz.test.ex.TestingClassOWL", readFileAsString(
+                                new File("src/test/java/cz/test/ex/TestingClassOWL.java"))),
+                        JavaFileObjects.forSourceLines("cz.test.ex.TestingClassNonEntity", readFileAsString(
+                                new File("src/test/java/cz/test/ex/TestingClassNonEntity.java"))),
+                        JavaFileObjects.forSourceLines("cz.test.ex.TestingClassNotOWL", readFileAsString(
+                                new File("src/test/java/cz/test/ex/TestingClassNotOWL.java"))));
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, ModelGenProcessor.INDEX_RESOURCE)
+                               .contentsAsUtf8String().isEqualTo("cz.test.ex.TestingClassOWL\n");
+    }
+
+    @Test
+    void processingDoesNotClaimAnnotationsSoThatOtherProcessorsSeeThem() throws Exception {
+        final ConverterRecordingProcessor recorder = new ConverterRecordingProcessor();
+        Compilation compilation = javac()
+                .withProcessors(new ModelGenProcessor(), recorder)
+                .withOptions(List.of("-AoutputDirectory=" + OUTPUT_DIRECTORY))
+                .compile(JavaFileObjects.forSourceLines("cz.test.ex.TestingConverter",
+                        "package cz.test.ex;",
+                        "@cz.cvut.kbss.jopa.model.annotations.Converter",
+                        "public class TestingConverter implements cz.cvut.kbss.jopa.model.AttributeConverter<String, String> {",
+                        "    public String convertToAxiomValue(String value) { return value; }",
+                        "    public String convertToAttribute(String value) { return value; }",
+                        "}"));
+        assertThat(compilation).succeededWithoutWarnings();
+        assertEquals(Set.of("cz.test.ex.TestingConverter"), recorder.processed);
+    }
+
+    @SupportedAnnotationTypes(ModelGenProcessor.CONVERTER_ANNOTATION)
+    private static class ConverterRecordingProcessor extends AbstractProcessor {
+
+        private final Set<String> processed = new HashSet<>();
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            annotations.forEach(a -> roundEnv.getElementsAnnotatedWith(a)
+                                             .forEach(e -> processed.add(e.toString())));
+            return false;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+    }
+
     static String readFileAsString(File file) throws IOException {
         return String.join("\n", Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
     }
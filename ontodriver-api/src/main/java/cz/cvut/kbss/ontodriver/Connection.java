@@ -25,7 +25,10 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public interface Connection extends AutoCloseable, Wrapper {
@@ -161,6 +164,30 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     Collection<Axiom<?>> find(AxiomDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Finds axioms for multiple subjects at once.
+     * <p>
+     * This is a bulk version of {@link #find(AxiomDescriptor)} which allows implementations to load axioms of all the
+     * specified subjects in fewer storage round trips. The default implementation invokes {@link
+     * #find(AxiomDescriptor)} for each descriptor.
+     *
+     * @param descriptors Loading descriptors, each specifying subject, properties to load and possible contexts to work
+     *                    with. Subjects of the descriptors are expected to be unique
+     * @return Map of subjects to axioms matching criteria of the corresponding descriptors. Subjects with no matching
+     * axioms are mapped to empty collections
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws OntoDriverException {
+        Objects.requireNonNull(descriptors);
+        final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), find(descriptor));
+        }
+        return result;
+    }
+
     /**
      * Persists new individual and its property values specified by the descriptor.
      *
@@ -170,6 +197,24 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     void persist(AxiomValueDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Persists new individuals and their property values specified by the descriptors.
+     * <p>
+     * This is a bulk version of {@link #persist(AxiomValueDescriptor)} which allows implementations to write the data
+     * of all the individuals in fewer storage operations. The default implementation invokes {@link
+     * #persist(AxiomValueDescriptor)} for each descriptor.
+     *
+     * @param descriptors Descriptors of the persisted values
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default void persistAll(Collection<AxiomValueDescriptor> descriptors) throws OntoDriverException {
+        Objects.requireNonNull(descriptors);
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            persist(descriptor);
+        }
+    }
+
     /**
      * Generates a new unique identifier based on the specified type.
      * <p>
@@ -193,6 +238,25 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     void update(AxiomValueDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Updates values of individuals specified by the descriptors.
+     * <p>
+     * This is a bulk version of {@link #update(AxiomValueDescriptor)} which allows implementations to remove the
+     * original values and write the new values of all the individuals in fewer storage operations. The descriptors are
+     * expected to specify distinct subject-property pairs. The default implementation invokes {@link
+     * #update(AxiomValueDescriptor)} for each descriptor.
+     *
+     * @param descriptors Descriptors of the update values
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default void updateAll(Collection<AxiomValueDescriptor> descriptors) throws OntoDriverException {
+        Objects.requireNonNull(descriptors);
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            update(descriptor);
+        }
+    }
+
     /**
      * Removes all axioms related to subject specified by the descriptor.
      * <p>
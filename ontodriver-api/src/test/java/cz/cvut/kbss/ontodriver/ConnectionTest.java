@@ -0,0 +1,61 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver;
+
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionTest {
+
+    @Test
+    void findAllInvokesFindForEachDescriptorByDefault() throws Exception {
+        final Connection sut = mock(Connection.class);
+        when(sut.findAll(anyCollection())).thenCallRealMethod();
+        final NamedResource first = NamedResource.create(URI.create("http://example.org/first"));
+        final NamedResource second = NamedResource.create(URI.create("http://example.org/second"));
+        final AxiomDescriptor firstDescriptor = new AxiomDescriptor(first);
+        final AxiomDescriptor secondDescriptor = new AxiomDescriptor(second);
+        final Axiom<?> axiom = new AxiomImpl<>(first, Assertion.createClassAssertion(false),
+                                               new Value<>(NamedResource.create(URI.create("http://example.org/Type"))));
+        when(sut.find(firstDescriptor)).thenReturn(List.of(axiom));
+        when(sut.find(secondDescriptor)).thenReturn(List.of());
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = sut.findAll(List.of(firstDescriptor, secondDescriptor));
+        assertEquals(List.of(axiom), result.get(first));
+        assertTrue(result.get(second).isEmpty());
+        verify(sut).find(firstDescriptor);
+        verify(sut).find(secondDescriptor);
+    }
+}
@@ -23,6 +23,7 @@ import java.net.URI;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IdentifierUtilsTest {
 
@@ -48,4 +49,11 @@ class IdentifierUtilsTest {
         final URI result = IdentifierUtils.generateIdentifier(clsUri);
         assertThat(result.toString(), containsString("/instance"));
     }
+
+    @Test
+    void generateIdentifierWithSuffixAppendsInstanceAndSuffixToClassUri() {
+        final URI clsUri = URI.create(URI_WITH_SLASH);
+        final URI result = IdentifierUtils.generateIdentifier(clsUri, "-117");
+        assertEquals(URI.create(URI_WITH_SLASH + "/instance-117"), result);
+    }
 }
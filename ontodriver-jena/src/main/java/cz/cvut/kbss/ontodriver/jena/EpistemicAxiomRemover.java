@@ -30,6 +30,7 @@ import org.apache.jena.rdf.model.ResourceFactory;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -57,13 +58,25 @@ class EpistemicAxiomRemover {
      * @param descriptor Descriptor of statements to remove
      */
     void remove(AbstractAxiomDescriptor descriptor) {
-        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+        removeAll(Collections.singleton(descriptor));
+    }
+
+    /**
+     * Removes statements corresponding to the subjects and properties specified by all the descriptors at once.
+     *
+     * @param descriptors Descriptors of statements to remove
+     */
+    void removeAll(Collection<? extends AbstractAxiomDescriptor> descriptors) {
         final Collection<SubjectPredicateContext> toRemove = new HashSet<>();
-        descriptor.getAssertions().forEach(assertion -> {
-            final Property property = ResourceFactory.createProperty(assertion.getIdentifier().toString());
-            toRemove.add(new SubjectPredicateContext(subject, property, descriptor.getAssertionContexts(assertion)
-                                                                                  .stream().map(URI::toString)
-                                                                                  .collect(Collectors.toSet())));
+        descriptors.forEach(descriptor -> {
+            final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier()
+                                                                              .toString());
+            descriptor.getAssertions().forEach(assertion -> {
+                final Property property = ResourceFactory.createProperty(assertion.getIdentifier().toString());
+                toRemove.add(new SubjectPredicateContext(subject, property, descriptor.getAssertionContexts(assertion)
+                                                                                      .stream().map(URI::toString)
+                                                                                      .collect(Collectors.toSet())));
+            });
         });
         connector.removePropertyValues(toRemove);
     }
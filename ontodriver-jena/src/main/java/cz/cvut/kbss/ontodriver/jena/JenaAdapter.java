@@ -31,11 +31,13 @@ import cz.cvut.kbss.ontodriver.jena.query.JenaPreparedStatement;
 import cz.cvut.kbss.ontodriver.jena.query.JenaStatement;
 import cz.cvut.kbss.ontodriver.jena.util.IdentifierGenerator;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -81,6 +83,11 @@ public class JenaAdapter implements Wrapper {
         new AxiomSaver(connector).saveAxioms(descriptor);
     }
 
+    void persistAll(Collection<AxiomValueDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        new AxiomSaver(connector).saveAxioms(descriptors);
+    }
+
     private void beginTransactionIfNotActive() {
         if (!transaction.isActive()) {
             connector.begin();
@@ -93,6 +100,11 @@ public class JenaAdapter implements Wrapper {
         return new MainAxiomLoader(connector, inferenceConnector).find(descriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        return new MainAxiomLoader(connector, inferenceConnector).findAll(descriptors);
+    }
+
     boolean contains(Axiom<?> axiom, Set<URI> contexts) {
         beginTransactionIfNotActive();
         return new MainAxiomLoader(connector, inferenceConnector).contains(axiom, contexts);
@@ -124,6 +136,12 @@ public class JenaAdapter implements Wrapper {
         new AxiomSaver(connector).saveAxioms(descriptor);
     }
 
+    void updateAll(Collection<AxiomValueDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        new EpistemicAxiomRemover(connector).removeAll(descriptors);
+        new AxiomSaver(connector).saveAxioms(descriptors);
+    }
+
     void remove(AxiomDescriptor descriptor) {
         beginTransactionIfNotActive();
         new EpistemicAxiomRemover(connector).remove(descriptor);
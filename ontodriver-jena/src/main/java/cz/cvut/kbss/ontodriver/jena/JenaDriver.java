@@ -38,7 +38,8 @@ class JenaDriver implements Closeable, ConnectionListener {
     private static final List<ConfigurationParameter> CONFIGS = Arrays
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.REASONER_FACTORY_CLASS,
                     JenaConfigParam.ISOLATION_STRATEGY, JenaConfigParam.STORAGE_TYPE,
-                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION);
+                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION, JenaConfigParam.JOURNAL_COMPACTION_THRESHOLD,
+                    JenaConfigParam.SHARED_INFERENCE_CLOSURE);
 
     private volatile boolean open;
 
@@ -73,6 +74,7 @@ class JenaDriver implements Closeable, ConnectionListener {
         return switch (isolationStrategy) {
             case JenaOntoDriverProperties.READ_COMMITTED -> new ReadCommittedConnectorFactory(configuration);
             case JenaOntoDriverProperties.SNAPSHOT -> new SnapshotConnectorFactory(configuration);
+            case JenaOntoDriverProperties.MVCC_SNAPSHOT -> new MvccSnapshotConnectorFactory(configuration);
             default ->
                     throw new IllegalArgumentException("Unsupported transaction isolation strategy " + isolationStrategy);
         };
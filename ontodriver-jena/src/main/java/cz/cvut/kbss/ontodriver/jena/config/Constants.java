@@ -36,6 +36,13 @@ public class Constants {
      */
     public static final boolean DEFAULT_AUTO_COMMIT = false;
 
+    /**
+     * Default size of the file storage journal (in bytes) which triggers its compaction.
+     *
+     * @see JenaOntoDriverProperties#JENA_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 16 * 1024 * 1024;
+
     private Constants() {
         throw new AssertionError();
     }
@@ -23,7 +23,9 @@ public enum JenaConfigParam implements ConfigurationParameter {
 
     ISOLATION_STRATEGY(JenaOntoDriverProperties.JENA_ISOLATION_STRATEGY),
     STORAGE_TYPE(JenaOntoDriverProperties.JENA_STORAGE_TYPE),
-    TREAT_DEFAULT_GRAPH_AS_UNION(JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION);
+    TREAT_DEFAULT_GRAPH_AS_UNION(JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION),
+    JOURNAL_COMPACTION_THRESHOLD(JenaOntoDriverProperties.JENA_JOURNAL_COMPACTION_THRESHOLD),
+    SHARED_INFERENCE_CLOSURE(JenaOntoDriverProperties.JENA_SHARED_INFERENCE_CLOSURE);
 
     private final String name;
 
@@ -26,6 +26,7 @@ public class JenaOntoDriverProperties {
      * <ul>
      * <li>{@link #READ_COMMITTED}</li>
      * <li>{@link #SNAPSHOT}</li>
+     * <li>{@link #MVCC_SNAPSHOT}</li>
      * </ul>
      */
     public static final String JENA_ISOLATION_STRATEGY = "cz.cvut.kbss.ontodriver.jena.isolation";
@@ -49,12 +50,28 @@ public class JenaOntoDriverProperties {
      */
     public static final String SNAPSHOT = "snapshot";
 
+    /**
+     * Storage access isolation strategy.
+     * <p>
+     * Provides the same isolation as {@link #SNAPSHOT}, but instead of copying the repository on transaction start,
+     * each transaction reads the repository in a Jena read transaction and keeps a list of its changes. Requires a
+     * storage with multi-version concurrency control, i.e., {@link #IN_MEMORY}, {@link #TDB} or {@link #TDB2}. Other
+     * storage types fall back to {@link #SNAPSHOT}.
+     * <p>
+     * Note that Jena transactions are bound to threads. When a transaction is continued by another thread than the one
+     * which started it, it switches to a copy of the repository taken at that moment.
+     *
+     * @see #JENA_ISOLATION_STRATEGY
+     */
+    public static final String MVCC_SNAPSHOT = "mvcc-snapshot";
+
     /**
      * Represents parameter specifying type of storage to be used by this driver.
      * <p>
      * Possible values are:
      * <ul>
      * <li>{@link #FILE}</li>
+     * <li>{@link #JOURNALED_FILE}</li>
      * <li>{@link #IN_MEMORY}</li>
      * <li>{@link #TDB}</li>
      * </ul>
@@ -68,6 +85,26 @@ public class JenaOntoDriverProperties {
      */
     public static final String FILE = "file";
 
+    /**
+     * File storage which appends changes made by each commit to a journal instead of rewriting the whole file.
+     * <p>
+     * The journal is an <a href="https://afs.github.io/rdf-patch/">RDF Patch</a> file stored next to the main file
+     * (with the {@code .rdfp} suffix). It is replayed on startup and folded into the main file when the storage is
+     * closed or when the journal exceeds {@link #JENA_JOURNAL_COMPACTION_THRESHOLD}. As with {@link #FILE}, only the
+     * default graph is persisted.
+     *
+     * @see #JENA_STORAGE_TYPE
+     */
+    public static final String JOURNALED_FILE = "journaled-file";
+
+    /**
+     * Size of the journal (in bytes) of the {@link #JOURNALED_FILE} storage which triggers its compaction into the main
+     * file.
+     * <p>
+     * The compaction runs in the background and does not block transactions. Defaults to 16 MiB.
+     */
+    public static final String JENA_JOURNAL_COMPACTION_THRESHOLD = "cz.cvut.kbss.ontodriver.jena.journal.compaction_threshold";
+
     /**
      * In-memory storage.
      *
@@ -107,6 +144,27 @@ public class JenaOntoDriverProperties {
      */
     public static final String JENA_TREAT_DEFAULT_GRAPH_AS_UNION = "cz.cvut.kbss.ontodriver.jena.default_graph_as_union";
 
+    /**
+     * Parameter specifying whether transactions with inference should share one inference closure of the storage
+     * instead of computing inference over their own copy of the data.
+     * <p>
+     * The shared closure is computed once and maintained on commit. Transactions read it together with their own
+     * changes and the reasoner only derives consequences of the statements they add. A transaction which removes
+     * existing statements or executes a SPARQL update falls back to a private copy of the data, because inferred
+     * knowledge cannot be retracted incrementally.
+     * <p>
+     * For the same reason, every committed removal makes the reasoner recompute the closure of the whole affected
+     * context, and a committed SPARQL update discards the closure completely. Since updating an entity removes the
+     * original attribute values, this mode is not suitable for update-heavy workloads, it pays off when most
+     * transactions only read or add data.
+     * <p>
+     * Note that transactions using the shared closure see inferred knowledge committed by other transactions, i.e.,
+     * the isolation corresponds to {@link #READ_COMMITTED}.
+     * <p>
+     * Applies only when a reasoner factory is configured. Defaults to {@code false}.
+     */
+    public static final String JENA_SHARED_INFERENCE_CLOSURE = "cz.cvut.kbss.ontodriver.jena.shared_inference_closure";
+
     private JenaOntoDriverProperties() {
         throw new AssertionError();
     }
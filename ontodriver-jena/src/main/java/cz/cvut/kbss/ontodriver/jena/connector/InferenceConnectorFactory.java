@@ -18,6 +18,8 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import org.apache.jena.query.Dataset;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,14 +28,24 @@ public class InferenceConnectorFactory extends SharedConnectorBasedConnectorFact
 
     private final Map<String, String> reasonerConfig;
 
+    /**
+     * Inference closure shared by connectors, {@code null} if each connector computes inference on its own.
+     */
+    private final SharedInferenceClosure sharedClosure;
+
     public InferenceConnectorFactory(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
         super(configuration);
         this.reasonerConfig = new HashMap<>(reasonerConfig);
+        this.sharedClosure = configuration.is(JenaConfigParam.SHARED_INFERENCE_CLOSURE) ?
+                             new SharedInferenceClosure(centralConnector, configuration, this.reasonerConfig) : null;
     }
 
     @Override
     public StorageConnector createConnector() {
         ensureOpen();
+        if (sharedClosure != null) {
+            return new SharedInferenceStorageConnector(centralConnector, reasonerConfig, sharedClosure);
+        }
         return new SnapshotStorageConnectorWithInference(centralConnector, reasonerConfig);
     }
 
@@ -42,4 +54,20 @@ public class InferenceConnectorFactory extends SharedConnectorBasedConnectorFact
         assert connector instanceof SnapshotStorageConnectorWithInference;
         return (InferredStorageConnector) connector;
     }
+
+    @Override
+    public synchronized void reloadStorage() {
+        super.reloadStorage();
+        if (sharedClosure != null) {
+            sharedClosure.invalidate();
+        }
+    }
+
+    @Override
+    public void setDataset(Dataset dataset) {
+        super.setDataset(dataset);
+        if (sharedClosure != null) {
+            sharedClosure.invalidate();
+        }
+    }
 }
@@ -0,0 +1,491 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+import cz.cvut.kbss.ontodriver.jena.config.Constants;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.rdfpatch.RDFChanges;
+import org.apache.jena.rdfpatch.changes.RDFChangesApply;
+import org.apache.jena.rdfpatch.system.DatasetGraphChanges;
+import org.apache.jena.rdfpatch.text.RDFChangesWriterText;
+import org.apache.jena.rdfpatch.text.RDFPatchReaderText;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.system.Txn;
+import org.apache.jena.util.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File storage accessor which appends changes to a journal instead of rewriting the whole file on each commit.
+ * <p>
+ * Each commit appends an RDF Patch transaction block with the statements added to and removed from the default graph
+ * to a journal stored next to the main file. The journal is replayed when the storage is initialized and folded into
+ * the main file when it exceeds the configured size (in a background thread) or when the storage is closed.
+ * <p>
+ * The data are held in a transactional in-memory dataset, so compaction writes a consistent snapshot of the data
+ * without blocking transactions.
+ * <p>
+ * Like {@link FileStorage}, this accessor persists only the default graph.
+ */
+class JournaledFileStorage extends LocalStorage {
+
+    static final String JOURNAL_SUFFIX = ".rdfp";
+
+    private final Path location;
+    private final Path journalLocation;
+    private final Lang language;
+    private final int compactionThreshold;
+
+    /*
+     * Held by the writer from appending the journal entry until the dataset transaction ends, so that compaction always
+     * sees the journal consistent with the dataset snapshot it writes out
+     */
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final Object compactionMonitor = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final ExecutorService compactionExecutor;
+
+    private final DefaultGraphChanges changes = new DefaultGraphChanges();
+
+    private FileChannel journal;
+    private long journalSize;
+    private long entryStart;
+
+    JournaledFileStorage(DriverConfiguration configuration) {
+        super(configuration);
+        this.location = Path.of(configuration.getStorageProperties().getPhysicalURI().getSchemeSpecificPart());
+        this.journalLocation = Path.of(location + JOURNAL_SUFFIX);
+        this.language = RDFLanguages.nameToLang(FileUtils.guessLang(location.toString()));
+        this.compactionThreshold = configuration.getProperty(JenaConfigParam.JOURNAL_COMPACTION_THRESHOLD,
+                Constants.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        this.compactionExecutor = Executors.newSingleThreadExecutor(r -> {
+            final Thread t = new Thread(r, "jena-journal-compaction");
+            t.setDaemon(true);
+            return t;
+        });
+        initialize();
+    }
+
+    private void initialize() {
+        try {
+            final DatasetGraph dsg = DatasetGraphFactory.createTxnMem();
+            loadMainFile(dsg);
+            final boolean replayed = replayJournal(dsg);
+            this.dataset = DatasetFactory.wrap(new DatasetGraphChanges(dsg, changes));
+            openJournal();
+            if (replayed) {
+                // Fold the journal into the main file, this also drops any incomplete entry at its end
+                compact();
+            }
+        } catch (IOException | JenaDriverException | RuntimeException e) {
+            throw new OntoDriverInitializationException("Unable to initialize file storage at " + location, e);
+        }
+    }
+
+    private void loadMainFile(DatasetGraph dsg) throws IOException {
+        if (Files.notExists(location)) {
+            Files.createFile(location);
+        }
+        Txn.executeWrite(dsg, () -> RDFDataMgr.read(dsg.getDefaultGraph(), location.toString(), language));
+    }
+
+    private boolean replayJournal(DatasetGraph dsg) throws IOException {
+        if (Files.notExists(journalLocation) || Files.size(journalLocation) == 0) {
+            return false;
+        }
+        LOG.debug("Replaying journal {}.", journalLocation);
+        try (final InputStream in = new BufferedInputStream(Files.newInputStream(journalLocation))) {
+            new RDFPatchReaderText(in).apply(new RDFChangesApply(dsg));
+        } catch (RuntimeException e) {
+            // Entry of a commit interrupted by a crash, the previous entries have already been applied
+            LOG.warn("Ignoring incomplete entry at the end of journal {}.", journalLocation, e);
+        }
+        if (dsg.isInTransaction()) {
+            // The last entry was cut off before its commit line
+            LOG.warn("Ignoring uncommitted entry at the end of journal {}.", journalLocation);
+            dsg.abort();
+        }
+        return true;
+    }
+
+    private void openJournal() throws IOException {
+        this.journal = FileChannel.open(journalLocation, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.journalSize = journal.size();
+    }
+
+    @Override
+    public void begin(ReadWrite readWrite) {
+        super.begin(readWrite);
+        if (readWrite == ReadWrite.WRITE) {
+            changes.clear();
+        }
+    }
+
+    /**
+     * Appends changes made in the current transaction to the journal.
+     * <p>
+     * The journal remains locked until the transaction is committed or rolled back.
+     */
+    @Override
+    public void writeChanges() throws JenaDriverException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!journalLock.isHeldByCurrentThread()) {
+            journalLock.lock();
+        }
+        this.entryStart = journalSize;
+        try {
+            final ByteBuffer entry = ByteBuffer.wrap(changes.toPatch());
+            while (entry.hasRemaining()) {
+                journalSize += journal.write(entry, journalSize);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            discardEntry();
+            journalLock.unlock();
+            throw new JenaDriverException("Unable to append changes to journal " + journalLocation, e);
+        }
+    }
+
+    private void discardEntry() {
+        try {
+            journal.truncate(entryStart);
+            this.journalSize = entryStart;
+        } catch (IOException e) {
+            LOG.error("Unable to discard journal entry of unsuccessful transaction.", e);
+        }
+    }
+
+    @Override
+    public void commit() {
+        try {
+            super.commit();
+        } finally {
+            releaseJournal();
+        }
+        if (journalSize > compactionThreshold) {
+            scheduleCompaction();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        try {
+            super.rollback();
+        } finally {
+            if (journalLock.isHeldByCurrentThread()) {
+                // The transaction has already been written into the journal
+                discardEntry();
+            }
+            releaseJournal();
+        }
+    }
+
+    private void releaseJournal() {
+        if (journalLock.isHeldByCurrentThread()) {
+            journalLock.unlock();
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (!compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(() -> {
+                compactionScheduled.set(false);
+                try {
+                    compact();
+                } catch (JenaDriverException e) {
+                    LOG.error("Unable to compact journal {}.", journalLocation, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Storage is being closed, which compacts the journal anyway
+            compactionScheduled.set(false);
+        }
+    }
+
+    /**
+     * Writes the current data into the main file and removes the corresponding entries from the journal.
+     * <p>
+     * Transactions may run while the main file is being written, entries of transactions committed in the meantime
+     * are kept in the journal.
+     *
+     * @throws JenaDriverException When the main file or the journal cannot be written
+     */
+    void compact() throws JenaDriverException {
+        synchronized (compactionMonitor) {
+            if (journal == null) {
+                return;
+            }
+            final long compactedSize;
+            journalLock.lock();
+            try {
+                if (journalSize == 0) {
+                    return;
+                }
+                dataset.begin(ReadWrite.READ);
+                compactedSize = journalSize;
+            } finally {
+                journalLock.unlock();
+            }
+            try {
+                writeMainFile();
+            } finally {
+                dataset.end();
+            }
+            journalLock.lock();
+            try {
+                trimJournal(compactedSize);
+            } finally {
+                journalLock.unlock();
+            }
+        }
+    }
+
+    private void writeMainFile() throws JenaDriverException {
+        try {
+            final Path tmp = Files.createTempFile(location.toAbsolutePath().getParent(),
+                    location.getFileName().toString(), ".tmp");
+            try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                RDFDataMgr.write(out, dataset.getDefaultModel(), language);
+            }
+            replace(tmp, location);
+        } catch (IOException e) {
+            throw new JenaDriverException("Unable to write out dataset into " + location, e);
+        }
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void trimJournal(long compactedSize) throws JenaDriverException {
+        // Replaying journal entries already contained in the main file yields the same data, so a crash in the
+        // middle of this does not lose anything
+        try {
+            if (compactedSize == journalSize) {
+                journal.truncate(0);
+            } else {
+                final ByteBuffer remaining = ByteBuffer.allocate((int) (journalSize - compactedSize));
+                while (remaining.hasRemaining()) {
+                    journal.read(remaining, compactedSize + remaining.position());
+                }
+                final Path tmp = Files.createTempFile(location.toAbsolutePath().getParent(),
+                        journalLocation.getFileName().toString(), ".tmp");
+                Files.write(tmp, remaining.array());
+                journal.close();
+                replace(tmp, journalLocation);
+                this.journal = FileChannel.open(journalLocation, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            journal.force(false);
+            this.journalSize -= compactedSize;
+        } catch (IOException e) {
+            throw new JenaDriverException("Unable to trim journal " + journalLocation, e);
+        }
+    }
+
+    long getJournalSize() {
+        return journalSize;
+    }
+
+    /**
+     * Reloads data from the underlying file and journal.
+     */
+    @Override
+    public void reload() {
+        synchronized (compactionMonitor) {
+            if (dataset.isInTransaction()) {
+                throw new IllegalStateException("Cannot reload storage which is in transaction.");
+            }
+            closeJournal();
+            dataset.close();
+            initialize();
+        }
+    }
+
+    @Override
+    public void remove(StmtIterator iterator, String context) {
+        // Consistent with FileStorage, avoid modifying the graph while iterating over it
+        final List<Statement> toRemove = iterator.toList();
+        remove(toRemove, context);
+    }
+
+    @Override
+    public boolean supportsSnapshotReads() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        compactionExecutor.shutdown();
+        synchronized (compactionMonitor) {
+            try {
+                compact();
+            } catch (JenaDriverException e) {
+                LOG.error("Unable to compact journal {} on close, it will be replayed on next startup.",
+                        journalLocation, e);
+            } finally {
+                closeJournal();
+                super.close();
+            }
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            LOG.error("Unable to close journal {}.", journalLocation, e);
+        }
+        this.journal = null;
+    }
+
+    /**
+     * Records statements added to and removed from the default graph by the current write transaction.
+     */
+    private static final class DefaultGraphChanges implements RDFChanges {
+
+        private record Change(boolean addition, Node subject, Node predicate, Node object) {
+        }
+
+        private final List<Change> changes = new ArrayList<>();
+
+        boolean isEmpty() {
+            return changes.isEmpty();
+        }
+
+        void clear() {
+            changes.clear();
+        }
+
+        byte[] toPatch() {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final RDFChangesWriterText writer = RDFChangesWriterText.create(out);
+            writer.txnBegin();
+            changes.forEach(c -> {
+                if (c.addition) {
+                    writer.add(null, c.subject, c.predicate, c.object);
+                } else {
+                    writer.delete(null, c.subject, c.predicate, c.object);
+                }
+            });
+            writer.txnCommit();
+            writer.finish();
+            return out.toByteArray();
+        }
+
+        private static boolean isDefaultGraph(Node g) {
+            return g == null || Quad.isDefaultGraph(g);
+        }
+
+        @Override
+        public void add(Node g, Node s, Node p, Node o) {
+            if (isDefaultGraph(g)) {
+                changes.add(new Change(true, s, p, o));
+            }
+        }
+
+        @Override
+        public void delete(Node g, Node s, Node p, Node o) {
+            if (isDefaultGraph(g)) {
+                changes.add(new Change(false, s, p, o));
+            }
+        }
+
+        // Transaction boundaries are managed by the storage, prefixes and headers are not persisted
+
+        @Override
+        public void header(String field, Node value) {
+        }
+
+        @Override
+        public void addPrefix(Node gn, String prefix, String uriStr) {
+        }
+
+        @Override
+        public void deletePrefix(Node gn, String prefix) {
+        }
+
+        @Override
+        public void txnBegin() {
+        }
+
+        @Override
+        public void txnCommit() {
+        }
+
+        @Override
+        public void txnAbort() {
+        }
+
+        @Override
+        public void segment() {
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+}
@@ -151,6 +151,15 @@ class LocalModel {
         });
     }
 
+    /**
+     * Checks whether any changes have been recorded.
+     *
+     * @return {@code true} if there are no tracked changes, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && removedSubjectPredicateStatements.isEmpty();
+    }
+
     Dataset getAdded() {
         return added;
     }
@@ -20,6 +20,9 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.sparql.core.mem.DatasetGraphInMemory;
+import org.apache.jena.tdb.TDBFactory;
+import org.apache.jena.tdb2.TDB2Factory;
 
 import java.util.Objects;
 
@@ -46,4 +49,11 @@ class MemoryStorage extends LocalStorage {
             this.dataset = dataset;
         }
     }
+
+    @Override
+    public boolean supportsSnapshotReads() {
+        // The dataset may have been replaced by one which serializes readers and writers
+        final Dataset ds = dataset;
+        return ds.asDatasetGraph() instanceof DatasetGraphInMemory || TDB2Factory.isTDB2(ds) || TDBFactory.isTDB1(ds);
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import org.apache.jena.query.Dataset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates connectors implementing the {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#MVCC_SNAPSHOT}
+ * transactional strategy.
+ * <p>
+ * If the underlying storage does not support snapshot reads (see {@link Storage#supportsSnapshotReads()}), the factory
+ * creates connectors copying the central dataset on transaction start, as {@link SnapshotConnectorFactory} does.
+ */
+public class MvccSnapshotConnectorFactory extends SharedConnectorBasedConnectorFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MvccSnapshotConnectorFactory.class);
+
+    private final ThreadLocal<MvccSnapshotStorageConnector> readTransactionHolder = new ThreadLocal<>();
+
+    public MvccSnapshotConnectorFactory(DriverConfiguration configuration) {
+        super(configuration);
+        if (!centralConnector.getStorage().supportsSnapshotReads()) {
+            LOG.warn("Storage {} does not support snapshot reads, transactions will copy the whole dataset.",
+                    centralConnector.getStorage().getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public StorageConnector createConnector() {
+        ensureOpen();
+        if (!centralConnector.getStorage().supportsSnapshotReads()) {
+            return new SnapshotStorageConnector(centralConnector);
+        }
+        return new MvccSnapshotStorageConnector(centralConnector, readTransactionHolder);
+    }
+
+    @Override
+    public void setDataset(Dataset dataset) {
+        ensureOpen();
+        // The dataset cannot be replaced while the current thread holds a read transaction on it
+        final MvccSnapshotStorageConnector holder = readTransactionHolder.get();
+        if (holder != null) {
+            holder.detachFromCentral();
+        }
+        super.setDataset(dataset);
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.sparql.core.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Snapshot isolation connector relying on multi-version concurrency control of the underlying Jena dataset.
+ * <p>
+ * Instead of copying the central dataset, beginning a transaction starts a read transaction on it. Read transactions
+ * on the transactional in-memory dataset and on TDB/TDB2 see the state of data at their beginning regardless of
+ * concurrent commits, so beginning a transaction is constant-time. Transactional changes are tracked in a
+ * {@link LocalModel} and merged with data read from the central dataset, so the transaction sees its own changes.
+ * <p>
+ * Jena read transactions are bound to the thread which started them. When the read transaction cannot serve as the
+ * snapshot anymore, the connector copies the data visible in it, applies its local changes to the copy and continues
+ * like {@link SnapshotStorageConnector}. This happens when:
+ * <ul>
+ *     <li>The transaction executes a SPARQL update or a transactional query after it has changed data,</li>
+ *     <li>Another transaction running in the same thread needs to write into the central dataset,</li>
+ *     <li>The transaction is continued by another thread.</li>
+ * </ul>
+ * If the thread is already in a transaction not started by this type of connector, the snapshot is copied right away.
+ * <p>
+ * A thread which continues a transaction started by another thread cannot see the read transaction, so the copy
+ * contains data committed up to that moment, not only up to the beginning of the transaction. The read transaction
+ * itself is ended when the thread which started it uses a connector of the central dataset again.
+ */
+class MvccSnapshotStorageConnector extends SnapshotStorageConnector {
+
+    private final ThreadLocal<MvccSnapshotStorageConnector> readTransactionHolder;
+
+    /**
+     * Thread which started the current read transaction on the central dataset.
+     */
+    private Thread readTransactionThread;
+
+    /**
+     * @param centralConnector      Connector to the central dataset
+     * @param readTransactionHolder Tracks connector holding a read transaction on the central dataset in the current
+     *                              thread, shared by all connectors of the central dataset
+     */
+    MvccSnapshotStorageConnector(AbstractStorageConnector centralConnector,
+                                 ThreadLocal<MvccSnapshotStorageConnector> readTransactionHolder) {
+        super(centralConnector);
+        this.readTransactionHolder = readTransactionHolder;
+    }
+
+    @Override
+    void initialize() {
+        // Storage is set only when the transaction snapshot has to be copied
+    }
+
+    @Override
+    public void begin() {
+        ensureOpen();
+        if (transaction.isActive()) {
+            throw new IllegalStateException("Transaction is already active.");
+        }
+        transaction.begin();
+        this.transactionalUpdates = new ArrayList<>();
+        this.transactionalChanges = new LocalModel(configuration.is(JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION));
+        detachReadTransactionHolder();
+        final Transactional central = centralTransactional();
+        if (central.isInTransaction()) {
+            snapshotCentralDataset();
+        } else {
+            central.begin(ReadWrite.READ);
+            readTransactionHolder.set(this);
+            this.readTransactionThread = Thread.currentThread();
+        }
+    }
+
+    @Override
+    void ensureTransactionalState() {
+        super.ensureTransactionalState();
+        if (readsCentral() && Thread.currentThread() != readTransactionThread) {
+            // The read transaction is not visible in this thread
+            copySnapshot();
+        }
+    }
+
+    private Transactional centralTransactional() {
+        return centralConnector.getStorage().getTransactional();
+    }
+
+    /**
+     * Whether this connector reads data through a read transaction on the central dataset.
+     */
+    private boolean readsCentral() {
+        return storage == null;
+    }
+
+    /**
+     * Makes another connector holding a read transaction in the current thread switch to a copy of its snapshot.
+     * <p>
+     * A read transaction still held by this connector belongs to a previous transaction continued by another thread
+     * and is simply ended.
+     */
+    private void detachReadTransactionHolder() {
+        final MvccSnapshotStorageConnector holder = readTransactionHolder.get();
+        if (holder == this) {
+            endReadTransaction();
+        } else if (holder != null) {
+            holder.detachFromCentral();
+        }
+    }
+
+    /**
+     * Copies the snapshot visible in the read transaction, applies the local changes to it and ends the read
+     * transaction.
+     * <p>
+     * If the read transaction has been started by another thread, it cannot be ended here.
+     */
+    void detachFromCentral() {
+        if (readsCentral() && transaction.isActive() && Thread.currentThread() == readTransactionThread) {
+            copySnapshot();
+        }
+        endReadTransaction();
+    }
+
+    private void copySnapshot() {
+        snapshotCentralDataset();
+        final Dataset removed = transactionalChanges.getRemoved();
+        storage.remove(removed.getDefaultModel().listStatements().toList(), null);
+        removed.listNames()
+               .forEachRemaining(n -> storage.remove(removed.getNamedModel(n).listStatements().toList(), n));
+        final Dataset added = transactionalChanges.getAdded();
+        storage.add(added.getDefaultModel().listStatements().toList(), null);
+        added.listNames().forEachRemaining(n -> storage.add(added.getNamedModel(n).listStatements().toList(), n));
+    }
+
+    private void endReadTransaction() {
+        if (readTransactionHolder.get() == this) {
+            centralTransactional().end();
+            readTransactionHolder.remove();
+        }
+    }
+
+    @Override
+    public void commit() throws JenaDriverException {
+        ensureTransactionalState();
+        // The read transaction has to end before changes are written into the central dataset
+        endReadTransaction();
+        detachReadTransactionHolder();
+        super.commit();
+    }
+
+    @Override
+    public void rollback() {
+        ensureTransactionalState();
+        endReadTransaction();
+        super.rollback();
+    }
+
+    @Override
+    public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        ensureTransactionalState();
+        if (!readsCentral()) {
+            return super.find(subject, property, value, contexts);
+        }
+        final Collection<Statement> existing = centralConnector.find(subject, property, value, contexts);
+        return new ArrayList<>(transactionalChanges.enhanceStatements(existing, subject, property, value, contexts));
+    }
+
+    @Override
+    public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        ensureTransactionalState();
+        if (!readsCentral()) {
+            return super.contains(subject, property, value, contexts);
+        }
+        final LocalModel.Containment localStatus = transactionalChanges.contains(subject, property, value, contexts);
+        return localStatus == LocalModel.Containment.ADDED ||
+                localStatus == LocalModel.Containment.UNKNOWN &&
+                        centralConnector.contains(subject, property, value, contexts);
+    }
+
+    @Override
+    public List<String> getContexts() {
+        ensureTransactionalState();
+        if (!readsCentral()) {
+            return super.getContexts();
+        }
+        final Set<String> contexts = new LinkedHashSet<>(centralConnector.getContexts());
+        contexts.addAll(transactionalChanges.getContexts());
+        return new ArrayList<>(contexts);
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        ensureTransactionalState();
+        if (!readsCentral()) {
+            super.add(statements, context);
+            return;
+        }
+        transactionalChanges.addStatements(statements, context);
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        ensureTransactionalState();
+        if (!readsCentral()) {
+            super.remove(statements, context);
+            return;
+        }
+        transactionalChanges.removeStatements(statements, context);
+    }
+
+    @Override
+    public void removePropertyValues(Collection<SubjectPredicateContext> spc) {
+        ensureTransactionalState();
+        if (!readsCentral()) {
+            super.removePropertyValues(spc);
+            return;
+        }
+        // Record the removal as explicit statements, subject-predicate removals would hide values added later
+        spc.forEach(s -> {
+            if (s.getContexts().isEmpty()) {
+                remove(s.getSubject(), s.getPredicate(), null, null);
+            } else {
+                s.getContexts().forEach(ctx -> remove(s.getSubject(), s.getPredicate(), null, ctx));
+            }
+        });
+    }
+
+    @Override
+    public AbstractResultSet executeSelectQuery(Query query, StatementOntology target) throws JenaDriverException {
+        if (target == StatementOntology.TRANSACTIONAL) {
+            ensureTransactionalState();
+            if (readsCentral()) {
+                if (transactionalChanges.isEmpty()) {
+                    return centralConnector.executeSelectQuery(query, target);
+                }
+                detachFromCentral();
+            }
+        }
+        return super.executeSelectQuery(query, target);
+    }
+
+    @Override
+    public AbstractResultSet executeAskQuery(Query query, StatementOntology target) throws JenaDriverException {
+        if (target == StatementOntology.TRANSACTIONAL) {
+            ensureTransactionalState();
+            if (readsCentral()) {
+                if (transactionalChanges.isEmpty()) {
+                    return centralConnector.executeAskQuery(query, target);
+                }
+                detachFromCentral();
+            }
+        }
+        return super.executeAskQuery(query, target);
+    }
+
+    @Override
+    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+        if (target == StatementOntology.TRANSACTIONAL) {
+            ensureTransactionalState();
+            detachFromCentral();
+        } else {
+            // Updates of the central dataset cannot run inside a read transaction
+            final MvccSnapshotStorageConnector holder = readTransactionHolder.get();
+            if (holder != null) {
+                holder.detachFromCentral();
+            }
+        }
+        super.executeUpdate(query, target);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) {
+        if (readsCentral() && cls.isAssignableFrom(Dataset.class)) {
+            return cls.cast(centralConnector.getStorage().getDataset());
+        }
+        return super.unwrap(cls);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (isOpen() && transaction.isActive()) {
+            rollback();
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.InfModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.rulesys.FBRuleInfGraph;
+import org.apache.jena.reasoner.rulesys.FBRuleReasoner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inference closure of the central storage shared by all transactions.
+ * <p>
+ * The closure is computed lazily from the central dataset and then maintained by applying changes of committed
+ * transactions to it. Transactions do not compute inference over the whole dataset, instead, they get inference models
+ * which use the closure as schema, so that the reasoner derives only consequences of the statements added by the
+ * transaction.
+ * <p>
+ * Reads of the closure (including reads through the transactional inference models) have to happen under the
+ * {@link #readLock()}, modifications of the closure acquire the corresponding write lock. Commits into the central
+ * storage have to happen under the {@link #commitLock()} together with the corresponding update of the closure, so that
+ * the closure reflects them in the same order as the central storage.
+ */
+class SharedInferenceClosure {
+
+    private final SharedStorageConnector centralConnector;
+    private final DriverConfiguration configuration;
+    private final Map<String, String> reasonerConfig;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock commitLock = new ReentrantLock();
+
+    private SnapshotStorageWithInference closure;
+    private final Map<String, Reasoner> boundReasoners = new HashMap<>();
+
+    SharedInferenceClosure(SharedStorageConnector centralConnector, DriverConfiguration configuration,
+                           Map<String, String> reasonerConfig) {
+        this.centralConnector = centralConnector;
+        this.configuration = configuration;
+        this.reasonerConfig = reasonerConfig;
+    }
+
+    Lock readLock() {
+        return lock.readLock();
+    }
+
+    /**
+     * Gets the lock serializing commits into the central storage with updates of the closure.
+     * <p>
+     * Reads of the closure are not blocked by this lock.
+     *
+     * @return Commit lock
+     */
+    Lock commitLock() {
+        return commitLock;
+    }
+
+    private synchronized SnapshotStorageWithInference closure() {
+        if (closure == null) {
+            final SnapshotStorageWithInference s = new SnapshotStorageWithInference(configuration, reasonerConfig);
+            s.addCentralData(centralConnector.getStorage().getDataset());
+            this.closure = s;
+        }
+        return closure;
+    }
+
+    private InfModel inferredGraph(String context) {
+        return context != null ? closure().getNamedGraph(context) : closure().getDefaultGraph();
+    }
+
+    /**
+     * Gets the asserted statements of the specified context in the central storage.
+     *
+     * @param context Context identifier, {@code null} represents the default graph
+     * @return Raw model of the closure
+     */
+    synchronized Model rawGraph(String context) {
+        return inferredGraph(context).getRawModel();
+    }
+
+    /**
+     * Gets identifiers of the named graphs in the central storage.
+     *
+     * @return List of context identifiers
+     */
+    List<String> getContexts() {
+        return centralConnector.getContexts();
+    }
+
+    /**
+     * Creates an empty inference model for transactional changes of the specified context.
+     * <p>
+     * The model uses the closure of the context as schema, so it sees both the closure and consequences of statements
+     * added to it. Rule-based reasoners evaluate their rules over the transactional statements only, reusing knowledge
+     * already derived in the closure. Other reasoners are bound to the closure using {@link Reasoner#bindSchema}.
+     *
+     * @param context Context identifier, {@code null} represents the default graph
+     * @return New inference model
+     */
+    synchronized InfModel createTransactionalGraph(String context) {
+        final InfModel closureGraph = inferredGraph(context);
+        final Model changes = ModelFactory.createDefaultModel();
+        if (closureGraph.getReasoner() instanceof FBRuleReasoner reasoner) {
+            closureGraph.prepare();
+            return ModelFactory.createInfModel(
+                    new FBRuleInfGraph(reasoner, reasoner.getRules(), closureGraph.getGraph(), changes.getGraph()));
+        }
+        final Reasoner reasoner = boundReasoners.computeIfAbsent(context,
+                c -> closureGraph.getReasoner().bindSchema(closureGraph.getGraph()));
+        return ModelFactory.createInfModel(reasoner, changes);
+    }
+
+    /**
+     * Applies changes committed into the central storage to the closure.
+     * <p>
+     * Additions are processed incrementally by the reasoner, removals make it recompute the closure of the affected
+     * context on next access. Reasoners bound to the closure of a changed context are discarded, because they may have
+     * preprocessed its previous state.
+     * <p>
+     * The caller is expected to hold the {@link #commitLock()} since before it committed the changes into the central
+     * storage.
+     *
+     * @param changes Committed changes
+     */
+    void applyChanges(LocalModel changes) {
+        lock.writeLock().lock();
+        try {
+            synchronized (this) {
+                if (closure == null) {
+                    return;
+                }
+                final Dataset removed = changes.getRemoved();
+                if (!removed.getDefaultModel().isEmpty()) {
+                    closure.remove(removed.getDefaultModel().listStatements().toList(), null);
+                    boundReasoners.remove(null);
+                }
+                removed.listNames().forEachRemaining(n -> {
+                    closure.remove(removed.getNamedModel(n).listStatements().toList(), n);
+                    boundReasoners.remove(n);
+                });
+                final Dataset added = changes.getAdded();
+                if (!added.getDefaultModel().isEmpty()) {
+                    inferredGraph(null).add(added.getDefaultModel().listStatements().toList());
+                    boundReasoners.remove(null);
+                }
+                added.listNames().forEachRemaining(n -> {
+                    inferredGraph(n).add(added.getNamedModel(n).listStatements().toList());
+                    boundReasoners.remove(n);
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the closure, so that it is computed again from the central storage on next access.
+     * <p>
+     * Used when the central storage is changed in a way which cannot be reflected incrementally.
+     */
+    void invalidate() {
+        lock.writeLock().lock();
+        try {
+            synchronized (this) {
+                this.closure = null;
+                boundReasoners.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.rdf.model.InfModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.reasoner.ValidityReport;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Transactional storage reading data and inferred knowledge from a {@link SharedInferenceClosure}.
+ * <p>
+ * Instead of copying the central dataset, this storage keeps only statements added by the transaction, each context in
+ * an inference model whose reasoner is bound to the shared closure. Once the transaction removes statements from the
+ * central data or executes a SPARQL update, the storage is detached, i.e., it copies the data and computes inference
+ * over them the same way {@link SnapshotStorageWithInference} does.
+ */
+class SharedInferenceSnapshotStorage extends SnapshotStorageWithInference {
+
+    private final SharedInferenceClosure closure;
+    private final boolean defaultAsUnion;
+
+    private final Map<String, InfModel> transactionalGraphs = new HashMap<>();
+
+    private boolean detached;
+
+    SharedInferenceSnapshotStorage(DriverConfiguration configuration, Map<String, String> reasonerConfig,
+                                   SharedInferenceClosure closure) {
+        super(configuration, reasonerConfig);
+        this.closure = closure;
+        this.defaultAsUnion = configuration.is(JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION);
+    }
+
+    private InfModel transactionalGraph(String context) {
+        return transactionalGraphs.computeIfAbsent(context, closure::createTransactionalGraph);
+    }
+
+    private Model rawGraph(String context) {
+        final InfModel graph = transactionalGraphs.get(context);
+        return graph != null ? ModelFactory.createUnion(closure.rawGraph(context), graph.getRawModel()) :
+               closure.rawGraph(context);
+    }
+
+    @Override
+    public InfModel getDefaultGraph() {
+        return detached ? super.getDefaultGraph() : transactionalGraph(null);
+    }
+
+    @Override
+    public InfModel getNamedGraph(String context) {
+        return detached ? super.getNamedGraph(context) : transactionalGraph(context);
+    }
+
+    @Override
+    Model getRawDefaultGraph() {
+        return detached ? super.getRawDefaultGraph() : rawGraph(null);
+    }
+
+    @Override
+    Model getRawNamedGraph(String context) {
+        return detached ? super.getRawNamedGraph(context) : rawGraph(context);
+    }
+
+    @Override
+    ValidityReport checkConsistency(String context) {
+        return detached ? super.checkConsistency(context) : transactionalGraph(context).validate();
+    }
+
+    @Override
+    public Dataset getDataset() {
+        if (detached) {
+            return super.getDataset();
+        }
+        final Dataset view = DatasetFactory.create(transactionalGraph(null));
+        contexts().forEach(ctx -> view.addNamedModel(ctx, transactionalGraph(ctx)));
+        return view;
+    }
+
+    private Set<String> contexts() {
+        final Set<String> contexts = new LinkedHashSet<>(closure.getContexts());
+        transactionalGraphs.keySet().stream().filter(Objects::nonNull).forEach(contexts::add);
+        return contexts;
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        if (detached) {
+            super.add(statements, context);
+        } else {
+            transactionalGraph(context).add(statements);
+        }
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        if (!detached && !affectsSharedData(statements, context)) {
+            transactionalGraph(context).remove(statements);
+            return;
+        }
+        detach();
+        super.remove(statements, context);
+    }
+
+    private boolean affectsSharedData(List<Statement> statements, String context) {
+        if (context == null && defaultAsUnion) {
+            return true;
+        }
+        final Model shared = closure.rawGraph(context);
+        return statements.stream().anyMatch(shared::contains);
+    }
+
+    @Override
+    public void remove(StmtIterator iterator, String context) {
+        remove(iterator.toList(), context);
+    }
+
+    @Override
+    public QueryExecution prepareQuery(Query query) {
+        return detached ? super.prepareQuery(query) : QueryExecutionFactory.create(query, getDataset());
+    }
+
+    @Override
+    public void executeUpdate(String update) {
+        detach();
+        super.executeUpdate(update);
+    }
+
+    /**
+     * Copies the central data together with changes made by the current transaction into this storage, so that they
+     * can be modified without affecting the shared closure.
+     */
+    void detach() {
+        if (detached) {
+            return;
+        }
+        final Dataset current = DatasetFactory.create();
+        current.setDefaultModel(rawGraph(null));
+        contexts().forEach(ctx -> current.addNamedModel(ctx, rawGraph(ctx)));
+        addCentralData(current);
+        transactionalGraphs.clear();
+        this.detached = true;
+    }
+
+    boolean isDetached() {
+        return detached;
+    }
+}
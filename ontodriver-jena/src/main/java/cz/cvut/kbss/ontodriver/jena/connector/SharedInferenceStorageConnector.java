@@ -0,0 +1,198 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import cz.cvut.kbss.ontodriver.jena.query.SelectResultSet;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.ResultSetFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Inference-supporting connector which reads inferred knowledge from a {@link SharedInferenceClosure} instead of
+ * computing inference over a snapshot of the whole central dataset.
+ * <p>
+ * All access to the transactional storage happens under the read lock of the closure, so that the closure is not
+ * modified while it is being read. On commit, changes of the transaction are applied to the closure as well, under the
+ * same {@link SharedInferenceClosure#commitLock()} as the commit into the central storage.
+ *
+ * @see cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#JENA_SHARED_INFERENCE_CLOSURE
+ */
+class SharedInferenceStorageConnector extends SnapshotStorageConnectorWithInference {
+
+    private final SharedInferenceClosure closure;
+
+    SharedInferenceStorageConnector(AbstractStorageConnector centralConnector, Map<String, String> reasonerConfig,
+                                    SharedInferenceClosure closure) {
+        super(centralConnector, reasonerConfig);
+        this.closure = closure;
+    }
+
+    @Override
+    void snapshotCentralDataset() {
+        this.storage = new SharedInferenceSnapshotStorage(configuration, reasonerConfig, closure);
+    }
+
+    private <T> T read(Supplier<T> action) {
+        final Lock lock = closure.readLock();
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void read(Runnable action) {
+        read(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void commit() throws JenaDriverException {
+        final LocalModel changes = transactionalChanges;
+        final boolean updatesExecuted = transactionalUpdates != null && !transactionalUpdates.isEmpty();
+        final Lock lock = closure.commitLock();
+        lock.lock();
+        try {
+            super.commit();
+            if (updatesExecuted) {
+                closure.invalidate();
+            } else {
+                closure.applyChanges(changes);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        return read(() -> super.find(subject, property, value, contexts));
+    }
+
+    @Override
+    public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        return read(() -> super.contains(subject, property, value, contexts));
+    }
+
+    @Override
+    public List<Statement> findWithInference(Resource subject, Property property, RDFNode value,
+                                             Collection<String> contexts) {
+        return read(() -> super.findWithInference(subject, property, value, contexts));
+    }
+
+    @Override
+    public boolean containsWithInference(Resource subject, Property property, RDFNode value,
+                                         Collection<String> contexts) {
+        return read(() -> super.containsWithInference(subject, property, value, contexts));
+    }
+
+    @Override
+    public boolean isConsistent(String context) {
+        return read(() -> super.isConsistent(context));
+    }
+
+    @Override
+    public List<String> getContexts() {
+        return read(super::getContexts);
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        read(() -> super.add(statements, context));
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        read(() -> super.remove(statements, context));
+    }
+
+    @Override
+    public void remove(Resource subject, Property property, RDFNode object, String context) {
+        read(() -> super.remove(subject, property, object, context));
+    }
+
+    @Override
+    public void removePropertyValues(Collection<SubjectPredicateContext> spc) {
+        read(() -> super.removePropertyValues(spc));
+    }
+
+    @Override
+    public AbstractResultSet executeSelectQuery(Query query, StatementOntology target) throws JenaDriverException {
+        if (target != StatementOntology.TRANSACTIONAL) {
+            return super.executeSelectQuery(query, target);
+        }
+        ensureOpen();
+        transaction.verifyActive();
+        final Lock lock = closure.readLock();
+        lock.lock();
+        try {
+            final QueryExecution exec = storage.prepareQuery(query);
+            // Results are copied, so that they are not read from the closure after the lock is released
+            return new SelectResultSet(exec, ResultSetFactory.copyResults(exec.execSelect()));
+        } catch (RuntimeException e) {
+            throw new JenaDriverException("Execution of query " + query + " failed.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public AbstractResultSet executeAskQuery(Query query, StatementOntology target) throws JenaDriverException {
+        final Lock lock = closure.readLock();
+        lock.lock();
+        try {
+            return super.executeAskQuery(query, target);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+        if (target == StatementOntology.TRANSACTIONAL) {
+            ensureTransactionalState();
+            read(() -> ((SharedInferenceSnapshotStorage) storage).detach());
+            super.executeUpdate(query, target);
+        } else {
+            final Lock lock = closure.commitLock();
+            lock.lock();
+            try {
+                super.executeUpdate(query, target);
+                closure.invalidate();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
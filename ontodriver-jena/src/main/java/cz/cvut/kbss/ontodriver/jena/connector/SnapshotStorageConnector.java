@@ -42,8 +42,8 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
 
     final AbstractStorageConnector centralConnector;
 
-    private LocalModel transactionalChanges;
-    private List<String> transactionalUpdates;
+    LocalModel transactionalChanges;
+    List<String> transactionalUpdates;
 
     SnapshotStorageConnector(AbstractStorageConnector centralConnector) {
         super(centralConnector.configuration);
@@ -85,7 +85,7 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
 
     }
 
-    private void applyRemovals() {
+    void applyRemovals() {
         final Dataset removed = transactionalChanges.getRemoved();
         centralConnector.remove(removed.getDefaultModel().listStatements().toList(), null);
         removed.listNames()
@@ -32,7 +32,7 @@ import java.util.stream.Collectors;
  */
 class SnapshotStorageConnectorWithInference extends SnapshotStorageConnector implements InferredStorageConnector {
 
-    private final Map<String, String> reasonerConfig;
+    final Map<String, String> reasonerConfig;
 
     SnapshotStorageConnectorWithInference(AbstractStorageConnector centralConnector,
                                           Map<String, String> reasonerConfig) {
@@ -148,6 +148,18 @@ interface Storage {
     default void reload() {
     }
 
+    /**
+     * Whether read transactions on this storage provide a stable snapshot of the data without blocking writers.
+     * <p>
+     * This is the case for datasets with multi-version concurrency control, like the transactional in-memory dataset
+     * or TDB/TDB2. Returns {@code false} by default.
+     *
+     * @return {@code true} if long-running read transactions can be used as transaction snapshots
+     */
+    default boolean supportsSnapshotReads() {
+        return false;
+    }
+
     /**
      * Sets the dataset on this storage.
      * <p>
@@ -172,6 +184,7 @@ interface Storage {
         return switch (type) {
             case JenaOntoDriverProperties.IN_MEMORY -> new MemoryStorage(configuration);
             case JenaOntoDriverProperties.FILE -> new FileStorage(configuration);
+            case JenaOntoDriverProperties.JOURNALED_FILE -> new JournaledFileStorage(configuration);
             case JenaOntoDriverProperties.TDB -> new TDBStorage(configuration);
             case JenaOntoDriverProperties.TDB2 -> new TDB2Storage(configuration);
             case JenaOntoDriverProperties.FUSEKI -> new FusekiStorage(configuration);
@@ -34,4 +34,9 @@ class TDB2Storage extends LocalStorage {
     }
 
     // Changes are written automatically on commit by TDB2
+
+    @Override
+    public boolean supportsSnapshotReads() {
+        return true;
+    }
 }
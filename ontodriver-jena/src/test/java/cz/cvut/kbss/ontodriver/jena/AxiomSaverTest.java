@@ -212,4 +212,21 @@ public class AxiomSaverTest {
         assertEquals(1, arg.size());
         assertEquals(ResourceFactory.createPlainLiteral("test"), arg.get(0).getObject());
     }
+
+    @Test
+    void saveAxiomsOfMultipleDescriptorsAddsStatementsInSingleOperationPerContext() {
+        final AxiomValueDescriptor descriptorOne = new AxiomValueDescriptor(SUBJECT);
+        final Assertion a = Assertion.createClassAssertion(false);
+        final NamedResource type = NamedResource.create(Generator.generateUri());
+        descriptorOne.addAssertionValue(a, new Value<>(type));
+        final AxiomValueDescriptor descriptorTwo = new AxiomValueDescriptor(NamedResource.create(Generator.generateUri()));
+        descriptorTwo.addAssertionValue(a, new Value<>(type));
+        saver.saveAxioms(List.of(descriptorOne, descriptorTwo));
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(connectorMock).add(captor.capture(), eq(null));
+        final List<Statement> arg = captor.getValue();
+        assertEquals(2, arg.size());
+        assertEquals(ResourceFactory.createResource(SUBJECT.toString()), arg.get(0).getSubject());
+        assertEquals(ResourceFactory.createResource(descriptorTwo.getSubject().toString()), arg.get(1).getSubject());
+    }
 }
@@ -33,9 +33,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -87,4 +89,21 @@ public class EpistemicAxiomRemoverTest {
                 new SubjectPredicateContext(SUBJECT_RESOURCE, createProperty(ap.getIdentifier().toString()), Set.of(assertionContext.toString()))
         ));
     }
+
+    @Test
+    public void removeAllRemovesStatementsOfAllDescriptorsInSingleOperation() {
+        final Assertion dp = Assertion.createDataPropertyAssertion(Generator.generateUri(), false);
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(dp);
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(dp);
+
+        remover.removeAll(List.of(descriptorOne, descriptorTwo));
+        verify(connectorMock).removePropertyValues(Set.of(
+                new SubjectPredicateContext(SUBJECT_RESOURCE, createProperty(dp.getIdentifier().toString()), Collections.emptySet()),
+                new SubjectPredicateContext(createResource(subjectTwo.getIdentifier().toString()),
+                        createProperty(dp.getIdentifier().toString()), Collections.emptySet())
+        ));
+    }
 }
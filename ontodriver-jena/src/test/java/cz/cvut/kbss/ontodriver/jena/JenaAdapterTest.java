@@ -45,6 +45,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -202,6 +203,25 @@ class JenaAdapterTest {
         verify(connectorMock).find(SUBJECT_RESOURCE, null, null, Collections.emptySet());
     }
 
+    @Test
+    void findAllLoadsAxiomsOfAllSubjects() {
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(assertion);
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(assertion);
+        final Statement s = ResourceFactory
+                .createStatement(SUBJECT_RESOURCE, assertionToProperty(assertion),
+                        ResourceFactory.createResource(Generator.generateUri().toString()));
+        when(connectorMock.find(eq(SUBJECT_RESOURCE), any(), any(), any())).thenReturn(Collections.singletonList(s));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = adapter.findAll(List.of(descriptorOne, descriptorTwo));
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(SUBJECT).size());
+        assertTrue(result.get(subjectTwo).isEmpty());
+    }
+
     private static Property assertionToProperty(Assertion assertion) {
         return ResourceFactory.createProperty(assertion.getIdentifier().toString());
     }
@@ -219,6 +219,14 @@ public class JenaConnectionTest {
         verify(adapterMock).find(descriptor);
     }
 
+    @Test
+    public void findAllCallsAdapterWithDescriptors() throws Exception {
+        final List<AxiomDescriptor> descriptors = List.of(new AxiomDescriptor(SUBJECT),
+                new AxiomDescriptor(NamedResource.create(Generator.generateUri())));
+        connection.findAll(descriptors);
+        verify(adapterMock).findAll(descriptors);
+    }
+
     @Test
     public void findThrowsIllegalStateExceptionForClosedConnection() throws Exception {
         connection.close();
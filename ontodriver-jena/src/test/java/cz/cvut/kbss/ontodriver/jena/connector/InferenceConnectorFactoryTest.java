@@ -18,11 +18,14 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class InferenceConnectorFactoryTest extends ConnectorFactoryTestBase {
@@ -47,4 +50,14 @@ public class InferenceConnectorFactoryTest extends ConnectorFactoryTestBase {
         final InferredStorageConnector result = factory.createInferredConnector(connector);
         assertTrue(result instanceof SnapshotStorageConnectorWithInference);
     }
+
+    @Test
+    public void createConnectorReturnsConnectorUsingSharedClosureWhenConfigured() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(JenaConfigParam.SHARED_INFERENCE_CLOSURE, Boolean.TRUE.toString());
+        final ConnectorFactory factory = connectorFactory(configuration);
+        final StorageConnector connector = factory.createConnector();
+        assertInstanceOf(SharedInferenceStorageConnector.class, connector);
+        assertSame(connector, factory.createInferredConnector(connector));
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournaledFileStorageTest extends StorageTestUtil {
+
+    @TempDir
+    Path dir;
+
+    private JournaledFileStorage storage;
+
+    @AfterEach
+    void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    private Path mainFile() {
+        return dir.resolve("storage.ttl");
+    }
+
+    private Path journalFile() {
+        return dir.resolve("storage.ttl" + JournaledFileStorage.JOURNAL_SUFFIX);
+    }
+
+    private JournaledFileStorage createStorage() {
+        return new JournaledFileStorage(createConfiguration(mainFile().toString()));
+    }
+
+    private void commit(JournaledFileStorage storage, Runnable change) throws Exception {
+        storage.begin(ReadWrite.WRITE);
+        change.run();
+        storage.writeChanges();
+        storage.commit();
+    }
+
+    private void writeMainFile(Statement... statements) throws Exception {
+        final Model m = ModelFactory.createDefaultModel();
+        m.add(statements);
+        try (final BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(mainFile().toFile()))) {
+            RDFDataMgr.write(out, m, Lang.TTL);
+        }
+    }
+
+    @Test
+    void initializationCreatesMainFileWhenItDoesNotExist() {
+        this.storage = createStorage();
+        assertTrue(Files.exists(mainFile()));
+        assertTrue(storage.getDataset().getDefaultModel().isEmpty());
+    }
+
+    @Test
+    void commitAppendsChangesToJournalWithoutRewritingMainFile() throws Exception {
+        writeMainFile(statement(SUBJECT, TYPE_ONE, TYPE_TWO));
+        final String mainContent = Files.readString(mainFile());
+        this.storage = createStorage();
+
+        final Statement added = statement(SUBJECT, TYPE_ONE, NAMED_GRAPH);
+        commit(storage, () -> storage.add(List.of(added), null));
+
+        assertEquals(mainContent, Files.readString(mainFile()));
+        final String journal = Files.readString(journalFile());
+        assertThat(journal, containsString("TX"));
+        assertThat(journal, containsString(NAMED_GRAPH));
+        assertThat(journal, containsString("TC"));
+        assertEquals(Files.size(journalFile()), storage.getJournalSize());
+    }
+
+    @Test
+    void commitWithoutChangesDoesNotWriteToJournal() throws Exception {
+        this.storage = createStorage();
+        commit(storage, () -> {
+        });
+        assertEquals(0, Files.size(journalFile()));
+    }
+
+    @Test
+    void initializationReplaysJournalAndFoldsItIntoMainFile() throws Exception {
+        final Statement removed = statement(SUBJECT, TYPE_ONE, TYPE_TWO);
+        writeMainFile(removed);
+        final JournaledFileStorage original = createStorage();
+        final Statement added = statement(SUBJECT, TYPE_ONE, NAMED_GRAPH);
+        commit(original, () -> original.add(List.of(added), null));
+        commit(original, () -> original.remove(List.of(removed), null));
+        // original is not closed, simulating a crash
+
+        this.storage = createStorage();
+        final Model model = storage.getDataset().getDefaultModel();
+        assertTrue(model.contains(added));
+        assertFalse(model.contains(removed));
+        assertEquals(0, Files.size(journalFile()));
+        final Model mainContent = RDFDataMgr.loadModel(mainFile().toString());
+        assertTrue(mainContent.contains(added));
+        assertFalse(mainContent.contains(removed));
+    }
+
+    @Test
+    void initializationIgnoresIncompleteEntryAtEndOfJournal() throws Exception {
+        writeMainFile();
+        Files.writeString(journalFile(), "TX .\nA <" + SUBJECT + "> <" + TYPE_ONE + "> <" + TYPE_TWO + "> .\nTC .\n" +
+                "TX .\nA <" + SUBJECT + "> <" + TYPE_ONE + "> <" + NAMED_GRAPH);
+
+        this.storage = createStorage();
+        final Model model = storage.getDataset().getDefaultModel();
+        assertTrue(model.contains(statement(SUBJECT, TYPE_ONE, TYPE_TWO)));
+        assertFalse(model.contains(statement(SUBJECT, TYPE_ONE, NAMED_GRAPH)));
+        assertEquals(0, Files.size(journalFile()));
+    }
+
+    @Test
+    void initializationIgnoresEntryWithoutCommitAtEndOfJournal() throws Exception {
+        writeMainFile();
+        Files.writeString(journalFile(), "TX .\nA <" + SUBJECT + "> <" + TYPE_ONE + "> <" + TYPE_TWO + "> .\nTC .\n" +
+                "TX .\nA <" + SUBJECT + "> <" + TYPE_ONE + "> <" + NAMED_GRAPH + "> .\n");
+
+        this.storage = createStorage();
+        assertFalse(storage.getDataset().isInTransaction());
+        final Model model = storage.getDataset().getDefaultModel();
+        assertTrue(model.contains(statement(SUBJECT, TYPE_ONE, TYPE_TWO)));
+        assertFalse(model.contains(statement(SUBJECT, TYPE_ONE, NAMED_GRAPH)));
+        assertEquals(0, Files.size(journalFile()));
+    }
+
+    @Test
+    void sparqlUpdateChangesAreJournaled() throws Exception {
+        this.storage = createStorage();
+        commit(storage, () -> storage.executeUpdate(
+                "INSERT DATA { <" + SUBJECT + "> <" + TYPE_ONE + "> <" + TYPE_TWO + "> . }"));
+
+        assertThat(Files.readString(journalFile()), containsString(TYPE_TWO));
+    }
+
+    @Test
+    void changesInNamedGraphsAreNotJournaled() throws Exception {
+        this.storage = createStorage();
+        commit(storage, () -> storage.add(List.of(statement(SUBJECT, TYPE_ONE, TYPE_TWO)), NAMED_GRAPH));
+
+        assertEquals(0, Files.size(journalFile()));
+    }
+
+    @Test
+    void rollbackAfterWritingChangesRemovesEntryFromJournal() throws Exception {
+        this.storage = createStorage();
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(statement(SUBJECT, TYPE_ONE, TYPE_TWO)), null);
+        storage.writeChanges();
+        storage.rollback();
+
+        assertEquals(0, Files.size(journalFile()));
+        assertEquals(0, storage.getJournalSize());
+    }
+
+    @Test
+    void closeCompactsJournalIntoMainFile() throws Exception {
+        this.storage = createStorage();
+        final Statement added = statement(SUBJECT, TYPE_ONE, TYPE_TWO);
+        commit(storage, () -> storage.add(List.of(added), null));
+        storage.close();
+        this.storage = null;
+
+        assertEquals(0, Files.size(journalFile()));
+        assertTrue(RDFDataMgr.loadModel(mainFile().toString()).contains(added));
+    }
+
+    @Test
+    void compactRemovesCompactedEntriesFromJournal() throws Exception {
+        this.storage = createStorage();
+        final Statement first = statement(SUBJECT, TYPE_ONE, TYPE_TWO);
+        commit(storage, () -> storage.add(List.of(first), null));
+        storage.compact();
+        final Statement second = statement(SUBJECT, TYPE_ONE, NAMED_GRAPH);
+        commit(storage, () -> storage.add(List.of(second), null));
+
+        final String journal = Files.readString(journalFile());
+        assertThat(journal, not(containsString(TYPE_TWO)));
+        assertThat(journal, containsString(NAMED_GRAPH));
+        assertTrue(RDFDataMgr.loadModel(mainFile().toString()).contains(first));
+    }
+
+    @Test
+    void commitSchedulesCompactionWhenJournalExceedsThreshold() throws Exception {
+        final DriverConfiguration config = createConfiguration(mainFile().toString());
+        config.setProperty(JenaConfigParam.JOURNAL_COMPACTION_THRESHOLD, "1");
+        this.storage = new JournaledFileStorage(config);
+        final Statement added = statement(SUBJECT, TYPE_ONE, TYPE_TWO);
+        commit(storage, () -> storage.add(List.of(added), null));
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (storage.getJournalSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, storage.getJournalSize());
+        assertTrue(RDFDataMgr.loadModel(mainFile().toString()).contains(added));
+    }
+}
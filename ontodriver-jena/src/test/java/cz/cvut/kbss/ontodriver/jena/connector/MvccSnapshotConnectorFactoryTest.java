@@ -0,0 +1,78 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MvccSnapshotConnectorFactoryTest extends ConnectorFactoryTestBase {
+
+    @Override
+    ConnectorFactory connectorFactory(DriverConfiguration configuration) {
+        return new MvccSnapshotConnectorFactory(configuration);
+    }
+
+    @Override
+    SharedStorageConnector getCentralConnector(ConnectorFactory factory) throws Exception {
+        final Field connectorField = SharedConnectorBasedConnectorFactory.class.getDeclaredField("centralConnector");
+        connectorField.setAccessible(true);
+        return (SharedStorageConnector) connectorField.get(factory);
+    }
+
+    @Test
+    public void createConnectorCreatesMvccSnapshotStorageConnectorForInMemoryStorage() throws Exception {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        final ConnectorFactory factory = connectorFactory(configuration);
+        final StorageConnector connector = factory.createConnector();
+        assertInstanceOf(MvccSnapshotStorageConnector.class, connector);
+        assertNotNull(getCentralConnector(factory));
+        assertTrue(getCentralConnector(factory).isOpen());
+    }
+
+    @Test
+    public void createConnectorFallsBackToCopyingSnapshotConnectorWhenDatasetDoesNotSupportSnapshotReads() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        final ConnectorFactory factory = connectorFactory(configuration);
+        factory.setDataset(DatasetFactory.create());
+        final StorageConnector connector = factory.createConnector();
+        assertEquals(SnapshotStorageConnector.class, connector.getClass());
+    }
+
+    @Test
+    public void setDatasetDetachesConnectorHoldingReadTransactionInCurrentThread() throws Exception {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        final ConnectorFactory factory = connectorFactory(configuration);
+        final StorageConnector connector = factory.createConnector();
+        connector.begin();
+        final Dataset dataset = DatasetFactory.createTxnMem();
+        factory.setDataset(dataset);
+        assertSame(dataset, getCentralConnector(factory).getStorage().getDataset());
+        assertNotNull(((MvccSnapshotStorageConnector) connector).getStorage());
+        connector.rollback();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.apache.jena.rdf.model.ResourceFactory.createStatement;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MvccSnapshotStorageConnectorTest {
+
+    private final ThreadLocal<MvccSnapshotStorageConnector> readTransactionHolder = new ThreadLocal<>();
+
+    private SharedStorageConnector centralConnector;
+
+    private MvccSnapshotStorageConnector connector;
+
+    @BeforeEach
+    public void setUp() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        this.centralConnector = new SharedStorageConnector(configuration);
+        this.connector = new MvccSnapshotStorageConnector(centralConnector, readTransactionHolder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connector.close();
+        centralConnector.close();
+    }
+
+    @Test
+    public void beginStartsReadTransactionOnCentralDatasetInsteadOfCopyingIt() {
+        connector.begin();
+        assertNull(connector.getStorage());
+        assertTrue(centralConnector.getStorage().getDataset().isInTransaction());
+    }
+
+    @Test
+    public void transactionDoesNotSeeChangesCommittedByOthersAfterItsBeginning() throws Exception {
+        connector.begin();
+        final Statement statement = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        CompletableFuture.runAsync(() -> addToCentral(statement)).get();
+
+        assertFalse(connector.contains(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+                Collections.emptySet()));
+        assertTrue(connector.find(statement.getSubject(), null, null, Collections.emptySet()).isEmpty());
+        connector.rollback();
+        connector.begin();
+        assertTrue(connector.contains(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+                Collections.emptySet()));
+    }
+
+    private void addToCentral(Statement statement) {
+        centralConnector.begin();
+        centralConnector.add(List.of(statement), null);
+        try {
+            centralConnector.commit();
+        } catch (JenaDriverException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void findReturnsDataEnhancedWithTransactionalChanges() throws Exception {
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        addToCentral(existing);
+        connector.begin();
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.add(List.of(added), null);
+        connector.remove(List.of(existing), null);
+
+        final List<Statement> result = connector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(List.of(added), result);
+        assertFalse(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+        assertTrue(connector.contains(added.getSubject(), added.getPredicate(), added.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void commitWritesTransactionalChangesIntoCentralDatasetAndEndsReadTransaction() throws Exception {
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        addToCentral(existing);
+        connector.begin();
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.add(List.of(added), NAMED_GRAPH);
+        connector.removePropertyValues(
+                List.of(new SubjectPredicateContext(existing.getSubject(), RDF.type, Collections.emptySet())));
+        connector.commit();
+
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertTrue(centralConnector.contains(added.getSubject(), added.getPredicate(), added.getObject(),
+                Collections.singleton(NAMED_GRAPH)));
+        assertFalse(centralConnector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void removePropertyValuesDoesNotHideValuesAddedAfterwards() {
+        addToCentral(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        connector.begin();
+        connector.removePropertyValues(
+                List.of(new SubjectPredicateContext(createResource(SUBJECT), RDF.type, Collections.emptySet())));
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.add(List.of(added), null);
+
+        assertEquals(List.of(added), connector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet()));
+    }
+
+    @Test
+    public void commitDoesNotRemovePropertyValuesCommittedByOthersSinceTransactionBeginning() throws Exception {
+        addToCentral(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        connector.begin();
+        final Statement concurrent = statement(SUBJECT, RDF.type.getURI(), NAMED_GRAPH);
+        CompletableFuture.runAsync(() -> addToCentral(concurrent)).get();
+        connector.removePropertyValues(
+                List.of(new SubjectPredicateContext(createResource(SUBJECT), RDF.type, Collections.emptySet())));
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.add(List.of(added), null);
+        connector.commit();
+
+        final Collection<Statement> result =
+                centralConnector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(concurrent, added)));
+    }
+
+    @Test
+    public void transactionContinuedByAnotherThreadCopiesSnapshotAndCommitsChanges() throws Exception {
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        addToCentral(existing);
+        connector.begin();
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.add(List.of(added), null);
+
+        CompletableFuture.runAsync(() -> {
+            final Collection<Statement> result =
+                    connector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+            assertEquals(2, result.size());
+            assertNotNull(connector.getStorage());
+            try {
+                connector.commit();
+            } catch (JenaDriverException e) {
+                throw new RuntimeException(e);
+            }
+        }).get();
+        // The original thread still holds the read transaction of the transaction, so check in a fresh thread
+        assertTrue(CompletableFuture.supplyAsync(
+                () -> centralConnector.contains(added.getSubject(), added.getPredicate(), added.getObject(),
+                        Collections.emptySet())).get());
+    }
+
+    @Test
+    public void readTransactionOfTransactionContinuedByAnotherThreadIsEndedWhenOriginalThreadBeginsTransaction()
+            throws Exception {
+        connector.begin();
+        CompletableFuture.runAsync(connector::rollback).get();
+        assertTrue(centralConnector.getStorage().getDataset().isInTransaction());
+
+        final MvccSnapshotStorageConnector other = new MvccSnapshotStorageConnector(centralConnector,
+                readTransactionHolder);
+        other.begin();
+        assertNull(other.getStorage());
+        other.rollback();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+    }
+
+    @Test
+    public void readTransactionOfTransactionContinuedByAnotherThreadIsEndedWhenSameConnectorBeginsNextTransaction()
+            throws Exception {
+        connector.begin();
+        CompletableFuture.runAsync(connector::rollback).get();
+
+        connector.begin();
+        assertNull(connector.getStorage());
+        connector.rollback();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertNull(readTransactionHolder.get());
+    }
+
+    @Test
+    public void rollbackEndsReadTransactionOnCentralDataset() {
+        connector.begin();
+        connector.rollback();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertNull(readTransactionHolder.get());
+    }
+
+    @Test
+    public void commitOfAnotherTransactionInSameThreadMakesConnectorCopyItsSnapshot() throws Exception {
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        addToCentral(existing);
+        connector.begin();
+        final Statement local = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.add(List.of(local), null);
+
+        final MvccSnapshotStorageConnector other = new MvccSnapshotStorageConnector(centralConnector,
+                readTransactionHolder);
+        other.begin();
+        assertNotNull(connector.getStorage());
+        other.remove(List.of(existing), null);
+        other.commit();
+
+        assertTrue(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+        assertTrue(connector.contains(local.getSubject(), local.getPredicate(), local.getObject(),
+                Collections.emptySet()));
+        connector.commit();
+        assertTrue(centralConnector.contains(local.getSubject(), local.getPredicate(), local.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void executeTransactionalQueryWithoutChangesRunsAgainstCentralSnapshot() throws Exception {
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        addToCentral(existing);
+        connector.begin();
+        final Query query = QueryFactory.create("ASK { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }");
+        try (final AbstractResultSet resultSet = connector.executeAskQuery(query, StatementOntology.TRANSACTIONAL)) {
+            assertTrue(resultSet.hasNext());
+            resultSet.next();
+            assertTrue(resultSet.getBoolean(0));
+        }
+        assertNull(connector.getStorage());
+    }
+
+    @Test
+    public void executeTransactionalQueryAfterChangesCopiesSnapshotWithTransactionalChanges() throws Exception {
+        connector.begin();
+        connector.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        final Query query = QueryFactory.create("ASK { <" + SUBJECT + "> a <" + TYPE_TWO + "> . }");
+        try (final AbstractResultSet resultSet = connector.executeAskQuery(query, StatementOntology.TRANSACTIONAL)) {
+            assertTrue(resultSet.hasNext());
+            resultSet.next();
+            assertTrue(resultSet.getBoolean(0));
+        }
+        assertNotNull(connector.getStorage());
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+    }
+
+    @Test
+    public void executeTransactionalUpdateIsAppliedOnCommit() throws OntoDriverException {
+        connector.begin();
+        connector.executeUpdate("INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }",
+                StatementOntology.TRANSACTIONAL);
+        final Statement inserted = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        assertTrue(connector.contains(inserted.getSubject(), inserted.getPredicate(), inserted.getObject(),
+                Collections.emptySet()));
+        assertFalse(centralConnector.contains(inserted.getSubject(), inserted.getPredicate(), inserted.getObject(),
+                Collections.emptySet()));
+        connector.commit();
+        assertTrue(centralConnector.contains(inserted.getSubject(), inserted.getPredicate(), inserted.getObject(),
+                Collections.emptySet()));
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.reasoner.rulesys.RDFSRuleReasonerFactory;
+import org.apache.jena.reasoner.transitiveReasoner.TransitiveReasonerFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SharedInferenceStorageConnectorTest {
+
+    private SharedStorageConnector centralConnector;
+
+    private SharedInferenceClosure closure;
+
+    private SharedInferenceStorageConnector connector;
+
+    @BeforeEach
+    void setUp() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+        this.centralConnector = spy(new SharedStorageConnector(configuration));
+        this.closure = new SharedInferenceClosure(centralConnector, configuration, Collections.emptyMap());
+        this.connector = createConnector();
+    }
+
+    private SharedInferenceStorageConnector createConnector() {
+        return new SharedInferenceStorageConnector(centralConnector, Collections.emptyMap(), closure);
+    }
+
+    @AfterEach
+    void tearDown() {
+        centralConnector.close();
+    }
+
+    private void generateTestData(String context) throws JenaDriverException {
+        centralConnector.begin();
+        final List<Statement> data = Arrays.asList(
+                statement(TYPE_ONE, RDFS.subClassOf.getURI(), TYPE_TWO),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        centralConnector.add(data, context);
+        centralConnector.commit();
+    }
+
+    @Test
+    void findWithInferenceReturnsStatementsInferredInSharedClosure() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Collection<Statement> result = connector
+                .findWithInference(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_TWO))));
+    }
+
+    @Test
+    void findReturnsOnlyAssertedStatements() throws Exception {
+        generateTestData(NAMED_GRAPH);
+        connector.begin();
+        final List<Statement> result = connector
+                .find(createResource(SUBJECT), RDF.type, null, Collections.singleton(NAMED_GRAPH));
+        assertEquals(1, result.size());
+        assertEquals(createResource(TYPE_ONE), result.get(0).getObject());
+    }
+
+    @Test
+    void transactionsReadCentralDataForSharedClosureOnlyOnce() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.rollback();
+        final SharedInferenceStorageConnector another = createConnector();
+        another.begin();
+        assertTrue(another.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        verify(centralConnector, times(1)).getStorage();
+    }
+
+    @Test
+    void addStatementsInfluencesInferenceResultsWithoutDetachingStorage() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        assertTrue(
+                connector.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+        assertTrue(connector.contains(another, RDF.type, createResource(TYPE_ONE), Collections.emptySet()));
+        assertTrue(connector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+        assertFalse(((SharedInferenceSnapshotStorage) connector.getStorage()).isDetached());
+    }
+
+    @Test
+    void addStatementsDoesNotInfluenceOtherTransactionsBeforeCommit() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        final SharedInferenceStorageConnector other = createConnector();
+        other.begin();
+        assertFalse(other.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+    }
+
+    @Test
+    void commitAppliesAddedStatementsToSharedClosure() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        connector.commit();
+
+        final SharedInferenceStorageConnector other = createConnector();
+        other.begin();
+        assertTrue(other.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+        verify(centralConnector, times(1)).getStorage();
+    }
+
+    @Test
+    void removeStatementsFromCentralDataDetachesStorageAndInfluencesInferenceResults() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        connector.remove(null, RDF.type, createResource(TYPE_ONE), null);
+        assertTrue(((SharedInferenceSnapshotStorage) connector.getStorage()).isDetached());
+        assertFalse(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void commitAppliesRemovedStatementsToSharedClosure() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.remove(null, RDF.type, createResource(TYPE_ONE), null);
+        connector.commit();
+
+        final SharedInferenceStorageConnector other = createConnector();
+        other.begin();
+        assertFalse(other.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void concurrentCommitsApplyChangesToSharedClosureInOrderOfCommitsIntoCentralStorage() throws Exception {
+        generateTestData(null);
+        final Statement statement = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.remove(Collections.singletonList(statement), null);
+        // Pause the first commit after its changes have been written into the central storage
+        final CountDownLatch centralCommitted = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        final AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(inv -> {
+            inv.callRealMethod();
+            if (first.getAndSet(false)) {
+                centralCommitted.countDown();
+                resume.await();
+            }
+            return null;
+        }).when(centralConnector).commit();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> removal = executor.submit(() -> {
+                connector.commit();
+                return null;
+            });
+            assertTrue(centralCommitted.await(5, TimeUnit.SECONDS));
+            final SharedInferenceStorageConnector other = createConnector();
+            other.begin();
+            other.add(Collections.singletonList(statement), null);
+            final Future<?> addition = executor.submit(() -> {
+                other.commit();
+                return null;
+            });
+            // Without ordering, the second commit would be applied to the closure before the first one
+            assertThrows(TimeoutException.class, () -> addition.get(200, TimeUnit.MILLISECONDS));
+            resume.countDown();
+            removal.get(5, TimeUnit.SECONDS);
+            addition.get(5, TimeUnit.SECONDS);
+        } finally {
+            resume.countDown();
+            executor.shutdownNow();
+        }
+
+        final SharedInferenceStorageConnector reader = createConnector();
+        reader.begin();
+        assertTrue(reader.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+        assertTrue(reader.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void removeStatementsAddedInTransactionDoesNotDetachStorage() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        final List<Statement> added = Collections.singletonList(
+                statement(another.getURI(), RDF.type.getURI(), TYPE_ONE));
+        connector.add(added, null);
+        connector.remove(added, null);
+        assertFalse(((SharedInferenceSnapshotStorage) connector.getStorage()).isDetached());
+        assertFalse(
+                connector.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+    }
+
+    @Test
+    void commitAfterTransactionalUpdateInvalidatesSharedClosure() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.executeUpdate("DELETE DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }",
+                StatementOntology.TRANSACTIONAL);
+        assertTrue(((SharedInferenceSnapshotStorage) connector.getStorage()).isDetached());
+        connector.commit();
+
+        final SharedInferenceStorageConnector other = createConnector();
+        other.begin();
+        assertFalse(other.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        verify(centralConnector, times(2)).getStorage();
+    }
+
+    @Test
+    void commitOfRemovedSchemaStatementRebindsNonRuleReasonerToSharedClosure() throws Exception {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS,
+                TransitiveReasonerFactory.class.getName());
+        this.closure = new SharedInferenceClosure(centralConnector, configuration, Collections.emptyMap());
+        generateTestData(null);
+        final String subclass = Generator.generateUri().toString();
+        connector = createConnector();
+        connector.begin();
+        connector.add(Collections.singletonList(statement(subclass, RDFS.subClassOf.getURI(), TYPE_ONE)), null);
+        assertTrue(connector.containsWithInference(createResource(subclass), RDFS.subClassOf,
+                createResource(TYPE_TWO), Collections.emptySet()));
+        connector.rollback();
+        connector.begin();
+        connector.remove(createResource(TYPE_ONE), RDFS.subClassOf, createResource(TYPE_TWO), null);
+        connector.commit();
+
+        final SharedInferenceStorageConnector other = createConnector();
+        other.begin();
+        other.add(Collections.singletonList(statement(subclass, RDFS.subClassOf.getURI(), TYPE_ONE)), null);
+        assertFalse(other.containsWithInference(createResource(subclass), RDFS.subClassOf, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void isConsistentVerifiesConsistencyOfNamedGraph() throws Exception {
+        generateTestData(NAMED_GRAPH);
+        connector.begin();
+        assertTrue(connector.isConsistent(NAMED_GRAPH));
+    }
+
+    @Test
+    void getContextsReturnsContextsOfCentralDataAndContextsAddedInTransaction() throws Exception {
+        generateTestData(NAMED_GRAPH);
+        connector.begin();
+        final String context = Generator.generateUri().toString();
+        connector.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), context);
+        final List<String> result = connector.getContexts();
+        assertEquals(2, result.size());
+        assertTrue(result.contains(NAMED_GRAPH));
+        assertTrue(result.contains(context));
+    }
+}
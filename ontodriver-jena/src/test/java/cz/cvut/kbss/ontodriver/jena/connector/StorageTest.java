@@ -64,6 +64,17 @@ public class StorageTest extends StorageTestUtil {
         assertInstanceOf(FileStorage.class, result);
     }
 
+    @Test
+    public void createInitializesJournaledFileStorageForJournaledFileConfiguration() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final DriverConfiguration config = createConfiguration(file.getAbsolutePath());
+        config.setProperty(JenaConfigParam.STORAGE_TYPE, JenaOntoDriverProperties.JOURNALED_FILE);
+        final Storage result = Storage.create(config);
+        assertInstanceOf(JournaledFileStorage.class, result);
+        result.close();
+    }
+
     @Test
     public void createThrowsInitializationExceptionForUnknownStorageType() {
         final DriverConfiguration config = createConfiguration("test:uri");
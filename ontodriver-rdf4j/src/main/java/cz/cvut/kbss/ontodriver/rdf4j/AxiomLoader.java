@@ -57,6 +57,13 @@ class AxiomLoader {
         final AxiomBuilder axiomBuilder = new AxiomBuilder(descriptor.getSubject(), propertyToAssertion, unspecified);
         final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
         statementLoader.setLoadAllThreshold(config.getLoadAllThreshold());
+        statementLoader.setLoadStatistics(config.getLoadStatistics());
+        if (unspecified == null && canLoadCombined(descriptor)) {
+            final Map<IRI, Assertion> allAssertions = new HashMap<>(explicitAssertions);
+            allAssertions.putAll(inferredAssertions);
+            statementLoader.setIncludeInferred(true);
+            return statementLoader.loadAxiomsBySubjectScan(descriptor, allAssertions);
+        }
         if (unspecified == null || !unspecified.isInferred()) {
             statementLoader.setIncludeInferred(false);
             result.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions));
@@ -66,6 +73,25 @@ class AxiomLoader {
         return result;
     }
 
+    /**
+     * Checks whether explicit and inferred assertions can be loaded by a single storage call.
+     * <p>
+     * This is possible when adaptive loading is enabled, the repository distinguishes inferred statements and all
+     * explicit assertions are expected in named contexts, so that inferred statements cannot be mistaken for explicit
+     * ones.
+     */
+    private boolean canLoadCombined(AxiomDescriptor descriptor) {
+        if (config.getLoadStatistics() == null || !config.getStatementLoaderFactory()
+                                                          .supportsCombinedInferenceLoading()) {
+            return false;
+        }
+        if (explicitAssertions.isEmpty() || inferredAssertions.isEmpty() ||
+                !Collections.disjoint(explicitAssertions.keySet(), inferredAssertions.keySet())) {
+            return false;
+        }
+        return explicitAssertions.values().stream().noneMatch(a -> descriptor.getAssertionContexts(a).isEmpty());
+    }
+
     private StatementLoader createLoader(NamedResource individual, AxiomBuilder axiomBuilder) {
         final IRI subject = Rdf4jUtils.toRdf4jIri(individual.getIdentifier(), connector.getValueFactory());
         return config.getStatementLoaderFactory().create(connector, subject, axiomBuilder);
@@ -43,11 +43,23 @@ class AxiomSaver {
     }
 
     void persistAxioms(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
+        persistAxioms(Collections.singleton(axiomDescriptor));
+    }
+
+    /**
+     * Persists axioms of all the specified descriptors using a single storage operation.
+     *
+     * @param axiomDescriptors Descriptors of axioms to persist
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    void persistAxioms(Collection<AxiomValueDescriptor> axiomDescriptors) throws Rdf4jDriverException {
         final List<Statement> statements = new ArrayList<>();
-        for (Assertion assertion : axiomDescriptor.getAssertions()) {
-            statements.addAll(createRdf4jStatements(axiomDescriptor.getSubject(), assertion,
-                                                    axiomDescriptor.getAssertionValues(assertion),
-                                                    axiomDescriptor.getAssertionContext(assertion)));
+        for (AxiomValueDescriptor axiomDescriptor : axiomDescriptors) {
+            for (Assertion assertion : axiomDescriptor.getAssertions()) {
+                statements.addAll(createRdf4jStatements(axiomDescriptor.getSubject(), assertion,
+                                                        axiomDescriptor.getAssertionValues(assertion),
+                                                        axiomDescriptor.getAssertionContext(assertion)));
+            }
         }
         if (!statements.isEmpty()) {
             connector.addStatements(statements);
@@ -32,6 +32,7 @@ import org.eclipse.rdf4j.model.ValueFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -58,13 +59,25 @@ class EpistemicAxiomRemover {
     }
 
     void remove(AbstractAxiomDescriptor axiomDescriptor) throws Rdf4jDriverException {
-        final Resource individual = toRdf4jIri(axiomDescriptor.getSubject(), valueFactory);
+        removeAll(Collections.singleton(axiomDescriptor));
+    }
+
+    /**
+     * Removes values of assertions of all the specified descriptors using a single storage operation.
+     *
+     * @param axiomDescriptors Descriptors of the removed values
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    void removeAll(Collection<? extends AbstractAxiomDescriptor> axiomDescriptors) throws Rdf4jDriverException {
         final Collection<SubjectPredicateContext> toRemove = new HashSet<>();
-        for (Assertion a : axiomDescriptor.getAssertions()) {
-            final Set<Resource> contexts = axiomDescriptor.getAssertionContexts(a).stream()
-                                                     .map(uri -> toRdf4jIri(uri, valueFactory))
-                                                     .collect(Collectors.toSet());
-            toRemove.add(new SubjectPredicateContext(individual, toRdf4jIri(a, valueFactory), contexts));
+        for (AbstractAxiomDescriptor axiomDescriptor : axiomDescriptors) {
+            final Resource individual = toRdf4jIri(axiomDescriptor.getSubject(), valueFactory);
+            for (Assertion a : axiomDescriptor.getAssertions()) {
+                final Set<Resource> contexts = axiomDescriptor.getAssertionContexts(a).stream()
+                                                         .map(uri -> toRdf4jIri(uri, valueFactory))
+                                                         .collect(Collectors.toSet());
+                toRemove.add(new SubjectPredicateContext(individual, toRdf4jIri(a, valueFactory), contexts));
+            }
         }
         connector.removePropertyValues(toRemove);
     }
@@ -24,8 +24,10 @@ import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.PrefetchingRepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.rdf4j.container.ContainerHandler;
@@ -45,7 +47,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -199,17 +203,55 @@ public class Rdf4jAdapter implements Closeable, Wrapper {
         return new AxiomLoader(connector, config).loadAxioms(axiomDescriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        final RepoConnection loadingConnector;
+        if (descriptors.size() > 1 && config.getStatementLoaderFactory().supportsPrefetching()) {
+            // Statements of all the subjects are loaded by a single query and the individual loaders read them from memory
+            final Set<Resource> subjects = descriptors.stream()
+                                                      .map(d -> Rdf4jUtils.toRdf4jIri(d.getSubject(), valueFactory))
+                                                      .collect(Collectors.toSet());
+            loadingConnector = new PrefetchingRepoConnection(connector, subjects);
+        } else {
+            loadingConnector = connector;
+        }
+        final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), new AxiomLoader(loadingConnector, config).loadAxioms(descriptor));
+        }
+        return result;
+    }
+
     void persist(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
     }
 
+    void persistAll(Collection<AxiomValueDescriptor> axiomDescriptors) throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        new AxiomSaver(connector).persistAxioms(axiomDescriptors);
+    }
+
     void update(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new EpistemicAxiomRemover(connector, valueFactory).remove(axiomDescriptor);
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
     }
 
+    /**
+     * Updates values specified by all the descriptors, removing the original values in one storage operation and
+     * adding the new ones in another.
+     *
+     * @param axiomDescriptors Descriptors of the update values
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    void updateAll(Collection<AxiomValueDescriptor> axiomDescriptors) throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        new EpistemicAxiomRemover(connector, valueFactory).removeAll(axiomDescriptors);
+        new AxiomSaver(connector).persistAxioms(axiomDescriptors);
+    }
+
     void remove(AxiomDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new EpistemicAxiomRemover(connector, valueFactory).remove(axiomDescriptor);
@@ -221,13 +263,13 @@ public class Rdf4jAdapter implements Closeable, Wrapper {
 
     SimpleListHandler getSimpleListHandler() throws Rdf4jDriverException {
         startTransactionIfNotActive();
-        return new SimpleListHandler(connector, valueFactory);
+        return new SimpleListHandler(connector, valueFactory, config.isPrefetchLists());
     }
 
     ReferencedListHandler getReferencedListHandler() throws
             Rdf4jDriverException {
         startTransactionIfNotActive();
-        return new ReferencedListHandler(connector, valueFactory);
+        return new ReferencedListHandler(connector, valueFactory, config.isPrefetchLists());
     }
 
     TypesHandler getTypesHandler() throws Rdf4jDriverException {
@@ -29,6 +29,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.init.Rdf4jFactoryOfFactories;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.LoadStatistics;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
 import org.eclipse.rdf4j.repository.Repository;
 
@@ -43,12 +44,16 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
             Rdf4jConfigParam.USE_INFERENCE, Rdf4jConfigParam.USE_VOLATILE_STORAGE, Rdf4jConfigParam.LOAD_ALL_THRESHOLD,
             Rdf4jConfigParam.RECONNECT_ATTEMPTS, Rdf4jConfigParam.REPOSITORY_CONFIG,
             Rdf4jConfigParam.INFERENCE_IN_DEFAULT_CONTEXT, Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL,
-            Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT);
+            Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT,
+            Rdf4jConfigParam.PREFETCH_LISTS, Rdf4jConfigParam.ADAPTIVE_LOADING, Rdf4jConfigParam.STATEMENT_CACHE,
+            Rdf4jConfigParam.STATEMENT_CACHE_MAX_STATEMENTS, Rdf4jConfigParam.STATEMENT_CACHE_MAX_SUBJECTS,
+            Rdf4jConfigParam.STATEMENT_CACHE_TTL);
 
     private final DriverConfiguration configuration;
     private boolean open;
     private final ConnectionFactory connectionFactory;
     private final StatementLoaderFactory statementLoaderFactory;
+    private final LoadStatistics loadStatistics;
 
     private final Set<Rdf4jConnection> openedConnections;
 
@@ -63,6 +68,7 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
         final Rdf4jFactoryOfFactories factory = new Rdf4jFactoryOfFactories(configuration);
         this.connectionFactory = factory.createConnectorFactory();
         this.statementLoaderFactory = factory.createStatementLoaderFactory();
+        this.loadStatistics = factory.createLoadStatistics();
         this.open = true;
     }
 
@@ -95,6 +101,7 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
         assert open;
         final RuntimeConfiguration config = new RuntimeConfiguration(configuration);
         config.setStatementLoaderFactory(statementLoaderFactory);
+        config.setLoadStatistics(loadStatistics);
         final Rdf4jAdapter adapter = new Rdf4jAdapter(connectionFactory.createStorageConnection(), config);
         final Rdf4jConnection c = new Rdf4jConnection(adapter);
         c.setLists(new Rdf4jLists(adapter, c::ensureOpen, c::commitIfAuto));
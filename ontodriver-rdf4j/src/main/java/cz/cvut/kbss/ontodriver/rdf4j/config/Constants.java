@@ -55,6 +55,27 @@ public class Constants {
      */
     public static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT = 30000;
 
+    /**
+     * Default maximum number of statements in the statement cache.
+     *
+     * @see Rdf4jOntoDriverProperties#STATEMENT_CACHE_MAX_STATEMENTS
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_MAX_STATEMENTS = 100_000;
+
+    /**
+     * Default maximum number of subjects in the statement cache.
+     *
+     * @see Rdf4jOntoDriverProperties#STATEMENT_CACHE_MAX_SUBJECTS
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_MAX_SUBJECTS = 10_000;
+
+    /**
+     * Default time to live of statement cache entries (in seconds).
+     *
+     * @see Rdf4jOntoDriverProperties#STATEMENT_CACHE_TTL
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_TTL = 60;
+
     private Constants() {
         throw new AssertionError();
     }
@@ -38,7 +38,13 @@ public enum Rdf4jConfigParam implements ConfigurationParameter {
     INFERENCE_IN_DEFAULT_CONTEXT(Rdf4jOntoDriverProperties.INFERENCE_IN_DEFAULT_CONTEXT),
     CONNECTION_REQUEST_TIMEOUT(Rdf4jOntoDriverProperties.CONNECTION_REQUEST_TIMEOUT),
     MAX_CONNECTION_POOL_SIZE(Rdf4jOntoDriverProperties.MAX_CONNECTION_POOL_SIZE),
-    TRANSACTION_ISOLATION_LEVEL(Rdf4jOntoDriverProperties.TRANSACTION_ISOLATION_LEVEL);
+    TRANSACTION_ISOLATION_LEVEL(Rdf4jOntoDriverProperties.TRANSACTION_ISOLATION_LEVEL),
+    PREFETCH_LISTS(Rdf4jOntoDriverProperties.PREFETCH_LISTS),
+    ADAPTIVE_LOADING(Rdf4jOntoDriverProperties.ADAPTIVE_LOADING),
+    STATEMENT_CACHE(Rdf4jOntoDriverProperties.STATEMENT_CACHE),
+    STATEMENT_CACHE_MAX_STATEMENTS(Rdf4jOntoDriverProperties.STATEMENT_CACHE_MAX_STATEMENTS),
+    STATEMENT_CACHE_MAX_SUBJECTS(Rdf4jOntoDriverProperties.STATEMENT_CACHE_MAX_SUBJECTS),
+    STATEMENT_CACHE_TTL(Rdf4jOntoDriverProperties.STATEMENT_CACHE_TTL);
 
     private final String name;
 
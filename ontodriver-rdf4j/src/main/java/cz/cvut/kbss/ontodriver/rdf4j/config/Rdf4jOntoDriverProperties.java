@@ -134,6 +134,79 @@ public abstract class Rdf4jOntoDriverProperties {
      */
     public static final String TRANSACTION_ISOLATION_LEVEL = "cz.cvut.kbss.ontodriver.rdf4j.transaction-isolation";
 
+    /**
+     * Whether the whole list chain should be fetched by a single query when loading or updating lists.
+     * <p>
+     * By default, list nodes are traversed one by one, which costs at least one repository request per list element.
+     * When enabled, the list nodes (and node content in case of referenced lists) are loaded by one SPARQL query and the
+     * list is reassembled in memory. This considerably reduces the number of requests to remote repositories.
+     * <p>
+     * {@code Boolean} value expected, default is false.
+     */
+    public static final String PREFETCH_LISTS = "cz.cvut.kbss.ontodriver.rdf4j.prefetch-lists";
+
+    /**
+     * Whether statement loading plan should be chosen adaptively based on runtime statistics.
+     * <p>
+     * When enabled, the driver measures the cost of loading statements property by property and of loading all
+     * statements of a subject for each set of loaded properties and uses the cheaper approach. {@link
+     * #LOAD_ALL_THRESHOLD} is then used only until enough statistics are gathered. On GraphDB, explicit and inferred
+     * statements of a subject are loaded by a single request when the explicit ones are expected in named contexts.
+     * <p>
+     * {@code Boolean} value expected, default is false.
+     */
+    public static final String ADAPTIVE_LOADING = "cz.cvut.kbss.ontodriver.rdf4j.adaptive-loading";
+
+    /**
+     * Whether results of statement lookups should be cached and shared by connections of the driver.
+     * <p>
+     * The cache is keyed by subject. It is invalidated by changes made through the driver. Changes made to the
+     * repository by other means become visible once the cached subjects expire (see {@link #STATEMENT_CACHE_TTL}).
+     * Intended mainly for remote repositories, where every lookup is a network request.
+     * <p>
+     * Invalidation is precise only for explicit data. Lookups including inferred statements are therefore never
+     * cached, because a change of one subject may change inferred statements about other subjects.
+     * <p>
+     * Lookups made within a transaction use the cache only when transactions read committed data, i.e., with the
+     * {@literal READ_COMMITTED} {@link #TRANSACTION_ISOLATION_LEVEL} (default on GraphDB). Transactions at snapshot
+     * isolation levels always read from the repository.
+     * <p>
+     * {@code Boolean} value expected, default is false.
+     */
+    public static final String STATEMENT_CACHE = "cz.cvut.kbss.ontodriver.rdf4j.statement-cache";
+
+    /**
+     * Maximum number of statements held by the statement cache.
+     * <p>
+     * Bounds memory used by the cache. Least recently used subjects are evicted when the limit is exceeded.
+     * <p>
+     * Non-negative integer expected, default is 100000.
+     *
+     * @see #STATEMENT_CACHE
+     */
+    public static final String STATEMENT_CACHE_MAX_STATEMENTS = "cz.cvut.kbss.ontodriver.rdf4j.statement-cache.max-statements";
+
+    /**
+     * Maximum number of subjects held by the statement cache.
+     * <p>
+     * Bounds the number of cache entries, each of which holds lookups of one subject. Least recently used subjects are
+     * evicted when the limit is exceeded.
+     * <p>
+     * Non-negative integer expected, default is 10000.
+     *
+     * @see #STATEMENT_CACHE
+     */
+    public static final String STATEMENT_CACHE_MAX_SUBJECTS = "cz.cvut.kbss.ontodriver.rdf4j.statement-cache.max-subjects";
+
+    /**
+     * Time to live of subjects in the statement cache, in seconds.
+     * <p>
+     * Non-negative integer expected, {@literal 0} means cached subjects do not expire. Default is 60.
+     *
+     * @see #STATEMENT_CACHE
+     */
+    public static final String STATEMENT_CACHE_TTL = "cz.cvut.kbss.ontodriver.rdf4j.statement-cache.ttl";
+
     private Rdf4jOntoDriverProperties() {
         throw new AssertionError();
     }
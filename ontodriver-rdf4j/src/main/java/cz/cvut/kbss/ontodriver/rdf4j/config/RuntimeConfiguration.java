@@ -19,6 +19,7 @@ package cz.cvut.kbss.ontodriver.rdf4j.config;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.LoadStatistics;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
 
 /**
@@ -28,16 +29,25 @@ public class RuntimeConfiguration {
 
     private final int loadAllThreshold;
 
+    private final boolean prefetchLists;
+
     private StatementLoaderFactory statementLoaderFactory = new DefaultStatementLoaderFactory();
 
+    private LoadStatistics loadStatistics;
+
     public RuntimeConfiguration(DriverConfiguration config) {
         this.loadAllThreshold = config.getProperty(Rdf4jConfigParam.LOAD_ALL_THRESHOLD, Constants.DEFAULT_LOAD_ALL_THRESHOLD);
+        this.prefetchLists = config.is(Rdf4jConfigParam.PREFETCH_LISTS);
     }
 
     public int getLoadAllThreshold() {
         return loadAllThreshold;
     }
 
+    public boolean isPrefetchLists() {
+        return prefetchLists;
+    }
+
     public StatementLoaderFactory getStatementLoaderFactory() {
         return statementLoaderFactory;
     }
@@ -46,4 +56,17 @@ public class RuntimeConfiguration {
         assert statementLoaderFactory != null;
         this.statementLoaderFactory = statementLoaderFactory;
     }
+
+    /**
+     * Gets statistics for adaptive statement loading.
+     *
+     * @return Load statistics, {@code null} if adaptive loading is disabled
+     */
+    public LoadStatistics getLoadStatistics() {
+        return loadStatistics;
+    }
+
+    public void setLoadStatistics(LoadStatistics loadStatistics) {
+        this.loadStatistics = loadStatistics;
+    }
 }
@@ -0,0 +1,241 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository connection which serves statement lookups from a {@link StatementCache} shared with other connections.
+ * <p>
+ * Subjects modified by this connection in the current transaction are looked up in the repository, so that the
+ * connection sees its own uncommitted changes. They are invalidated in the shared cache when modified and again when
+ * the transaction is committed. Execution of a SPARQL update may modify any subject, so the connection stops using the
+ * cache until the end of the transaction and the whole cache is invalidated on commit.
+ * <p>
+ * Lookups made within a transaction use the cache only when the transaction reads committed data, i.e., when it runs
+ * at the {@link org.eclipse.rdf4j.common.transaction.IsolationLevels#READ_COMMITTED} isolation level. At snapshot
+ * isolation levels, the cache may contain state committed after the transaction began, and the transaction may read
+ * state preceding commits of other connections, which must not be shared with them. Such transactions therefore
+ * bypass the cache completely.
+ * <p>
+ * Only lookups of explicit statements are cached. Adding or removing a statement may change inferred statements about
+ * any other subject (e.g., via inverse properties or class hierarchy), which cannot be tracked here, so lookups
+ * including inferred statements are always delegated to the repository.
+ * <p>
+ * Other operations are delegated to the wrapped connection.
+ */
+public class CachingRepoConnection implements RepoConnection {
+
+    private final RepoConnection delegate;
+    private final StatementCache cache;
+    private final boolean cacheTransactionalReads;
+
+    private final Set<Resource> modifiedSubjects = new HashSet<>();
+    private boolean transactionActive;
+    private boolean updateExecuted;
+
+    public CachingRepoConnection(RepoConnection delegate, StatementCache cache) {
+        this(delegate, cache, false);
+    }
+
+    /**
+     * @param delegate                The wrapped connection
+     * @param cache                   Shared statement cache
+     * @param cacheTransactionalReads Whether lookups made within a transaction may use the cache, i.e., whether
+     *                                transactions read committed data
+     */
+    public CachingRepoConnection(RepoConnection delegate, StatementCache cache, boolean cacheTransactionalReads) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.cacheTransactionalReads = cacheTransactionalReads;
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Resource subject, IRI property, Value value, boolean includeInferred)
+            throws Rdf4jDriverException {
+        if (!isCacheable(subject, value, includeInferred)) {
+            return delegate.findStatements(subject, property, value, includeInferred);
+        }
+        final StatementCache.LookupKey key = new StatementCache.LookupKey(property, includeInferred,
+                Collections.emptySet());
+        final List<Statement> cached = cache.get(subject, key);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+        final long stamp = cache.getInvalidationStamp();
+        final Collection<Statement> result = delegate.findStatements(subject, property, value, includeInferred);
+        cache.put(subject, key, result, stamp);
+        return result;
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Resource subject, IRI property, Value value, boolean includeInferred,
+                                                Set<IRI> contexts) throws Rdf4jDriverException {
+        if (!isCacheable(subject, value, includeInferred)) {
+            return delegate.findStatements(subject, property, value, includeInferred, contexts);
+        }
+        final StatementCache.LookupKey key = new StatementCache.LookupKey(property, includeInferred, contexts);
+        final List<Statement> cached = cache.get(subject, key);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+        final long stamp = cache.getInvalidationStamp();
+        final Collection<Statement> result = delegate.findStatements(subject, property, value, includeInferred,
+                contexts);
+        cache.put(subject, key, result, stamp);
+        return result;
+    }
+
+    private boolean isCacheable(Resource subject, Value value, boolean includeInferred) {
+        return subject != null && value == null && !includeInferred && (!transactionActive || cacheTransactionalReads) &&
+                !updateExecuted && !modifiedSubjects.contains(subject);
+    }
+
+    @Override
+    public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
+                                     Set<IRI> contexts) throws Rdf4jDriverException {
+        return delegate.containsStatement(subject, property, value, includeInferred, contexts);
+    }
+
+    @Override
+    public boolean isInferred(Statement statement, Set<IRI> contexts) throws Rdf4jDriverException {
+        return delegate.isInferred(statement, contexts);
+    }
+
+    @Override
+    public void begin() throws Rdf4jDriverException {
+        delegate.begin();
+        this.transactionActive = true;
+    }
+
+    @Override
+    public void commit() throws Rdf4jDriverException {
+        delegate.commit();
+        if (updateExecuted) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(modifiedSubjects);
+        }
+        clearTransactionState();
+    }
+
+    private void clearTransactionState() {
+        modifiedSubjects.clear();
+        this.transactionActive = false;
+        this.updateExecuted = false;
+    }
+
+    @Override
+    public void rollback() throws Rdf4jDriverException {
+        delegate.rollback();
+        clearTransactionState();
+    }
+
+    @Override
+    public List<Resource> getContexts() throws Rdf4jDriverException {
+        return delegate.getContexts();
+    }
+
+    @Override
+    public ValueFactory getValueFactory() {
+        return delegate.getValueFactory();
+    }
+
+    @Override
+    public void addStatements(Collection<Statement> statements) throws Rdf4jDriverException {
+        delegate.addStatements(statements);
+        markModified(statements.stream().map(Statement::getSubject).toList());
+    }
+
+    private void markModified(Collection<Resource> subjects) {
+        modifiedSubjects.addAll(subjects);
+        cache.invalidate(new HashSet<>(subjects));
+    }
+
+    @Override
+    public void removeStatements(Collection<Statement> statements) throws Rdf4jDriverException {
+        delegate.removeStatements(statements);
+        markModified(statements.stream().map(Statement::getSubject).toList());
+    }
+
+    @Override
+    public void removePropertyValues(Collection<SubjectPredicateContext> spc) throws Rdf4jDriverException {
+        delegate.removePropertyValues(spc);
+        markModified(spc.stream().map(SubjectPredicateContext::subject).toList());
+    }
+
+    @Override
+    public List<BindingSet> executeSelectQueryInTransaction(QuerySpecification query) throws Rdf4jDriverException {
+        return delegate.executeSelectQueryInTransaction(query);
+    }
+
+    @Override
+    public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
+        return delegate.executeSelectQuery(query);
+    }
+
+    @Override
+    public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
+        return delegate.executeBooleanQuery(query);
+    }
+
+    @Override
+    public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
+        delegate.executeUpdate(query);
+        // Outside a transaction, the update is committed immediately
+        this.updateExecuted = transactionActive;
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void close() throws OntoDriverException {
+        delegate.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) throws OntoDriverException {
+        if (cls.isAssignableFrom(getClass())) {
+            return cls.cast(this);
+        }
+        if (cls.isAssignableFrom(StatementCache.class)) {
+            return cls.cast(cache);
+        }
+        return delegate.unwrap(cls);
+    }
+}
@@ -23,6 +23,12 @@ import org.eclipse.rdf4j.common.transaction.IsolationLevel;
  * Configuration for the {@link ConnectionFactoryImpl}.
  * @param isGraphDB Whether the underlying repository is GraphDB
  * @param txIsolationLevel Configured transaction isolation level, possibly {@code null}
+ * @param statementCache Statement cache shared by the created connections, {@code null} if caching is disabled
  */
-public record ConnectionFactoryConfig(boolean isGraphDB, IsolationLevel txIsolationLevel) {
+public record ConnectionFactoryConfig(boolean isGraphDB, IsolationLevel txIsolationLevel,
+                                      StatementCache statementCache) {
+
+    public ConnectionFactoryConfig(boolean isGraphDB, IsolationLevel txIsolationLevel) {
+        this(isGraphDB, txIsolationLevel, null);
+    }
 }
@@ -19,6 +19,7 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.repository.Repository;
 
 import java.util.Objects;
@@ -30,6 +31,7 @@ public final class ConnectionFactoryImpl implements ConnectionFactory {
     private final StorageConnector connector;
     private final boolean isGraphDB;
     private final IsolationLevel txIsolationLevel;
+    private final StatementCache statementCache;
 
     public ConnectionFactoryImpl(StorageConnector connector) {
         this(connector, new ConnectionFactoryConfig(false, null));
@@ -40,16 +42,26 @@ public final class ConnectionFactoryImpl implements ConnectionFactory {
         this.connector = Objects.requireNonNull(connector);
         this.isGraphDB = config.isGraphDB();
         this.txIsolationLevel = config.txIsolationLevel();
+        this.statementCache = config.statementCache();
     }
 
     @Override
     public RepoConnection createStorageConnection() {
         ensureOpen();
-        if (isGraphDB) {
-            return new GraphDBStorageConnection(connector, txIsolationLevel);
-        } else {
-            return new StorageConnection(connector, txIsolationLevel);
-        }
+        final RepoConnection connection = isGraphDB ? new GraphDBStorageConnection(connector, txIsolationLevel) :
+                                          new StorageConnection(connector, txIsolationLevel);
+        return statementCache != null ?
+               new CachingRepoConnection(connection, statementCache, readsCommittedInTransaction()) : connection;
+    }
+
+    /**
+     * Whether transactions read committed data, so that their lookups can be shared via the statement cache.
+     * <p>
+     * GraphDB transactions run at {@link IsolationLevels#READ_COMMITTED} unless configured otherwise, default isolation
+     * level of other repositories is usually {@link IsolationLevels#SNAPSHOT_READ}.
+     */
+    private boolean readsCommittedInTransaction() {
+        return txIsolationLevel != null ? txIsolationLevel == IsolationLevels.READ_COMMITTED : isGraphDB;
     }
 
     private void ensureOpen() {
@@ -62,6 +74,9 @@ public final class ConnectionFactoryImpl implements ConnectionFactory {
     public void setRepository(Repository repository) {
         ensureOpen();
         connector.setRepository(repository);
+        if (statementCache != null) {
+            statementCache.invalidateAll();
+        }
     }
 
     @Override
@@ -23,6 +23,8 @@ import org.eclipse.rdf4j.query.*;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 
+import java.util.List;
+
 /**
  * Actual implementation of statement processing.
  */
@@ -45,6 +47,25 @@ class ConnectionStatementExecutor implements StatementExecutor {
         }
     }
 
+    /**
+     * Executes the specified SELECT query and loads the whole result.
+     * <p>
+     * Contrary to {@link #executeSelectQuery(QuerySpecification)}, the connection is left open.
+     *
+     * @param query The query to execute
+     * @return List of result rows
+     * @throws Rdf4jDriverException When things go wrong with query execution
+     */
+    List<BindingSet> evaluateSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
+        try {
+            final TupleQuery tq = connection.prepareTupleQuery(QueryLanguage.SPARQL, query.getQuery());
+            tq.setIncludeInferred(query.isIncludeInference());
+            return QueryResults.asList(tq.evaluate());
+        } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
     @Override
     public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
         try {
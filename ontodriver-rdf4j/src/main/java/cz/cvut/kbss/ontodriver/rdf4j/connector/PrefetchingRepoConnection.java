@@ -0,0 +1,199 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Repository connection which serves statement lookups for a predefined set of subjects from memory.
+ * <p>
+ * All statements of the subjects are loaded by a single query when they are first looked up (one query for explicit
+ * statements and one for statements including inferred ones). Lookups of other subjects and all the other operations
+ * are delegated to the wrapped connection.
+ * <p>
+ * This connection is intended for short-lived bulk reads, it does not reflect changes made after the statements have
+ * been loaded.
+ */
+public class PrefetchingRepoConnection implements RepoConnection {
+
+    private final RepoConnection delegate;
+    private final Set<Resource> subjects;
+
+    private Model explicitStatements;
+    private Model inferredStatements;
+
+    public PrefetchingRepoConnection(RepoConnection delegate, Set<Resource> subjects) {
+        this.delegate = delegate;
+        this.subjects = subjects;
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Resource subject, IRI property, Value value, boolean includeInferred)
+            throws Rdf4jDriverException {
+        if (!subjects.contains(subject)) {
+            return delegate.findStatements(subject, property, value, includeInferred);
+        }
+        return new ArrayList<>(getStatements(includeInferred).filter(subject, property, value));
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Resource subject, IRI property, Value value, boolean includeInferred,
+                                                Set<IRI> contexts) throws Rdf4jDriverException {
+        if (!subjects.contains(subject)) {
+            return delegate.findStatements(subject, property, value, includeInferred, contexts);
+        }
+        return new ArrayList<>(getStatements(includeInferred).filter(subject, property, value,
+                contexts.toArray(new Resource[0])));
+    }
+
+    private Model getStatements(boolean includeInferred) throws Rdf4jDriverException {
+        if (includeInferred) {
+            if (inferredStatements == null) {
+                this.inferredStatements = loadStatements(true);
+            }
+            return inferredStatements;
+        } else {
+            if (explicitStatements == null) {
+                this.explicitStatements = loadStatements(false);
+            }
+            return explicitStatements;
+        }
+    }
+
+    private Model loadStatements(boolean includeInferred) throws Rdf4jDriverException {
+        final String values = subjects.stream().map(s -> "<" + s.stringValue() + ">").collect(Collectors.joining(" "));
+        final String query = "SELECT ?s ?p ?o ?g WHERE { VALUES ?s { " + values + " } ?s ?p ?o . " +
+                "OPTIONAL { GRAPH ?g { ?s ?p ?o . } } }";
+        final List<BindingSet> rows = delegate.executeSelectQueryInTransaction(
+                QuerySpecification.query(query).includeInference(includeInferred));
+        final ValueFactory vf = delegate.getValueFactory();
+        final Model model = new LinkedHashModel(rows.size());
+        for (BindingSet row : rows) {
+            final Value context = row.getValue("g");
+            model.add(vf.createStatement((Resource) row.getValue("s"), (IRI) row.getValue("p"), row.getValue("o"),
+                    (Resource) context));
+        }
+        return model;
+    }
+
+    @Override
+    public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
+                                     Set<IRI> contexts) throws Rdf4jDriverException {
+        return delegate.containsStatement(subject, property, value, includeInferred, contexts);
+    }
+
+    @Override
+    public boolean isInferred(Statement statement, Set<IRI> contexts) throws Rdf4jDriverException {
+        return delegate.isInferred(statement, contexts);
+    }
+
+    @Override
+    public void begin() throws Rdf4jDriverException {
+        delegate.begin();
+    }
+
+    @Override
+    public void commit() throws Rdf4jDriverException {
+        delegate.commit();
+    }
+
+    @Override
+    public void rollback() throws Rdf4jDriverException {
+        delegate.rollback();
+    }
+
+    @Override
+    public List<Resource> getContexts() throws Rdf4jDriverException {
+        return delegate.getContexts();
+    }
+
+    @Override
+    public ValueFactory getValueFactory() {
+        return delegate.getValueFactory();
+    }
+
+    @Override
+    public void addStatements(Collection<Statement> statements) throws Rdf4jDriverException {
+        delegate.addStatements(statements);
+    }
+
+    @Override
+    public void removeStatements(Collection<Statement> statements) throws Rdf4jDriverException {
+        delegate.removeStatements(statements);
+    }
+
+    @Override
+    public void removePropertyValues(Collection<SubjectPredicateContext> spc) throws Rdf4jDriverException {
+        delegate.removePropertyValues(spc);
+    }
+
+    @Override
+    public List<BindingSet> executeSelectQueryInTransaction(QuerySpecification query) throws Rdf4jDriverException {
+        return delegate.executeSelectQueryInTransaction(query);
+    }
+
+    @Override
+    public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
+        return delegate.executeSelectQuery(query);
+    }
+
+    @Override
+    public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
+        return delegate.executeBooleanQuery(query);
+    }
+
+    @Override
+    public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
+        delegate.executeUpdate(query);
+    }
+
+    @Override
+    public void close() throws OntoDriverException {
+        delegate.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) throws OntoDriverException {
+        if (cls.isAssignableFrom(getClass())) {
+            return cls.cast(this);
+        }
+        return delegate.unwrap(cls);
+    }
+}
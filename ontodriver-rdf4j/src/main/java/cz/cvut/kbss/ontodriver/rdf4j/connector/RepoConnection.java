@@ -20,11 +20,13 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 import cz.cvut.kbss.ontodriver.Closeable;
 import cz.cvut.kbss.ontodriver.Wrapper;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
 
 import java.util.Collection;
 import java.util.List;
@@ -173,4 +175,17 @@ public interface RepoConnection extends Closeable, StatementExecutor, Wrapper {
      * @throws Rdf4jDriverException If a repository access error occurs
      */
     void removePropertyValues(Collection<SubjectPredicateContext> spc) throws Rdf4jDriverException;
+
+    /**
+     * Executes the specified SELECT query using the connection of the current transaction (if it is active) and returns
+     * the whole result.
+     * <p>
+     * As opposed to {@link #executeSelectQuery(QuerySpecification)}, the query sees changes made in the current
+     * transaction. The result is fully loaded before this method returns.
+     *
+     * @param query The query to execute
+     * @return List of result rows
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    List<BindingSet> executeSelectQueryInTransaction(QuerySpecification query) throws Rdf4jDriverException;
 }
@@ -0,0 +1,257 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through cache of explicit statement lookups, keyed by subject.
+ * <p>
+ * The cache is shared by all connections created by a {@link ConnectionFactoryImpl}. It holds results of committed
+ * state lookups only, connections bypass it for subjects they have modified in the current transaction (see {@link
+ * CachingRepoConnection}).
+ * <p>
+ * The size of the cache is bounded by the total number of cached statements and by the number of cached subjects. When
+ * either bound is exceeded, the least recently used subjects are evicted. Subjects also expire after the configured time to live, which limits staleness
+ * caused by changes made to the repository by other applications.
+ * <p>
+ * Lookup results are not cached when the subject has been invalidated while the lookup was in progress, so that a
+ * lookup running concurrently with a commit does not cache the state preceding the commit.
+ */
+public class StatementCache {
+
+    private final long maxStatements;
+    private final long maxSubjects;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Resource, SubjectEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long statementCount;
+    private long invalidationStamp;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxStatements Maximum number of cached statements
+     * @param maxSubjects   Maximum number of cached subjects
+     * @param ttl           Time to live of cached subjects in seconds, {@literal 0} means no expiration
+     */
+    public StatementCache(long maxStatements, long maxSubjects, long ttl) {
+        this(maxStatements, maxSubjects, ttl, System::nanoTime);
+    }
+
+    StatementCache(long maxStatements, long maxSubjects, long ttl, LongSupplier clock) {
+        if (maxStatements < 0 || maxSubjects < 0 || ttl < 0) {
+            throw new IllegalArgumentException("Statement cache size and time to live must not be negative.");
+        }
+        this.maxStatements = maxStatements;
+        this.maxSubjects = maxSubjects;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttl);
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the current invalidation stamp.
+     * <p>
+     * The stamp should be acquired before the lookup whose result is then {@link #put(Resource, LookupKey, Collection,
+     * long)} into the cache.
+     *
+     * @return Invalidation stamp
+     */
+    synchronized long getInvalidationStamp() {
+        return invalidationStamp;
+    }
+
+    /**
+     * Gets cached result of the specified lookup.
+     *
+     * @param subject Lookup subject
+     * @param key     Lookup specification
+     * @return Cached statements, {@code null} if the lookup result is not cached
+     */
+    synchronized List<Statement> get(Resource subject, LookupKey key) {
+        SubjectEntry entry = entries.get(subject);
+        if (entry != null && isExpired(entry)) {
+            remove(subject);
+            entry = null;
+        }
+        final List<Statement> result = entry != null ? entry.lookups.get(key) : null;
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    private boolean isExpired(SubjectEntry entry) {
+        return ttlNanos > 0 && clock.getAsLong() - entry.created > ttlNanos;
+    }
+
+    /**
+     * Caches result of the specified lookup.
+     * <p>
+     * The result is not cached if any subject has been invalidated since the specified stamp was acquired.
+     *
+     * @param subject    Lookup subject
+     * @param key        Lookup specification
+     * @param statements Lookup result
+     * @param stamp      Invalidation stamp acquired before the lookup was performed
+     */
+    synchronized void put(Resource subject, LookupKey key, Collection<Statement> statements, long stamp) {
+        if (stamp != invalidationStamp || statements.size() > maxStatements || maxSubjects == 0) {
+            return;
+        }
+        final SubjectEntry entry = entries.computeIfAbsent(subject, s -> new SubjectEntry(clock.getAsLong()));
+        final List<Statement> previous = entry.lookups.put(key, List.copyOf(statements));
+        statementCount += statements.size() - (previous != null ? previous.size() : 0);
+        evictIfNecessary();
+    }
+
+    private void evictIfNecessary() {
+        final Iterator<Map.Entry<Resource, SubjectEntry>> it = entries.entrySet().iterator();
+        while ((statementCount > maxStatements || entries.size() > maxSubjects) && it.hasNext()) {
+            final SubjectEntry eldest = it.next().getValue();
+            statementCount -= eldest.size();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(Resource subject) {
+        final SubjectEntry entry = entries.remove(subject);
+        if (entry != null) {
+            statementCount -= entry.size();
+        }
+    }
+
+    /**
+     * Removes cached lookups of the specified subjects.
+     *
+     * @param subjects Subjects to invalidate
+     */
+    synchronized void invalidate(Collection<? extends Resource> subjects) {
+        if (subjects.isEmpty()) {
+            return;
+        }
+        invalidationStamp++;
+        subjects.forEach(this::remove);
+        invalidations.add(subjects.size());
+    }
+
+    /**
+     * Removes all cached lookups.
+     */
+    public synchronized void invalidateAll() {
+        invalidationStamp++;
+        invalidations.add(entries.size());
+        entries.clear();
+        this.statementCount = 0;
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups which were not found in the cache.
+     *
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of subjects evicted from the cache due to its size limit.
+     *
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of subject invalidations caused by changes to the repository.
+     *
+     * @return Invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * Gets the number of currently cached statements.
+     *
+     * @return Statement count
+     */
+    public synchronized long getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Specification of a statement lookup for a subject.
+     *
+     * @param property        Property, possibly {@code null}
+     * @param includeInferred Whether inferred statements are included
+     * @param contexts        Contexts to search
+     */
+    record LookupKey(IRI property, boolean includeInferred, Set<IRI> contexts) {
+
+        LookupKey {
+            contexts = Set.copyOf(contexts);
+        }
+    }
+
+    private static final class SubjectEntry {
+
+        private final long created;
+        private final Map<LookupKey, List<Statement>> lookups = new HashMap<>(4);
+
+        private SubjectEntry(long created) {
+            this.created = created;
+        }
+
+        private int size() {
+            return lookups.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
@@ -86,6 +87,11 @@ public class StorageConnection implements RepoConnection {
         return new ConnectionStatementExecutor(connectionProvider.acquireConnection()).executeSelectQuery(query);
     }
 
+    @Override
+    public List<BindingSet> executeSelectQueryInTransaction(QuerySpecification query) throws Rdf4jDriverException {
+        return withConnection(conn -> new ConnectionStatementExecutor(conn).evaluateSelectQuery(query));
+    }
+
     @Override
     public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
         return withConnection(conn -> new ConnectionStatementExecutor(conn).executeBooleanQuery(query));
@@ -81,6 +81,7 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
     private RepositoryManager manager;
     private Repository repository;
 
+    private boolean remote;
     private boolean open;
 
     public StorageConnector(DriverConfiguration configuration) throws Rdf4jDriverException {
@@ -103,6 +104,7 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
         LOG.debug("Initializing connector to repository at {}", serverUri);
         try {
             final boolean isRemote = isRemoteRepository(serverUri);
+            this.remote = isRemote;
             if (isRemote) {
                 this.repository = connectToRemoteRepository(serverUri.toString());
             } else {
@@ -372,6 +374,15 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
         return open;
     }
 
+    /**
+     * Whether the underlying repository is accessed remotely (e.g., over HTTP).
+     *
+     * @return {@code true} for remote repositories, {@code false} otherwise
+     */
+    public boolean isRemote() {
+        return remote;
+    }
+
     private void verifyOpen() {
         if (!open) {
             throw new IllegalStateException("Connector is not open.");
@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector.init;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.LoadStatistics;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
 
 /**
@@ -41,4 +42,11 @@ public interface FactoryOfFactories {
      * @return New statement loader factory
      */
     StatementLoaderFactory createStatementLoaderFactory();
+
+    /**
+     * Creates a {@link LoadStatistics} instance for adaptive statement loading.
+     *
+     * @return New load statistics, {@code null} if adaptive loading is not enabled
+     */
+    LoadStatistics createLoadStatistics();
 }
@@ -18,15 +18,19 @@
 package cz.cvut.kbss.ontodriver.rdf4j.connector.init;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactoryConfig;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactoryImpl;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementCache;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultContextInferenceStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.GraphDBStatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.LoadStatistics;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -78,6 +82,14 @@ public class Rdf4jFactoryOfFactories implements FactoryOfFactories {
         return new DefaultStatementLoaderFactory();
     }
 
+    @Override
+    public LoadStatistics createLoadStatistics() {
+        if (!config.is(Rdf4jConfigParam.ADAPTIVE_LOADING)) {
+            return null;
+        }
+        return new LoadStatistics(connector.isRemote());
+    }
+
     ConnectionFactoryConfig resolveFactoryConfig() throws Rdf4jDriverException {
         final String isolationLevelConfig = config.getProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL);
         if (isolationLevelConfig != null) {
@@ -89,9 +101,29 @@ public class Rdf4jFactoryOfFactories implements FactoryOfFactories {
                 throw new Rdf4jDriverException("Unsupported transaction isolation level value '" + isolationLevelConfig + "'.");
             }
             LOG.debug("Configured to use RDF4J transaction isolation level '{}'.", optionalLevel.get());
-            return new ConnectionFactoryConfig(isGraphDB, optionalLevel.get());
+            return new ConnectionFactoryConfig(isGraphDB, optionalLevel.get(), createStatementCache());
+        }
+        return new ConnectionFactoryConfig(isGraphDB, null, createStatementCache());
+    }
+
+    private StatementCache createStatementCache() throws Rdf4jDriverException {
+        if (!config.is(Rdf4jConfigParam.STATEMENT_CACHE)) {
+            return null;
+        }
+        final int maxStatements = config.getProperty(Rdf4jConfigParam.STATEMENT_CACHE_MAX_STATEMENTS,
+                Constants.DEFAULT_STATEMENT_CACHE_MAX_STATEMENTS);
+        final int maxSubjects = config.getProperty(Rdf4jConfigParam.STATEMENT_CACHE_MAX_SUBJECTS,
+                Constants.DEFAULT_STATEMENT_CACHE_MAX_SUBJECTS);
+        final int ttl = config.getProperty(Rdf4jConfigParam.STATEMENT_CACHE_TTL, Constants.DEFAULT_STATEMENT_CACHE_TTL);
+        if (maxStatements < 0 || maxSubjects < 0 || ttl < 0) {
+            throw new Rdf4jDriverException(
+                    "Invalid statement cache configuration. Values of " + Rdf4jOntoDriverProperties.STATEMENT_CACHE_MAX_STATEMENTS +
+                            ", " + Rdf4jOntoDriverProperties.STATEMENT_CACHE_MAX_SUBJECTS + " and " +
+                            Rdf4jOntoDriverProperties.STATEMENT_CACHE_TTL + " must be non-negative integers.");
         }
-        return new ConnectionFactoryConfig(isGraphDB, null);
+        LOG.debug("Using statement cache with at most {} statements of {} subjects and time to live {}s.",
+                maxStatements, maxSubjects, ttl);
+        return new StatementCache(maxStatements, maxSubjects, ttl);
     }
 
     /**
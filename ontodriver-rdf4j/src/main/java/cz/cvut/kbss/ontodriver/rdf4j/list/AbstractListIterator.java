@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.rdf4j.list;
 import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import cz.cvut.kbss.ontodriver.rdf4j.util.ValueConverter;
 import org.eclipse.rdf4j.model.IRI;
@@ -45,7 +46,17 @@ abstract class AbstractListIterator<JT> implements ListIterator<JT> {
 
     protected final ValueConverter valueConverter;
 
+    protected final ListChain chain;
+
     public AbstractListIterator(ListDescriptor listDescriptor, RepoConnection connector, ValueFactory vf) {
+        this(listDescriptor, connector, vf, null);
+    }
+
+    /**
+     * @param chain Chain of list node statements to use, {@code null} to look up the statements lazily
+     */
+    public AbstractListIterator(ListDescriptor listDescriptor, RepoConnection connector, ValueFactory vf,
+                                ListChain chain) {
         this.listOwner = Rdf4jUtils.toRdf4jIri(listDescriptor.getListOwner().getIdentifier(), vf);
         this.hasListProperty = Rdf4jUtils.toRdf4jIri(listDescriptor.getListProperty()
                                                                      .getIdentifier(), vf);
@@ -55,12 +66,27 @@ abstract class AbstractListIterator<JT> implements ListIterator<JT> {
         this.connector = connector;
         this.vf = vf;
         this.valueConverter = new ValueConverter(vf);
+        this.chain = chain != null ? chain : ListChain.lazy(connector, includeInferred, contexts());
     }
 
     protected Set<IRI> contexts() {
         return context != null ? Collections.singleton(context) : Collections.emptySet();
     }
 
+    protected Collection<Statement> findStatements(Resource subject, IRI property) throws Rdf4jDriverException {
+        return chain.find(subject, property);
+    }
+
+    protected void addStatements(Collection<Statement> statements) throws Rdf4jDriverException {
+        chain.invalidate(statements);
+        connector.addStatements(statements);
+    }
+
+    protected void removeStatements(Collection<Statement> statements) throws Rdf4jDriverException {
+        chain.invalidate(statements);
+        connector.removeStatements(statements);
+    }
+
     protected void checkSuccessorMax(Collection<Statement> stmts, IRI property) {
         // We don't mind the same statement multiple times, it could have been added during transaction
         if (new HashSet<>(stmts).size() > 1) {
@@ -0,0 +1,167 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Provides statements describing list nodes.
+ * <p>
+ * The chain can be either lazy, in which case every lookup goes to the repository, or prefetched, in which case the
+ * statements of all the list nodes are loaded by a single query and lookups are resolved in memory.
+ * <p>
+ * Subjects of statements added or removed through the list iterators are invalidated, so that subsequent lookups of
+ * such subjects reflect the current repository state.
+ */
+final class ListChain {
+
+    private static final String SUBJECT = "s";
+    private static final String PREDICATE = "p";
+    private static final String OBJECT = "o";
+
+    private final RepoConnection connector;
+    private final boolean includeInferred;
+    private final Set<IRI> contexts;
+
+    private final Map<Resource, List<Statement>> prefetched;
+
+    private ListChain(RepoConnection connector, boolean includeInferred, Set<IRI> contexts,
+                      Map<Resource, List<Statement>> prefetched) {
+        this.connector = connector;
+        this.includeInferred = includeInferred;
+        this.contexts = contexts;
+        this.prefetched = prefetched;
+    }
+
+    /**
+     * Finds statements with the specified subject and property.
+     *
+     * @param subject  Statement subject
+     * @param property Statement property
+     * @return Matching statements, possibly empty
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    Collection<Statement> find(Resource subject, IRI property) throws Rdf4jDriverException {
+        final List<Statement> statements = prefetched.get(subject);
+        if (statements == null) {
+            return connector.findStatements(subject, property, null, includeInferred, contexts);
+        }
+        final List<Statement> result = new ArrayList<>(1);
+        statements.forEach(s -> {
+            if (property.equals(s.getPredicate())) {
+                result.add(s);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Marks subjects of the specified statements as modified, so that they are subsequently looked up in the
+     * repository.
+     *
+     * @param statements Added or removed statements
+     */
+    void invalidate(Collection<Statement> statements) {
+        statements.forEach(s -> prefetched.remove(s.getSubject()));
+    }
+
+    /**
+     * Creates a chain which looks up all statements directly in the repository.
+     */
+    static ListChain lazy(RepoConnection connector, boolean includeInferred, Set<IRI> contexts) {
+        return new ListChain(connector, includeInferred, contexts, Collections.emptyMap());
+    }
+
+    /**
+     * Loads statements of the list owner and all the list nodes using a single query.
+     * <p>
+     * The query follows the list property from the owner and then the next node property using a property path. If
+     * node content property is specified, node content statements are loaded as well.
+     *
+     * @param connector       Repository connector
+     * @param descriptor      Describes the list
+     * @param nodeContent     Node content property, {@code null} for simple lists
+     * @param includeInferred Whether to include inferred statements
+     * @return Prefetched chain
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    static ListChain prefetch(RepoConnection connector, ListDescriptor descriptor, IRI nodeContent,
+                              boolean includeInferred) throws Rdf4jDriverException {
+        final ValueFactory vf = connector.getValueFactory();
+        final IRI owner = Rdf4jUtils.toRdf4jIri(descriptor.getListOwner().getIdentifier(), vf);
+        final IRI hasList = Rdf4jUtils.toRdf4jIri(descriptor.getListProperty().getIdentifier(), vf);
+        final IRI hasNext = Rdf4jUtils.toRdf4jIri(descriptor.getNextNode().getIdentifier(), vf);
+        final IRI context = Rdf4jUtils.toRdf4jIri(descriptor.getContext(), vf);
+        final Set<IRI> contexts = context != null ? Collections.singleton(context) : Collections.emptySet();
+
+        final String query = buildQuery(owner, hasList, hasNext, nodeContent, context);
+        final List<BindingSet> rows = connector.executeSelectQueryInTransaction(
+                QuerySpecification.query(query).includeInference(includeInferred));
+        final Map<Resource, List<Statement>> statements = new HashMap<>();
+        // The owner and every reachable node are covered even if they have no statements
+        statements.put(owner, new ArrayList<>(1));
+        final Set<Statement> unique = new LinkedHashSet<>(rows.size());
+        for (BindingSet row : rows) {
+            final Value subject = row.getValue(SUBJECT);
+            if (subject == null || !subject.isResource()) {
+                continue;
+            }
+            statements.computeIfAbsent((Resource) subject, k -> new ArrayList<>(2));
+            final Value predicate = row.getValue(PREDICATE);
+            final Value object = row.getValue(OBJECT);
+            if (predicate != null && object != null) {
+                unique.add(vf.createStatement((Resource) subject, (IRI) predicate, object, context));
+            }
+        }
+        unique.forEach(s -> statements.get(s.getSubject()).add(s));
+        return new ListChain(connector, includeInferred, contexts, statements);
+    }
+
+    private static String buildQuery(IRI owner, IRI hasList, IRI hasNext, IRI nodeContent, IRI context) {
+        final String predicates = nodeContent != null ? toSparql(hasNext) + " " + toSparql(nodeContent) :
+                                  toSparql(hasNext);
+        final String pattern = String.format("{ %1$s %2$s ?o . BIND (%1$s AS ?s) BIND (%2$s AS ?p) } UNION " +
+                        "{ %1$s %2$s/%3$s* ?s . OPTIONAL { VALUES ?p { %4$s } ?s ?p ?o . } }",
+                toSparql(owner), toSparql(hasList), toSparql(hasNext), predicates);
+        return "SELECT DISTINCT ?s ?p ?o WHERE { " +
+                (context != null ? "GRAPH " + toSparql(context) + " { " + pattern + " }" : pattern) + " }";
+    }
+
+    private static String toSparql(IRI iri) {
+        return "<" + iri.stringValue() + ">";
+    }
+}
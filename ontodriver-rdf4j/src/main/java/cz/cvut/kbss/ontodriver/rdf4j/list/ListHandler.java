@@ -45,9 +45,12 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
     final RepoConnection connector;
     final ValueFactory vf;
 
-    ListHandler(RepoConnection connector, ValueFactory vf) {
+    private final boolean prefetchLists;
+
+    ListHandler(RepoConnection connector, ValueFactory vf, boolean prefetchLists) {
         this.connector = connector;
         this.vf = vf;
+        this.prefetchLists = prefetchLists;
     }
 
     /**
@@ -107,6 +110,24 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
         }
     }
 
+    /**
+     * Creates a chain providing statements of nodes of the specified list.
+     * <p>
+     * If list prefetching is enabled, the whole chain is loaded by a single query. Otherwise, the statements are looked
+     * up in the repository node by node.
+     *
+     * @param listDescriptor  Describes the list
+     * @param nodeContent     Node content property, {@code null} for lists without node content
+     * @param includeInferred Whether to include inferred statements
+     * @return List node statements chain
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    ListChain chain(ListDescriptor listDescriptor, IRI nodeContent, boolean includeInferred)
+            throws Rdf4jDriverException {
+        return prefetchLists ? ListChain.prefetch(connector, listDescriptor, nodeContent, includeInferred) :
+               ListChain.lazy(connector, includeInferred, contexts(listDescriptor));
+    }
+
     Resource extractListNode(Collection<Statement> stmts, IRI nodeAssertion) {
         if (stmts.size() > 1) {
             throw new IntegrityConstraintViolatedException(
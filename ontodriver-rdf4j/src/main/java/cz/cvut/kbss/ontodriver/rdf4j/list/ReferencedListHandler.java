@@ -46,7 +46,14 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
     private final ValueConverter valueConverter;
 
     public ReferencedListHandler(RepoConnection connector, ValueFactory vf) {
-        super(connector, vf);
+        this(connector, vf, false);
+    }
+
+    /**
+     * @param prefetchLists Whether to load the whole list chain using a single query
+     */
+    public ReferencedListHandler(RepoConnection connector, ValueFactory vf, boolean prefetchLists) {
+        super(connector, vf, prefetchLists);
         this.valueConverter = new ValueConverter(vf);
     }
 
@@ -58,7 +65,7 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
      */
     public List<Axiom<?>> loadList(ReferencedListDescriptor listDescriptor) throws Rdf4jDriverException {
         final List<Axiom<?>> axioms = new ArrayList<>();
-        final ListIterator<?> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
+        final ListIterator<?> it = iterator(listDescriptor);
         while (it.hasNext()) {
             axioms.add(it.nextAxiom());
         }
@@ -137,17 +144,17 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
         final IRI hasNext = hasNext(listDescriptor);
         final IRI hasContent = hasContent(listDescriptor);
         final boolean includeInferred = listDescriptor.getListProperty().isInferred();
-        final Set<IRI> context = contexts(listDescriptor);
+        final ListChain chain = chain(listDescriptor, hasContent, includeInferred);
         Resource previous = owner(listDescriptor);
         IRI currentProperty = hasList(listDescriptor);
         final Collection<Statement> toRemove = new ArrayList<>();
         Collection<Statement> next;
         do {
-            next = connector.findStatements(previous, currentProperty, null, includeInferred, context);
+            next = chain.find(previous, currentProperty);
             if (!next.isEmpty()) {
                 final Resource node = extractListNode(next, currentProperty);
                 toRemove.addAll(next);
-                toRemove.addAll(connector.findStatements(node, hasContent, null, includeInferred, context));
+                toRemove.addAll(chain.find(node, hasContent));
                 previous = node;
             }
             currentProperty = hasNext;
@@ -156,7 +163,7 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
     }
 
     protected void mergeList(ReferencedListValueDescriptor<?> listDescriptor) throws Rdf4jDriverException {
-        final ListIterator<Object> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
+        final ListIterator<Object> it = iterator(listDescriptor);
         final ListHandler.MergeResult mergeResult = mergeWithOriginalList((ReferencedListValueDescriptor<Object>) listDescriptor, it);
         removeObsoletes(it);
         assert mergeResult.i > 0;
@@ -166,6 +173,11 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
         }
     }
 
+    private <V> ListIterator<V> iterator(ReferencedListDescriptor listDescriptor) throws Rdf4jDriverException {
+        return new ReferencedListIterator<>(listDescriptor, connector, vf,
+                chain(listDescriptor, hasContent(listDescriptor), listDescriptor.getListProperty().isInferred()));
+    }
+
     <V> MergeResult mergeWithOriginalList(ReferencedListValueDescriptor<V> listDescriptor, ListIterator<V> it)
             throws Rdf4jDriverException {
         int i = 0;
@@ -55,7 +55,12 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
 
     public ReferencedListIterator(ReferencedListDescriptor listDescriptor, RepoConnection connector, ValueFactory vf)
             throws Rdf4jDriverException {
-        super(listDescriptor, connector, vf);
+        this(listDescriptor, connector, vf, null);
+    }
+
+    public ReferencedListIterator(ReferencedListDescriptor listDescriptor, RepoConnection connector, ValueFactory vf,
+                                  ListChain chain) throws Rdf4jDriverException {
+        super(listDescriptor, connector, vf, chain);
         this.listDescriptor = listDescriptor;
         this.hasContentProperty = Rdf4jUtils.toRdf4jIri(listDescriptor.getNodeContent().getIdentifier(), vf);
         this.currentProperty = hasListProperty;
@@ -63,7 +68,7 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
     }
 
     private void init() throws Rdf4jDriverException {
-        this.next = connector.findStatements(listOwner, hasListProperty, null, includeInferred, contexts());
+        this.next = findStatements(listOwner, hasListProperty);
     }
 
     @Override
@@ -92,12 +97,11 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
         checkObjectIsResource(currentNode);
         final Resource elem = (Resource) currentNode.getObject();
         this.currentContent = getNodeContent(elem);
-        this.next = connector.findStatements(elem, hasNextProperty, null, includeInferred, contexts());
+        this.next = findStatements(elem, hasNextProperty);
     }
 
     private Collection<Statement> getNodeContent(Resource node) throws Rdf4jDriverException {
-        final Collection<Statement> elements = connector.findStatements(node, hasContentProperty,
-                null, includeInferred, contexts());
+        final Collection<Statement> elements = findStatements(node, hasContentProperty);
         checkSuccessorMax(elements, hasContentProperty);
         if (elements.isEmpty()) {
             throw new IntegrityConstraintViolatedException("Node " + node + " has no content.");
@@ -183,21 +187,21 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
 
             this.currentNode = null;
             this.currentContent = null;
-            connector.addStatements(next);
+            addStatements(next);
         } else {
             next = Collections.emptyList();
         }
-        connector.removeStatements(toRemove);
+        removeStatements(toRemove);
     }
 
     @Override
     public void replaceCurrentWith(T newContent) throws Rdf4jDriverException {
         assert currentNode.getObject() instanceof Resource;
         // We just replace the original content statement with new one
-        connector.removeStatements(currentContent);
+        removeStatements(currentContent);
         final Collection<org.eclipse.rdf4j.model.Value> contentValues = new ReferencedListHelper(valueConverter).toRdf4jValue(listDescriptor.getNodeContent(), newContent);
         final Resource node = (Resource) currentNode.getObject();
-        connector.addStatements(contentValues.stream()
+        addStatements(contentValues.stream()
                                              .map(v -> vf.createStatement(node, hasContentProperty, v, context))
                                              .collect(Collectors.toList()));
     }
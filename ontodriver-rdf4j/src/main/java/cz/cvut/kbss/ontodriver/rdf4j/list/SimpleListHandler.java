@@ -32,12 +32,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
 public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
 
     public SimpleListHandler(RepoConnection connector, ValueFactory vf) {
-        super(connector, vf);
+        this(connector, vf, false);
+    }
+
+    /**
+     * @param prefetchLists Whether to load the whole list chain using a single query
+     */
+    public SimpleListHandler(RepoConnection connector, ValueFactory vf, boolean prefetchLists) {
+        super(connector, vf, prefetchLists);
     }
 
     /**
@@ -48,7 +54,7 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
      */
     public List<Axiom<NamedResource>> loadList(SimpleListDescriptor listDescriptor) throws Rdf4jDriverException {
         final List<Axiom<NamedResource>> axioms = new ArrayList<>();
-        final ListIterator<NamedResource> it = new SimpleListIterator(listDescriptor, connector, vf);
+        final ListIterator<NamedResource> it = iterator(listDescriptor);
         while (it.hasNext()) {
             axioms.add(it.nextAxiom());
         }
@@ -84,15 +90,15 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
      * for each removed node, which takes a lot of time.
      */
     protected void clearList(SimpleListValueDescriptor listValueDescriptor) throws Rdf4jDriverException {
-        final Set<IRI> contexts = contexts(listValueDescriptor);
         final Collection<Statement> toRemove = new ArrayList<>();
         IRI currentProperty = hasList(listValueDescriptor);
         final IRI hasNext = hasNext(listValueDescriptor);
         final boolean includeInferred = listValueDescriptor.getNextNode().isInferred();
+        final ListChain chain = chain(listValueDescriptor, null, includeInferred);
         Collection<Statement> stmts;
         Resource subject = owner(listValueDescriptor);
         do {
-            stmts = connector.findStatements(subject, currentProperty, null, includeInferred, contexts);
+            stmts = chain.find(subject, currentProperty);
             if (!stmts.isEmpty()) {
                 subject = extractListNode(stmts, hasNext);
                 toRemove.addAll(stmts);
@@ -146,7 +152,8 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
         connector.addStatements(toAdd);
     }
 
-    private ListIterator<NamedResource> iterator(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
-        return new SimpleListIterator(listDescriptor, connector, vf);
+    private ListIterator<NamedResource> iterator(SimpleListDescriptor listDescriptor) throws Rdf4jDriverException {
+        return new SimpleListIterator(listDescriptor, connector, vf,
+                chain(listDescriptor, null, listDescriptor.getListProperty().isInferred()));
     }
 }
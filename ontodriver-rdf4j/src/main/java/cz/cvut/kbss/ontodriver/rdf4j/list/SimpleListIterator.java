@@ -46,14 +46,19 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
 
     public SimpleListIterator(SimpleListDescriptor listDescriptor, RepoConnection connector, ValueFactory vf)
             throws Rdf4jDriverException {
-        super(listDescriptor, connector, vf);
+        this(listDescriptor, connector, vf, null);
+    }
+
+    public SimpleListIterator(SimpleListDescriptor listDescriptor, RepoConnection connector, ValueFactory vf,
+                              ListChain chain) throws Rdf4jDriverException {
+        super(listDescriptor, connector, vf, chain);
         this.listDescriptor = listDescriptor;
         this.currentProperty = hasListProperty;
         init();
     }
 
     private void init() throws Rdf4jDriverException {
-        this.next = connector.findStatements(listOwner, hasListProperty, null, includeInferred, contexts());
+        this.next = findStatements(listOwner, hasListProperty);
     }
 
     @Override
@@ -78,7 +83,7 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
         this.currentProperty = current.getPredicate();
         checkObjectIsResource(current);
         final Resource elem = (Resource) current.getObject();
-        this.next = connector.findStatements(elem, hasNextProperty, null, includeInferred, contexts());
+        this.next = findStatements(elem, hasNextProperty);
     }
 
     @Override
@@ -93,7 +98,7 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
         nextInternal();
         assert current.getObject().isResource();
 
-        final Assertion assertion = current.getPredicate() == hasListProperty ? listDescriptor
+        final Assertion assertion = hasListProperty.equals(current.getPredicate()) ? listDescriptor
                 .getListProperty() : listDescriptor.getNextNode();
         return createAxiom(current.getSubject(), assertion, (Resource) current.getObject());
     }
@@ -125,15 +130,14 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
                 toAdd.add(newNext);
                 this.next = Collections.singletonList(newNext);
             } else {
-                this.next = connector.findStatements(newNodeRdf4j, hasNextProperty, null,
-                        includeInferred, contexts());
+                this.next = findStatements(newNodeRdf4j, hasNextProperty);
             }
         } else {
             this.next = Collections.emptyList();
         }
         this.current = null;
-        connector.removeStatements(toRemove);
-        connector.addStatements(toAdd);
+        removeStatements(toRemove);
+        addStatements(toAdd);
     }
 
     @Override
@@ -153,10 +157,10 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
             this.next = Collections.singletonList(toAdd);
             this.current = null;
 
-            connector.addStatements(next);
+            addStatements(next);
         } else {
             this.next = Collections.emptyList();
         }
-        connector.removeStatements(toRemove);
+        removeStatements(toRemove);
     }
 }
@@ -30,4 +30,16 @@ public class GraphDBStatementLoaderFactory implements StatementLoaderFactory {
     public StatementLoader create(RepoConnection connector, Resource subject, AxiomBuilder axiomBuilder) {
         return new GraphDBStatementLoader(connector, subject, axiomBuilder);
     }
+
+    @Override
+    public boolean supportsPrefetching() {
+        // GraphDB inferred statements reside in the implicit pseudo-context, which cannot be resolved in memory
+        return false;
+    }
+
+    @Override
+    public boolean supportsCombinedInferenceLoading() {
+        // GraphDB returns inferred statements without context, so they do not match explicit assertions in named contexts
+        return true;
+    }
 }
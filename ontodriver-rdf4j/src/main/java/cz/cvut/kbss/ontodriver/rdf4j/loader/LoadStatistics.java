@@ -0,0 +1,219 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.loader;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime statistics of statement loading used by {@link StatementLoader} to choose the cheapest loading plan.
+ * <p>
+ * Statistics are kept per load shape, i.e., per set of loaded properties and inference inclusion. The set of
+ * properties loaded for a subject is determined by the entity type being loaded, so shapes roughly correspond to entity
+ * types. For each shape, latency of a single subject-and-property bound storage call, latency of a subject bound scan
+ * and the number of statements returned by the scan are tracked.
+ * <p>
+ * Until both plans have been measured for a shape, the configured load-all threshold is used. Remote repositories
+ * start with subject scans, because every storage call is a network round trip. Once both plans have been measured,
+ * the cheaper one is used and the other one is tried every {@link #EXPLORATION_PERIOD} loads to keep its estimate
+ * current.
+ * <p>
+ * Instances are thread-safe and are shared by all connections of a driver.
+ */
+public class LoadStatistics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadStatistics.class);
+
+    /**
+     * Maximum number of tracked load shapes. Loads of untracked shapes use the load-all threshold.
+     */
+    static final int MAX_TRACKED_SHAPES = 4096;
+
+    /**
+     * Every n-th load of a shape uses the currently more expensive plan to refresh its estimate.
+     */
+    static final int EXPLORATION_PERIOD = 32;
+
+    /**
+     * Weight of a new sample in the exponentially weighted moving averages.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Statement loading plans.
+     */
+    public enum Plan {
+        /**
+         * One storage call with subject and property bound per loaded property.
+         */
+        ONE_BY_ONE,
+        /**
+         * One storage call with subject bound, statements filtered in memory.
+         */
+        SCAN
+    }
+
+    private final boolean remoteRepository;
+
+    private final Map<Key, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+
+    public LoadStatistics(boolean remoteRepository) {
+        this.remoteRepository = remoteRepository;
+    }
+
+    public boolean isRemoteRepository() {
+        return remoteRepository;
+    }
+
+    /**
+     * Chooses plan for loading the specified properties.
+     *
+     * @param properties       Properties to load
+     * @param includeInferred  Whether inferred statements are loaded
+     * @param loadAllThreshold Configured number of properties from which subject scan is used
+     * @return Loading plan
+     */
+    Plan choosePlan(Set<IRI> properties, boolean includeInferred, int loadAllThreshold) {
+        final Plan defaultPlan = properties.size() < resolveThreshold(loadAllThreshold) ? Plan.ONE_BY_ONE : Plan.SCAN;
+        final ShapeStatistics stats = getOrCreate(new Key(properties, includeInferred));
+        if (stats == null) {
+            return defaultPlan;
+        }
+        final Plan plan = stats.choosePlan(properties.size(), defaultPlan);
+        LOG.trace("Loading properties {} using plan {}. Statistics: {}.", properties, plan, stats);
+        return plan;
+    }
+
+    private int resolveThreshold(int loadAllThreshold) {
+        return remoteRepository ? Math.min(loadAllThreshold, 2) : loadAllThreshold;
+    }
+
+    /**
+     * Records a property-by-property load.
+     *
+     * @param properties      Loaded properties
+     * @param includeInferred Whether inferred statements were loaded
+     * @param nanos           Total time spent in storage calls
+     */
+    void recordOneByOne(Set<IRI> properties, boolean includeInferred, long nanos) {
+        if (properties.isEmpty()) {
+            return;
+        }
+        final ShapeStatistics stats = shapes.get(new Key(properties, includeInferred));
+        if (stats != null) {
+            stats.recordCall((double) nanos / properties.size());
+        }
+    }
+
+    /**
+     * Records a subject scan.
+     *
+     * @param properties      Loaded properties
+     * @param includeInferred Whether inferred statements were loaded
+     * @param statementCount  Number of statements returned by the scan
+     * @param nanos           Time spent in the storage call
+     */
+    void recordScan(Set<IRI> properties, boolean includeInferred, int statementCount, long nanos) {
+        final ShapeStatistics stats = shapes.get(new Key(properties, includeInferred));
+        if (stats != null) {
+            stats.recordScan(statementCount, nanos);
+        }
+    }
+
+    /**
+     * Gets average number of statements per subject returned by subject scans for the specified load shape.
+     *
+     * @param properties      Loaded properties
+     * @param includeInferred Whether inferred statements are loaded
+     * @return Average number of statements, {@code NaN} if no scan has been recorded
+     */
+    public double getStatementsPerSubject(Set<IRI> properties, boolean includeInferred) {
+        final ShapeStatistics stats = shapes.get(new Key(properties, includeInferred));
+        return stats != null ? stats.getStatementsPerSubject() : Double.NaN;
+    }
+
+    private ShapeStatistics getOrCreate(Key key) {
+        final ShapeStatistics existing = shapes.get(key);
+        if (existing != null || shapes.size() >= MAX_TRACKED_SHAPES) {
+            return existing;
+        }
+        // Copy the properties, the key may be backed by a view of a mutable map
+        final ShapeStatistics stats = new ShapeStatistics();
+        final ShapeStatistics previous = shapes.putIfAbsent(new Key(Set.copyOf(key.properties), key.includeInferred),
+                stats);
+        return previous != null ? previous : stats;
+    }
+
+    private record Key(Set<IRI> properties, boolean includeInferred) {}
+
+    private static final class ShapeStatistics {
+
+        private double callLatency = Double.NaN;
+        private double scanLatency = Double.NaN;
+        private double statementsPerSubject = Double.NaN;
+        private long loadCount;
+
+        synchronized Plan choosePlan(int propertyCount, Plan defaultPlan) {
+            loadCount++;
+            final boolean callMeasured = !Double.isNaN(callLatency);
+            final boolean scanMeasured = !Double.isNaN(scanLatency);
+            if (!callMeasured && !scanMeasured) {
+                return defaultPlan;
+            }
+            if (!callMeasured) {
+                return Plan.ONE_BY_ONE;
+            }
+            if (!scanMeasured) {
+                return Plan.SCAN;
+            }
+            final Plan cheaper = propertyCount * callLatency <= scanLatency ? Plan.ONE_BY_ONE : Plan.SCAN;
+            if (loadCount % EXPLORATION_PERIOD == 0) {
+                return cheaper == Plan.ONE_BY_ONE ? Plan.SCAN : Plan.ONE_BY_ONE;
+            }
+            return cheaper;
+        }
+
+        synchronized void recordCall(double nanos) {
+            this.callLatency = average(callLatency, nanos);
+        }
+
+        synchronized void recordScan(int statementCount, long nanos) {
+            this.scanLatency = average(scanLatency, nanos);
+            this.statementsPerSubject = average(statementsPerSubject, statementCount);
+        }
+
+        synchronized double getStatementsPerSubject() {
+            return statementsPerSubject;
+        }
+
+        private static double average(double current, double sample) {
+            return Double.isNaN(current) ? sample : current + SMOOTHING * (sample - current);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "call latency=" + callLatency + "ns, scan latency=" + scanLatency + "ns, statements per subject=" +
+                    statementsPerSubject + ", loads=" + loadCount;
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class StatementLoader {
     private final AxiomBuilder axiomBuilder;
 
     private int loadAllThreshold = Constants.DEFAULT_LOAD_ALL_THRESHOLD;
+    private LoadStatistics statistics;
     private boolean loadAll;
     boolean includeInferred;
 
@@ -63,27 +64,70 @@ public class StatementLoader {
         this.includeInferred = includeInferred;
     }
 
+    /**
+     * Sets statistics used to choose the loading plan adaptively.
+     * <p>
+     * If not set, the plan is chosen using the load-all threshold.
+     *
+     * @param statistics Load statistics, possibly {@code null}
+     */
+    public void setLoadStatistics(LoadStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor,
                                            Map<IRI, Assertion> properties) throws Rdf4jDriverException {
         this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
-        if (properties.size() < loadAllThreshold && !loadAll) {
+        if (loadAll) {
+            return loadAll(descriptor, properties);
+        }
+        if (statistics != null) {
+            if (properties.isEmpty()) {
+                return new HashSet<>();
+            }
+            return switch (statistics.choosePlan(properties.keySet(), includeInferred, loadAllThreshold)) {
+                case ONE_BY_ONE -> loadOneByOne(descriptor, properties);
+                case SCAN -> loadAll(descriptor, properties);
+            };
+        }
+        if (properties.size() < loadAllThreshold) {
             return loadOneByOne(descriptor, properties);
         } else {
             return loadAll(descriptor, properties);
         }
     }
 
+    /**
+     * Loads axioms for the specified properties using a single subject scan, regardless of the load-all threshold.
+     * <p>
+     * This allows to load explicit and inferred assertions at once when the loader is able to distinguish explicit and
+     * inferred statements by their context (see {@link StatementLoaderFactory#supportsCombinedInferenceLoading()}).
+     *
+     * @param descriptor Descriptor of the loaded assertions
+     * @param properties Map of properties to assertions
+     * @return Loaded axioms
+     * @throws Rdf4jDriverException When storage access fails
+     */
+    public Collection<Axiom<?>> loadAxiomsBySubjectScan(AxiomDescriptor descriptor,
+                                                        Map<IRI, Assertion> properties) throws Rdf4jDriverException {
+        this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
+        return loadAll(descriptor, properties);
+    }
+
     private Collection<Axiom<?>> loadOneByOne(AxiomDescriptor descriptor,
                                               Map<IRI, Assertion> assertions) throws Rdf4jDriverException {
         final Collection<Axiom<?>> result = new HashSet<>();
+        long storageTime = 0;
         for (Map.Entry<IRI, Assertion> e : assertions.entrySet()) {
             final Set<IRI> contexts = resolveContexts(descriptor, e.getValue()).stream()
                                                                                .map(uri -> Rdf4jUtils.toRdf4jIri(uri,
                                                                                                                  vf))
                                                                                .collect(Collectors.toSet());
 
-            final Collection<Statement> statements;
-            statements = connector.findStatements(subject, e.getKey(), null, includeInferred, contexts);
+            final long start = System.nanoTime();
+            final Collection<Statement> statements =
+                    connector.findStatements(subject, e.getKey(), null, includeInferred, contexts);
+            storageTime += System.nanoTime() - start;
             for (Statement s : statements) {
                 final Axiom<?> axiom = axiomBuilder.statementToAxiom(s, e.getValue());
                 if (axiom != null) {
@@ -91,6 +135,9 @@ public class StatementLoader {
                 }
             }
         }
+        if (statistics != null) {
+            statistics.recordOneByOne(assertions.keySet(), includeInferred, storageTime);
+        }
         return result;
     }
 
@@ -100,7 +147,11 @@ public class StatementLoader {
 
     private Collection<Axiom<?>> loadAll(AxiomDescriptor descriptor,
                                          Map<IRI, Assertion> properties) throws Rdf4jDriverException {
+        final long start = System.nanoTime();
         final Collection<Statement> statements = connector.findStatements(subject, null, null, includeInferred);
+        if (statistics != null) {
+            statistics.recordScan(properties.keySet(), includeInferred, statements.size(), System.nanoTime() - start);
+        }
         final Collection<Axiom<?>> result = new HashSet<>(statements.size());
         final Assertion unspecified = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
         for (Statement s : statements) {
@@ -24,4 +24,27 @@ import org.eclipse.rdf4j.model.Resource;
 public interface StatementLoaderFactory {
 
     StatementLoader create(RepoConnection connector, Resource subject, AxiomBuilder axiomBuilder);
+
+    /**
+     * Whether statement loaders created by this factory can load axioms from statements prefetched into memory.
+     * <p>
+     * This is not possible for loaders relying on repository-specific pseudo-contexts.
+     *
+     * @return {@code true} if prefetched statements can be used, {@code false} otherwise
+     */
+    default boolean supportsPrefetching() {
+        return true;
+    }
+
+    /**
+     * Whether statement loaders created by this factory can load explicit and inferred assertions of a subject using a
+     * single storage call.
+     * <p>
+     * This requires the repository to distinguish inferred statements from explicit statements in named contexts.
+     *
+     * @return {@code true} if combined loading is supported, {@code false} otherwise
+     */
+    default boolean supportsCombinedInferenceLoading() {
+        return false;
+    }
 }
@@ -172,6 +172,27 @@ class Rdf4jAdapterTest {
         assertTrue(statementsCorrespondToAxiomDescriptor(ad, res));
     }
 
+    @Test
+    void persistAllAddsStatementsOfAllDescriptorsInSingleOperation() throws Exception {
+        final AxiomValueDescriptor adOne = new AxiomValueDescriptor(SUBJECT);
+        adOne.addAssertionValue(Assertion.createClassAssertion(false),
+                new Value<>(URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA")));
+        final AxiomValueDescriptor adTwo =
+                new AxiomValueDescriptor(NamedResource.create("http://krizik.felk.cvut.cz/ontologies/jopa#Entity2"));
+        adTwo.addAssertionValue(Assertion.createClassAssertion(false),
+                new Value<>(URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassB")));
+        adTwo.addAssertionValue(Assertion.createDataPropertyAssertion(URI
+                        .create("http://krizik.felk.cvut.cz/ontologies/jopa/attributes#A-stringAttribute"),
+                false), new Value<>("StringValue"));
+        adapter.persistAll(List.of(adOne, adTwo));
+        final ArgumentCaptor<Collection<Statement>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectorMock).addStatements(captor.capture());
+        final Collection<Statement> res = captor.getValue();
+        assertEquals(3, res.size());
+        assertTrue(statementsCorrespondToAxiomDescriptor(adOne, res));
+        assertTrue(statementsCorrespondToAxiomDescriptor(adTwo, res));
+    }
+
     private boolean statementsCorrespondToAxiomDescriptor(AxiomValueDescriptor ad,
                                                           Collection<Statement> statements) {
         for (Assertion as : ad.getAssertions()) {
@@ -726,6 +747,26 @@ class Rdf4jAdapterTest {
         verify(connectorMock, never()).addStatements(anyCollection());
     }
 
+    @Test
+    void updateAllRemovesAndAddsValuesOfAllDescriptorsInSingleOperations() throws Exception {
+        final URI property = URI.create("http://krizik.felk.cvut.cz/dataProperty");
+        final IRI rdf4jProperty = VF.createIRI(property.toString());
+        final Assertion assertion = Assertion.createDataPropertyAssertion(property, false);
+        final AxiomValueDescriptor descOne = new AxiomValueDescriptor(SUBJECT);
+        descOne.addAssertionValue(assertion, new Value<>("one"));
+        final NamedResource subjectTwo = NamedResource.create("http://krizik.felk.cvut.cz/ontologies/jopa#Entity2");
+        final IRI subjectTwoIri = VF.createIRI(subjectTwo.getIdentifier().toString());
+        final AxiomValueDescriptor descTwo = new AxiomValueDescriptor(subjectTwo);
+        descTwo.addAssertionValue(assertion, new Value<>("two"));
+
+        adapter.updateAll(List.of(descOne, descTwo));
+        verify(connectorMock).removePropertyValues(
+                Set.of(new SubjectPredicateContext(subjectIri, rdf4jProperty, Collections.emptySet()),
+                        new SubjectPredicateContext(subjectTwoIri, rdf4jProperty, Collections.emptySet())));
+        verify(connectorMock).addStatements(List.of(VF.createStatement(subjectIri, rdf4jProperty, VF.createLiteral("one")),
+                VF.createStatement(subjectTwoIri, rdf4jProperty, VF.createLiteral("two"))));
+    }
+
     @Test
     void updatesTypesInContext() throws Exception {
         final AxiomValueDescriptor desc = new AxiomValueDescriptor(SUBJECT);
@@ -19,8 +19,10 @@ package cz.cvut.kbss.ontodriver.rdf4j;
 
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
@@ -42,10 +44,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class Rdf4jAdapterWithStoreTest {
@@ -118,4 +125,38 @@ public class Rdf4jAdapterWithStoreTest {
             }
         }
     }
+
+    @Test
+    public void findAllLoadsSameAxiomsAsFindForEachSubject() throws Exception {
+        final Assertion stringAtt = Assertion.createDataPropertyAssertion(
+                URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/attributes#A-stringAttribute"), false);
+        final URI context = Generator.generateUri();
+        final List<NamedResource> subjects = List.of(SUBJECT, NamedResource.create(Generator.generateUri()),
+                NamedResource.create(Generator.generateUri()));
+        for (int i = 0; i < subjects.size(); i++) {
+            final AxiomValueDescriptor vd = new AxiomValueDescriptor(subjects.get(i));
+            vd.addAssertionValue(Assertion.createClassAssertion(false), new Value<>(Generator.generateUri()));
+            vd.addAssertionValue(stringAtt, new Value<>("Value" + i));
+            if (i % 2 == 0) {
+                vd.setAssertionContext(stringAtt, context);
+            }
+            adapter.persist(vd);
+        }
+        adapter.commit();
+        final List<AxiomDescriptor> descriptors = subjects.stream().map(s -> {
+            final AxiomDescriptor d = new AxiomDescriptor(s);
+            d.addAssertion(Assertion.createClassAssertion(false));
+            d.addAssertion(stringAtt);
+            d.addAssertionContext(stringAtt, context);
+            return d;
+        }).toList();
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = adapter.findAll(descriptors);
+        assertEquals(subjects.size(), result.size());
+        for (AxiomDescriptor d : descriptors) {
+            final Collection<Axiom<?>> expected = adapter.find(d);
+            assertFalse(expected.isEmpty());
+            assertEquals(new HashSet<>(expected), new HashSet<>(result.get(d.getSubject())));
+        }
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRepoConnectionTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    @Mock
+    private RepoConnection delegateOne;
+
+    @Mock
+    private RepoConnection delegateTwo;
+
+    private final StatementCache cache = new StatementCache(1000, 100, 60);
+
+    private IRI subject;
+    private Statement statement;
+
+    private CachingRepoConnection sutOne;
+    private CachingRepoConnection sutTwo;
+
+    @BeforeEach
+    void setUp() {
+        this.subject = VF.createIRI(Generator.generateUri().toString());
+        this.statement = VF.createStatement(subject, RDFS.LABEL, VF.createLiteral("label"));
+        this.sutOne = new CachingRepoConnection(delegateOne, cache);
+        this.sutTwo = new CachingRepoConnection(delegateTwo, cache);
+    }
+
+    @Test
+    void findStatementsServesRepeatedLookupFromCacheSharedByConnections() throws Exception {
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+
+        assertEquals(List.of(statement), sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+        assertEquals(List.of(statement), sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+        assertEquals(List.of(statement), sutTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+        verify(delegateOne).findStatements(subject, RDFS.LABEL, null, false, Set.of());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void findStatementsBypassesCacheForSubjectModifiedInCurrentTransaction() throws Exception {
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+        sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+        sutOne.begin();
+        sutOne.addStatements(List.of(VF.createStatement(subject, RDFS.LABEL, VF.createLiteral("other"))));
+
+        sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+        sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+        verify(delegateOne, times(3)).findStatements(subject, RDFS.LABEL, null, false, Set.of());
+    }
+
+    @Test
+    void findStatementsDoesNotCacheLookupsIncludingInferredStatements() throws Exception {
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, true, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+
+        sutOne.findStatements(subject, RDFS.LABEL, null, true, Set.of());
+        sutOne.findStatements(subject, RDFS.LABEL, null, true, Set.of());
+        verify(delegateOne, times(2)).findStatements(subject, RDFS.LABEL, null, true, Set.of());
+        assertEquals(0, cache.getStatementCount());
+    }
+
+    @Test
+    void commitInvalidatesSubjectsModifiedByConnectionInOtherConnections() throws Exception {
+        when(delegateTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)), new ArrayList<>());
+        sutTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+        sutOne.begin();
+        sutOne.removePropertyValues(List.of(new SubjectPredicateContext(subject, RDFS.LABEL, Set.of())));
+        sutOne.commit();
+
+        assertTrue(sutTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()).isEmpty());
+        verify(delegateTwo, times(2)).findStatements(subject, RDFS.LABEL, null, false, Set.of());
+    }
+
+    @Test
+    void findStatementsInTransactionBypassesCacheWhenTransactionReadsSnapshot() throws Exception {
+        final Statement original = VF.createStatement(subject, RDFS.LABEL, VF.createLiteral("original"));
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(original)));
+        when(delegateTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+        sutOne.begin();
+        // Another connection caches state committed after the transaction began
+        sutTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+
+        assertEquals(List.of(original), sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getStatementCount());
+    }
+
+    @Test
+    void findStatementsInTransactionDoesNotPopulateCacheWhenTransactionReadsSnapshot() throws Exception {
+        final Statement original = VF.createStatement(subject, RDFS.LABEL, VF.createLiteral("original"));
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(original)));
+        when(delegateTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+        sutOne.begin();
+        sutTwo.begin();
+        sutTwo.removePropertyValues(List.of(new SubjectPredicateContext(subject, RDFS.LABEL, Set.of())));
+        sutTwo.addStatements(List.of(statement));
+        sutTwo.commit();
+        // Snapshot of the transaction still contains the state before the commit
+        assertEquals(List.of(original), sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+        assertEquals(0, cache.getStatementCount());
+
+        assertEquals(List.of(statement), sutTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+    }
+
+    @Test
+    void findStatementsInTransactionPopulatesCacheWhenTransactionReadsCommittedData() throws Exception {
+        final CachingRepoConnection sut = new CachingRepoConnection(delegateOne, cache, true);
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+        sut.begin();
+
+        sut.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+        assertEquals(List.of(statement), sutTwo.findStatements(subject, RDFS.LABEL, null, false, Set.of()));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void executeUpdateInvalidatesWholeCache() throws Exception {
+        when(delegateOne.findStatements(subject, RDFS.LABEL, null, false, Set.of()))
+                .thenReturn(new ArrayList<>(List.of(statement)));
+        sutOne.findStatements(subject, RDFS.LABEL, null, false, Set.of());
+
+        sutTwo.executeUpdate(QuerySpecification.query("DELETE WHERE { ?x ?y ?z }"));
+        assertEquals(0, cache.getStatementCount());
+        verify(delegateTwo).executeUpdate(any());
+    }
+
+    @Test
+    void unwrapReturnsSharedStatementCache() throws Exception {
+        assertSame(cache, sutOne.unwrap(StatementCache.class));
+    }
+}
@@ -22,6 +22,8 @@ import org.eclipse.rdf4j.repository.sail.SailRepository;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
@@ -39,4 +41,15 @@ public class ConnectionFactoryImplTest {
             repo.shutDown();
         }
     }
+
+    @Test
+    public void createStorageConnectionWrapsConnectionWithSharedStatementCacheWhenConfigured() throws Exception {
+        final StorageConnector connector = mock(StorageConnector.class);
+        final StatementCache cache = new StatementCache(100, 100, 60);
+        final ConnectionFactory sut = new ConnectionFactoryImpl(connector, new ConnectionFactoryConfig(false, null, cache));
+
+        final RepoConnection result = sut.createStorageConnection();
+        assertInstanceOf(CachingRepoConnection.class, result);
+        assertSame(cache, result.unwrap(StatementCache.class));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.TestRepositoryProvider;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class PrefetchingRepoConnectionTest {
+
+    private final TestRepositoryProvider repositoryProvider = new TestRepositoryProvider();
+
+    private RepoConnection connector;
+    private ValueFactory vf;
+
+    private IRI subjectOne;
+    private IRI subjectTwo;
+    private IRI context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.connector = spy(repositoryProvider.createConnector(false));
+        this.vf = connector.getValueFactory();
+        this.subjectOne = vf.createIRI(Generator.generateUri().toString());
+        this.subjectTwo = vf.createIRI(Generator.generateUri().toString());
+        this.context = vf.createIRI(Generator.generateUri().toString());
+        connector.begin();
+        connector.addStatements(List.of(
+                vf.createStatement(subjectOne, RDFS.LABEL, vf.createLiteral("one")),
+                vf.createStatement(subjectOne, RDFS.COMMENT, vf.createLiteral("one in context"), context),
+                vf.createStatement(subjectTwo, RDFS.LABEL, vf.createLiteral("two"), context),
+                vf.createStatement(subjectTwo, RDFS.SEEALSO, subjectOne)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connector.close();
+        repositoryProvider.close();
+    }
+
+    @Test
+    void findStatementsReturnsSameStatementsAsWrappedConnection() throws Exception {
+        final PrefetchingRepoConnection sut = new PrefetchingRepoConnection(connector, Set.of(subjectOne, subjectTwo));
+
+        for (IRI subject : List.of(subjectOne, subjectTwo)) {
+            assertEquals(new HashSet<>(connector.findStatements(subject, null, null, false)),
+                    new HashSet<>(sut.findStatements(subject, null, null, false)));
+            assertEquals(new HashSet<>(connector.findStatements(subject, RDFS.LABEL, null, false, Set.of())),
+                    new HashSet<>(sut.findStatements(subject, RDFS.LABEL, null, false, Set.of())));
+            assertEquals(new HashSet<>(connector.findStatements(subject, null, null, false, Set.of(context))),
+                    new HashSet<>(sut.findStatements(subject, null, null, false, Set.of(context))));
+        }
+    }
+
+    @Test
+    void findStatementsLoadsStatementsOfAllSubjectsUsingSingleQuery() throws Exception {
+        final PrefetchingRepoConnection sut = new PrefetchingRepoConnection(connector, Set.of(subjectOne, subjectTwo));
+
+        final Collection<Statement> one = sut.findStatements(subjectOne, null, null, false, Set.of());
+        final Collection<Statement> two = sut.findStatements(subjectTwo, null, null, false, Set.of());
+        assertEquals(2, one.size());
+        assertEquals(2, two.size());
+        verify(connector).executeSelectQueryInTransaction(any());
+        verify(connector, never()).findStatements(any(), any(), any(), anyBoolean(), anySet());
+    }
+
+    @Test
+    void findStatementsDelegatesLookupOfSubjectWhichWasNotPrefetched() throws Exception {
+        final PrefetchingRepoConnection sut = new PrefetchingRepoConnection(connector, Set.of(subjectOne));
+
+        final Collection<Statement> result = sut.findStatements(subjectTwo, null, null, false, Set.of());
+        assertEquals(2, result.size());
+        verify(connector).findStatements(eq(subjectTwo), any(), any(), eq(false), eq(Set.of()));
+        verify(connector, never()).executeSelectQueryInTransaction(any());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StatementCacheTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final StatementCache.LookupKey KEY =
+            new StatementCache.LookupKey(RDFS.LABEL, false, Collections.emptySet());
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final StatementCache sut = new StatementCache(4, 3, 60, clock::get);
+
+    private static IRI subject() {
+        return VF.createIRI(Generator.generateUri().toString());
+    }
+
+    private static List<Statement> statements(IRI subject, int count) {
+        return IntStream.range(0, count).mapToObj(i -> VF.createStatement(subject, RDFS.LABEL, VF.createLiteral(i)))
+                        .toList();
+    }
+
+    @Test
+    void getReturnsCachedLookupResultAndCountsHitsAndMisses() {
+        final IRI subject = subject();
+        assertNull(sut.get(subject, KEY));
+        sut.put(subject, KEY, statements(subject, 2), sut.getInvalidationStamp());
+
+        assertEquals(statements(subject, 2), sut.get(subject, KEY));
+        assertNull(sut.get(subject, new StatementCache.LookupKey(RDFS.LABEL, true, Set.of())));
+        assertEquals(1, sut.getHitCount());
+        assertEquals(2, sut.getMissCount());
+    }
+
+    @Test
+    void putEvictsLeastRecentlyUsedSubjectsWhenStatementLimitIsExceeded() {
+        final IRI first = subject();
+        final IRI second = subject();
+        final IRI third = subject();
+        sut.put(first, KEY, statements(first, 2), sut.getInvalidationStamp());
+        sut.put(second, KEY, statements(second, 2), sut.getInvalidationStamp());
+        assertNotNull(sut.get(first, KEY));
+        sut.put(third, KEY, statements(third, 2), sut.getInvalidationStamp());
+
+        assertNotNull(sut.get(first, KEY));
+        assertNull(sut.get(second, KEY));
+        assertEquals(1, sut.getEvictionCount());
+        assertEquals(4, sut.getStatementCount());
+    }
+
+    @Test
+    void putEvictsLeastRecentlyUsedSubjectsWhenSubjectLimitIsExceeded() {
+        final List<IRI> subjects = List.of(subject(), subject(), subject(), subject());
+        subjects.forEach(s -> sut.put(s, KEY, statements(s, 1), sut.getInvalidationStamp()));
+
+        assertNull(sut.get(subjects.get(0), KEY));
+        assertNotNull(sut.get(subjects.get(3), KEY));
+        assertEquals(1, sut.getEvictionCount());
+        assertEquals(3, sut.getStatementCount());
+    }
+
+    @Test
+    void getDoesNotReturnExpiredSubject() {
+        final IRI subject = subject();
+        sut.put(subject, KEY, statements(subject, 1), sut.getInvalidationStamp());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        assertNull(sut.get(subject, KEY));
+        assertEquals(0, sut.getStatementCount());
+    }
+
+    @Test
+    void putDoesNotCacheResultOfLookupRunningConcurrentlyWithInvalidation() {
+        final IRI subject = subject();
+        final long stamp = sut.getInvalidationStamp();
+        sut.invalidate(Set.of(subject()));
+        sut.put(subject, KEY, statements(subject, 1), stamp);
+
+        assertNull(sut.get(subject, KEY));
+    }
+
+    @Test
+    void invalidateRemovesCachedLookupsOfSubject() {
+        final IRI subject = subject();
+        sut.put(subject, KEY, statements(subject, 1), sut.getInvalidationStamp());
+        sut.invalidate(Set.of(subject));
+
+        assertNull(sut.get(subject, KEY));
+        assertEquals(1, sut.getInvalidationCount());
+    }
+}
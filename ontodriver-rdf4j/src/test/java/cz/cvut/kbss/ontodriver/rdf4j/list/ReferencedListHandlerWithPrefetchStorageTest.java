@@ -0,0 +1,83 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class ReferencedListHandlerWithPrefetchStorageTest extends ReferencedListHandlerWithStorageTest {
+
+    @Override
+    ReferencedListHandler createHandler() {
+        return new ReferencedListHandler(connector, connector.getValueFactory(), true);
+    }
+
+    @Test
+    public void loadListLoadsWholeListUsingSingleQuery() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> descriptor = persistOriginalList();
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
+        final RepoConnection connectorSpy = spy(connector);
+        this.handler = new ReferencedListHandler(connectorSpy, connector.getValueFactory(), true);
+
+        verifyListContent(axioms, handler.loadList(descriptor));
+        verify(connectorSpy).executeSelectQueryInTransaction(any());
+        verify(connectorSpy, never()).findStatements(any(), any(), any(), anyBoolean(), anySet());
+    }
+
+    @Test
+    public void loadListThrowsIntegrityConstraintViolatedExceptionWhenNodeHasMultipleContentValues() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> descriptor = persistOriginalList();
+        final ValueFactory vf = connector.getValueFactory();
+        final String node = OWNER.getIdentifier() + "-SEQ_1";
+        connector.addStatements(Set.of(vf.createStatement(vf.createIRI(node), vf.createIRI(NODE_CONTENT_PROPERTY),
+                vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "Extra"))));
+
+        assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(descriptor));
+    }
+
+    @Test
+    public void clearListUsesPrefetchedChain() throws Exception {
+        persistOriginalList();
+        final RepoConnection connectorSpy = spy(connector);
+        this.handler = new ReferencedListHandler(connectorSpy, connector.getValueFactory(), true);
+
+        final ReferencedListValueDescriptor<NamedResource> updated = initValues(0);
+        handler.updateList(updated);
+        verify(connectorSpy).executeSelectQueryInTransaction(any());
+        verify(connectorSpy, never()).findStatements(any(), any(), any(), anyBoolean(), anySet());
+        assertTrue(handler.loadList(updated).isEmpty());
+    }
+}
@@ -36,18 +36,22 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorageTestBase {
 
-    private static final String NODE_CONTENT_PROPERTY =
+    static final String NODE_CONTENT_PROPERTY =
             "http://krizik.felk.cvut.cz/ontologies/2008/6/sequences.owl#hasContents";
 
-    private ReferencedListHandler handler;
+    ReferencedListHandler handler;
 
     @BeforeEach
     public void setUp() throws Exception {
         connector = repositoryProvider.createConnector(false);
-        this.handler = new ReferencedListHandler(connector, connector.getValueFactory());
+        this.handler = createHandler();
         connector.begin();
     }
 
+    ReferencedListHandler createHandler() {
+        return new ReferencedListHandler(connector, connector.getValueFactory());
+    }
+
     @Test
     public void persistsReferencedList() throws Exception {
         final ReferencedListValueDescriptor<NamedResource> descriptor = initValues(8);
@@ -59,7 +63,7 @@ public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorage
         verifyListContent(axioms, handler.loadList(descriptor));
     }
 
-    private ReferencedListValueDescriptor<NamedResource> initValues(int count) {
+    ReferencedListValueDescriptor<NamedResource> initValues(int count) {
         final ReferencedListValueDescriptor<NamedResource> desc = new ReferencedListValueDescriptor<>(OWNER,
                 Assertion.createObjectPropertyAssertion(URI.create(LIST_PROPERTY), false),
                 Assertion.createObjectPropertyAssertion(URI.create(NEXT_NODE_PROPERTY), false),
@@ -121,7 +125,7 @@ public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorage
         assertTrue(handler.loadList(updated).isEmpty());
     }
 
-    private ReferencedListValueDescriptor<NamedResource> persistOriginalList() throws Exception {
+    ReferencedListValueDescriptor<NamedResource> persistOriginalList() throws Exception {
         final ReferencedListValueDescriptor<NamedResource> original = initValues(10);
         handler.persistList(original);
         connector.commit();
@@ -0,0 +1,90 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import cz.cvut.kbss.ontodriver.descriptor.SimpleListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class SimpleListHandlerWithPrefetchStorageTest extends SimpleListHandlerWithStorageTest {
+
+    @Override
+    SimpleListHandler createHandler() {
+        return new SimpleListHandler(connector, connector.getValueFactory(), true);
+    }
+
+    @Test
+    public void loadListLoadsWholeListUsingSingleQuery() throws Exception {
+        final SimpleListValueDescriptor descriptor = persistOriginalList();
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
+        final RepoConnection connectorSpy = spy(connector);
+        this.sut = new SimpleListHandler(connectorSpy, connector.getValueFactory(), true);
+
+        verifyListContent(axioms, sut.loadList(descriptor));
+        verify(connectorSpy).executeSelectQueryInTransaction(any());
+        verify(connectorSpy, never()).findStatements(any(), any(), any(), anyBoolean(), anySet());
+    }
+
+    @Test
+    public void loadListThrowsIntegrityConstraintViolatedExceptionWhenNodeHasMultipleSuccessors() throws Exception {
+        final SimpleListValueDescriptor descriptor = persistOriginalList();
+        final ValueFactory vf = connector.getValueFactory();
+        connector.addStatements(Set.of(vf.createStatement(
+                vf.createIRI(descriptor.getValues().get(2).getIdentifier().toString()),
+                vf.createIRI(NEXT_NODE_PROPERTY), vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "Extra"))));
+
+        assertThrows(IntegrityConstraintViolatedException.class, () -> sut.loadList(descriptor));
+    }
+
+    @Test
+    public void updateListReusesPrefetchedChainForTraversal() throws Exception {
+        final SimpleListValueDescriptor original = persistOriginalList();
+        final RepoConnection connectorSpy = spy(connector);
+        this.sut = new SimpleListHandler(connectorSpy, connector.getValueFactory(), true);
+
+        final SimpleListValueDescriptor updated = initValues(0);
+        for (int i = 0; i < original.getValues().size(); i++) {
+            if (i % 2 != 0) {
+                updated.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Modified_" + i));
+            } else {
+                updated.addValue(original.getValues().get(i));
+            }
+        }
+        sut.updateList(updated);
+        // Only the check whether the original list is empty, the traversal uses the prefetched chain
+        verify(connectorSpy).findStatements(any(), any(), any(), anyBoolean(), anySet());
+        verify(connectorSpy).executeSelectQueryInTransaction(any());
+        verifyListContent(generateAxiomsForList(updated), sut.loadList(updated));
+    }
+}
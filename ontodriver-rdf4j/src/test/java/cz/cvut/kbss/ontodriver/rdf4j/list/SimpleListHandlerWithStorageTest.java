@@ -36,15 +36,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SimpleListHandlerWithStorageTest extends ListHandlerWithStorageTestBase {
 
-    private SimpleListHandler sut;
+    SimpleListHandler sut;
 
     @BeforeEach
     public void setUp() throws Exception {
         connector = repositoryProvider.createConnector(false);
-        this.sut = new SimpleListHandler(connector, connector.getValueFactory());
+        this.sut = createHandler();
         connector.begin();
     }
 
+    SimpleListHandler createHandler() {
+        return new SimpleListHandler(connector, connector.getValueFactory());
+    }
+
     @Test
     public void persistsSimpleList() throws Exception {
         final SimpleListValueDescriptor descriptor = initValues(8);
@@ -56,7 +60,7 @@ public class SimpleListHandlerWithStorageTest extends ListHandlerWithStorageTest
         verifyListContent(axioms, sut.loadList(descriptor));
     }
 
-    private SimpleListValueDescriptor initValues(int count) {
+    SimpleListValueDescriptor initValues(int count) {
         final SimpleListValueDescriptor desc = new SimpleListValueDescriptor(OWNER,
                 Assertion.createObjectPropertyAssertion(URI.create(LIST_PROPERTY), false),
                 Assertion.createObjectPropertyAssertion(URI.create(NEXT_NODE_PROPERTY), false));
@@ -119,7 +123,7 @@ public class SimpleListHandlerWithStorageTest extends ListHandlerWithStorageTest
         assertTrue(sut.loadList(updated).isEmpty());
     }
 
-    private SimpleListValueDescriptor persistOriginalList() throws Exception {
+    SimpleListValueDescriptor persistOriginalList() throws Exception {
         final SimpleListValueDescriptor original = initValues(10);
         sut.persistList(original);
         connector.commit();
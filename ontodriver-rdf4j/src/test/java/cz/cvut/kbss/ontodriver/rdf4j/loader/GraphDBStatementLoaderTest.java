@@ -37,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -48,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -176,4 +178,33 @@ class GraphDBStatementLoaderTest {
         sut.setIncludeInferred(false);
         assertFalse(sut.contextMatches(Collections.singleton(Generator.generateUri()), rdfStatement, a));
     }
+
+    @Test
+    void loadAxiomsBySubjectScanLoadsExplicitAndInferredAssertionsUsingSingleStorageCall() throws Exception {
+        final URI context = Generator.generateUri();
+        final IRI subjectIri = VF.createIRI(SUBJECT);
+        final Assertion explicit = Assertion.createDataPropertyAssertion(Generator.generateUri(), false);
+        final Assertion inferred = Assertion.createObjectPropertyAssertion(Generator.generateUri(), true);
+        final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(SUBJECT));
+        descriptor.addAssertion(explicit);
+        descriptor.addAssertionContext(explicit, context);
+        descriptor.addAssertion(inferred);
+        final IRI explicitProperty = VF.createIRI(explicit.getIdentifier().toString());
+        final IRI inferredProperty = VF.createIRI(inferred.getIdentifier().toString());
+        final Statement explicitStatement = VF.createStatement(subjectIri, explicitProperty,
+                VF.createLiteral(Generator.randomInt()), VF.createIRI(context.toString()));
+        final Statement inferredExplicitPropertyStatement = VF.createStatement(subjectIri, explicitProperty,
+                VF.createLiteral(Generator.randomInt()), null);
+        final Statement inferredStatement = VF.createStatement(subjectIri, inferredProperty,
+                VF.createIRI(Generator.generateUri().toString()), null);
+        when(connector.findStatements(subjectIri, null, null, true)).thenReturn(
+                List.of(explicitStatement, inferredExplicitPropertyStatement, inferredStatement));
+
+        sut.setIncludeInferred(true);
+        sut.loadAxiomsBySubjectScan(descriptor, Map.of(explicitProperty, explicit, inferredProperty, inferred));
+        verify(connector).findStatements(subjectIri, null, null, true);
+        verify(axiomBuilder).statementToAxiom(explicitStatement);
+        verify(axiomBuilder).statementToAxiom(inferredStatement);
+        verify(axiomBuilder, never()).statementToAxiom(inferredExplicitPropertyStatement);
+    }
 }
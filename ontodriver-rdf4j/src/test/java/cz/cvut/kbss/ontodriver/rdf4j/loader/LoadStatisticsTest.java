@@ -0,0 +1,103 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.loader;
+
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadStatisticsTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private final LoadStatistics sut = new LoadStatistics(false);
+
+    private static Set<IRI> properties(int count) {
+        return IntStream.range(0, count).mapToObj(i -> VF.createIRI(Generator.generateUri().toString()))
+                        .collect(Collectors.toSet());
+    }
+
+    @Test
+    void choosePlanUsesLoadAllThresholdWhenNoStatisticsAreAvailable() {
+        assertEquals(LoadStatistics.Plan.ONE_BY_ONE, sut.choosePlan(properties(2), false, 5));
+        assertEquals(LoadStatistics.Plan.SCAN, sut.choosePlan(properties(6), false, 5));
+    }
+
+    @Test
+    void choosePlanPrefersSubjectScanForRemoteRepositoryWhenNoStatisticsAreAvailable() {
+        final LoadStatistics remote = new LoadStatistics(true);
+        assertEquals(LoadStatistics.Plan.SCAN, remote.choosePlan(properties(2), false, 5));
+        assertEquals(LoadStatistics.Plan.ONE_BY_ONE, remote.choosePlan(properties(1), false, 5));
+    }
+
+    @Test
+    void choosePlanMeasuresOtherPlanWhenOnlyOneHasBeenMeasured() {
+        final Set<IRI> props = properties(2);
+        assertEquals(LoadStatistics.Plan.ONE_BY_ONE, sut.choosePlan(props, false, 5));
+        sut.recordOneByOne(props, false, 2000);
+        assertEquals(LoadStatistics.Plan.SCAN, sut.choosePlan(props, false, 5));
+    }
+
+    @Test
+    void choosePlanChoosesCheaperPlanWhenBothHaveBeenMeasured() {
+        final Set<IRI> props = properties(3);
+        sut.choosePlan(props, false, 5);
+        sut.recordOneByOne(props, false, 30_000);
+        sut.recordScan(props, false, 50, 1_000);
+        assertEquals(LoadStatistics.Plan.SCAN, sut.choosePlan(props, false, 5));
+
+        final Set<IRI> other = properties(3);
+        sut.choosePlan(other, true, 5);
+        sut.recordOneByOne(other, true, 300);
+        sut.recordScan(other, true, 500, 10_000);
+        assertEquals(LoadStatistics.Plan.ONE_BY_ONE, sut.choosePlan(other, true, 5));
+    }
+
+    @Test
+    void choosePlanPeriodicallyUsesMoreExpensivePlanToRefreshItsEstimate() {
+        final Set<IRI> props = properties(3);
+        sut.choosePlan(props, false, 5);
+        sut.recordOneByOne(props, false, 30_000);
+        sut.recordScan(props, false, 50, 1_000);
+        int oneByOneCount = 0;
+        for (int i = 1; i < LoadStatistics.EXPLORATION_PERIOD; i++) {
+            if (sut.choosePlan(props, false, 5) == LoadStatistics.Plan.ONE_BY_ONE) {
+                oneByOneCount++;
+            }
+        }
+        assertEquals(1, oneByOneCount);
+    }
+
+    @Test
+    void recordScanTracksStatementsPerSubject() {
+        final Set<IRI> props = properties(2);
+        sut.choosePlan(props, false, 5);
+        sut.recordScan(props, false, 10, 1_000);
+        assertEquals(10, sut.getStatementsPerSubject(props, false));
+        assertTrue(Double.isNaN(sut.getStatementsPerSubject(properties(1), false)));
+    }
+}
@@ -34,7 +34,9 @@ import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.LoadStatistics;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.virtuoso.config.VirtuosoConfigParam;
 
 import java.util.HashSet;
 import java.util.List;
@@ -44,13 +46,16 @@ import java.util.Set;
 class VirtuosoDriver implements AutoCloseable, ConnectionListener<Rdf4jConnection> {
 
     private static final List<ConfigurationParameter> CONFIGS = List
-            .of(DriverConfigParam.AUTO_COMMIT, Rdf4jConfigParam.LOAD_ALL_THRESHOLD,
-                    Rdf4jConfigParam.RECONNECT_ATTEMPTS);
+            .of(DriverConfigParam.AUTO_COMMIT, Rdf4jConfigParam.LOAD_ALL_THRESHOLD, Rdf4jConfigParam.ADAPTIVE_LOADING,
+                    Rdf4jConfigParam.RECONNECT_ATTEMPTS, VirtuosoConfigParam.POOL_MAX_SIZE,
+                    VirtuosoConfigParam.POOL_ACQUIRE_TIMEOUT, VirtuosoConfigParam.POOL_IDLE_TIMEOUT,
+                    VirtuosoConfigParam.POOL_VALIDATION_THRESHOLD, VirtuosoConfigParam.PREPARED_QUERY_CACHE_SIZE);
 
     private final DriverConfiguration configuration;
     private boolean open;
     private final ConnectionFactory connectionFactory;
     private final StatementLoaderFactory statementLoaderFactory;
+    private final LoadStatistics loadStatistics;
 
     private final Set<Rdf4jConnection> openConnections = new HashSet<>();
 
@@ -64,6 +69,7 @@ class VirtuosoDriver implements AutoCloseable, ConnectionListener<Rdf4jConnectio
         final VirtuosoFactoryOfFactories factory = new VirtuosoFactoryOfFactories(configuration);
         this.connectionFactory = factory.createConnectorFactory();
         this.statementLoaderFactory = factory.createStatementLoaderFactory();
+        this.loadStatistics = factory.createLoadStatistics();
         this.open = true;
     }
 
@@ -71,6 +77,7 @@ class VirtuosoDriver implements AutoCloseable, ConnectionListener<Rdf4jConnectio
         assert open;
         final RuntimeConfiguration config = new RuntimeConfiguration(configuration);
         config.setStatementLoaderFactory(statementLoaderFactory);
+        config.setLoadStatistics(loadStatistics);
         final Rdf4jAdapter adapter = new Rdf4jAdapter(connectionFactory.createStorageConnection(), config);
         final Rdf4jConnection c = new Rdf4jConnection(adapter);
         c.setLists(new Rdf4jLists(adapter, c::ensureOpen, c::commitIfAuto));
@@ -22,6 +22,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.init.FactoryOfFactories;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.LoadStatistics;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.virtuoso.connector.VirtuosoConnectionFactory;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
@@ -68,4 +69,13 @@ class VirtuosoFactoryOfFactories implements FactoryOfFactories {
     public StatementLoaderFactory createStatementLoaderFactory() {
         return new DefaultStatementLoaderFactory();
     }
+
+    @Override
+    public LoadStatistics createLoadStatistics() {
+        if (!configuration.is(Rdf4jConfigParam.ADAPTIVE_LOADING)) {
+            return null;
+        }
+        // Virtuoso is always accessed over the network
+        return new LoadStatistics(true);
+    }
 }
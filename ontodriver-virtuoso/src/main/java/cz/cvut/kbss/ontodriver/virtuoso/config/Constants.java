@@ -0,0 +1,63 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.config;
+
+/**
+ * Constants and default values for the Virtuoso driver.
+ */
+public class Constants {
+
+    /**
+     * Default maximum number of pooled connections.
+     *
+     * @see VirtuosoOntoDriverProperties#VIRTUOSO_POOL_MAX_SIZE
+     */
+    public static final int DEFAULT_POOL_MAX_SIZE = 10;
+
+    /**
+     * Default time to wait for a pooled connection, in milliseconds.
+     *
+     * @see VirtuosoOntoDriverProperties#VIRTUOSO_POOL_ACQUIRE_TIMEOUT
+     */
+    public static final int DEFAULT_POOL_ACQUIRE_TIMEOUT = 30 * 1000;
+
+    /**
+     * Default time after which an idle pooled connection is closed, in milliseconds.
+     *
+     * @see VirtuosoOntoDriverProperties#VIRTUOSO_POOL_IDLE_TIMEOUT
+     */
+    public static final int DEFAULT_POOL_IDLE_TIMEOUT = 5 * 60 * 1000;
+
+    /**
+     * Default idle time after which a pooled connection is validated on borrow, in milliseconds.
+     *
+     * @see VirtuosoOntoDriverProperties#VIRTUOSO_POOL_VALIDATION_THRESHOLD
+     */
+    public static final int DEFAULT_POOL_VALIDATION_THRESHOLD = 5 * 1000;
+
+    /**
+     * Default number of prepared queries cached per pooled connection.
+     *
+     * @see VirtuosoOntoDriverProperties#VIRTUOSO_PREPARED_QUERY_CACHE_SIZE
+     */
+    public static final int DEFAULT_PREPARED_QUERY_CACHE_SIZE = 64;
+
+    private Constants() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.config;
+
+import cz.cvut.kbss.ontodriver.config.ConfigurationParameter;
+
+public enum VirtuosoConfigParam implements ConfigurationParameter {
+
+    POOL_MAX_SIZE(VirtuosoOntoDriverProperties.VIRTUOSO_POOL_MAX_SIZE),
+    POOL_ACQUIRE_TIMEOUT(VirtuosoOntoDriverProperties.VIRTUOSO_POOL_ACQUIRE_TIMEOUT),
+    POOL_IDLE_TIMEOUT(VirtuosoOntoDriverProperties.VIRTUOSO_POOL_IDLE_TIMEOUT),
+    POOL_VALIDATION_THRESHOLD(VirtuosoOntoDriverProperties.VIRTUOSO_POOL_VALIDATION_THRESHOLD),
+    PREPARED_QUERY_CACHE_SIZE(VirtuosoOntoDriverProperties.VIRTUOSO_PREPARED_QUERY_CACHE_SIZE);
+
+    private final String name;
+
+    VirtuosoConfigParam(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.config;
+
+/**
+ * Configuration properties specific to the Virtuoso driver.
+ * <p>
+ * The driver keeps a bounded pool of repository connections to the Virtuoso server, these properties allow to tune
+ * it.
+ */
+public class VirtuosoOntoDriverProperties {
+
+    /**
+     * Maximum number of connections to the Virtuoso server that the driver keeps open at the same time.
+     * <p>
+     * When all the connections are in use, further requests wait (see {@link #VIRTUOSO_POOL_ACQUIRE_TIMEOUT}) until a
+     * connection is returned to the pool. Defaults to 10.
+     */
+    public static final String VIRTUOSO_POOL_MAX_SIZE = "cz.cvut.kbss.ontodriver.virtuoso.pool.max_size";
+
+    /**
+     * Time (in milliseconds) to wait for a connection when the pool is exhausted.
+     * <p>
+     * If no connection becomes available in this time, the request fails. Defaults to 30 seconds.
+     */
+    public static final String VIRTUOSO_POOL_ACQUIRE_TIMEOUT = "cz.cvut.kbss.ontodriver.virtuoso.pool.acquire_timeout";
+
+    /**
+     * Time (in milliseconds) after which an unused connection is closed and removed from the pool.
+     * <p>
+     * Defaults to 5 minutes.
+     */
+    public static final String VIRTUOSO_POOL_IDLE_TIMEOUT = "cz.cvut.kbss.ontodriver.virtuoso.pool.idle_timeout";
+
+    /**
+     * Time (in milliseconds) a connection has to be idle before it is validated by a trivial query when taken from the
+     * pool.
+     * <p>
+     * Connections used more recently are only checked to be open. Use {@code 0} to validate the connection on every
+     * borrow. Defaults to 5 seconds.
+     */
+    public static final String VIRTUOSO_POOL_VALIDATION_THRESHOLD = "cz.cvut.kbss.ontodriver.virtuoso.pool.validation_threshold";
+
+    /**
+     * Number of prepared SPARQL queries cached by each pooled connection.
+     * <p>
+     * Prepared queries are cached by their query string and reused when the same query is executed again on the same
+     * connection. Use {@code 0} to disable the cache. Defaults to 64.
+     */
+    public static final String VIRTUOSO_PREPARED_QUERY_CACHE_SIZE = "cz.cvut.kbss.ontodriver.virtuoso.prepared_query_cache_size";
+
+    private VirtuosoOntoDriverProperties() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.connector;
+
+/**
+ * Snapshot of the state and statistics of {@link VirtuosoConnectionPool}.
+ *
+ * @param maxSize             Maximum number of connections in the pool
+ * @param active              Number of connections currently borrowed from the pool
+ * @param idle                Number of open connections waiting in the pool
+ * @param created             Total number of connections opened by the pool
+ * @param borrowed            Total number of times a connection was borrowed from the pool
+ * @param evicted             Total number of idle connections closed because of the idle timeout
+ * @param validationFailures  Total number of pooled connections discarded because they failed validation
+ * @param acquireTimeouts     Total number of requests that timed out waiting for a connection
+ * @param preparedQueryHits   Total number of prepared queries reused from the cache
+ * @param preparedQueryMisses Total number of queries prepared because they were not cached
+ */
+public record ConnectionPoolMetrics(int maxSize, int active, int idle, long created, long borrowed, long evicted,
+                                    long validationFailures, long acquireTimeouts, long preparedQueryHits,
+                                    long preparedQueryMisses) {
+}
@@ -0,0 +1,105 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.connector;
+
+import org.eclipse.rdf4j.query.BooleanQuery;
+import org.eclipse.rdf4j.query.GraphQuery;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.Update;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.base.RepositoryConnectionWrapper;
+
+/**
+ * Repository connection borrowed from {@link VirtuosoConnectionPool}.
+ * <p>
+ * Closing this connection returns the underlying connection to the pool. Queries and updates are prepared through the
+ * prepared query cache of the underlying connection.
+ */
+class PooledRepositoryConnection extends RepositoryConnectionWrapper {
+
+    private final VirtuosoConnectionPool pool;
+    private final VirtuosoConnectionPool.PooledEntry entry;
+
+    private boolean released;
+
+    PooledRepositoryConnection(Repository repository, VirtuosoConnectionPool pool,
+                               VirtuosoConnectionPool.PooledEntry entry) {
+        super(repository, entry.getConnection());
+        this.pool = pool;
+        this.entry = entry;
+    }
+
+    @Override
+    public RepositoryConnection getDelegate() {
+        if (released) {
+            throw new RepositoryException("Connection has already been returned to the pool.");
+        }
+        return super.getDelegate();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !released && super.isOpen();
+    }
+
+    @Override
+    public TupleQuery prepareTupleQuery(QueryLanguage ql, String query, String baseURI)
+            throws MalformedQueryException, RepositoryException {
+        return entry.getQueryCache().get(TupleQuery.class, ql, query, baseURI,
+                () -> getDelegate().prepareTupleQuery(ql, query, baseURI));
+    }
+
+    @Override
+    public BooleanQuery prepareBooleanQuery(QueryLanguage ql, String query, String baseURI)
+            throws MalformedQueryException, RepositoryException {
+        return entry.getQueryCache().get(BooleanQuery.class, ql, query, baseURI,
+                () -> getDelegate().prepareBooleanQuery(ql, query, baseURI));
+    }
+
+    @Override
+    public GraphQuery prepareGraphQuery(QueryLanguage ql, String query, String baseURI)
+            throws MalformedQueryException, RepositoryException {
+        return entry.getQueryCache().get(GraphQuery.class, ql, query, baseURI,
+                () -> getDelegate().prepareGraphQuery(ql, query, baseURI));
+    }
+
+    @Override
+    public Update prepareUpdate(QueryLanguage ql, String update, String baseURI)
+            throws MalformedQueryException, RepositoryException {
+        return entry.getQueryCache().get(Update.class, ql, update, baseURI,
+                () -> getDelegate().prepareUpdate(ql, update, baseURI));
+    }
+
+    /**
+     * Returns the underlying connection to the pool.
+     * <p>
+     * Subsequent calls have no effect.
+     */
+    @Override
+    public void close() throws RepositoryException {
+        if (released) {
+            return;
+        }
+        this.released = true;
+        pool.release(entry);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.connector;
+
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.Operation;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of prepared queries and updates of a single pooled connection.
+ * <p>
+ * A pooled connection is used by one client at a time, so the cache is not thread-safe.
+ */
+class PreparedQueryCache {
+
+    private final int maxSize;
+    private final Map<Key, Operation> operations;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    PreparedQueryCache(int maxSize, LongAdder hits, LongAdder misses) {
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.operations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Operation> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets a cached prepared operation or prepares a new one and caches it.
+     * <p>
+     * A cached operation is reset to the state of a freshly prepared one before it is returned, i.e., its bindings,
+     * dataset, inference and execution time settings set by the previous user are discarded.
+     *
+     * @param type     Type of the operation
+     * @param language Query language
+     * @param query    Query string
+     * @param baseUri  Base URI of the query, possibly {@code null}
+     * @param preparer Prepares the operation when it is not cached
+     * @param <T>      Operation type
+     * @return Prepared operation
+     */
+    <T extends Operation> T get(Class<T> type, QueryLanguage language, String query, String baseUri,
+                                Preparer<T> preparer) {
+        if (maxSize == 0) {
+            misses.increment();
+            return preparer.prepare();
+        }
+        final Key key = new Key(type, language, query, baseUri);
+        final Operation cached = operations.get(key);
+        if (cached != null) {
+            hits.increment();
+            reset(cached);
+            return type.cast(cached);
+        }
+        misses.increment();
+        final T prepared = preparer.prepare();
+        operations.put(key, prepared);
+        return prepared;
+    }
+
+    private static void reset(Operation operation) {
+        operation.clearBindings();
+        operation.setDataset(null);
+        operation.setIncludeInferred(true);
+        operation.setMaxExecutionTime(0);
+    }
+
+    int size() {
+        return operations.size();
+    }
+
+    void clear() {
+        operations.clear();
+    }
+
+    @FunctionalInterface
+    interface Preparer<T extends Operation> {
+        T prepare() throws MalformedQueryException, RepositoryException;
+    }
+
+    private record Key(Class<?> type, QueryLanguage language, String query, String baseUri) {
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded pool of repository connections.
+ * <p>
+ * Borrowed connections are returned to the pool by closing them. Idle connections are reused most-recently-used first,
+ * connections idle longer than the idle timeout are closed whenever a connection is borrowed or returned. A connection
+ * taken from the pool is checked to be open and, if it has been idle longer than the validation threshold, validated by
+ * a trivial query.
+ * <p>
+ * Each pooled connection keeps its own cache of prepared queries (see {@link PreparedQueryCache}).
+ */
+public class VirtuosoConnectionPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtuosoConnectionPool.class);
+
+    static final String VALIDATION_QUERY = "ASK {}";
+
+    private final Repository repository;
+    private final ConnectionSupplier connectionSupplier;
+    private final Settings settings;
+    private final LongSupplier clock;
+
+    private final Semaphore permits;
+    // Most recently returned connections first, guarded by this
+    private final Deque<PooledEntry> idle = new ArrayDeque<>();
+    private boolean open = true;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder borrowed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder preparedQueryHits = new LongAdder();
+    private final LongAdder preparedQueryMisses = new LongAdder();
+
+    VirtuosoConnectionPool(Repository repository, ConnectionSupplier connectionSupplier, Settings settings) {
+        this(repository, connectionSupplier, settings, () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+    }
+
+    VirtuosoConnectionPool(Repository repository, ConnectionSupplier connectionSupplier, Settings settings,
+                           LongSupplier clock) {
+        this.repository = repository;
+        this.connectionSupplier = connectionSupplier;
+        this.settings = settings;
+        this.clock = clock;
+        this.permits = new Semaphore(settings.maxSize(), true);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if there is no idle connection.
+     * <p>
+     * If all the connections are in use, waits for the configured acquire timeout.
+     *
+     * @return Repository connection, closing it returns it to the pool
+     * @throws Rdf4jDriverException When no connection becomes available in time or a new connection cannot be opened
+     */
+    RepositoryConnection borrow() throws Rdf4jDriverException {
+        acquirePermit();
+        try {
+            final PooledEntry entry = takeEntry();
+            borrowed.increment();
+            return new PooledRepositoryConnection(repository, this, entry);
+        } catch (Rdf4jDriverException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermit() throws Rdf4jDriverException {
+        try {
+            if (!permits.tryAcquire(settings.acquireTimeout(), TimeUnit.MILLISECONDS)) {
+                acquireTimeouts.increment();
+                throw new Rdf4jDriverException(
+                        "Unable to acquire a repository connection in " + settings.acquireTimeout() + " ms, all " +
+                                settings.maxSize() + " pooled connections are in use.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Rdf4jDriverException("Interrupted while waiting for a pooled repository connection.", e);
+        }
+    }
+
+    private PooledEntry takeEntry() throws Rdf4jDriverException {
+        evictIdle();
+        PooledEntry entry;
+        while ((entry = pollIdle()) != null) {
+            if (isValid(entry)) {
+                return entry;
+            }
+            validationFailures.increment();
+            destroy(entry);
+        }
+        final RepositoryConnection connection = connectionSupplier.get();
+        created.increment();
+        return new PooledEntry(connection,
+                new PreparedQueryCache(settings.preparedQueryCacheSize(), preparedQueryHits, preparedQueryMisses));
+    }
+
+    private synchronized PooledEntry pollIdle() {
+        if (!open) {
+            throw new IllegalStateException("Connection pool is closed.");
+        }
+        return idle.pollFirst();
+    }
+
+    private boolean isValid(PooledEntry entry) {
+        try {
+            final RepositoryConnection connection = entry.getConnection();
+            if (!connection.isOpen()) {
+                return false;
+            }
+            if (clock.getAsLong() - entry.lastReleased < settings.validationThreshold()) {
+                return true;
+            }
+            connection.prepareBooleanQuery(QueryLanguage.SPARQL, VALIDATION_QUERY).evaluate();
+            return true;
+        } catch (RuntimeException e) {
+            LOG.debug("Pooled connection failed validation, discarding it.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the specified connection to the pool.
+     * <p>
+     * A connection with a pending transaction is rolled back first. Connections which are no longer open and
+     * connections returned after the pool has been closed are closed.
+     */
+    void release(PooledEntry entry) {
+        try {
+            if (!prepareForReuse(entry) || !returnToIdle(entry)) {
+                destroy(entry);
+            }
+        } finally {
+            permits.release();
+        }
+        evictIdle();
+    }
+
+    private static boolean prepareForReuse(PooledEntry entry) {
+        try {
+            final RepositoryConnection connection = entry.getConnection();
+            if (!connection.isOpen()) {
+                return false;
+            }
+            if (connection.isActive()) {
+                LOG.warn("Connection returned to the pool with an active transaction, rolling it back.");
+                connection.rollback();
+            }
+            return true;
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to reset returned connection, discarding it.", e);
+            return false;
+        }
+    }
+
+    private synchronized boolean returnToIdle(PooledEntry entry) {
+        if (!open) {
+            return false;
+        }
+        entry.lastReleased = clock.getAsLong();
+        idle.addFirst(entry);
+        return true;
+    }
+
+    /**
+     * Closes connections which have been idle longer than the configured idle timeout.
+     */
+    public void evictIdle() {
+        final List<PooledEntry> expired = removeExpired();
+        expired.forEach(this::destroy);
+        evicted.add(expired.size());
+    }
+
+    private synchronized List<PooledEntry> removeExpired() {
+        final long now = clock.getAsLong();
+        final List<PooledEntry> expired = new ArrayList<>();
+        while (!idle.isEmpty() && now - idle.peekLast().lastReleased >= settings.idleTimeout()) {
+            expired.add(idle.pollLast());
+        }
+        return expired;
+    }
+
+    private void destroy(PooledEntry entry) {
+        entry.getQueryCache().clear();
+        try {
+            entry.getConnection().close();
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to close pooled repository connection.", e);
+        }
+    }
+
+    /**
+     * Gets current state and statistics of this pool.
+     *
+     * @return Pool metrics snapshot
+     */
+    public ConnectionPoolMetrics getMetrics() {
+        final int idleCount;
+        synchronized (this) {
+            idleCount = idle.size();
+        }
+        return new ConnectionPoolMetrics(settings.maxSize(), settings.maxSize() - permits.availablePermits(),
+                idleCount, created.sum(), borrowed.sum(), evicted.sum(), validationFailures.sum(),
+                acquireTimeouts.sum(), preparedQueryHits.sum(), preparedQueryMisses.sum());
+    }
+
+    /**
+     * Closes all idle connections and prevents further borrowing.
+     * <p>
+     * Connections borrowed at the time of closing are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        final List<PooledEntry> toClose;
+        synchronized (this) {
+            if (!open) {
+                return;
+            }
+            this.open = false;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        toClose.forEach(this::destroy);
+    }
+
+    /**
+     * Opens new repository connections for the pool.
+     */
+    @FunctionalInterface
+    interface ConnectionSupplier {
+        RepositoryConnection get() throws Rdf4jDriverException;
+    }
+
+    /**
+     * Pool configuration.
+     *
+     * @param maxSize                Maximum number of connections
+     * @param acquireTimeout         Time to wait for a connection when the pool is exhausted, in milliseconds
+     * @param idleTimeout            Time after which an idle connection is closed, in milliseconds
+     * @param validationThreshold    Idle time after which a connection is validated on borrow, in milliseconds
+     * @param preparedQueryCacheSize Number of prepared queries cached per connection
+     */
+    record Settings(int maxSize, long acquireTimeout, long idleTimeout, long validationThreshold,
+                    int preparedQueryCacheSize) {
+    }
+
+    static final class PooledEntry {
+
+        private final RepositoryConnection connection;
+        private final PreparedQueryCache queryCache;
+
+        private long lastReleased;
+
+        private PooledEntry(RepositoryConnection connection, PreparedQueryCache queryCache) {
+            this.connection = connection;
+            this.queryCache = queryCache;
+        }
+
+        RepositoryConnection getConnection() {
+            return connection;
+        }
+
+        PreparedQueryCache getQueryCache() {
+            return queryCache;
+        }
+    }
+}
@@ -21,12 +21,14 @@ import cz.cvut.kbss.ontodriver.Closeable;
 import cz.cvut.kbss.ontodriver.Wrapper;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
-import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Rdf4jConnectionProvider;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.virtuoso.VirtuosoDriverException;
+import cz.cvut.kbss.ontodriver.virtuoso.config.Constants;
+import cz.cvut.kbss.ontodriver.virtuoso.config.VirtuosoConfigParam;
+import cz.cvut.kbss.ontodriver.virtuoso.config.VirtuosoOntoDriverProperties;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
@@ -41,17 +43,20 @@ public class VirtuosoStorageConnector implements Closeable, Rdf4jConnectionProvi
 
     private final DriverConfiguration configuration;
     private final int maxReconnectAttempts;
+    private final VirtuosoConnectionPool.Settings poolSettings;
 
     private boolean open;
     private Repository repository;
+    private VirtuosoConnectionPool connectionPool;
 
     public VirtuosoStorageConnector(DriverConfiguration config) throws VirtuosoDriverException {
         this.configuration = config;
         this.maxReconnectAttempts = resolveMaxReconnectAttempts(config);
+        this.poolSettings = resolvePoolSettings(config);
     }
 
     private static int resolveMaxReconnectAttempts(DriverConfiguration config) throws VirtuosoDriverException {
-        final int attempts = config.getProperty(Rdf4jConfigParam.RECONNECT_ATTEMPTS, Constants.DEFAULT_RECONNECT_ATTEMPTS_COUNT);
+        final int attempts = config.getProperty(Rdf4jConfigParam.RECONNECT_ATTEMPTS, cz.cvut.kbss.ontodriver.rdf4j.config.Constants.DEFAULT_RECONNECT_ATTEMPTS_COUNT);
         if (attempts < 0) {
             throw new VirtuosoDriverException(
                     "Invalid value of configuration parameter " + Rdf4jOntoDriverProperties.RECONNECT_ATTEMPTS +
@@ -60,12 +65,43 @@ public class VirtuosoStorageConnector implements Closeable, Rdf4jConnectionProvi
         return attempts;
     }
 
+    private static VirtuosoConnectionPool.Settings resolvePoolSettings(DriverConfiguration config)
+            throws VirtuosoDriverException {
+        final int maxSize = config.getProperty(VirtuosoConfigParam.POOL_MAX_SIZE,
+                Constants.DEFAULT_POOL_MAX_SIZE);
+        if (maxSize <= 0) {
+            throw new VirtuosoDriverException(
+                    "Invalid value of configuration parameter " + VirtuosoOntoDriverProperties.VIRTUOSO_POOL_MAX_SIZE +
+                            ". Must be a positive integer.");
+        }
+        return new VirtuosoConnectionPool.Settings(maxSize,
+                resolveNonNegative(config, VirtuosoConfigParam.POOL_ACQUIRE_TIMEOUT,
+                        Constants.DEFAULT_POOL_ACQUIRE_TIMEOUT),
+                resolveNonNegative(config, VirtuosoConfigParam.POOL_IDLE_TIMEOUT,
+                        Constants.DEFAULT_POOL_IDLE_TIMEOUT),
+                resolveNonNegative(config, VirtuosoConfigParam.POOL_VALIDATION_THRESHOLD,
+                        Constants.DEFAULT_POOL_VALIDATION_THRESHOLD),
+                resolveNonNegative(config, VirtuosoConfigParam.PREPARED_QUERY_CACHE_SIZE,
+                        Constants.DEFAULT_PREPARED_QUERY_CACHE_SIZE));
+    }
+
+    private static int resolveNonNegative(DriverConfiguration config, VirtuosoConfigParam param, int defaultValue)
+            throws VirtuosoDriverException {
+        final int value = config.getProperty(param, defaultValue);
+        if (value < 0) {
+            throw new VirtuosoDriverException(
+                    "Invalid value of configuration parameter " + param + ". Must be a non-negative integer.");
+        }
+        return value;
+    }
+
     public void initializeRepository() {
         final String serverUri = configuration.getStorageProperties().getPhysicalURI().toString();
         LOG.debug("Initializing connector to repository at {}", serverUri);
         final String username = configuration.getStorageProperties().getUsername();
         final String password = configuration.getStorageProperties().getPassword();
         this.repository = new VirtuosoRepository(serverUri, username, password);
+        this.connectionPool = new VirtuosoConnectionPool(repository, () -> acquire(1), poolSettings);
         this.open = true;
     }
 
@@ -73,7 +109,7 @@ public class VirtuosoStorageConnector implements Closeable, Rdf4jConnectionProvi
     public RepositoryConnection acquireConnection() throws Rdf4jDriverException {
         verifyOpen();
         LOG.trace("Acquiring repository connection.");
-        return acquire(1);
+        return connectionPool.borrow();
     }
 
     private void verifyOpen() {
@@ -107,6 +143,9 @@ public class VirtuosoStorageConnector implements Closeable, Rdf4jConnectionProvi
         if (cls.isAssignableFrom(getClass())) {
             return cls.cast(this);
         }
+        if (cls.isAssignableFrom(connectionPool.getClass())) {
+            return cls.cast(connectionPool);
+        }
         if (cls.isAssignableFrom(repository.getClass())) {
             return cls.cast(repository);
         }
@@ -122,6 +161,7 @@ public class VirtuosoStorageConnector implements Closeable, Rdf4jConnectionProvi
             return;
         }
         try {
+            connectionPool.close();
             repository.shutDown();
         } catch (RuntimeException e) {
             throw new VirtuosoDriverException("Exception caught when closing repository connector.", e);
@@ -0,0 +1,312 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.virtuoso.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.base.RepositoryConnectionWrapper;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VirtuosoConnectionPoolTest {
+
+    private final AtomicLong clock = new AtomicLong(1000);
+
+    private final List<RepositoryConnection> borrowed = Collections.synchronizedList(new ArrayList<>());
+
+    private Repository repository;
+
+    private VirtuosoConnectionPool sut;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = new SailRepository(new MemoryStore());
+        this.sut = createPool(2, 100, 10_000, 1000, 8);
+    }
+
+    private VirtuosoConnectionPool createPool(int maxSize, long acquireTimeout, long idleTimeout,
+                                              long validationThreshold, int cacheSize) {
+        return new VirtuosoConnectionPool(repository, repository::getConnection,
+                new VirtuosoConnectionPool.Settings(maxSize, acquireTimeout, idleTimeout, validationThreshold,
+                        cacheSize), clock::get);
+    }
+
+    private RepositoryConnection borrow() throws Rdf4jDriverException {
+        final RepositoryConnection connection = sut.borrow();
+        borrowed.add(connection);
+        return connection;
+    }
+
+    @AfterEach
+    void tearDown() {
+        borrowed.forEach(RepositoryConnection::close);
+        sut.close();
+        repository.shutDown();
+    }
+
+    private static RepositoryConnection delegate(RepositoryConnection connection) {
+        return ((RepositoryConnectionWrapper) connection).getDelegate();
+    }
+
+    @Test
+    void borrowReusesConnectionReturnedToPool() throws Exception {
+        final RepositoryConnection first = borrow();
+        final RepositoryConnection underlying = delegate(first);
+        first.close();
+        final RepositoryConnection second = borrow();
+
+        assertSame(underlying, delegate(second));
+        final ConnectionPoolMetrics metrics = sut.getMetrics();
+        assertEquals(1, metrics.created());
+        assertEquals(2, metrics.borrowed());
+        assertEquals(1, metrics.active());
+        assertEquals(0, metrics.idle());
+    }
+
+    @Test
+    void borrowThrowsDriverExceptionWhenPoolIsExhaustedForAcquireTimeout() throws Exception {
+        borrow();
+        borrow();
+
+        assertThrows(Rdf4jDriverException.class, () -> borrow());
+        assertEquals(1, sut.getMetrics().acquireTimeouts());
+        assertEquals(2, sut.getMetrics().created());
+    }
+
+    @Test
+    void borrowWaitsForConnectionToBeReturnedWhenPoolIsExhausted() throws Exception {
+        this.sut = createPool(1, 10_000, 10_000, 1000, 8);
+        final RepositoryConnection first = borrow();
+        final RepositoryConnection underlying = delegate(first);
+
+        final CompletableFuture<RepositoryConnection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return borrow();
+            } catch (Rdf4jDriverException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        first.close();
+
+        assertSame(underlying, delegate(waiting.get(5, TimeUnit.SECONDS)));
+        assertEquals(1, sut.getMetrics().created());
+    }
+
+    @Test
+    void closingBorrowedConnectionRepeatedlyReturnsItToPoolOnlyOnce() throws Exception {
+        final RepositoryConnection connection = borrow();
+        connection.close();
+        connection.close();
+
+        assertEquals(0, sut.getMetrics().active());
+        assertEquals(1, sut.getMetrics().idle());
+        assertFalse(connection.isOpen());
+        assertThrows(RepositoryException.class, connection::size);
+    }
+
+    @Test
+    void borrowClosesConnectionsIdleLongerThanIdleTimeout() throws Exception {
+        final RepositoryConnection first = borrow();
+        final RepositoryConnection underlying = delegate(first);
+        first.close();
+        clock.addAndGet(10_000);
+
+        final RepositoryConnection second = borrow();
+        assertNotSame(underlying, delegate(second));
+        assertFalse(underlying.isOpen());
+        assertEquals(1, sut.getMetrics().evicted());
+        assertEquals(2, sut.getMetrics().created());
+    }
+
+    @Test
+    void evictIdleKeepsRecentlyUsedConnections() throws Exception {
+        final RepositoryConnection first = borrow();
+        final RepositoryConnection second = borrow();
+        first.close();
+        clock.addAndGet(5_000);
+        second.close();
+        clock.addAndGet(5_000);
+
+        sut.evictIdle();
+        assertEquals(1, sut.getMetrics().evicted());
+        assertEquals(1, sut.getMetrics().idle());
+    }
+
+    @Test
+    void borrowDiscardsPooledConnectionWhichIsNoLongerOpen() throws Exception {
+        final RepositoryConnection first = borrow();
+        final RepositoryConnection underlying = delegate(first);
+        first.close();
+        underlying.close();
+
+        final RepositoryConnection second = borrow();
+        assertNotSame(underlying, delegate(second));
+        assertTrue(second.isOpen());
+        assertEquals(1, sut.getMetrics().validationFailures());
+    }
+
+    @Test
+    void borrowValidatesConnectionIdleLongerThanValidationThresholdByQuery() throws Exception {
+        final RepositoryConnection broken = mock(RepositoryConnection.class);
+        when(broken.isOpen()).thenReturn(true);
+        when(broken.prepareBooleanQuery(any(QueryLanguage.class), anyString()))
+                .thenThrow(new RepositoryException("Connection reset"));
+        final RepositoryConnection healthy = mock(RepositoryConnection.class);
+        final RepositoryConnection[] connections = {broken, healthy};
+        final AtomicLong index = new AtomicLong();
+        this.sut = new VirtuosoConnectionPool(repository, () -> connections[(int) index.getAndIncrement()],
+                new VirtuosoConnectionPool.Settings(1, 100, 10_000, 1000, 8), clock::get);
+        borrow().close();
+        clock.addAndGet(2000);
+
+        final RepositoryConnection result = borrow();
+        assertSame(healthy, delegate(result));
+        verify(broken).prepareBooleanQuery(QueryLanguage.SPARQL, VirtuosoConnectionPool.VALIDATION_QUERY);
+        verify(broken).close();
+        assertEquals(1, sut.getMetrics().validationFailures());
+    }
+
+    @Test
+    void borrowSkipsValidationQueryForRecentlyUsedConnection() throws Exception {
+        final RepositoryConnection connection = mock(RepositoryConnection.class);
+        when(connection.isOpen()).thenReturn(true);
+        this.sut = new VirtuosoConnectionPool(repository, () -> connection,
+                new VirtuosoConnectionPool.Settings(1, 100, 10_000, 1000, 8), clock::get);
+        borrow().close();
+        clock.addAndGet(500);
+
+        assertSame(connection, delegate(borrow()));
+        verify(connection, never()).prepareBooleanQuery(any(QueryLanguage.class), anyString());
+    }
+
+    @Test
+    void releaseRollsBackTransactionLeftActiveOnReturnedConnection() throws Exception {
+        final IRI subject = Values.iri("http://example.com/subject");
+        final RepositoryConnection connection = borrow();
+        connection.begin();
+        connection.add(subject, Values.iri("http://example.com/property"), Values.literal(1));
+        connection.close();
+
+        try (final RepositoryConnection next = borrow()) {
+            assertFalse(next.isActive());
+            assertFalse(next.hasStatement(subject, null, null, false));
+        }
+    }
+
+    @Test
+    void closeClosesIdleConnectionsAndConnectionsReturnedAfterwards() throws Exception {
+        final RepositoryConnection idle = borrow();
+        final RepositoryConnection idleUnderlying = delegate(idle);
+        final RepositoryConnection inUse = borrow();
+        final RepositoryConnection inUseUnderlying = delegate(inUse);
+        idle.close();
+
+        sut.close();
+        assertFalse(idleUnderlying.isOpen());
+        assertTrue(inUseUnderlying.isOpen());
+        inUse.close();
+        assertFalse(inUseUnderlying.isOpen());
+        assertThrows(IllegalStateException.class, () -> borrow());
+    }
+
+    @Test
+    void prepareTupleQueryReusesPreparedQueryWithClearedBindings() throws Exception {
+        final String query = "SELECT ?x WHERE { ?x ?y ?z . }";
+        try (final RepositoryConnection connection = borrow()) {
+            final TupleQuery first = connection.prepareTupleQuery(QueryLanguage.SPARQL, query);
+            first.setBinding("y", Values.iri("http://example.com/property"));
+            first.setIncludeInferred(false);
+
+            final TupleQuery second = connection.prepareTupleQuery(QueryLanguage.SPARQL, query);
+            assertSame(first, second);
+            assertEquals(0, second.getBindings().size());
+            assertTrue(second.getIncludeInferred());
+        }
+        assertEquals(1, sut.getMetrics().preparedQueryHits());
+        assertEquals(1, sut.getMetrics().preparedQueryMisses());
+    }
+
+    @Test
+    void preparedQueriesAreCachedAcrossBorrowsOfTheSameConnection() throws Exception {
+        final String query = "ASK { ?x ?y ?z . }";
+        final RepositoryConnection first = borrow();
+        final Object prepared = first.prepareBooleanQuery(QueryLanguage.SPARQL, query);
+        first.close();
+
+        try (final RepositoryConnection second = borrow()) {
+            assertSame(prepared, second.prepareBooleanQuery(QueryLanguage.SPARQL, query));
+        }
+    }
+
+    @Test
+    void preparedQueryCacheEvictsLeastRecentlyUsedQuery() throws Exception {
+        this.sut = createPool(1, 100, 10_000, 1000, 2);
+        final String queryOne = "SELECT ?x WHERE { ?x a ?y . }";
+        final String queryTwo = "SELECT ?y WHERE { ?x a ?y . }";
+        final String update = "INSERT DATA { <http://example.com/s> a <http://example.com/Type> . }";
+        try (final RepositoryConnection connection = borrow()) {
+            final TupleQuery one = connection.prepareTupleQuery(QueryLanguage.SPARQL, queryOne);
+            final TupleQuery two = connection.prepareTupleQuery(QueryLanguage.SPARQL, queryTwo);
+            assertSame(one, connection.prepareTupleQuery(QueryLanguage.SPARQL, queryOne));
+            connection.prepareUpdate(QueryLanguage.SPARQL, update);
+
+            assertSame(one, connection.prepareTupleQuery(QueryLanguage.SPARQL, queryOne));
+            assertNotSame(two, connection.prepareTupleQuery(QueryLanguage.SPARQL, queryTwo));
+        }
+    }
+
+    @Test
+    void prepareQueryDoesNotCacheWhenCacheSizeIsZero() throws Exception {
+        this.sut = createPool(1, 100, 10_000, 1000, 0);
+        final String query = "SELECT ?x WHERE { ?x ?y ?z . }";
+        try (final RepositoryConnection connection = borrow()) {
+            assertNotSame(connection.prepareTupleQuery(QueryLanguage.SPARQL, query),
+                    connection.prepareTupleQuery(QueryLanguage.SPARQL, query));
+        }
+        assertEquals(0, sut.getMetrics().preparedQueryHits());
+    }
+}